@@ -0,0 +1,58 @@
+package io.github.bensku.tsbind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.javaparser.JavaParser;
+
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Checking members of fixture types against blacklist and whitelists.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlacklistBenchmark {
+
+	private AstGenerator generator;
+
+	private List<TypeDefinition> owners;
+
+	private List<Member> members;
+
+	@Setup
+	public void setup() {
+		generator = new AstGenerator(new JavaParser(), null,
+				List.of("java\\.util\\.function\\..*", "java\\.util\\.Optional", ".*\\.internal\\..*"),
+				List.of(".*\\.get.*", ".*\\.set.*", ".*\\.move", ".*\\.find"),
+				List.of(".*\\.x", ".*\\.y"), false, false);
+		owners = new ArrayList<>();
+		members = new ArrayList<>();
+		for (TypeDefinition type : Fixtures.types(Fixtures.importGenerator()).values()) {
+			for (Member member : type.members) {
+				owners.add(type);
+				members.add(member);
+			}
+		}
+	}
+
+	@Benchmark
+	public void isBlacklisted(Blackhole bh) {
+		for (int i = 0; i < members.size(); i++) {
+			bh.consume(generator.isBlacklisted(members.get(i), owners.get(i).name(), ""));
+		}
+	}
+}
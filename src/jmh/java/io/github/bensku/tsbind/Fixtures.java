@@ -0,0 +1,127 @@
+package io.github.bensku.tsbind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Fixed Java sources that benchmarks run on. They are stored as resources,
+ * so that they stay same between commits no matter what else changes.
+ *
+ */
+public class Fixtures {
+
+	private static final String PACKAGE = "com/example/fixture/";
+
+	/**
+	 * Names of fixture source files.
+	 */
+	private static final List<String> FILES = List.of("Shape.java", "ShapeVisitor.java",
+			"AbstractShape.java", "Polygon.java", "ShapeRegistry.java");
+
+	/**
+	 * Loads all fixture sources.
+	 * @return Source units.
+	 */
+	public static List<SourceUnit> sources() {
+		List<SourceUnit> sources = new ArrayList<>();
+		for (String file : FILES) {
+			sources.add(new SourceUnit(PACKAGE + file, read(file)));
+		}
+		return sources;
+	}
+
+	/**
+	 * Loads a single fixture source.
+	 * @param file File name, e.g. {@code Polygon.java}.
+	 * @return Source unit.
+	 */
+	public static SourceUnit source(String file) {
+		return new SourceUnit(PACKAGE + file, read(file));
+	}
+
+	private static String read(String file) {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + PACKAGE + file)) {
+			if (in == null) {
+				throw new IllegalArgumentException("missing fixture " + file);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Creates a generator that resolves symbols from fixtures and JDK.
+	 * Everything is whitelisted, like with java-core-types.
+	 * @return AST generator.
+	 */
+	public static AstGenerator symbolGenerator() {
+		// Symbol solver needs the fixtures as files
+		Path root;
+		try {
+			root = Files.createTempDirectory("tsbind-fixtures");
+			Files.createDirectories(root.resolve(PACKAGE));
+			for (SourceUnit source : sources()) {
+				Files.writeString(root.resolve(source.name), source.code);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		CombinedTypeSolver typeSolver = new CombinedTypeSolver();
+		typeSolver.add(new ReflectionTypeSolver());
+		typeSolver.add(new JavaParserTypeSolver(root));
+
+		JavaParser parser = new JavaParser(parserConfig());
+		parser.getParserConfiguration().setSymbolResolver(new JavaSymbolSolver(typeSolver));
+		return new AstGenerator(parser, null, List.of(), List.of(".*"), List.of(".*"), false, false);
+	}
+
+	/**
+	 * Creates a generator that binds names with imports.
+	 * @return AST generator.
+	 */
+	public static AstGenerator importGenerator() {
+		TypeIndex index = new TypeIndex();
+		for (String file : FILES) {
+			index.addSourceType((PACKAGE + file).replace('/', '.').replace(".java", ""));
+		}
+		return new AstGenerator(new JavaParser(parserConfig()), index, List.of(), List.of(".*"), List.of(".*"), false, false);
+	}
+
+	private static ParserConfiguration parserConfig() {
+		ParserConfiguration config = new ParserConfiguration();
+		config.setLanguageLevel(LanguageLevel.JAVA_16);
+		return config;
+	}
+
+	/**
+	 * Parses all fixtures to a type table.
+	 * @param generator AST generator.
+	 * @return Types by their fully qualified names.
+	 */
+	public static Map<String, TypeDefinition> types(AstGenerator generator) {
+		Map<String, TypeDefinition> types = new TreeMap<>();
+		for (SourceUnit source : sources()) {
+			generator.parseType(source).ifPresent(type -> types.put(type.name(), type));
+		}
+		return types;
+	}
+}
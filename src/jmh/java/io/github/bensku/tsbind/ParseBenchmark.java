@@ -0,0 +1,47 @@
+package io.github.bensku.tsbind;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Parsing and resolving a single source file, with both resolution modes.
+ * Symbol solver caches stay warm between invocations.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseBenchmark {
+
+	@Param({ "SYMBOLS", "IMPORTS" })
+	public String resolution;
+
+	@Param({ "Shape.java", "Polygon.java", "ShapeRegistry.java" })
+	public String file;
+
+	private AstGenerator generator;
+
+	private SourceUnit source;
+
+	@Setup
+	public void setup() {
+		generator = resolution.equals("SYMBOLS") ? Fixtures.symbolGenerator() : Fixtures.importGenerator();
+		source = Fixtures.source(file);
+	}
+
+	@Benchmark
+	public Optional<TypeDefinition> parseType() {
+		return generator.parseType(source);
+	}
+}
@@ -0,0 +1,66 @@
+package io.github.bensku.tsbind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedParameterDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedMethodDeclaration;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+
+import io.github.bensku.tsbind.ast.TypeRef;
+
+/**
+ * Converting already resolved types of method signatures to our AST.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeRefBenchmark {
+
+	private List<ResolvedType> types;
+
+	@Setup
+	public void setup() {
+		ParserConfiguration config = new ParserConfiguration();
+		config.setLanguageLevel(LanguageLevel.JAVA_16);
+		config.setSymbolResolver(new JavaSymbolSolver(new ReflectionTypeSolver()));
+		// Only JDK types, so that nothing fails to resolve
+		CompilationUnit unit = new JavaParser(config).parse(Fixtures.source("ShapeRegistry.java").code
+				.replace("V extends Shape", "V extends Comparable<V>")
+				.replace("Polygon.Vertex", "Number")).getResult().orElseThrow();
+		types = new ArrayList<>();
+		for (MethodDeclaration method : unit.findAll(MethodDeclaration.class)) {
+			ResolvedMethodDeclaration resolved = method.resolve();
+			types.add(resolved.getReturnType());
+			for (int i = 0; i < resolved.getNumberOfParams(); i++) {
+				ResolvedParameterDeclaration param = resolved.getParam(i);
+				types.add(param.getType());
+			}
+		}
+	}
+
+	@Benchmark
+	public void fromType(Blackhole bh) {
+		for (ResolvedType type : types) {
+			bh.consume(TypeRef.fromType(type));
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.bensku.tsbind.binding;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.Fixtures;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Early transformation passes over all fixture types. The passes modify
+ * types, so they are parsed again before each invocation.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EarlyTransformBenchmark {
+
+	@Param({ "addMissingOverloads", "forceParentJavadocs", "flattenType" })
+	public String pass;
+
+	private AstGenerator generator;
+
+	private Map<String, TypeDefinition> types;
+
+	private EarlyTypeTransformer transformer;
+
+	@Setup
+	public void setupTrial() {
+		generator = Fixtures.importGenerator();
+	}
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		types = Fixtures.types(generator);
+		transformer = new EarlyTypeTransformer(types, List.of(".*"));
+	}
+
+	@Benchmark
+	public Map<String, TypeDefinition> transform() {
+		for (TypeDefinition type : types.values()) {
+			switch (pass) {
+			case "addMissingOverloads":
+				transformer.addMissingOverloads(type);
+				break;
+			case "forceParentJavadocs":
+				transformer.forceParentJavadocs(type);
+				break;
+			case "flattenType":
+				transformer.flattenType(type);
+				break;
+			default:
+				throw new IllegalArgumentException(pass);
+			}
+		}
+		return types;
+	}
+}
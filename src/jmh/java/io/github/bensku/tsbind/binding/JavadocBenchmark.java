@@ -0,0 +1,59 @@
+package io.github.bensku.tsbind.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.bensku.tsbind.Fixtures;
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Converting all Javadoc comments of fixture types to TSDoc text.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JavadocBenchmark {
+
+	private TsEmitter emitter;
+
+	private List<String> javadocs;
+
+	@Setup
+	public void setup() {
+		Map<String, TypeDefinition> types = Fixtures.types(Fixtures.importGenerator());
+		emitter = new TsEmitter("  ", Map.of(), types, false, List.of(), true);
+		javadocs = new ArrayList<>();
+		types.values().forEach(this::addJavadocs);
+	}
+
+	private void addJavadocs(TypeDefinition type) {
+		type.walk(node -> {
+			if (node instanceof Member) {
+				((Member) node).javadoc.ifPresent(javadocs::add);
+			}
+		});
+		// Inner types are not walked into
+		type.members.stream().filter(member -> member instanceof TypeDefinition)
+				.forEach(member -> addJavadocs((TypeDefinition) member));
+	}
+
+	@Benchmark
+	public void processJavadoc(Blackhole bh) {
+		for (String doc : javadocs) {
+			bh.consume(emitter.processJavadoc(doc));
+		}
+	}
+}
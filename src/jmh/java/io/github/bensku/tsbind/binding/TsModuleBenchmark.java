@@ -0,0 +1,65 @@
+package io.github.bensku.tsbind.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bensku.tsbind.Fixtures;
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Writing TypeScript declarations of the fixture package.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TsModuleBenchmark {
+
+	private Map<String, TypeDefinition> types;
+
+	private List<TsModule> modules;
+
+	@Setup
+	public void setup() {
+		types = Fixtures.types(Fixtures.symbolGenerator());
+		EarlyTypeTransformer transformer = new EarlyTypeTransformer(types, List.of(".*"));
+		for (TypeDefinition type : types.values()) {
+			transformer.addMissingOverloads(type);
+		}
+
+		// Inner types go to modules named after their outer types
+		modules = new ArrayList<>();
+		TsModule pkg = new TsModule("com.example.fixture");
+		modules.add(pkg);
+		for (TypeDefinition type : types.values()) {
+			pkg.addType(type.name());
+			TsModule inner = new TsModule(type.name());
+			for (Member member : type.members) {
+				if (member instanceof TypeDefinition) {
+					inner.addType(((TypeDefinition) member).name());
+				}
+			}
+			modules.add(inner);
+		}
+	}
+
+	@Benchmark
+	public StringBuilder write() {
+		StringBuilder sb = new StringBuilder();
+		for (TsModule module : modules) {
+			module.write(types, sb);
+		}
+		return sb;
+	}
+}
@@ -0,0 +1,202 @@
+package io.github.bensku.tsbind.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+
+/**
+ * Generates synthetic Java source trees of given {@link CorpusShape shape}.
+ * Same shape always produces same sources.
+ *
+ */
+public class CorpusGenerator {
+
+	/**
+	 * Types of method parameters. Overloads with same index get same
+	 * parameters in every type, so that subtypes override their supertypes.
+	 */
+	private static final String[] PARAM_TYPES = { "int", "String", "long[]", "List<String>",
+			"Map<String, Integer>", "double" };
+
+	private final CorpusShape shape;
+
+	private final String[] packages;
+
+	private final boolean[] isPublic;
+
+	private final boolean[] isGeneric;
+
+	/**
+	 * Indices of public types, which may be referenced from anywhere.
+	 */
+	private final List<Integer> publicTypes;
+
+	public CorpusGenerator(CorpusShape shape) {
+		this.shape = shape;
+		this.packages = new String[shape.types];
+		this.isPublic = new boolean[shape.types];
+		this.isGeneric = new boolean[shape.types];
+		this.publicTypes = new ArrayList<>();
+		Random random = new Random(shape.seed);
+		for (int i = 0; i < shape.types; i++) {
+			// Each inheritance chain is in a single package
+			packages[i] = "synthetic.p" + ((i / shape.depth) % shape.packages);
+			isPublic[i] = random.nextDouble() >= shape.nonPublicShare;
+			isGeneric[i] = random.nextDouble() < shape.genericsDensity;
+			if (isPublic[i]) {
+				publicTypes.add(i);
+			}
+		}
+	}
+
+	/**
+	 * Writes all types of the corpus.
+	 * @param root Root directory of the source tree.
+	 * @throws IOException When writing fails.
+	 */
+	public void write(Path root) throws IOException {
+		for (int i = 0; i < shape.types; i++) {
+			Path dir = root.resolve(packages[i].replace('.', '/'));
+			Files.createDirectories(dir);
+			Files.writeString(dir.resolve(name(i) + ".java"), generate(i));
+		}
+	}
+
+	private static String name(int type) {
+		return "Type" + type;
+	}
+
+	/**
+	 * Gets name of a type as it is used from other types.
+	 * @param type Type index.
+	 * @return Name, with type arguments if needed.
+	 */
+	private String use(int type) {
+		return isGeneric[type] ? name(type) + "<String>" : name(type);
+	}
+
+	private String generate(int type) {
+		Random random = new Random(shape.seed * 31 + type);
+		StringBuilder body = new StringBuilder();
+		Set<String> imports = new TreeSet<>();
+		imports.add("java.util.List");
+		imports.add("java.util.Map");
+
+		boolean chainStart = type % shape.depth == 0;
+		String typeParam = isGeneric[type] ? "T" : "String";
+
+		// Class declaration
+		javadoc(body, "", random, "Synthetic type number " + type + ".");
+		body.append(isPublic[type] ? "public " : "").append("class ").append(name(type));
+		if (isGeneric[type]) {
+			body.append("<T extends Comparable<T>>");
+		}
+		if (!chainStart) {
+			int parent = type - 1;
+			body.append(" extends ").append(name(parent));
+			if (isGeneric[parent]) {
+				body.append('<').append(typeParam).append('>');
+			}
+		}
+		body.append(" {\n\n");
+
+		// Fields with getters and setters
+		body.append("\tpublic static final int ID = ").append(type).append(";\n\n");
+		javadoc(body, "\t", random, "Value of this instance.");
+		body.append("\tprivate ").append(typeParam).append(" value;\n\n");
+		javadoc(body, "\t", random, "Gets the value.");
+		body.append("\tpublic ").append(typeParam).append(" getValue").append(type).append("() {\n\t\treturn value;\n\t}\n\n");
+		javadoc(body, "\t", random, "Sets the value.");
+		body.append("\tpublic void setValue").append(type).append('(').append(typeParam)
+				.append(" value) {\n\t\tthis.value = value;\n\t}\n\n");
+
+		// Overloaded methods
+		for (int method = 0; method < shape.methods; method++) {
+			for (int overload = 0; overload < shape.overloads; overload++) {
+				javadoc(body, "\t", random, "Method " + method + ", overload " + overload + ".");
+				if (!chainStart) {
+					body.append("\t@Override\n");
+				}
+				body.append("\tpublic ");
+				// Overriding methods must have same return types as what they override
+				Random signature = new Random(shape.seed * 31 + (type / shape.depth) * 997L + method * 31L + overload);
+				String returnType;
+				if (signature.nextDouble() < shape.genericsDensity) {
+					body.append("<E extends Number> ");
+					returnType = "List<E>";
+				} else if (!publicTypes.isEmpty() && signature.nextBoolean()) {
+					int ref = publicTypes.get(signature.nextInt(publicTypes.size()));
+					if (!packages[ref].equals(packages[type])) {
+						imports.add(packages[ref] + "." + name(ref));
+					}
+					returnType = use(ref);
+				} else {
+					returnType = "String";
+				}
+				body.append(returnType).append(" method").append(method).append('(');
+				for (int param = 0; param <= overload; param++) {
+					if (param > 0) {
+						body.append(", ");
+					}
+					body.append(PARAM_TYPES[(method + overload + param) % PARAM_TYPES.length])
+							.append(" arg").append(param);
+				}
+				body.append(") {\n\t\treturn null;\n\t}\n\n");
+			}
+		}
+		body.append("}\n");
+
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(packages[type]).append(";\n\n");
+		for (String imported : imports) {
+			source.append("import ").append(imported).append(";\n");
+		}
+		source.append('\n').append(body);
+		return source.toString();
+	}
+
+	private void javadoc(StringBuilder sb, String indent, Random random, String summary) {
+		if (shape.javadocLines == 0) {
+			return;
+		}
+		sb.append(indent).append("/**\n");
+		sb.append(indent).append(" * ").append(summary).append('\n');
+		for (int i = 1; i < shape.javadocLines; i++) {
+			sb.append(indent).append(" * ");
+			switch (random.nextInt(3)) {
+			case 0:
+				sb.append("<p>Lorem ipsum dolor sit amet, <b>consectetur</b> adipiscing elit.</p>");
+				break;
+			case 1:
+				sb.append("Call {@code method0(1)} before using this, see {@link Object}.");
+				break;
+			default:
+				sb.append("Sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.");
+			}
+			sb.append('\n');
+		}
+		sb.append(indent).append(" */\n");
+	}
+
+	private static class Args {
+
+		@Parameter(names = "--out", required = true)
+		Path out;
+	}
+
+	public static void main(String... argv) throws IOException {
+		Args args = new Args();
+		CorpusShape shape = new CorpusShape();
+		JCommander.newBuilder().addObject(args).addObject(shape).build().parse(argv);
+		new CorpusGenerator(shape).write(args.out);
+		System.out.println("Wrote " + shape.types + " types to " + args.out);
+	}
+}
@@ -0,0 +1,75 @@
+package io.github.bensku.tsbind.corpus;
+
+import com.beust.jcommander.Parameter;
+
+/**
+ * Shape of a synthetic Java corpus. Types are generated in inheritance
+ * chains of {@link #depth} types, each chain in a single package.
+ *
+ */
+public class CorpusShape {
+
+	@Parameter(names = "--types")
+	public int types = 1000;
+
+	@Parameter(names = "--packages")
+	public int packages = 20;
+
+	/**
+	 * Length of inheritance chains.
+	 */
+	@Parameter(names = "--depth")
+	public int depth = 4;
+
+	/**
+	 * Methods per type, not counting overloads.
+	 */
+	@Parameter(names = "--methods")
+	public int methods = 10;
+
+	/**
+	 * Overloads per method.
+	 */
+	@Parameter(names = "--overloads")
+	public int overloads = 2;
+
+	/**
+	 * Share of types and methods that are generic, between 0 and 1.
+	 */
+	@Parameter(names = "--genericsDensity")
+	public double genericsDensity = 0.3;
+
+	/**
+	 * Lines of Javadoc per type and member.
+	 */
+	@Parameter(names = "--javadocLines")
+	public int javadocLines = 5;
+
+	/**
+	 * Share of types that are not public, between 0 and 1.
+	 */
+	@Parameter(names = "--nonPublicShare")
+	public double nonPublicShare = 0.1;
+
+	@Parameter(names = "--seed")
+	public long seed = 1;
+
+	/**
+	 * Creates a copy of this with different number of types.
+	 * @param types Number of types.
+	 * @return A new shape.
+	 */
+	public CorpusShape withTypes(int types) {
+		CorpusShape shape = new CorpusShape();
+		shape.types = types;
+		shape.packages = packages;
+		shape.depth = depth;
+		shape.methods = methods;
+		shape.overloads = overloads;
+		shape.genericsDensity = genericsDensity;
+		shape.javadocLines = javadocLines;
+		shape.nonPublicShare = nonPublicShare;
+		shape.seed = seed;
+		return shape;
+	}
+}
@@ -0,0 +1,101 @@
+package io.github.bensku.tsbind.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bensku.tsbind.cli.BindGenApp;
+
+/**
+ * Runs {@link BindGenApp} in a fresh JVM, so that its peak heap usage is
+ * not affected by anything else, and reads the metrics it wrote.
+ *
+ */
+class GeneratorRun {
+
+	/**
+	 * Runs type generation.
+	 * @param dir Directory for log and metrics of the run.
+	 * @param maxHeap Maximum heap size, e.g. {@code 2g}.
+	 * @param args Arguments for {@link BindGenApp}, except for metrics.
+	 * @return Metrics of the run, as written by it.
+	 * @throws IOException When the run fails.
+	 * @throws InterruptedException When interrupted while waiting.
+	 */
+	static JsonObject run(Path dir, String maxHeap, List<String> args) throws IOException, InterruptedException {
+		Files.createDirectories(dir);
+		Path metrics = dir.resolve("metrics");
+		List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+				"-Xmx" + maxHeap, "-cp", System.getProperty("java.class.path"), BindGenApp.class.getName()));
+		command.addAll(args);
+		command.add("--metrics");
+		command.add(metrics.toString());
+
+		Process process = new ProcessBuilder(command)
+				.redirectOutput(dir.resolve("log.txt").toFile())
+				.redirectErrorStream(true)
+				.start();
+		if (process.waitFor() != 0) {
+			throw new IOException("generation failed, see " + dir.resolve("log.txt"));
+		}
+		String json = Files.readString(metrics.resolve("tsbind-metrics.json"));
+		return JsonParser.parseString(json).getAsJsonObject();
+	}
+
+	/**
+	 * Gets bytes allocated in all phases of a run.
+	 * @param metrics Metrics of the run.
+	 * @return Allocated bytes.
+	 */
+	static long allocatedBytes(JsonObject metrics) {
+		return metrics.getAsJsonObject("phases").entrySet().stream()
+				.mapToLong(phase -> phase.getValue().getAsJsonObject().get("allocatedBytes").getAsLong())
+				.sum();
+	}
+
+	/**
+	 * Compiles Java sources to a jar, to be used as symbols.
+	 * @param sources Source tree.
+	 * @param dir Directory for classes and the jar.
+	 * @return Path to the jar.
+	 * @throws IOException When compilation fails.
+	 */
+	static Path compile(Path sources, Path dir) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			throw new IllegalStateException("symbol resolution needs a JDK to compile the corpus");
+		}
+		Path classes = dir.resolve("classes");
+		List<String> compilerArgs = new ArrayList<>(List.of("-d", classes.toString(), "-nowarn", "-proc:none"));
+		try (Stream<Path> files = Files.walk(sources)) {
+			compilerArgs.addAll(files.filter(file -> file.toString().endsWith(".java"))
+					.map(Path::toString).collect(Collectors.toList()));
+		}
+		if (compiler.run(null, null, null, compilerArgs.toArray(String[]::new)) != 0) {
+			throw new IOException("failed to compile corpus in " + sources);
+		}
+
+		Path jar = dir.resolve("symbols.jar");
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+				Stream<Path> files = Files.walk(classes)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+				out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+				Files.copy(file, out);
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+}
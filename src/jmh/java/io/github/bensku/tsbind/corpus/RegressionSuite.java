@@ -0,0 +1,341 @@
+package io.github.bensku.tsbind.corpus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Generates types for pinned inputs and checks that output stays same and
+ * that time and memory used stay within recorded budgets. Each case has a
+ * directory with {@code budget.json} and either {@code golden/}, which
+ * contains expected output files, or {@code golden.sha256} with their
+ * digests.
+ *
+ */
+public class RegressionSuite {
+
+	private static class Args {
+
+		/**
+		 * Where goldens and budgets are.
+		 */
+		@Parameter(names = "--dir", required = true)
+		Path dir;
+
+		/**
+		 * Where inputs and outputs are generated.
+		 */
+		@Parameter(names = "--work", required = true)
+		Path work;
+
+		/**
+		 * How much measurements may exceed budgets, e.g. 0.25 for 25%.
+		 */
+		@Parameter(names = "--margin")
+		double margin = 0.25;
+
+		/**
+		 * Record current outputs and measurements as goldens and budgets.
+		 */
+		@Parameter(names = "--update")
+		boolean update;
+
+		/**
+		 * Check only outputs, e.g. as part of the build on machines that
+		 * have no budgets recorded.
+		 */
+		@Parameter(names = "--outputOnly")
+		boolean outputOnly;
+
+		/**
+		 * Names of cases to run. By default, all cases are run.
+		 */
+		@Parameter(names = "--cases")
+		List<String> cases = new ArrayList<>();
+
+		@Parameter(names = "--maxHeap")
+		String maxHeap = "2g";
+	}
+
+	private interface Case {
+
+		String name();
+
+		/**
+		 * Whether output depends on the JDK sources, so it can only be
+		 * compared with exactly same Java runtime version.
+		 */
+		boolean usesJdk();
+
+		/**
+		 * Checks if inputs of this are available on this machine.
+		 * @return Description of missing input, or null if nothing is missing.
+		 */
+		default String missingInput() {
+			return null;
+		}
+
+		/**
+		 * Whether whole output is kept as golden, instead of just digests.
+		 */
+		boolean keepsOutput();
+
+		/**
+		 * Prepares inputs for generation.
+		 * @param work Work directory of the case.
+		 * @param out Output directory.
+		 * @return Arguments for generation.
+		 * @throws IOException When preparing fails.
+		 */
+		List<String> prepare(Path work, Path out) throws IOException;
+	}
+
+	/**
+	 * Parts of java.base, configured like java-core-types.
+	 */
+	private static final Case JAVA_BASE = new Case() {
+
+		@Override
+		public String name() {
+			return "java-base";
+		}
+
+		@Override
+		public boolean usesJdk() {
+			return true;
+		}
+
+		@Override
+		public boolean keepsOutput() {
+			return true;
+		}
+
+		private Path sources() {
+			return Path.of(System.getProperty("java.home"), "lib", "src.zip");
+		}
+
+		@Override
+		public String missingInput() {
+			return Files.exists(sources()) ? null : "JDK sources at " + sources();
+		}
+
+		@Override
+		public List<String> prepare(Path work, Path out) {
+			return List.of("--in", sources().toString(), "--offset", "java.base", "--out", out.toString(),
+					"--include", "java.lang.Iterable.java", "--include", "java.lang.Comparable.java",
+					"--include", "java.lang.CharSequence.java", "--include", "java.lang.Runnable.java",
+					"--include", "java.util.Optional", "--include", "java.util.function",
+					"--include", "java.util.Collection.java", "--include", "java.util.List.java",
+					"--include", "java.util.Map.java", "--include", "java.util.Iterator.java",
+					"--methodWhitelist", ".*", "--fieldWhitelist", ".*", "--index");
+		}
+	};
+
+	/**
+	 * A large synthetic corpus, resolved with symbols from compiled classes.
+	 */
+	private static final Case SYNTHETIC = new Case() {
+
+		@Override
+		public String name() {
+			return "synthetic";
+		}
+
+		@Override
+		public boolean usesJdk() {
+			return false;
+		}
+
+		@Override
+		public boolean keepsOutput() {
+			return false; // Several megabytes
+		}
+
+		@Override
+		public List<String> prepare(Path work, Path out) throws IOException {
+			CorpusShape shape = new CorpusShape();
+			shape.types = 2000;
+			shape.methods = 5;
+			shape.javadocLines = 2;
+			Path corpus = work.resolve("corpus");
+			new CorpusGenerator(shape).write(corpus);
+			return List.of("--in", corpus.toString(), "--out", out.toString(),
+					"--symbols", GeneratorRun.compile(corpus, work).toString(),
+					"--methodWhitelist", ".*", "--fieldWhitelist", ".*");
+		}
+	};
+
+	private static final List<Case> CASES = List.of(JAVA_BASE, SYNTHETIC);
+
+	public static void main(String... argv) throws IOException, InterruptedException {
+		Args args = new Args();
+		JCommander.newBuilder().addObject(args).build().parse(argv);
+
+		List<String> failures = new ArrayList<>();
+		for (Case c : CASES) {
+			if (!args.cases.isEmpty() && !args.cases.contains(c.name())) {
+				continue;
+			}
+			String missing = c.missingInput();
+			if (missing != null) {
+				System.out.println("Skipping " + c.name() + ", " + missing + " not found");
+				continue;
+			}
+			Path dir = args.dir.resolve(c.name());
+			JsonObject budget = null;
+			if (!args.update) {
+				budget = JsonParser.parseString(Files.readString(dir.resolve("budget.json"))).getAsJsonObject();
+				// Javadocs of JDK sources change even in patch releases
+				String javaRuntime = budget.has("javaRuntime") ? budget.get("javaRuntime").getAsString() : "unknown";
+				if (c.usesJdk() && !javaRuntime.equals(System.getProperty("java.version"))) {
+					System.out.println("Skipping " + c.name() + ", it was recorded with Java " + javaRuntime);
+					continue;
+				}
+			}
+
+			System.out.println("Running " + c.name());
+			Path work = args.work.resolve(c.name());
+			Path out = work.resolve("out");
+			Files.createDirectories(out);
+			JsonObject metrics = GeneratorRun.run(work, args.maxHeap, c.prepare(work, out));
+
+			if (args.update) {
+				update(c, dir, out, metrics);
+				System.out.println("Updated goldens and budget of " + c.name());
+				continue;
+			}
+
+			int javaVersion = budget.get("javaVersion").getAsInt();
+			if (javaVersion != Runtime.version().feature()) {
+				// Budgets are not comparable across Java versions
+				System.out.println("Skipping budgets of " + c.name() + ", they were recorded with Java " + javaVersion);
+			} else if (!args.outputOnly) {
+				checkBudget(c, "wall time", metrics.get("wallSeconds").getAsDouble(),
+						budget.get("wallSeconds").getAsDouble(), args.margin, failures);
+				checkBudget(c, "allocated bytes", GeneratorRun.allocatedBytes(metrics),
+						budget.get("allocatedBytes").getAsDouble(), args.margin, failures);
+				checkBudget(c, "peak heap", metrics.get("peakHeapBytes").getAsDouble(),
+						budget.get("peakHeapBytes").getAsDouble(), args.margin, failures);
+			}
+			checkOutput(c, dir, out, failures);
+		}
+
+		if (!failures.isEmpty()) {
+			System.out.println(failures.size() + " regressions:");
+			failures.forEach(failure -> System.out.println("  " + failure));
+			System.exit(1);
+		}
+		System.out.println("No regressions");
+	}
+
+	private static void checkBudget(Case c, String what, double measured, double budget, double margin,
+			List<String> failures) {
+		double limit = budget * (1 + margin);
+		System.out.println(String.format("  %s: %.3g (budget %.3g, limit %.3g)", what, measured, budget, limit));
+		if (measured > limit) {
+			failures.add(String.format("%s: %s %.3g is over limit %.3g", c.name(), what, measured, limit));
+		}
+	}
+
+	private static void checkOutput(Case c, Path dir, Path out, List<String> failures) throws IOException {
+		Map<String, String> expected;
+		Map<String, String> actual;
+		if (c.keepsOutput()) {
+			expected = readFiles(dir.resolve("golden"));
+			actual = readFiles(out);
+		} else {
+			expected = readDigests(dir.resolve("golden.sha256"));
+			actual = digests(readFiles(out));
+		}
+		if (!expected.keySet().equals(actual.keySet())) {
+			failures.add(c.name() + ": expected output files " + expected.keySet() + ", got " + actual.keySet());
+			return;
+		}
+		for (Map.Entry<String, String> entry : expected.entrySet()) {
+			if (!entry.getValue().equals(actual.get(entry.getKey()))) {
+				failures.add(c.name() + ": " + entry.getKey() + " differs from golden, see " + out);
+			}
+		}
+	}
+
+	private static void update(Case c, Path dir, Path out, JsonObject metrics) throws IOException {
+		Map<String, String> files = readFiles(out);
+		if (c.keepsOutput()) {
+			Path golden = dir.resolve("golden");
+			Files.createDirectories(golden);
+			try (Stream<Path> old = Files.list(golden)) {
+				for (Path file : (Iterable<Path>) old::iterator) {
+					Files.delete(file);
+				}
+			}
+			for (Map.Entry<String, String> file : files.entrySet()) {
+				Files.writeString(golden.resolve(file.getKey()), file.getValue());
+			}
+		} else {
+			StringBuilder sb = new StringBuilder();
+			digests(files).forEach((name, digest) -> sb.append(digest).append("  ").append(name).append('\n'));
+			Files.createDirectories(dir);
+			Files.writeString(dir.resolve("golden.sha256"), sb);
+		}
+
+		JsonObject budget = new JsonObject();
+		budget.addProperty("javaVersion", Runtime.version().feature());
+		budget.addProperty("javaRuntime", System.getProperty("java.version"));
+		budget.addProperty("wallSeconds", metrics.get("wallSeconds").getAsDouble());
+		budget.addProperty("allocatedBytes", GeneratorRun.allocatedBytes(metrics));
+		budget.addProperty("peakHeapBytes", metrics.get("peakHeapBytes").getAsLong());
+		Files.writeString(dir.resolve("budget.json"), new GsonBuilder().setPrettyPrinting().create().toJson(budget) + "\n");
+	}
+
+	private static Map<String, String> readFiles(Path dir) throws IOException {
+		Map<String, String> files = new TreeMap<>();
+		try (Stream<Path> list = Files.list(dir)) {
+			for (Path file : (Iterable<Path>) list::iterator) {
+				files.put(file.getFileName().toString(), Files.readString(file));
+			}
+		}
+		return files;
+	}
+
+	private static Map<String, String> readDigests(Path file) throws IOException {
+		Map<String, String> digests = new TreeMap<>();
+		for (String line : Files.readAllLines(file)) {
+			if (!line.isBlank()) {
+				int split = line.indexOf("  ");
+				digests.put(line.substring(split + 2), line.substring(0, split));
+			}
+		}
+		return digests;
+	}
+
+	private static Map<String, String> digests(Map<String, String> files) {
+		Map<String, String> digests = new TreeMap<>();
+		try {
+			for (Map.Entry<String, String> file : files.entrySet()) {
+				MessageDigest sha = MessageDigest.getInstance("SHA-256");
+				StringBuilder hex = new StringBuilder();
+				for (byte b : sha.digest(file.getValue().getBytes(StandardCharsets.UTF_8))) {
+					hex.append(String.format("%02x", b));
+				}
+				digests.put(file.getKey(), hex.toString());
+			}
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError(e); // Every JVM has SHA-256
+		}
+		return digests;
+	}
+}
@@ -0,0 +1,114 @@
+package io.github.bensku.tsbind.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.google.gson.JsonObject;
+
+/**
+ * Runs type generation end-to-end on synthetic corpora of growing sizes
+ * and records time and peak memory of each run. Every run happens in a
+ * fresh JVM, so that peak heap usage of one run doesn't affect others.
+ *
+ */
+public class ScalingDriver {
+
+	private static class Args {
+
+		@Parameter(names = "--out", required = true)
+		Path out;
+
+		/**
+		 * Numbers of types in corpora.
+		 */
+		@Parameter(names = "--sizes")
+		List<Integer> sizes = List.of(250, 500, 1000, 2000, 4000);
+
+		@Parameter(names = "--resolution")
+		String resolution = "SYMBOLS";
+
+		/**
+		 * Maximum heap of each run.
+		 */
+		@Parameter(names = "--maxHeap")
+		String maxHeap = "2g";
+	}
+
+	private static class Point {
+		final int types;
+		final JsonObject metrics;
+
+		Point(int types, JsonObject metrics) {
+			this.types = types;
+			this.metrics = metrics;
+		}
+
+		double wallSeconds() {
+			return metrics.get("wallSeconds").getAsDouble();
+		}
+
+		double phaseSeconds(String phase) {
+			return metrics.getAsJsonObject("phases").getAsJsonObject(phase).get("wallSeconds").getAsDouble();
+		}
+
+		long peakHeapBytes() {
+			return metrics.get("peakHeapBytes").getAsLong();
+		}
+	}
+
+	public static void main(String... argv) throws IOException, InterruptedException {
+		Args args = new Args();
+		CorpusShape shape = new CorpusShape();
+		JCommander.newBuilder().addObject(args).addObject(shape).build().parse(argv);
+
+		List<Point> points = new ArrayList<>();
+		for (int size : args.sizes) {
+			Path dir = args.out.resolve("size-" + size);
+			Path corpus = dir.resolve("corpus");
+			Path types = dir.resolve("types");
+			Files.createDirectories(types);
+			new CorpusGenerator(shape.withTypes(size)).write(corpus);
+
+			List<String> bindArgs = new ArrayList<>(List.of("--in", corpus.toString(), "--out", types.toString(),
+					"--resolution", args.resolution, "--methodWhitelist", ".*", "--fieldWhitelist", ".*"));
+			if (args.resolution.equals("SYMBOLS")) {
+				// Like with real projects, symbols come from compiled classes
+				bindArgs.add("--symbols");
+				bindArgs.add(GeneratorRun.compile(corpus, dir).toString());
+			}
+
+			System.out.println("Generating types for corpus of " + size + " types");
+			points.add(new Point(size, GeneratorRun.run(dir, args.maxHeap, bindArgs)));
+		}
+
+		// Exponent of growth between consecutive sizes; above 1 is super-linear
+		StringBuilder csv = new StringBuilder("types,wall_seconds,parse_seconds,resolve_seconds,emit_seconds,peak_heap_bytes,us_per_type,time_exponent,heap_exponent\n");
+		System.out.println(String.format("%8s %10s %12s %12s %10s %10s", "types", "wall s", "peak heap MB",
+				"us/type", "time exp", "heap exp"));
+		for (int i = 0; i < points.size(); i++) {
+			Point point = points.get(i);
+			double timeExp = Double.NaN;
+			double heapExp = Double.NaN;
+			if (i > 0) {
+				Point prev = points.get(i - 1);
+				double sizeRatio = Math.log((double) point.types / prev.types);
+				timeExp = Math.log(point.wallSeconds() / prev.wallSeconds()) / sizeRatio;
+				heapExp = Math.log((double) point.peakHeapBytes() / prev.peakHeapBytes()) / sizeRatio;
+			}
+			double usPerType = point.wallSeconds() * 1_000_000 / point.types;
+			csv.append(point.types).append(',').append(point.wallSeconds()).append(',')
+					.append(point.phaseSeconds("parse")).append(',').append(point.phaseSeconds("resolve")).append(',')
+					.append(point.phaseSeconds("emit")).append(',').append(point.peakHeapBytes()).append(',')
+					.append(usPerType).append(',').append(timeExp).append(',').append(heapExp).append('\n');
+			System.out.println(String.format("%8d %10.2f %12d %12.0f %10.2f %10.2f", point.types, point.wallSeconds(),
+					point.peakHeapBytes() / (1024 * 1024), usPerType, timeExp, heapExp));
+		}
+		Files.writeString(args.out.resolve("scaling.csv"), csv);
+		System.out.println("Wrote " + args.out.resolve("scaling.csv"));
+	}
+}
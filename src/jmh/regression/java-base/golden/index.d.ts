@@ -0,0 +1,3 @@
+// auto-generated references to packages
+/// <reference path='java_util.d.ts' />
+/// <reference path='java_lang.d.ts' />
@@ -0,0 +1,345 @@
+declare module 'java.lang' {
+import { Iterator, Spliterator } from 'java.util';
+import { IntStream } from 'java.util.stream';
+import { Consumer } from 'java.util.function';
+export interface CharSequence {
+  /**
+   * Returns the length of this character sequence.  The length is the number
+   * of 16-bit `char`s in the sequence.
+   *
+   * @return  the number of `char`s in this sequence
+  */
+  length(): number;
+  /**
+   * Returns the `char` value at the specified index.  An index ranges from zero
+   * to `length() - 1`.  The first `char` value of the sequence is at
+   * index zero, the next at index one, and so on, as for array
+   * indexing.
+   *
+   * If the `char` value specified by the index is a
+   * surrogate, the surrogate
+   * value is returned.
+   *
+   * @param   index   the index of the `char` value to be returned
+   *
+   * @return  the specified `char` value
+   *
+   * @throws  IndexOutOfBoundsException
+   *          if the `index` argument is negative or not less than
+   *          `length()`
+  */
+  charAt(index: number): string;
+  /**
+   * Returns `true` if this character sequence is empty.
+   *
+   * @implSpec
+   * The default implementation returns the result of calling `length() == 0`.
+   *
+   * @return `true` if {@link #length()} is `0`, otherwise
+   * `false`
+   *
+   * @since 15
+  */
+  isEmpty(): boolean;
+  /**
+   * Returns a `CharSequence` that is a subsequence of this sequence.
+   * The subsequence starts with the `char` value at the specified index and
+   * ends with the `char` value at index `end - 1`.  The length
+   * (in `char`s) of the
+   * returned sequence is `end - start`, so if `start == end`
+   * then an empty sequence is returned.
+   *
+   * @param   start   the start index, inclusive
+   * @param   end     the end index, exclusive
+   *
+   * @return  the specified subsequence
+   *
+   * @throws  IndexOutOfBoundsException
+   *          if `start` or `end` are negative,
+   *          if `end` is greater than `length()`,
+   *          or if `start` is greater than `end`
+  */
+  subSequence(start: number, end: number): CharSequence;
+  /**
+   * Returns a string containing the characters in this sequence in the same
+   * order as this sequence.  The length of the string will be the length of
+   * this sequence.
+   *
+   * @return  a string consisting of exactly this sequence of characters
+  */
+  toString(): string;
+  /**
+   * Returns a stream of `int` zero-extending the `char` values
+   * from this sequence.  Any char which maps to a surrogate code
+   * point is passed through uninterpreted.
+   *
+   * The stream binds to this sequence when the terminal stream operation
+   * commences (specifically, for mutable sequences the spliterator for the
+   * stream is late-binding).
+   * If the sequence is modified during that operation then the result is
+   * undefined.
+   *
+   * @return an IntStream of char values from this sequence
+   * @since 1.8
+  */
+  chars(): IntStream;
+  /**
+   * Returns a stream of code point values from this sequence.  Any surrogate
+   * pairs encountered in the sequence are combined as if by {@linkplain
+   * Character#toCodePoint Character.toCodePoint} and the result is passed
+   * to the stream. Any other code units, including ordinary BMP characters,
+   * unpaired surrogates, and undefined code units, are zero-extended to
+   * `int` values which are then passed to the stream.
+   *
+   * The stream binds to this sequence when the terminal stream operation
+   * commences (specifically, for mutable sequences the spliterator for the
+   * stream is late-binding).
+   * If the sequence is modified during that operation then the result is
+   * undefined.
+   *
+   * @return an IntStream of Unicode code points from this sequence
+   * @since 1.8
+  */
+  codePoints(): IntStream;
+  /**
+   * Compares two `CharSequence` instances lexicographically. Returns a
+   * negative value, zero, or a positive value if the first sequence is lexicographically
+   * less than, equal to, or greater than the second, respectively.
+   *
+   * 
+   * The lexicographical ordering of `CharSequence` is defined as follows.
+   * Consider a `CharSequence` cs of length len to be a
+   * sequence of char values, cs[0] to cs[len-1]. Suppose k
+   * is the lowest index at which the corresponding char values from each sequence
+   * differ. The lexicographic ordering of the sequences is determined by a numeric
+   * comparison of the char values cs1[k] with cs2[k]. If there is
+   * no such index k, the shorter sequence is considered lexicographically
+   * less than the other. If the sequences have the same length, the sequences are
+   * considered lexicographically equal.
+   *
+   *
+   * @param cs1 the first `CharSequence`
+   * @param cs2 the second `CharSequence`
+   *
+   * @return  the value `0` if the two `CharSequence` are equal;
+   *          a negative integer if the first `CharSequence`
+   *          is lexicographically less than the second; or a
+   *          positive integer if the first `CharSequence` is
+   *          lexicographically greater than the second.
+   *
+   * @since 11
+  */
+  static compare(cs1: CharSequence, cs2: CharSequence): number;
+}
+/**
+ * This interface imposes a total ordering on the objects of each class that
+ * implements it.  This ordering is referred to as the class's natural
+ * ordering, and the class's `compareTo` method is referred to as
+ * its natural comparison method.
+ *
+ * Lists (and arrays) of objects that implement this interface can be sorted
+ * automatically by {@link Collections#sort(List) Collections.sort} (and
+ * {@link Arrays#sort(Object[]) Arrays.sort}).  Objects that implement this
+ * interface can be used as keys in a {@linkplain SortedMap sorted map} or as
+ * elements in a {@linkplain SortedSet sorted set}, without the need to
+ * specify a {@linkplain Comparator comparator}.
+ *
+ * The natural ordering for a class `C` is said to be consistent
+ * with equals if and only if `e1.compareTo(e2) == 0` has
+ * the same boolean value as `e1.equals(e2)` for every
+ * `e1` and `e2` of class `C`.  Note that `null`
+ * is not an instance of any class, and `e.compareTo(null)` should
+ * throw a `NullPointerException` even though `e.equals(null)`
+ * returns `false`.
+ *
+ * It is strongly recommended (though not required) that natural orderings be
+ * consistent with equals.  This is so because sorted sets (and sorted maps)
+ * without explicit comparators behave "strangely" when they are used with
+ * elements (or keys) whose natural ordering is inconsistent with equals.  In
+ * particular, such a sorted set (or sorted map) violates the general contract
+ * for set (or map), which is defined in terms of the `equals`
+ * method.
+ *
+ * For example, if one adds two keys `a` and `b` such that
+ * `(!a.equals(b) && a.compareTo(b) == 0)` to a sorted
+ * set that does not use an explicit comparator, the second `add`
+ * operation returns false (and the size of the sorted set does not increase)
+ * because `a` and `b` are equivalent from the sorted set's
+ * perspective.
+ *
+ * Virtually all Java core classes that implement `Comparable`
+ * have natural orderings that are consistent with equals.  One
+ * exception is {@link java.math.BigDecimal}, whose {@linkplain
+ * java.math.BigDecimal#compareTo natural ordering} equates ` * BigDecimal` objects with equal numerical values and different
+ * representations (such as 4.0 and 4.00). For {@link
+ * java.math.BigDecimal#equals BigDecimal.equals()} to return true,
+ * the representation and numerical value of the two ` * BigDecimal` objects must be the same.
+ *
+ * For the mathematically inclined, the relation that defines
+ * the natural ordering on a given class C is:` *       {(x, y) such that x.compareTo(y) <= 0`.
+ * } The quotient for this total order is: ` *       {(x, y) such that x.compareTo(y) == 0`.
+ * }
+ *
+ * It follows immediately from the contract for `compareTo` that the
+ * quotient is an equivalence relation on `C`, and that the
+ * natural ordering is a total order on `C`.  When we say that a
+ * class's natural ordering is consistent with equals, we mean that the
+ * quotient for the natural ordering is the equivalence relation defined by
+ * the class's {@link Object#equals(Object) equals(Object)} method: *     {(x, y) such that x.equals(y)}. 
+ *
+ * In other words, when a class's natural ordering is consistent with
+ * equals, the equivalence classes defined by the equivalence relation
+ * of the `equals` method and the equivalence classes defined by
+ * the quotient of the `compareTo` method are the same.
+ *
+ * This interface is a member of the
+ * 
+ * Java Collections Framework.
+ *
+ * @param  the type of objects that this object may be compared to
+ *
+ * @author  Josh Bloch
+ * @see java.util.Comparator
+ * @since 1.2
+*/
+export interface Comparable<T> {
+  /**
+   * Compares this object with the specified object for order.  Returns a
+   * negative integer, zero, or a positive integer as this object is less
+   * than, equal to, or greater than the specified object.
+   *
+   * The implementor must ensure {@link Integer#signum
+   * signum}`(x.compareTo(y)) == -signum(y.compareTo(x))` for
+   * all `x` and `y`.  (This implies that `     * x.compareTo(y)` must throw an exception if and only if `     * y.compareTo(x)` throws an exception.)
+   *
+   * The implementor must also ensure that the relation is transitive:
+   * `(x.compareTo(y) > 0 && y.compareTo(z) > 0)` implies
+   * `x.compareTo(z) > 0`.
+   *
+   * Finally, the implementor must ensure that `     * x.compareTo(y)==0` implies that {@code signum(x.compareTo(z))
+   * == signum(y.compareTo(z))}, for all `z`.
+   *
+   * @apiNote
+   * It is strongly recommended, but not strictly required that
+   * `(x.compareTo(y)==0) == (x.equals(y))`.  Generally speaking, any
+   * class that implements the `Comparable` interface and violates
+   * this condition should clearly indicate this fact.  The recommended
+   * language is "Note: this class has a natural ordering that is
+   * inconsistent with equals."
+   *
+   * @param   o the object to be compared.
+   * @return  a negative integer, zero, or a positive integer as this object
+   *          is less than, equal to, or greater than the specified object.
+   *
+   * @throws NullPointerException if the specified object is null
+   * @throws ClassCastException if the specified object's type prevents it
+   *         from being compared to this object.
+  */
+  compareTo(o: T): number;
+}
+/**
+ * Implementing this interface allows an object to be the target of the enhanced
+ * `for` statement (sometimes called the "for-each loop" statement).
+ *
+ * @param  the type of elements returned by the iterator
+ *
+ * @since 1.5
+ * @jls 14.14.2 The enhanced `for` statement
+*/
+export interface Iterable<T> {
+  [Symbol.iterator](): globalThis.Iterator<T>;
+  /**
+   * Returns an iterator over elements of type `T`.
+   *
+   * @return an Iterator.
+  */
+  iterator(): Iterator<T>;
+  /**
+   * Performs the given action for each element of the `Iterable`
+   * until all elements have been processed or the action throws an
+   * exception.  Actions are performed in the order of iteration, if that
+   * order is specified.  Exceptions thrown by the action are relayed to the
+   * caller.
+   * 
+   * The behavior of this method is unspecified if the action performs
+   * side-effects that modify the underlying source of elements, unless an
+   * overriding class has specified a concurrent modification policy.
+   *
+   * @implSpec
+   * The default implementation behaves as if:
+   * {@code
+   *     for (T t : this)
+   *         action.accept(t);
+   * }
+   *
+   * @param action The action to be performed for each element
+   * @throws NullPointerException if the specified action is null
+   * @since 1.8
+  */
+  forEach(action: Consumer<any>): void;
+  /**
+   * Creates a {@link Spliterator} over the elements described by this
+   * `Iterable`.
+   *
+   * @implSpec
+   * The default implementation creates an
+   * early-binding
+   * spliterator from the iterable's `Iterator`.  The spliterator
+   * inherits the fail-fast properties of the iterable's iterator.
+   *
+   * @implNote
+   * The default implementation should usually be overridden.  The
+   * spliterator returned by the default implementation has poor splitting
+   * capabilities, is unsized, and does not report any spliterator
+   * characteristics. Implementing classes can nearly always provide a
+   * better implementation.
+   *
+   * @return a `Spliterator` over the elements described by this
+   * `Iterable`.
+   * @since 1.8
+  */
+  spliterator(): Spliterator<T>;
+}
+/**
+ * The `Runnable` interface should be implemented by any
+ * class whose instances are intended to be executed by a thread. The
+ * class must define a method of no arguments called `run`.
+ * 
+ * This interface is designed to provide a common protocol for objects that
+ * wish to execute code while they are active. For example,
+ * `Runnable` is implemented by class `Thread`.
+ * Being active simply means that a thread has been started and has not
+ * yet been stopped.
+ * 
+ * In addition, `Runnable` provides the means for a class to be
+ * active while not subclassing `Thread`. A class that implements
+ * `Runnable` can run without subclassing `Thread`
+ * by instantiating a `Thread` instance and passing itself in
+ * as the target.  In most cases, the `Runnable` interface should
+ * be used if you are only planning to override the `run()`
+ * method and no other `Thread` methods.
+ * This is important because classes should not be subclassed
+ * unless the programmer intends on modifying or enhancing the fundamental
+ * behavior of the class.
+ *
+ * @author  Arthur van Hoff
+ * @see     java.lang.Thread
+ * @see     java.util.concurrent.Callable
+ * @since   1.0
+*/
+export interface Runnable {
+  /**
+   * When an object implementing interface `Runnable` is used
+   * to create a thread, starting the thread causes the object's
+   * `run` method to be called in that separately executing
+   * thread.
+   * 
+   * The general contract of the method `run` is that it may
+   * take any action whatsoever.
+   *
+   * @see     java.lang.Thread#run()
+  */
+  run(): void;
+}
+
+}
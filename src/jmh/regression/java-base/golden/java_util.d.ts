@@ -0,0 +1,5094 @@
+declare module 'java.util' {
+import { Iterable, Runnable } from 'java.lang';
+import { DoubleStream, Stream, LongStream, IntStream } from 'java.util.stream';
+import { Entry } from 'java.util.Map';
+import { IntSupplier, IntConsumer, Predicate, Function, LongConsumer, DoubleConsumer, Consumer, BiFunction, DoubleSupplier, IntFunction, Supplier, LongSupplier, UnaryOperator, BiConsumer } from 'java.util.function';
+export interface Collection<E> extends Iterable<E> {
+  /**
+   * Returns the number of elements in this collection.  If this collection
+   * contains more than `Integer.MAX_VALUE` elements, returns
+   * `Integer.MAX_VALUE`.
+   *
+   * @return the number of elements in this collection
+  */
+  size(): number;
+  /**
+   * Returns `true` if this collection contains no elements.
+   *
+   * @return `true` if this collection contains no elements
+  */
+  isEmpty(): boolean;
+  /**
+   * Returns `true` if this collection contains the specified element.
+   * More formally, returns `true` if and only if this collection
+   * contains at least one element `e` such that
+   * `Objects.equals(o, e)`.
+   *
+   * @param o element whose presence in this collection is to be tested
+   * @return `true` if this collection contains the specified
+   *         element
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this collection
+   *         (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         collection does not permit null elements
+   *         (optional)
+  */
+  contains(o: any): boolean;
+  /**
+   * Returns an iterator over the elements in this collection.  There are no
+   * guarantees concerning the order in which the elements are returned
+   * (unless this collection is an instance of some class that provides a
+   * guarantee).
+   *
+   * @return an `Iterator` over the elements in this collection
+  */
+  iterator(): Iterator<E>;
+  /**
+   * Returns an array containing all of the elements in this collection.
+   * If this collection makes any guarantees as to what order its elements
+   * are returned by its iterator, this method must return the elements in
+   * the same order. The returned array's {@linkplain Class#getComponentType
+   * runtime component type} is `Object`.
+   *
+   * The returned array will be "safe" in that no references to it are
+   * maintained by this collection.  (In other words, this method must
+   * allocate a new array even if this collection is backed by an array).
+   * The caller is thus free to modify the returned array.
+   *
+   * @apiNote
+   * This method acts as a bridge between array-based and collection-based APIs.
+   * It returns an array whose runtime type is `Object[]`.
+   * Use {@link #toArray(Object[]) toArray(T[])} to reuse an existing
+   * array, or use {@link #toArray(IntFunction)} to control the runtime type
+   * of the array.
+   *
+   * @return an array, whose {@linkplain Class#getComponentType runtime component
+   * type} is `Object`, containing all of the elements in this collection
+  */
+  toArray(): any[];
+  /**
+   * Returns an array containing all of the elements in this collection;
+   * the runtime type of the returned array is that of the specified array.
+   * If the collection fits in the specified array, it is returned therein.
+   * Otherwise, a new array is allocated with the runtime type of the
+   * specified array and the size of this collection.
+   *
+   * If this collection fits in the specified array with room to spare
+   * (i.e., the array has more elements than this collection), the element
+   * in the array immediately following the end of the collection is set to
+   * `null`.  (This is useful in determining the length of this
+   * collection only if the caller knows that this collection does
+   * not contain any `null` elements.)
+   *
+   * If this collection makes any guarantees as to what order its elements
+   * are returned by its iterator, this method must return the elements in
+   * the same order.
+   *
+   * @apiNote
+   * This method acts as a bridge between array-based and collection-based APIs.
+   * It allows an existing array to be reused under certain circumstances.
+   * Use {@link #toArray()} to create an array whose runtime type is `Object[]`,
+   * or use {@link #toArray(IntFunction)} to control the runtime type of
+   * the array.
+   *
+   * Suppose `x` is a collection known to contain only strings.
+   * The following code can be used to dump the collection into a previously
+   * allocated `String` array:
+   *
+   *      *     String[] y = new String[SIZE];
+   *     ...
+   *     y = x.toArray(y);
+   *
+   * The return value is reassigned to the variable `y`, because a
+   * new array will be allocated and returned if the collection `x` has
+   * too many elements to fit into the existing array `y`.
+   *
+   * Note that `toArray(new Object[0])` is identical in function to
+   * `toArray()`.
+   *
+   * @param  the component type of the array to contain the collection
+   * @param a the array into which the elements of this collection are to be
+   *        stored, if it is big enough; otherwise, a new array of the same
+   *        runtime type is allocated for this purpose.
+   * @return an array containing all of the elements in this collection
+   * @throws ArrayStoreException if the runtime type of any element in this
+   *         collection is not assignable to the {@linkplain Class#getComponentType
+   *         runtime component type} of the specified array
+   * @throws NullPointerException if the specified array is null
+  */
+  toArray<T>(a: T[]): T[];
+  /**
+   * Returns an array containing all of the elements in this collection,
+   * using the provided `generator` function to allocate the returned array.
+   *
+   * If this collection makes any guarantees as to what order its elements
+   * are returned by its iterator, this method must return the elements in
+   * the same order.
+   *
+   * @apiNote
+   * This method acts as a bridge between array-based and collection-based APIs.
+   * It allows creation of an array of a particular runtime type. Use
+   * {@link #toArray()} to create an array whose runtime type is `Object[]`,
+   * or use {@link #toArray(Object[]) toArray(T[])} to reuse an existing array.
+   *
+   * Suppose `x` is a collection known to contain only strings.
+   * The following code can be used to dump the collection into a newly
+   * allocated array of `String`:
+   *
+   *      *     String[] y = x.toArray(String[]::new);
+   *
+   * @implSpec
+   * The default implementation calls the generator function with zero
+   * and then passes the resulting array to {@link #toArray(Object[]) toArray(T[])}.
+   *
+   * @param  the component type of the array to contain the collection
+   * @param generator a function which produces a new array of the desired
+   *                  type and the provided length
+   * @return an array containing all of the elements in this collection
+   * @throws ArrayStoreException if the runtime type of any element in this
+   *         collection is not assignable to the {@linkplain Class#getComponentType
+   *         runtime component type} of the generated array
+   * @throws NullPointerException if the generator function is null
+   * @since 11
+  */
+  toArray<T>(generator: IntFunction<T[]>): T[];
+  /**
+   * Ensures that this collection contains the specified element (optional
+   * operation).  Returns `true` if this collection changed as a
+   * result of the call.  (Returns `false` if this collection does
+   * not permit duplicates and already contains the specified element.)
+   *
+   * Collections that support this operation may place limitations on what
+   * elements may be added to this collection.  In particular, some
+   * collections will refuse to add `null` elements, and others will
+   * impose restrictions on the type of elements that may be added.
+   * Collection classes should clearly specify in their documentation any
+   * restrictions on what elements may be added.
+   *
+   * If a collection refuses to add a particular element for any reason
+   * other than that it already contains the element, it must throw
+   * an exception (rather than returning `false`).  This preserves
+   * the invariant that a collection always contains the specified element
+   * after this call returns.
+   *
+   * @param e element whose presence in this collection is to be ensured
+   * @return `true` if this collection changed as a result of the
+   *         call
+   * @throws UnsupportedOperationException if the `add` operation
+   *         is not supported by this collection
+   * @throws ClassCastException if the class of the specified element
+   *         prevents it from being added to this collection
+   * @throws NullPointerException if the specified element is null and this
+   *         collection does not permit null elements
+   * @throws IllegalArgumentException if some property of the element
+   *         prevents it from being added to this collection
+   * @throws IllegalStateException if the element cannot be added at this
+   *         time due to insertion restrictions
+  */
+  add(e: E): boolean;
+  /**
+   * Removes a single instance of the specified element from this
+   * collection, if it is present (optional operation).  More formally,
+   * removes an element `e` such that
+   * `Objects.equals(o, e)`, if
+   * this collection contains one or more such elements.  Returns
+   * `true` if this collection contained the specified element (or
+   * equivalently, if this collection changed as a result of the call).
+   *
+   * @param o element to be removed from this collection, if present
+   * @return `true` if an element was removed as a result of this call
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this collection
+   *         (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         collection does not permit null elements
+   *         (optional)
+   * @throws UnsupportedOperationException if the `remove` operation
+   *         is not supported by this collection
+  */
+  remove(o: any): boolean;
+  /**
+   * Returns `true` if this collection contains all of the elements
+   * in the specified collection.
+   *
+   * @param  c collection to be checked for containment in this collection
+   * @return `true` if this collection contains all of the elements
+   *         in the specified collection
+   * @throws ClassCastException if the types of one or more elements
+   *         in the specified collection are incompatible with this
+   *         collection
+   *         (optional)
+   * @throws NullPointerException if the specified collection contains one
+   *         or more null elements and this collection does not permit null
+   *         elements
+   *         (optional),
+   *         or if the specified collection is null.
+   * @see    #contains(Object)
+  */
+  containsAll(c: Collection<any>): boolean;
+  /**
+   * Adds all of the elements in the specified collection to this collection
+   * (optional operation).  The behavior of this operation is undefined if
+   * the specified collection is modified while the operation is in progress.
+   * (This implies that the behavior of this call is undefined if the
+   * specified collection is this collection, and this collection is
+   * nonempty.)
+   *
+   * @param c collection containing elements to be added to this collection
+   * @return `true` if this collection changed as a result of the call
+   * @throws UnsupportedOperationException if the `addAll` operation
+   *         is not supported by this collection
+   * @throws ClassCastException if the class of an element of the specified
+   *         collection prevents it from being added to this collection
+   * @throws NullPointerException if the specified collection contains a
+   *         null element and this collection does not permit null elements,
+   *         or if the specified collection is null
+   * @throws IllegalArgumentException if some property of an element of the
+   *         specified collection prevents it from being added to this
+   *         collection
+   * @throws IllegalStateException if not all the elements can be added at
+   *         this time due to insertion restrictions
+   * @see #add(Object)
+  */
+  addAll(c: Collection<E>): boolean;
+  /**
+   * Removes all of this collection's elements that are also contained in the
+   * specified collection (optional operation).  After this call returns,
+   * this collection will contain no elements in common with the specified
+   * collection.
+   *
+   * @param c collection containing elements to be removed from this collection
+   * @return `true` if this collection changed as a result of the
+   *         call
+   * @throws UnsupportedOperationException if the `removeAll` method
+   *         is not supported by this collection
+   * @throws ClassCastException if the types of one or more elements
+   *         in this collection are incompatible with the specified
+   *         collection
+   *         (optional)
+   * @throws NullPointerException if this collection contains one or more
+   *         null elements and the specified collection does not support
+   *         null elements
+   *         (optional),
+   *         or if the specified collection is null
+   * @see #remove(Object)
+   * @see #contains(Object)
+  */
+  removeAll(c: Collection<any>): boolean;
+  /**
+   * Removes all of the elements of this collection that satisfy the given
+   * predicate.  Errors or runtime exceptions thrown during iteration or by
+   * the predicate are relayed to the caller.
+   *
+   * @implSpec
+   * The default implementation traverses all elements of the collection using
+   * its {@link #iterator}.  Each matching element is removed using
+   * {@link Iterator#remove()}.  If the collection's iterator does not
+   * support removal then an `UnsupportedOperationException` will be
+   * thrown on the first matching element.
+   *
+   * @param filter a predicate which returns `true` for elements to be
+   *        removed
+   * @return `true` if any elements were removed
+   * @throws NullPointerException if the specified filter is null
+   * @throws UnsupportedOperationException if elements cannot be removed
+   *         from this collection.  Implementations may throw this exception if a
+   *         matching element cannot be removed or if, in general, removal is not
+   *         supported.
+   * @since 1.8
+  */
+  removeIf(filter: Predicate<any>): boolean;
+  /**
+   * Retains only the elements in this collection that are contained in the
+   * specified collection (optional operation).  In other words, removes from
+   * this collection all of its elements that are not contained in the
+   * specified collection.
+   *
+   * @param c collection containing elements to be retained in this collection
+   * @return `true` if this collection changed as a result of the call
+   * @throws UnsupportedOperationException if the `retainAll` operation
+   *         is not supported by this collection
+   * @throws ClassCastException if the types of one or more elements
+   *         in this collection are incompatible with the specified
+   *         collection
+   *         (optional)
+   * @throws NullPointerException if this collection contains one or more
+   *         null elements and the specified collection does not permit null
+   *         elements
+   *         (optional),
+   *         or if the specified collection is null
+   * @see #remove(Object)
+   * @see #contains(Object)
+  */
+  retainAll(c: Collection<any>): boolean;
+  /**
+   * Removes all of the elements from this collection (optional operation).
+   * The collection will be empty after this method returns.
+   *
+   * @throws UnsupportedOperationException if the `clear` operation
+   *         is not supported by this collection
+  */
+  clear(): void;
+  /**
+   * Compares the specified object with this collection for equality. 
+   *
+   * While the `Collection` interface adds no stipulations to the
+   * general contract for the `Object.equals`, programmers who
+   * implement the `Collection` interface "directly" (in other words,
+   * create a class that is a `Collection` but is not a `Set`
+   * or a `List`) must exercise care if they choose to override the
+   * `Object.equals`.  It is not necessary to do so, and the simplest
+   * course of action is to rely on `Object`'s implementation, but
+   * the implementor may wish to implement a "value comparison" in place of
+   * the default "reference comparison."  (The `List` and
+   * `Set` interfaces mandate such value comparisons.)
+   *
+   * The general contract for the `Object.equals` method states that
+   * equals must be symmetric (in other words, `a.equals(b)` if and
+   * only if `b.equals(a)`).  The contracts for `List.equals`
+   * and `Set.equals` state that lists are only equal to other lists,
+   * and sets to other sets.  Thus, a custom `equals` method for a
+   * collection class that implements neither the `List` nor
+   * `Set` interface must return `false` when this collection
+   * is compared to any list or set.  (By the same logic, it is not possible
+   * to write a class that correctly implements both the `Set` and
+   * `List` interfaces.)
+   *
+   * @param o object to be compared for equality with this collection
+   * @return `true` if the specified object is equal to this
+   * collection
+   *
+   * @see Object#equals(Object)
+   * @see Set#equals(Object)
+   * @see List#equals(Object)
+  */
+  equals(o: any): boolean;
+  /**
+   * Returns the hash code value for this collection.  While the
+   * `Collection` interface adds no stipulations to the general
+   * contract for the `Object.hashCode` method, programmers should
+   * take note that any class that overrides the `Object.equals`
+   * method must also override the `Object.hashCode` method in order
+   * to satisfy the general contract for the `Object.hashCode` method.
+   * In particular, `c1.equals(c2)` implies that
+   * `c1.hashCode()==c2.hashCode()`.
+   *
+   * @return the hash code value for this collection
+   *
+   * @see Object#hashCode()
+   * @see Object#equals(Object)
+  */
+  hashCode(): number;
+  /**
+   * Creates a {@link Spliterator} over the elements in this collection.
+   *
+   * Implementations should document characteristic values reported by the
+   * spliterator.  Such characteristic values are not required to be reported
+   * if the spliterator reports {@link Spliterator#SIZED} and this collection
+   * contains no elements.
+   *
+   * The default implementation should be overridden by subclasses that
+   * can return a more efficient spliterator.  In order to
+   * preserve expected laziness behavior for the {@link #stream()} and
+   * {@link #parallelStream()} methods, spliterators should either have the
+   * characteristic of `IMMUTABLE` or `CONCURRENT`, or be
+   * late-binding.
+   * If none of these is practical, the overriding class should describe the
+   * spliterator's documented policy of binding and structural interference,
+   * and should override the {@link #stream()} and {@link #parallelStream()}
+   * methods to create streams using a `Supplier` of the spliterator,
+   * as in:
+   * {@code
+   *     Stream s = StreamSupport.stream(() -> spliterator(), spliteratorCharacteristics)
+   * }
+   * These requirements ensure that streams produced by the
+   * {@link #stream()} and {@link #parallelStream()} methods will reflect the
+   * contents of the collection as of initiation of the terminal stream
+   * operation.
+   *
+   * @implSpec
+   * The default implementation creates a
+   * late-binding spliterator
+   * from the collection's `Iterator`.  The spliterator inherits the
+   * fail-fast properties of the collection's iterator.
+   * 
+   * The created `Spliterator` reports {@link Spliterator#SIZED}.
+   *
+   * @implNote
+   * The created `Spliterator` additionally reports
+   * {@link Spliterator#SUBSIZED}.
+   *
+   * If a spliterator covers no elements then the reporting of additional
+   * characteristic values, beyond that of `SIZED` and `SUBSIZED`,
+   * does not aid clients to control, specialize or simplify computation.
+   * However, this does enable shared use of an immutable and empty
+   * spliterator instance (see {@link Spliterators#emptySpliterator()}) for
+   * empty collections, and enables clients to determine if such a spliterator
+   * covers no elements.
+   *
+   * @return a `Spliterator` over the elements in this collection
+   * @since 1.8
+  */
+  spliterator(): Spliterator<E>;
+  /**
+   * Returns a sequential `Stream` with this collection as its source.
+   *
+   * This method should be overridden when the {@link #spliterator()}
+   * method cannot return a spliterator that is `IMMUTABLE`,
+   * `CONCURRENT`, or late-binding. (See {@link #spliterator()}
+   * for details.)
+   *
+   * @implSpec
+   * The default implementation creates a sequential `Stream` from the
+   * collection's `Spliterator`.
+   *
+   * @return a sequential `Stream` over the elements in this collection
+   * @since 1.8
+  */
+  stream(): Stream<E>;
+  /**
+   * Returns a possibly parallel `Stream` with this collection as its
+   * source.  It is allowable for this method to return a sequential stream.
+   *
+   * This method should be overridden when the {@link #spliterator()}
+   * method cannot return a spliterator that is `IMMUTABLE`,
+   * `CONCURRENT`, or late-binding. (See {@link #spliterator()}
+   * for details.)
+   *
+   * @implSpec
+   * The default implementation creates a parallel `Stream` from the
+   * collection's `Spliterator`.
+   *
+   * @return a possibly parallel `Stream` over the elements in this
+   * collection
+   * @since 1.8
+  */
+  parallelStream(): Stream<E>;
+}
+/**
+ * An iterator over a collection.  `Iterator` takes the place of
+ * {@link Enumeration} in the Java Collections Framework.  Iterators
+ * differ from enumerations in two ways:
+ *
+ * 
+ *       Iterators allow the caller to remove elements from the
+ *           underlying collection during the iteration with well-defined
+ *           semantics.
+ *       Method names have been improved.
+ * 
+ *
+ * This interface is a member of the
+ * 
+ * Java Collections Framework.
+ *
+ * @apiNote
+ * An {@link Enumeration} can be converted into an `Iterator` by
+ * using the {@link Enumeration#asIterator} method.
+ *
+ * @param  the type of elements returned by this iterator
+ *
+ * @author  Josh Bloch
+ * @see Collection
+ * @see ListIterator
+ * @see Iterable
+ * @since 1.2
+*/
+export interface Iterator<E> {
+  /**
+   * Returns `true` if the iteration has more elements.
+   * (In other words, returns `true` if {@link #next} would
+   * return an element rather than throwing an exception.)
+   *
+   * @return `true` if the iteration has more elements
+  */
+  hasNext(): boolean;
+  /**
+   * Returns the next element in the iteration.
+   *
+   * @return the next element in the iteration
+   * @throws NoSuchElementException if the iteration has no more elements
+  */
+  next(): E;
+  /**
+   * Removes from the underlying collection the last element returned
+   * by this iterator (optional operation).  This method can be called
+   * only once per call to {@link #next}.
+   * 
+   * The behavior of an iterator is unspecified if the underlying collection
+   * is modified while the iteration is in progress in any way other than by
+   * calling this method, unless an overriding class has specified a
+   * concurrent modification policy.
+   * 
+   * The behavior of an iterator is unspecified if this method is called
+   * after a call to the {@link #forEachRemaining forEachRemaining} method.
+   *
+   * @implSpec
+   * The default implementation throws an instance of
+   * {@link UnsupportedOperationException} and performs no other action.
+   *
+   * @throws UnsupportedOperationException if the `remove`
+   *         operation is not supported by this iterator
+   *
+   * @throws IllegalStateException if the `next` method has not
+   *         yet been called, or the `remove` method has already
+   *         been called after the last call to the `next`
+   *         method
+  */
+  remove(): void;
+  /**
+   * Performs the given action for each remaining element until all elements
+   * have been processed or the action throws an exception.  Actions are
+   * performed in the order of iteration, if that order is specified.
+   * Exceptions thrown by the action are relayed to the caller.
+   * 
+   * The behavior of an iterator is unspecified if the action modifies the
+   * collection in any way (even by calling the {@link #remove remove} method
+   * or other mutator methods of `Iterator` subtypes),
+   * unless an overriding class has specified a concurrent modification policy.
+   * 
+   * Subsequent behavior of an iterator is unspecified if the action throws an
+   * exception.
+   *
+   * @implSpec
+   * The default implementation behaves as if:
+   * {@code
+   *     while (hasNext())
+   *         action.accept(next());
+   * }
+   *
+   * @param action The action to be performed for each element
+   * @throws NullPointerException if the specified action is null
+   * @since 1.8
+  */
+  forEachRemaining(action: Consumer<any>): void;
+}
+export interface List<E> extends Collection<E> {
+  /**
+   * Returns the number of elements in this list.  If this list contains
+   * more than `Integer.MAX_VALUE` elements, returns
+   * `Integer.MAX_VALUE`.
+   *
+   * @return the number of elements in this list
+  */
+  size(): number;
+  /**
+   * Returns `true` if this list contains no elements.
+   *
+   * @return `true` if this list contains no elements
+  */
+  isEmpty(): boolean;
+  /**
+   * Returns `true` if this list contains the specified element.
+   * More formally, returns `true` if and only if this list contains
+   * at least one element `e` such that
+   * `Objects.equals(o, e)`.
+   *
+   * @param o element whose presence in this list is to be tested
+   * @return `true` if this list contains the specified element
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this list
+   * (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         list does not permit null elements
+   * (optional)
+  */
+  contains(o: any): boolean;
+  /**
+   * Returns an iterator over the elements in this list in proper sequence.
+   *
+   * @return an iterator over the elements in this list in proper sequence
+  */
+  iterator(): Iterator<E>;
+  /**
+   * Returns an array containing all of the elements in this list in proper
+   * sequence (from first to last element).
+   *
+   * The returned array will be "safe" in that no references to it are
+   * maintained by this list.  (In other words, this method must
+   * allocate a new array even if this list is backed by an array).
+   * The caller is thus free to modify the returned array.
+   *
+   * This method acts as bridge between array-based and collection-based
+   * APIs.
+   *
+   * @return an array containing all of the elements in this list in proper
+   *         sequence
+   * @see Arrays#asList(Object[])
+  */
+  toArray(): any[];
+  /**
+   * Returns an array containing all of the elements in this list in
+   * proper sequence (from first to last element); the runtime type of
+   * the returned array is that of the specified array.  If the list fits
+   * in the specified array, it is returned therein.  Otherwise, a new
+   * array is allocated with the runtime type of the specified array and
+   * the size of this list.
+   *
+   * If the list fits in the specified array with room to spare (i.e.,
+   * the array has more elements than the list), the element in the array
+   * immediately following the end of the list is set to `null`.
+   * (This is useful in determining the length of the list only if
+   * the caller knows that the list does not contain any null elements.)
+   *
+   * Like the {@link #toArray()} method, this method acts as bridge between
+   * array-based and collection-based APIs.  Further, this method allows
+   * precise control over the runtime type of the output array, and may,
+   * under certain circumstances, be used to save allocation costs.
+   *
+   * Suppose `x` is a list known to contain only strings.
+   * The following code can be used to dump the list into a newly
+   * allocated array of `String`:
+   *
+   * {@code
+   *     String[] y = x.toArray(new String[0]);
+   * }
+   *
+   * Note that `toArray(new Object[0])` is identical in function to
+   * `toArray()`.
+   *
+   * @param a the array into which the elements of this list are to
+   *          be stored, if it is big enough; otherwise, a new array of the
+   *          same runtime type is allocated for this purpose.
+   * @return an array containing the elements of this list
+   * @throws ArrayStoreException if the runtime type of the specified array
+   *         is not a supertype of the runtime type of every element in
+   *         this list
+   * @throws NullPointerException if the specified array is null
+  */
+  toArray<T>(a: T[]): T[];
+  /**
+   * Appends the specified element to the end of this list (optional
+   * operation).
+   *
+   * Lists that support this operation may place limitations on what
+   * elements may be added to this list.  In particular, some
+   * lists will refuse to add null elements, and others will impose
+   * restrictions on the type of elements that may be added.  List
+   * classes should clearly specify in their documentation any restrictions
+   * on what elements may be added.
+   *
+   * @param e element to be appended to this list
+   * @return `true` (as specified by {@link Collection#add})
+   * @throws UnsupportedOperationException if the `add` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of the specified element
+   *         prevents it from being added to this list
+   * @throws NullPointerException if the specified element is null and this
+   *         list does not permit null elements
+   * @throws IllegalArgumentException if some property of this element
+   *         prevents it from being added to this list
+  */
+  add(e: E): boolean;
+  /**
+   * Removes the first occurrence of the specified element from this list,
+   * if it is present (optional operation).  If this list does not contain
+   * the element, it is unchanged.  More formally, removes the element with
+   * the lowest index `i` such that
+   * `Objects.equals(o, get(i))`
+   * (if such an element exists).  Returns `true` if this list
+   * contained the specified element (or equivalently, if this list changed
+   * as a result of the call).
+   *
+   * @param o element to be removed from this list, if present
+   * @return `true` if this list contained the specified element
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this list
+   * (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         list does not permit null elements
+   * (optional)
+   * @throws UnsupportedOperationException if the `remove` operation
+   *         is not supported by this list
+  */
+  remove(o: any): boolean;
+  /**
+   * Returns `true` if this list contains all of the elements of the
+   * specified collection.
+   *
+   * @param  c collection to be checked for containment in this list
+   * @return `true` if this list contains all of the elements of the
+   *         specified collection
+   * @throws ClassCastException if the types of one or more elements
+   *         in the specified collection are incompatible with this
+   *         list
+   * (optional)
+   * @throws NullPointerException if the specified collection contains one
+   *         or more null elements and this list does not permit null
+   *         elements
+   *         (optional),
+   *         or if the specified collection is null
+   * @see #contains(Object)
+  */
+  containsAll(c: Collection<any>): boolean;
+  /**
+   * Appends all of the elements in the specified collection to the end of
+   * this list, in the order that they are returned by the specified
+   * collection's iterator (optional operation).  The behavior of this
+   * operation is undefined if the specified collection is modified while
+   * the operation is in progress.  (Note that this will occur if the
+   * specified collection is this list, and it's nonempty.)
+   *
+   * @param c collection containing elements to be added to this list
+   * @return `true` if this list changed as a result of the call
+   * @throws UnsupportedOperationException if the `addAll` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of an element of the specified
+   *         collection prevents it from being added to this list
+   * @throws NullPointerException if the specified collection contains one
+   *         or more null elements and this list does not permit null
+   *         elements, or if the specified collection is null
+   * @throws IllegalArgumentException if some property of an element of the
+   *         specified collection prevents it from being added to this list
+   * @see #add(Object)
+  */
+  addAll(c: Collection<E>): boolean;
+  /**
+   * Inserts all of the elements in the specified collection into this
+   * list at the specified position (optional operation).  Shifts the
+   * element currently at that position (if any) and any subsequent
+   * elements to the right (increases their indices).  The new elements
+   * will appear in this list in the order that they are returned by the
+   * specified collection's iterator.  The behavior of this operation is
+   * undefined if the specified collection is modified while the
+   * operation is in progress.  (Note that this will occur if the specified
+   * collection is this list, and it's nonempty.)
+   *
+   * @param index index at which to insert the first element from the
+   *              specified collection
+   * @param c collection containing elements to be added to this list
+   * @return `true` if this list changed as a result of the call
+   * @throws UnsupportedOperationException if the `addAll` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of an element of the specified
+   *         collection prevents it from being added to this list
+   * @throws NullPointerException if the specified collection contains one
+   *         or more null elements and this list does not permit null
+   *         elements, or if the specified collection is null
+   * @throws IllegalArgumentException if some property of an element of the
+   *         specified collection prevents it from being added to this list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index > size()`)
+  */
+  addAll(index: number, c: Collection<E>): boolean;
+  /**
+   * Removes from this list all of its elements that are contained in the
+   * specified collection (optional operation).
+   *
+   * @param c collection containing elements to be removed from this list
+   * @return `true` if this list changed as a result of the call
+   * @throws UnsupportedOperationException if the `removeAll` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of an element of this list
+   *         is incompatible with the specified collection
+   * (optional)
+   * @throws NullPointerException if this list contains a null element and the
+   *         specified collection does not permit null elements
+   *         (optional),
+   *         or if the specified collection is null
+   * @see #remove(Object)
+   * @see #contains(Object)
+  */
+  removeAll(c: Collection<any>): boolean;
+  /**
+   * Retains only the elements in this list that are contained in the
+   * specified collection (optional operation).  In other words, removes
+   * from this list all of its elements that are not contained in the
+   * specified collection.
+   *
+   * @param c collection containing elements to be retained in this list
+   * @return `true` if this list changed as a result of the call
+   * @throws UnsupportedOperationException if the `retainAll` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of an element of this list
+   *         is incompatible with the specified collection
+   * (optional)
+   * @throws NullPointerException if this list contains a null element and the
+   *         specified collection does not permit null elements
+   *         (optional),
+   *         or if the specified collection is null
+   * @see #remove(Object)
+   * @see #contains(Object)
+  */
+  retainAll(c: Collection<any>): boolean;
+  /**
+   * Replaces each element of this list with the result of applying the
+   * operator to that element.  Errors or runtime exceptions thrown by
+   * the operator are relayed to the caller.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `list`:
+   * {@code
+   *     final ListIterator li = list.listIterator();
+   *     while (li.hasNext()) {
+   *         li.set(operator.apply(li.next()));
+   *     }
+   * }
+   *
+   * If the list's list-iterator does not support the `set` operation
+   * then an `UnsupportedOperationException` will be thrown when
+   * replacing the first element.
+   *
+   * @param operator the operator to apply to each element
+   * @throws UnsupportedOperationException if this list is unmodifiable.
+   *         Implementations may throw this exception if an element
+   *         cannot be replaced or if, in general, modification is not
+   *         supported
+   * @throws NullPointerException if the specified operator is null or
+   *         if the operator result is a null value and this list does
+   *         not permit null elements
+   *         (optional)
+   * @since 1.8
+  */
+  replaceAll(operator: UnaryOperator<E>): void;
+  /**
+   * Sorts this list according to the order induced by the specified
+   * {@link Comparator}.  The sort is stable: this method must not
+   * reorder equal elements.
+   *
+   * All elements in this list must be mutually comparable using the
+   * specified comparator (that is, `c.compare(e1, e2)` must not throw
+   * a `ClassCastException` for any elements `e1` and `e2`
+   * in the list).
+   *
+   * If the specified comparator is `null` then all elements in this
+   * list must implement the {@link Comparable} interface and the elements'
+   * {@linkplain Comparable natural ordering} should be used.
+   *
+   * This list must be modifiable, but need not be resizable.
+   *
+   * @implSpec
+   * The default implementation obtains an array containing all elements in
+   * this list, sorts the array, and iterates over this list resetting each
+   * element from the corresponding position in the array. (This avoids the
+   * n2 log(n) performance that would result from attempting
+   * to sort a linked list in place.)
+   *
+   * @implNote
+   * This implementation is a stable, adaptive, iterative mergesort that
+   * requires far fewer than n lg(n) comparisons when the input array is
+   * partially sorted, while offering the performance of a traditional
+   * mergesort when the input array is randomly ordered.  If the input array
+   * is nearly sorted, the implementation requires approximately n
+   * comparisons.  Temporary storage requirements vary from a small constant
+   * for nearly sorted input arrays to n/2 object references for randomly
+   * ordered input arrays.
+   *
+   * The implementation takes equal advantage of ascending and
+   * descending order in its input array, and can take advantage of
+   * ascending and descending order in different parts of the same
+   * input array.  It is well-suited to merging two or more sorted arrays:
+   * simply concatenate the arrays and sort the resulting array.
+   *
+   * The implementation was adapted from Tim Peters's list sort for Python
+   * (
+   * TimSort).  It uses techniques from Peter McIlroy's "Optimistic
+   * Sorting and Information Theoretic Complexity", in Proceedings of the
+   * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
+   * January 1993.
+   *
+   * @param c the `Comparator` used to compare list elements.
+   *          A `null` value indicates that the elements'
+   *          {@linkplain Comparable natural ordering} should be used
+   * @throws ClassCastException if the list contains elements that are not
+   *         mutually comparable using the specified comparator
+   * @throws UnsupportedOperationException if the list's list-iterator does
+   *         not support the `set` operation
+   * @throws IllegalArgumentException
+   *         (optional)
+   *         if the comparator is found to violate the {@link Comparator}
+   *         contract
+   * @since 1.8
+  */
+  sort(c: Comparator<any>): void;
+  /**
+   * Removes all of the elements from this list (optional operation).
+   * The list will be empty after this call returns.
+   *
+   * @throws UnsupportedOperationException if the `clear` operation
+   *         is not supported by this list
+  */
+  clear(): void;
+  /**
+   * Compares the specified object with this list for equality.  Returns
+   * `true` if and only if the specified object is also a list, both
+   * lists have the same size, and all corresponding pairs of elements in
+   * the two lists are equal.  (Two elements `e1` and
+   * `e2` are equal if `Objects.equals(e1, e2)`.)
+   * In other words, two lists are defined to be
+   * equal if they contain the same elements in the same order.  This
+   * definition ensures that the equals method works properly across
+   * different implementations of the `List` interface.
+   *
+   * @param o the object to be compared for equality with this list
+   * @return `true` if the specified object is equal to this list
+  */
+  equals(o: any): boolean;
+  /**
+   * Returns the hash code value for this list.  The hash code of a list
+   * is defined to be the result of the following calculation:
+   * {@code
+   *     int hashCode = 1;
+   *     for (E e : list)
+   *         hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
+   * }
+   * This ensures that `list1.equals(list2)` implies that
+   * `list1.hashCode()==list2.hashCode()` for any two lists,
+   * `list1` and `list2`, as required by the general
+   * contract of {@link Object#hashCode}.
+   *
+   * @return the hash code value for this list
+   * @see Object#equals(Object)
+   * @see #equals(Object)
+  */
+  hashCode(): number;
+  /**
+   * Returns the element at the specified position in this list.
+   *
+   * @param index index of the element to return
+   * @return the element at the specified position in this list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index >= size()`)
+  */
+  get(index: number): E;
+  /**
+   * Replaces the element at the specified position in this list with the
+   * specified element (optional operation).
+   *
+   * @param index index of the element to replace
+   * @param element element to be stored at the specified position
+   * @return the element previously at the specified position
+   * @throws UnsupportedOperationException if the `set` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of the specified element
+   *         prevents it from being added to this list
+   * @throws NullPointerException if the specified element is null and
+   *         this list does not permit null elements
+   * @throws IllegalArgumentException if some property of the specified
+   *         element prevents it from being added to this list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index >= size()`)
+  */
+  set(index: number, element: E): E;
+  /**
+   * Inserts the specified element at the specified position in this list
+   * (optional operation).  Shifts the element currently at that position
+   * (if any) and any subsequent elements to the right (adds one to their
+   * indices).
+   *
+   * @param index index at which the specified element is to be inserted
+   * @param element element to be inserted
+   * @throws UnsupportedOperationException if the `add` operation
+   *         is not supported by this list
+   * @throws ClassCastException if the class of the specified element
+   *         prevents it from being added to this list
+   * @throws NullPointerException if the specified element is null and
+   *         this list does not permit null elements
+   * @throws IllegalArgumentException if some property of the specified
+   *         element prevents it from being added to this list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index > size()`)
+  */
+  add(index: number, element: E): void;
+  /**
+   * Removes the element at the specified position in this list (optional
+   * operation).  Shifts any subsequent elements to the left (subtracts one
+   * from their indices).  Returns the element that was removed from the
+   * list.
+   *
+   * @param index the index of the element to be removed
+   * @return the element previously at the specified position
+   * @throws UnsupportedOperationException if the `remove` operation
+   *         is not supported by this list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index >= size()`)
+  */
+  remove(index: number): E;
+  /**
+   * Returns the index of the first occurrence of the specified element
+   * in this list, or -1 if this list does not contain the element.
+   * More formally, returns the lowest index `i` such that
+   * `Objects.equals(o, get(i))`,
+   * or -1 if there is no such index.
+   *
+   * @param o element to search for
+   * @return the index of the first occurrence of the specified element in
+   *         this list, or -1 if this list does not contain the element
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this list
+   *         (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         list does not permit null elements
+   *         (optional)
+  */
+  indexOf(o: any): number;
+  /**
+   * Returns the index of the last occurrence of the specified element
+   * in this list, or -1 if this list does not contain the element.
+   * More formally, returns the highest index `i` such that
+   * `Objects.equals(o, get(i))`,
+   * or -1 if there is no such index.
+   *
+   * @param o element to search for
+   * @return the index of the last occurrence of the specified element in
+   *         this list, or -1 if this list does not contain the element
+   * @throws ClassCastException if the type of the specified element
+   *         is incompatible with this list
+   *         (optional)
+   * @throws NullPointerException if the specified element is null and this
+   *         list does not permit null elements
+   *         (optional)
+  */
+  lastIndexOf(o: any): number;
+  /**
+   * Returns a list iterator over the elements in this list (in proper
+   * sequence).
+   *
+   * @return a list iterator over the elements in this list (in proper
+   *         sequence)
+  */
+  listIterator(): ListIterator<E>;
+  /**
+   * Returns a list iterator over the elements in this list (in proper
+   * sequence), starting at the specified position in the list.
+   * The specified index indicates the first element that would be
+   * returned by an initial call to {@link ListIterator#next next}.
+   * An initial call to {@link ListIterator#previous previous} would
+   * return the element with the specified index minus one.
+   *
+   * @param index index of the first element to be returned from the
+   *        list iterator (by a call to {@link ListIterator#next next})
+   * @return a list iterator over the elements in this list (in proper
+   *         sequence), starting at the specified position in the list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   *         (`index < 0 || index > size()`)
+  */
+  listIterator(index: number): ListIterator<E>;
+  /**
+   * Returns a view of the portion of this list between the specified
+   * `fromIndex`, inclusive, and `toIndex`, exclusive.  (If
+   * `fromIndex` and `toIndex` are equal, the returned list is
+   * empty.)  The returned list is backed by this list, so non-structural
+   * changes in the returned list are reflected in this list, and vice-versa.
+   * The returned list supports all of the optional list operations supported
+   * by this list.
+   *
+   * This method eliminates the need for explicit range operations (of
+   * the sort that commonly exist for arrays).  Any operation that expects
+   * a list can be used as a range operation by passing a subList view
+   * instead of a whole list.  For example, the following idiom
+   * removes a range of elements from a list:
+   * {@code
+   *      list.subList(from, to).clear();
+   * }
+   * Similar idioms may be constructed for `indexOf` and
+   * `lastIndexOf`, and all of the algorithms in the
+   * `Collections` class can be applied to a subList.
+   *
+   * The semantics of the list returned by this method become undefined if
+   * the backing list (i.e., this list) is structurally modified in
+   * any way other than via the returned list.  (Structural modifications are
+   * those that change the size of this list, or otherwise perturb it in such
+   * a fashion that iterations in progress may yield incorrect results.)
+   *
+   * @param fromIndex low endpoint (inclusive) of the subList
+   * @param toIndex high endpoint (exclusive) of the subList
+   * @return a view of the specified range within this list
+   * @throws IndexOutOfBoundsException for an illegal endpoint index value
+   *         ({@code fromIndex < 0 || toIndex > size ||
+   *         fromIndex > toIndex})
+  */
+  subList(fromIndex: number, toIndex: number): E[];
+  /**
+   * Creates a {@link Spliterator} over the elements in this list.
+   *
+   * The `Spliterator` reports {@link Spliterator#SIZED} and
+   * {@link Spliterator#ORDERED}.  Implementations should document the
+   * reporting of additional characteristic values.
+   *
+   * @implSpec
+   * The default implementation creates a
+   * late-binding
+   * spliterator as follows:
+   * 
+   * If the list is an instance of {@link RandomAccess} then the default
+   *     implementation creates a spliterator that traverses elements by
+   *     invoking the method {@link List#get}.  If such invocation results or
+   *     would result in an `IndexOutOfBoundsException` then the
+   *     spliterator will fail-fast and throw a
+   *     `ConcurrentModificationException`.
+   *     If the list is also an instance of {@link AbstractList} then the
+   *     spliterator will use the list's {@link AbstractList#modCount modCount}
+   *     field to provide additional fail-fast behavior.
+   * Otherwise, the default implementation creates a spliterator from the
+   *     list's `Iterator`.  The spliterator inherits the
+   *     fail-fast of the list's iterator.
+   * 
+   *
+   * @implNote
+   * The created `Spliterator` additionally reports
+   * {@link Spliterator#SUBSIZED}.
+   *
+   * @return a `Spliterator` over the elements in this list
+   * @since 1.8
+  */
+  spliterator(): Spliterator<E>;
+  /**
+   * Returns an unmodifiable list containing zero elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @return an empty `List`
+   *
+   * @since 9
+  */
+  static of<E>(): E[];
+  /**
+   * Returns an unmodifiable list containing one element.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the single element
+   * @return a `List` containing the specified element
+   * @throws NullPointerException if the element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E): E[];
+  /**
+   * Returns an unmodifiable list containing two elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E): E[];
+  /**
+   * Returns an unmodifiable list containing three elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E): E[];
+  /**
+   * Returns an unmodifiable list containing four elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E): E[];
+  /**
+   * Returns an unmodifiable list containing five elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E): E[];
+  /**
+   * Returns an unmodifiable list containing six elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @param e6 the sixth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E, e6: E): E[];
+  /**
+   * Returns an unmodifiable list containing seven elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @param e6 the sixth element
+   * @param e7 the seventh element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E, e6: E, e7: E): E[];
+  /**
+   * Returns an unmodifiable list containing eight elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @param e6 the sixth element
+   * @param e7 the seventh element
+   * @param e8 the eighth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E, e6: E, e7: E, e8: E): E[];
+  /**
+   * Returns an unmodifiable list containing nine elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @param e6 the sixth element
+   * @param e7 the seventh element
+   * @param e8 the eighth element
+   * @param e9 the ninth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E, e6: E, e7: E, e8: E, e9: E): E[];
+  /**
+   * Returns an unmodifiable list containing ten elements.
+   *
+   * See Unmodifiable Lists for details.
+   *
+   * @param  the `List`'s element type
+   * @param e1 the first element
+   * @param e2 the second element
+   * @param e3 the third element
+   * @param e4 the fourth element
+   * @param e5 the fifth element
+   * @param e6 the sixth element
+   * @param e7 the seventh element
+   * @param e8 the eighth element
+   * @param e9 the ninth element
+   * @param e10 the tenth element
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null`
+   *
+   * @since 9
+  */
+  static of<E>(e1: E, e2: E, e3: E, e4: E, e5: E, e6: E, e7: E, e8: E, e9: E, e10: E): E[];
+  /**
+   * Returns an unmodifiable list containing an arbitrary number of elements.
+   * See Unmodifiable Lists for details.
+   *
+   * @apiNote
+   * This method also accepts a single array as an argument. The element type of
+   * the resulting list will be the component type of the array, and the size of
+   * the list will be equal to the length of the array. To create a list with
+   * a single element that is an array, do the following:
+   *
+   * {@code
+   *     String[] array = ... ;
+   *     List list = List.of(array);
+   * }
+   *
+   * This will cause the {@link List#of(Object) List.of(E)} method
+   * to be invoked instead.
+   *
+   * @param  the `List`'s element type
+   * @param elements the elements to be contained in the list
+   * @return a `List` containing the specified elements
+   * @throws NullPointerException if an element is `null` or if the array is `null`
+   *
+   * @since 9
+  */
+  static of<E>(...elements: E[]): E[];
+  /**
+   * Returns an unmodifiable List containing the elements of
+   * the given Collection, in its iteration order. The given Collection must not be null,
+   * and it must not contain any null elements. If the given Collection is subsequently
+   * modified, the returned List will not reflect such modifications.
+   *
+   * @implNote
+   * If the given Collection is an unmodifiable List,
+   * calling copyOf will generally not create a copy.
+   *
+   * @param  the `List`'s element type
+   * @param coll a `Collection` from which elements are drawn, must be non-null
+   * @return a `List` containing the elements of the given `Collection`
+   * @throws NullPointerException if coll is null, or if it contains any nulls
+   * @since 10
+  */
+  static copyOf<E>(coll: Collection<E>): E[];
+  /**
+   * Returns an array containing all of the elements in this collection,
+   * using the provided `generator` function to allocate the returned array.
+   *
+   * If this collection makes any guarantees as to what order its elements
+   * are returned by its iterator, this method must return the elements in
+   * the same order.
+   *
+   * @apiNote
+   * This method acts as a bridge between array-based and collection-based APIs.
+   * It allows creation of an array of a particular runtime type. Use
+   * {@link #toArray()} to create an array whose runtime type is `Object[]`,
+   * or use {@link #toArray(Object[]) toArray(T[])} to reuse an existing array.
+   *
+   * Suppose `x` is a collection known to contain only strings.
+   * The following code can be used to dump the collection into a newly
+   * allocated array of `String`:
+   *
+   *      *     String[] y = x.toArray(String[]::new);
+   *
+   * @implSpec
+   * The default implementation calls the generator function with zero
+   * and then passes the resulting array to {@link #toArray(Object[]) toArray(T[])}.
+   *
+   * @param  the component type of the array to contain the collection
+   * @param generator a function which produces a new array of the desired
+   *                  type and the provided length
+   * @return an array containing all of the elements in this collection
+   * @throws ArrayStoreException if the runtime type of any element in this
+   *         collection is not assignable to the {@linkplain Class#getComponentType
+   *         runtime component type} of the generated array
+   * @throws NullPointerException if the generator function is null
+   * @since 11
+  */
+  toArray<T>(generator: IntFunction<T[]>): T[];
+}
+/**
+ * An object that maps keys to values.  A map cannot contain duplicate keys;
+ * each key can map to at most one value.
+ *
+ * This interface takes the place of the `Dictionary` class, which
+ * was a totally abstract class rather than an interface.
+ *
+ * The `Map` interface provides three collection views, which
+ * allow a map's contents to be viewed as a set of keys, collection of values,
+ * or set of key-value mappings.  The order of a map is defined as
+ * the order in which the iterators on the map's collection views return their
+ * elements.  Some map implementations, like the `TreeMap` class, make
+ * specific guarantees as to their order; others, like the `HashMap`
+ * class, do not.
+ *
+ * Note: great care must be exercised if mutable objects are used as map
+ * keys.  The behavior of a map is not specified if the value of an object is
+ * changed in a manner that affects `equals` comparisons while the
+ * object is a key in the map.  A special case of this prohibition is that it
+ * is not permissible for a map to contain itself as a key.  While it is
+ * permissible for a map to contain itself as a value, extreme caution is
+ * advised: the `equals` and `hashCode` methods are no longer
+ * well defined on such a map.
+ *
+ * All general-purpose map implementation classes should provide two
+ * "standard" constructors: a void (no arguments) constructor which creates an
+ * empty map, and a constructor with a single argument of type `Map`,
+ * which creates a new map with the same key-value mappings as its argument.
+ * In effect, the latter constructor allows the user to copy any map,
+ * producing an equivalent map of the desired class.  There is no way to
+ * enforce this recommendation (as interfaces cannot contain constructors) but
+ * all of the general-purpose map implementations in the JDK comply.
+ *
+ * The "destructive" methods contained in this interface, that is, the
+ * methods that modify the map on which they operate, are specified to throw
+ * `UnsupportedOperationException` if this map does not support the
+ * operation.  If this is the case, these methods may, but are not required
+ * to, throw an `UnsupportedOperationException` if the invocation would
+ * have no effect on the map.  For example, invoking the {@link #putAll(Map)}
+ * method on an unmodifiable map may, but is not required to, throw the
+ * exception if the map whose mappings are to be "superimposed" is empty.
+ *
+ * Some map implementations have restrictions on the keys and values they
+ * may contain.  For example, some implementations prohibit null keys and
+ * values, and some have restrictions on the types of their keys.  Attempting
+ * to insert an ineligible key or value throws an unchecked exception,
+ * typically `NullPointerException` or `ClassCastException`.
+ * Attempting to query the presence of an ineligible key or value may throw an
+ * exception, or it may simply return false; some implementations will exhibit
+ * the former behavior and some will exhibit the latter.  More generally,
+ * attempting an operation on an ineligible key or value whose completion
+ * would not result in the insertion of an ineligible element into the map may
+ * throw an exception or it may succeed, at the option of the implementation.
+ * Such exceptions are marked as "optional" in the specification for this
+ * interface.
+ *
+ * Many methods in Collections Framework interfaces are defined
+ * in terms of the {@link Object#equals(Object) equals} method.  For
+ * example, the specification for the {@link #containsKey(Object)
+ * containsKey(Object key)} method says: "returns `true` if and
+ * only if this map contains a mapping for a key `k` such that
+ * `(key==null ? k==null : key.equals(k))`." This specification should
+ * not be construed to imply that invoking `Map.containsKey`
+ * with a non-null argument `key` will cause `key.equals(k)` to
+ * be invoked for any key `k`.  Implementations are free to
+ * implement optimizations whereby the `equals` invocation is avoided,
+ * for example, by first comparing the hash codes of the two keys.  (The
+ * {@link Object#hashCode()} specification guarantees that two objects with
+ * unequal hash codes cannot be equal.)  More generally, implementations of
+ * the various Collections Framework interfaces are free to take advantage of
+ * the specified behavior of underlying {@link Object} methods wherever the
+ * implementor deems it appropriate.
+ *
+ * Some map operations which perform recursive traversal of the map may fail
+ * with an exception for self-referential instances where the map directly or
+ * indirectly contains itself. This includes the `clone()`,
+ * `equals()`, `hashCode()` and `toString()` methods.
+ * Implementations may optionally handle the self-referential scenario, however
+ * most current implementations do not do so.
+ *
+ * Unmodifiable Maps
+ * The {@link Map#of() Map.of},
+ * {@link Map#ofEntries(Map.Entry...) Map.ofEntries}, and
+ * {@link Map#copyOf Map.copyOf}
+ * static factory methods provide a convenient way to create unmodifiable maps.
+ * The `Map`
+ * instances created by these methods have the following characteristics:
+ *
+ * 
+ * They are unmodifiable. Keys and values
+ * cannot be added, removed, or updated. Calling any mutator method on the Map
+ * will always cause `UnsupportedOperationException` to be thrown.
+ * However, if the contained keys or values are themselves mutable, this may cause the
+ * Map to behave inconsistently or its contents to appear to change.
+ * They disallow `null` keys and values. Attempts to create them with
+ * `null` keys or values result in `NullPointerException`.
+ * They are serializable if all keys and values are serializable.
+ * They reject duplicate keys at creation time. Duplicate keys
+ * passed to a static factory method result in `IllegalArgumentException`.
+ * The iteration order of mappings is unspecified and is subject to change.
+ * They are value-based.
+ * Programmers should treat instances that are {@linkplain #equals(Object) equal}
+ * as interchangeable and should not use them for synchronization, or
+ * unpredictable behavior may occur. For example, in a future release,
+ * synchronization may fail. Callers should make no assumptions
+ * about the identity of the returned instances. Factories are free to
+ * create new instances or reuse existing ones.
+ * They are serialized as specified on the
+ * Serialized Form
+ * page.
+ * 
+ *
+ * This interface is a member of the
+ * 
+ * Java Collections Framework.
+ *
+ * @param  the type of keys maintained by this map
+ * @param  the type of mapped values
+ *
+ * @author  Josh Bloch
+ * @see HashMap
+ * @see TreeMap
+ * @see Hashtable
+ * @see SortedMap
+ * @see Collection
+ * @see Set
+ * @since 1.2
+*/
+export interface Map<K, V> {
+  /**
+   * Returns the number of key-value mappings in this map.  If the
+   * map contains more than `Integer.MAX_VALUE` elements, returns
+   * `Integer.MAX_VALUE`.
+   *
+   * @return the number of key-value mappings in this map
+  */
+  size(): number;
+  /**
+   * Returns `true` if this map contains no key-value mappings.
+   *
+   * @return `true` if this map contains no key-value mappings
+  */
+  isEmpty(): boolean;
+  /**
+   * Returns `true` if this map contains a mapping for the specified
+   * key.  More formally, returns `true` if and only if
+   * this map contains a mapping for a key `k` such that
+   * `Objects.equals(key, k)`.  (There can be
+   * at most one such mapping.)
+   *
+   * @param key key whose presence in this map is to be tested
+   * @return `true` if this map contains a mapping for the specified
+   *         key
+   * @throws ClassCastException if the key is of an inappropriate type for
+   *         this map
+   * (optional)
+   * @throws NullPointerException if the specified key is null and this map
+   *         does not permit null keys
+   * (optional)
+  */
+  containsKey(key: any): boolean;
+  /**
+   * Returns `true` if this map maps one or more keys to the
+   * specified value.  More formally, returns `true` if and only if
+   * this map contains at least one mapping to a value `v` such that
+   * `Objects.equals(value, v)`.  This operation
+   * will probably require time linear in the map size for most
+   * implementations of the `Map` interface.
+   *
+   * @param value value whose presence in this map is to be tested
+   * @return `true` if this map maps one or more keys to the
+   *         specified value
+   * @throws ClassCastException if the value is of an inappropriate type for
+   *         this map
+   * (optional)
+   * @throws NullPointerException if the specified value is null and this
+   *         map does not permit null values
+   * (optional)
+  */
+  containsValue(value: any): boolean;
+  /**
+   * Returns the value to which the specified key is mapped,
+   * or `null` if this map contains no mapping for the key.
+   *
+   * More formally, if this map contains a mapping from a key
+   * `k` to a value `v` such that
+   * `Objects.equals(key, k)`,
+   * then this method returns `v`; otherwise
+   * it returns `null`.  (There can be at most one such mapping.)
+   *
+   * If this map permits null values, then a return value of
+   * `null` does not necessarily indicate that the map
+   * contains no mapping for the key; it's also possible that the map
+   * explicitly maps the key to `null`.  The {@link #containsKey
+   * containsKey} operation may be used to distinguish these two cases.
+   *
+   * @param key the key whose associated value is to be returned
+   * @return the value to which the specified key is mapped, or
+   *         `null` if this map contains no mapping for the key
+   * @throws ClassCastException if the key is of an inappropriate type for
+   *         this map
+   * (optional)
+   * @throws NullPointerException if the specified key is null and this map
+   *         does not permit null keys
+   * (optional)
+  */
+  get(key: any): V;
+  /**
+   * Associates the specified value with the specified key in this map
+   * (optional operation).  If the map previously contained a mapping for
+   * the key, the old value is replaced by the specified value.  (A map
+   * `m` is said to contain a mapping for a key `k` if and only
+   * if {@link #containsKey(Object) m.containsKey(k)} would return
+   * `true`.)
+   *
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return the previous value associated with `key`, or
+   *         `null` if there was no mapping for `key`.
+   *         (A `null` return can also indicate that the map
+   *         previously associated `null` with `key`,
+   *         if the implementation supports `null` values.)
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   * @throws NullPointerException if the specified key or value is null
+   *         and this map does not permit null keys or values
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+  */
+  put(key: K, value: V): V;
+  /**
+   * Removes the mapping for a key from this map if it is present
+   * (optional operation).   More formally, if this map contains a mapping
+   * from key `k` to value `v` such that
+   * `Objects.equals(key, k)`, that mapping
+   * is removed.  (The map can contain at most one such mapping.)
+   *
+   * Returns the value to which this map previously associated the key,
+   * or `null` if the map contained no mapping for the key.
+   *
+   * If this map permits null values, then a return value of
+   * `null` does not necessarily indicate that the map
+   * contained no mapping for the key; it's also possible that the map
+   * explicitly mapped the key to `null`.
+   *
+   * The map will not contain a mapping for the specified key once the
+   * call returns.
+   *
+   * @param key key whose mapping is to be removed from the map
+   * @return the previous value associated with `key`, or
+   *         `null` if there was no mapping for `key`.
+   * @throws UnsupportedOperationException if the `remove` operation
+   *         is not supported by this map
+   * @throws ClassCastException if the key is of an inappropriate type for
+   *         this map
+   * (optional)
+   * @throws NullPointerException if the specified key is null and this
+   *         map does not permit null keys
+   * (optional)
+  */
+  remove(key: any): V;
+  /**
+   * Copies all of the mappings from the specified map to this map
+   * (optional operation).  The effect of this call is equivalent to that
+   * of calling {@link #put(Object,Object) put(k, v)} on this map once
+   * for each mapping from key `k` to value `v` in the
+   * specified map.  The behavior of this operation is undefined if the
+   * specified map is modified while the operation is in progress.
+   *
+   * @param m mappings to be stored in this map
+   * @throws UnsupportedOperationException if the `putAll` operation
+   *         is not supported by this map
+   * @throws ClassCastException if the class of a key or value in the
+   *         specified map prevents it from being stored in this map
+   * @throws NullPointerException if the specified map is null, or if
+   *         this map does not permit null keys or values, and the
+   *         specified map contains null keys or values
+   * @throws IllegalArgumentException if some property of a key or value in
+   *         the specified map prevents it from being stored in this map
+  */
+  putAll(m: Map<K, V>): void;
+  /**
+   * Removes all of the mappings from this map (optional operation).
+   * The map will be empty after this call returns.
+   *
+   * @throws UnsupportedOperationException if the `clear` operation
+   *         is not supported by this map
+  */
+  clear(): void;
+  /**
+   * Returns a {@link Set} view of the keys contained in this map.
+   * The set is backed by the map, so changes to the map are
+   * reflected in the set, and vice-versa.  If the map is modified
+   * while an iteration over the set is in progress (except through
+   * the iterator's own `remove` operation), the results of
+   * the iteration are undefined.  The set supports element removal,
+   * which removes the corresponding mapping from the map, via the
+   * `Iterator.remove`, `Set.remove`,
+   * `removeAll`, `retainAll`, and `clear`
+   * operations.  It does not support the `add` or `addAll`
+   * operations.
+   *
+   * @return a set view of the keys contained in this map
+  */
+  keySet(): Set<K>;
+  /**
+   * Returns a {@link Collection} view of the values contained in this map.
+   * The collection is backed by the map, so changes to the map are
+   * reflected in the collection, and vice-versa.  If the map is
+   * modified while an iteration over the collection is in progress
+   * (except through the iterator's own `remove` operation),
+   * the results of the iteration are undefined.  The collection
+   * supports element removal, which removes the corresponding
+   * mapping from the map, via the `Iterator.remove`,
+   * `Collection.remove`, `removeAll`,
+   * `retainAll` and `clear` operations.  It does not
+   * support the `add` or `addAll` operations.
+   *
+   * @return a collection view of the values contained in this map
+  */
+  values(): Collection<V>;
+  /**
+   * Returns a {@link Set} view of the mappings contained in this map.
+   * The set is backed by the map, so changes to the map are
+   * reflected in the set, and vice-versa.  If the map is modified
+   * while an iteration over the set is in progress (except through
+   * the iterator's own `remove` operation, or through the
+   * `setValue` operation on a map entry returned by the
+   * iterator) the results of the iteration are undefined.  The set
+   * supports element removal, which removes the corresponding
+   * mapping from the map, via the `Iterator.remove`,
+   * `Set.remove`, `removeAll`, `retainAll` and
+   * `clear` operations.  It does not support the
+   * `add` or `addAll` operations.
+   *
+   * @return a set view of the mappings contained in this map
+  */
+  entrySet(): Set<Entry<K, V>>;
+  /**
+   * Compares the specified object with this map for equality.  Returns
+   * `true` if the given object is also a map and the two maps
+   * represent the same mappings.  More formally, two maps `m1` and
+   * `m2` represent the same mappings if
+   * `m1.entrySet().equals(m2.entrySet())`.  This ensures that the
+   * `equals` method works properly across different implementations
+   * of the `Map` interface.
+   *
+   * @param o object to be compared for equality with this map
+   * @return `true` if the specified object is equal to this map
+  */
+  equals(o: any): boolean;
+  /**
+   * Returns the hash code value for this map.  The hash code of a map is
+   * defined to be the sum of the hash codes of each entry in the map's
+   * `entrySet()` view.  This ensures that `m1.equals(m2)`
+   * implies that `m1.hashCode()==m2.hashCode()` for any two maps
+   * `m1` and `m2`, as required by the general contract of
+   * {@link Object#hashCode}.
+   *
+   * @return the hash code value for this map
+   * @see Map.Entry#hashCode()
+   * @see Object#equals(Object)
+   * @see #equals(Object)
+  */
+  hashCode(): number;
+  /**
+   * Returns the value to which the specified key is mapped, or
+   * `defaultValue` if this map contains no mapping for the key.
+   *
+   * @implSpec
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param key the key whose associated value is to be returned
+   * @param defaultValue the default mapping of the key
+   * @return the value to which the specified key is mapped, or
+   * `defaultValue` if this map contains no mapping for the key
+   * @throws ClassCastException if the key is of an inappropriate type for
+   * this map
+   * (optional)
+   * @throws NullPointerException if the specified key is null and this map
+   * does not permit null keys
+   * (optional)
+   * @since 1.8
+  */
+  getOrDefault(key: any, defaultValue: V): V;
+  /**
+   * Performs the given action for each entry in this map until all entries
+   * have been processed or the action throws an exception.   Unless
+   * otherwise specified by the implementing class, actions are performed in
+   * the order of entry set iteration (if an iteration order is specified.)
+   * Exceptions thrown by the action are relayed to the caller.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *  {@code
+   * for (Map.Entry entry : map.entrySet())
+   *     action.accept(entry.getKey(), entry.getValue());
+   * }
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param action The action to be performed for each entry
+   * @throws NullPointerException if the specified action is null
+   * @throws ConcurrentModificationException if an entry is found to be
+   * removed during iteration
+   * @since 1.8
+  */
+  forEach(action: BiConsumer<any, any>): void;
+  /**
+   * Replaces each entry's value with the result of invoking the given
+   * function on that entry until all entries have been processed or the
+   * function throws an exception.  Exceptions thrown by the function are
+   * relayed to the caller.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *  {@code
+   * for (Map.Entry entry : map.entrySet())
+   *     entry.setValue(function.apply(entry.getKey(), entry.getValue()));
+   * }
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param function the function to apply to each entry
+   * @throws UnsupportedOperationException if the `set` operation
+   * is not supported by this map's entry set iterator.
+   * @throws ClassCastException if the class of a replacement value
+   * prevents it from being stored in this map
+   * @throws NullPointerException if the specified function is null, or the
+   * specified replacement value is null, and this map does not permit null
+   * values
+   * @throws ClassCastException if a replacement value is of an inappropriate
+   *         type for this map
+   *         (optional)
+   * @throws NullPointerException if function or a replacement value is null,
+   *         and this map does not permit null keys or values
+   *         (optional)
+   * @throws IllegalArgumentException if some property of a replacement value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws ConcurrentModificationException if an entry is found to be
+   * removed during iteration
+   * @since 1.8
+  */
+  replaceAll(func: BiFunction<any, any, V>): void;
+  /**
+   * If the specified key is not already associated with a value (or is mapped
+   * to `null`) associates it with the given value and returns
+   * `null`, else returns the current value.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *
+   *  {@code
+   * V v = map.get(key);
+   * if (v == null)
+   *     v = map.put(key, value);
+   *
+   * return v;
+   * }
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return the previous value associated with the specified key, or
+   *         `null` if there was no mapping for the key.
+   *         (A `null` return can also indicate that the map
+   *         previously associated `null` with the key,
+   *         if the implementation supports null values.)
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the key or value is of an inappropriate
+   *         type for this map
+   *         (optional)
+   * @throws NullPointerException if the specified key or value is null,
+   *         and this map does not permit null keys or values
+   *         (optional)
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   *         (optional)
+   * @since 1.8
+  */
+  putIfAbsent(key: K, value: V): V;
+  /**
+   * Removes the entry for the specified key only if it is currently
+   * mapped to the specified value.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *
+   *  {@code
+   * if (map.containsKey(key) && Objects.equals(map.get(key), value)) {
+   *     map.remove(key);
+   *     return true;
+   * } else
+   *     return false;
+   * }
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param key key with which the specified value is associated
+   * @param value value expected to be associated with the specified key
+   * @return `true` if the value was removed
+   * @throws UnsupportedOperationException if the `remove` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the key or value is of an inappropriate
+   *         type for this map
+   *         (optional)
+   * @throws NullPointerException if the specified key or value is null,
+   *         and this map does not permit null keys or values
+   *         (optional)
+   * @since 1.8
+  */
+  remove(key: any, value: any): boolean;
+  /**
+   * Replaces the entry for the specified key only if currently
+   * mapped to the specified value.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *
+   *  {@code
+   * if (map.containsKey(key) && Objects.equals(map.get(key), oldValue)) {
+   *     map.put(key, newValue);
+   *     return true;
+   * } else
+   *     return false;
+   * }
+   *
+   * The default implementation does not throw NullPointerException
+   * for maps that do not support null values if oldValue is null unless
+   * newValue is also null.
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param key key with which the specified value is associated
+   * @param oldValue value expected to be associated with the specified key
+   * @param newValue value to be associated with the specified key
+   * @return `true` if the value was replaced
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of a specified key or value
+   *         prevents it from being stored in this map
+   * @throws NullPointerException if a specified key or newValue is null,
+   *         and this map does not permit null keys or values
+   * @throws NullPointerException if oldValue is null and this map does not
+   *         permit null values
+   *         (optional)
+   * @throws IllegalArgumentException if some property of a specified key
+   *         or value prevents it from being stored in this map
+   * @since 1.8
+  */
+  replace(key: K, oldValue: V, newValue: V): boolean;
+  /**
+   * Replaces the entry for the specified key only if it is
+   * currently mapped to some value.
+   *
+   * @implSpec
+   * The default implementation is equivalent to, for this `map`:
+   *
+   *  {@code
+   * if (map.containsKey(key)) {
+   *     return map.put(key, value);
+   * } else
+   *     return null;
+   * }
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties.
+   *
+   * @param key key with which the specified value is associated
+   * @param value value to be associated with the specified key
+   * @return the previous value associated with the specified key, or
+   *         `null` if there was no mapping for the key.
+   *         (A `null` return can also indicate that the map
+   *         previously associated `null` with the key,
+   *         if the implementation supports null values.)
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws NullPointerException if the specified key or value is null,
+   *         and this map does not permit null keys or values
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   * @since 1.8
+  */
+  replace(key: K, value: V): V;
+  /**
+   * If the specified key is not already associated with a value (or is mapped
+   * to `null`), attempts to compute its value using the given mapping
+   * function and enters it into this map unless `null`.
+   *
+   * If the mapping function returns `null`, no mapping is recorded.
+   * If the mapping function itself throws an (unchecked) exception, the
+   * exception is rethrown, and no mapping is recorded.  The most
+   * common usage is to construct a new object serving as an initial
+   * mapped value or memoized result, as in:
+   *
+   *  {@code
+   * map.computeIfAbsent(key, k -> new Value(f(k)));
+   * }
+   *
+   * Or to implement a multi-value map, `Map>`,
+   * supporting multiple values per key:
+   *
+   *  {@code
+   * map.computeIfAbsent(key, k -> new HashSet()).add(v);
+   * }
+   *
+   * The mapping function should not modify this map during computation.
+   *
+   * @implSpec
+   * The default implementation is equivalent to the following steps for this
+   * `map`, then returning the current value or `null` if now
+   * absent:
+   *
+   *  {@code
+   * if (map.get(key) == null) {
+   *     V newValue = mappingFunction.apply(key);
+   *     if (newValue != null)
+   *         map.put(key, newValue);
+   * }
+   * }
+   *
+   * The default implementation makes no guarantees about detecting if the
+   * mapping function modifies this map during computation and, if
+   * appropriate, reporting an error. Non-concurrent implementations should
+   * override this method and, on a best-effort basis, throw a
+   * `ConcurrentModificationException` if it is detected that the
+   * mapping function modifies this map during computation. Concurrent
+   * implementations should override this method and, on a best-effort basis,
+   * throw an `IllegalStateException` if it is detected that the
+   * mapping function modifies this map during computation and as a result
+   * computation would never complete.
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties. In particular, all implementations of
+   * subinterface {@link java.util.concurrent.ConcurrentMap} must document
+   * whether the mapping function is applied once atomically only if the value
+   * is not present.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param mappingFunction the mapping function to compute a value
+   * @return the current (existing or computed) value associated with
+   *         the specified key, or null if the computed value is null
+   * @throws NullPointerException if the specified key is null and
+   *         this map does not support null keys, or the mappingFunction
+   *         is null
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   *         (optional)
+   * @since 1.8
+  */
+  computeIfAbsent(key: K, mappingFunction: Function<any, V>): V;
+  /**
+   * If the value for the specified key is present and non-null, attempts to
+   * compute a new mapping given the key and its current mapped value.
+   *
+   * If the remapping function returns `null`, the mapping is removed.
+   * If the remapping function itself throws an (unchecked) exception, the
+   * exception is rethrown, and the current mapping is left unchanged.
+   *
+   * The remapping function should not modify this map during computation.
+   *
+   * @implSpec
+   * The default implementation is equivalent to performing the following
+   * steps for this `map`, then returning the current value or
+   * `null` if now absent:
+   *
+   *  {@code
+   * if (map.get(key) != null) {
+   *     V oldValue = map.get(key);
+   *     V newValue = remappingFunction.apply(key, oldValue);
+   *     if (newValue != null)
+   *         map.put(key, newValue);
+   *     else
+   *         map.remove(key);
+   * }
+   * }
+   *
+   * The default implementation makes no guarantees about detecting if the
+   * remapping function modifies this map during computation and, if
+   * appropriate, reporting an error. Non-concurrent implementations should
+   * override this method and, on a best-effort basis, throw a
+   * `ConcurrentModificationException` if it is detected that the
+   * remapping function modifies this map during computation. Concurrent
+   * implementations should override this method and, on a best-effort basis,
+   * throw an `IllegalStateException` if it is detected that the
+   * remapping function modifies this map during computation and as a result
+   * computation would never complete.
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties. In particular, all implementations of
+   * subinterface {@link java.util.concurrent.ConcurrentMap} must document
+   * whether the remapping function is applied once atomically only if the
+   * value is not present.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param remappingFunction the remapping function to compute a value
+   * @return the new value associated with the specified key, or null if none
+   * @throws NullPointerException if the specified key is null and
+   *         this map does not support null keys, or the
+   *         remappingFunction is null
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   *         (optional)
+   * @since 1.8
+  */
+  computeIfPresent(key: K, remappingFunction: BiFunction<any, any, V>): V;
+  /**
+   * Attempts to compute a mapping for the specified key and its current
+   * mapped value (or `null` if there is no current mapping). For
+   * example, to either create or append a `String` msg to a value
+   * mapping:
+   *
+   *  `     * map.compute(key, (k, v) -> (v == null) ? msg : v.concat(msg))`
+   * (Method {@link #merge merge()} is often simpler to use for such purposes.)
+   *
+   * If the remapping function returns `null`, the mapping is removed
+   * (or remains absent if initially absent).  If the remapping function
+   * itself throws an (unchecked) exception, the exception is rethrown, and
+   * the current mapping is left unchanged.
+   *
+   * The remapping function should not modify this map during computation.
+   *
+   * @implSpec
+   * The default implementation is equivalent to performing the following
+   * steps for this `map`:
+   *
+   *  {@code
+   * V oldValue = map.get(key);
+   * V newValue = remappingFunction.apply(key, oldValue);
+   * if (newValue != null) {
+   *     map.put(key, newValue);
+   * } else if (oldValue != null || map.containsKey(key)) {
+   *     map.remove(key);
+   * }
+   * return newValue;
+   * }
+   *
+   * The default implementation makes no guarantees about detecting if the
+   * remapping function modifies this map during computation and, if
+   * appropriate, reporting an error. Non-concurrent implementations should
+   * override this method and, on a best-effort basis, throw a
+   * `ConcurrentModificationException` if it is detected that the
+   * remapping function modifies this map during computation. Concurrent
+   * implementations should override this method and, on a best-effort basis,
+   * throw an `IllegalStateException` if it is detected that the
+   * remapping function modifies this map during computation and as a result
+   * computation would never complete.
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties. In particular, all implementations of
+   * subinterface {@link java.util.concurrent.ConcurrentMap} must document
+   * whether the remapping function is applied once atomically only if the
+   * value is not present.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param remappingFunction the remapping function to compute a value
+   * @return the new value associated with the specified key, or null if none
+   * @throws NullPointerException if the specified key is null and
+   *         this map does not support null keys, or the
+   *         remappingFunction is null
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   *         (optional)
+   * @since 1.8
+  */
+  compute(key: K, remappingFunction: BiFunction<any, any, V>): V;
+  /**
+   * If the specified key is not already associated with a value or is
+   * associated with null, associates it with the given non-null value.
+   * Otherwise, replaces the associated value with the results of the given
+   * remapping function, or removes if the result is `null`. This
+   * method may be of use when combining multiple mapped values for a key.
+   * For example, to either create or append a `String msg` to a
+   * value mapping:
+   *
+   *  {@code
+   * map.merge(key, msg, String::concat)
+   * }
+   *
+   * If the remapping function returns `null`, the mapping is removed.
+   * If the remapping function itself throws an (unchecked) exception, the
+   * exception is rethrown, and the current mapping is left unchanged.
+   *
+   * The remapping function should not modify this map during computation.
+   *
+   * @implSpec
+   * The default implementation is equivalent to performing the following
+   * steps for this `map`, then returning the current value or
+   * `null` if absent:
+   *
+   *  {@code
+   * V oldValue = map.get(key);
+   * V newValue = (oldValue == null) ? value :
+   *              remappingFunction.apply(oldValue, value);
+   * if (newValue == null)
+   *     map.remove(key);
+   * else
+   *     map.put(key, newValue);
+   * }
+   *
+   * The default implementation makes no guarantees about detecting if the
+   * remapping function modifies this map during computation and, if
+   * appropriate, reporting an error. Non-concurrent implementations should
+   * override this method and, on a best-effort basis, throw a
+   * `ConcurrentModificationException` if it is detected that the
+   * remapping function modifies this map during computation. Concurrent
+   * implementations should override this method and, on a best-effort basis,
+   * throw an `IllegalStateException` if it is detected that the
+   * remapping function modifies this map during computation and as a result
+   * computation would never complete.
+   *
+   * The default implementation makes no guarantees about synchronization
+   * or atomicity properties of this method. Any implementation providing
+   * atomicity guarantees must override this method and document its
+   * concurrency properties. In particular, all implementations of
+   * subinterface {@link java.util.concurrent.ConcurrentMap} must document
+   * whether the remapping function is applied once atomically only if the
+   * value is not present.
+   *
+   * @param key key with which the resulting value is to be associated
+   * @param value the non-null value to be merged with the existing value
+   *        associated with the key or, if no existing value or a null value
+   *        is associated with the key, to be associated with the key
+   * @param remappingFunction the remapping function to recompute a value if
+   *        present
+   * @return the new value associated with the specified key, or null if no
+   *         value is associated with the key
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by this map
+   *         (optional)
+   * @throws ClassCastException if the class of the specified key or value
+   *         prevents it from being stored in this map
+   *         (optional)
+   * @throws IllegalArgumentException if some property of the specified key
+   *         or value prevents it from being stored in this map
+   *         (optional)
+   * @throws NullPointerException if the specified key is null and this map
+   *         does not support null keys or the value or remappingFunction is
+   *         null
+   * @since 1.8
+  */
+  merge(key: K, value: V, remappingFunction: BiFunction<any, any, V>): V;
+  /**
+   * Returns an unmodifiable map containing zero mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @return an empty `Map`
+   *
+   * @since 9
+  */
+  static of<K, V>(): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing a single mapping.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the mapping's key
+   * @param v1 the mapping's value
+   * @return a `Map` containing the specified mapping
+   * @throws NullPointerException if the key or the value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing two mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if the keys are duplicates
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing three mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing four mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing five mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing six mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @param k6 the sixth mapping's key
+   * @param v6 the sixth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V, k6: K, v6: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing seven mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @param k6 the sixth mapping's key
+   * @param v6 the sixth mapping's value
+   * @param k7 the seventh mapping's key
+   * @param v7 the seventh mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V, k6: K, v6: V, k7: K, v7: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing eight mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @param k6 the sixth mapping's key
+   * @param v6 the sixth mapping's value
+   * @param k7 the seventh mapping's key
+   * @param v7 the seventh mapping's value
+   * @param k8 the eighth mapping's key
+   * @param v8 the eighth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V, k6: K, v6: V, k7: K, v7: V, k8: K, v8: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing nine mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @param k6 the sixth mapping's key
+   * @param v6 the sixth mapping's value
+   * @param k7 the seventh mapping's key
+   * @param v7 the seventh mapping's value
+   * @param k8 the eighth mapping's key
+   * @param v8 the eighth mapping's value
+   * @param k9 the ninth mapping's key
+   * @param v9 the ninth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V, k6: K, v6: V, k7: K, v7: V, k8: K, v8: V, k9: K, v9: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing ten mappings.
+   * See Unmodifiable Maps for details.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param k1 the first mapping's key
+   * @param v1 the first mapping's value
+   * @param k2 the second mapping's key
+   * @param v2 the second mapping's value
+   * @param k3 the third mapping's key
+   * @param v3 the third mapping's value
+   * @param k4 the fourth mapping's key
+   * @param v4 the fourth mapping's value
+   * @param k5 the fifth mapping's key
+   * @param v5 the fifth mapping's value
+   * @param k6 the sixth mapping's key
+   * @param v6 the sixth mapping's value
+   * @param k7 the seventh mapping's key
+   * @param v7 the seventh mapping's value
+   * @param k8 the eighth mapping's key
+   * @param v8 the eighth mapping's value
+   * @param k9 the ninth mapping's key
+   * @param v9 the ninth mapping's value
+   * @param k10 the tenth mapping's key
+   * @param v10 the tenth mapping's value
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any key or value is `null`
+   *
+   * @since 9
+  */
+  static of<K, V>(k1: K, v1: V, k2: K, v2: V, k3: K, v3: V, k4: K, v4: V, k5: K, v5: V, k6: K, v6: V, k7: K, v7: V, k8: K, v8: V, k9: K, v9: V, k10: K, v10: V): Map<K, V>;
+  /**
+   * Returns an unmodifiable map containing keys and values extracted from the given entries.
+   * The entries themselves are not stored in the map.
+   * See Unmodifiable Maps for details.
+   *
+   * @apiNote
+   * It is convenient to create the map entries using the {@link Map#entry Map.entry()} method.
+   * For example,
+   *
+   * {@code
+   *     import static java.util.Map.entry;
+   *
+   *     Map map = Map.ofEntries(
+   *         entry(1, "a"),
+   *         entry(2, "b"),
+   *         entry(3, "c"),
+   *         ...
+   *         entry(26, "z"));
+   * }
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param entries `Map.Entry`s containing the keys and values from which the map is populated
+   * @return a `Map` containing the specified mappings
+   * @throws IllegalArgumentException if there are any duplicate keys
+   * @throws NullPointerException if any entry, key, or value is `null`, or if
+   *         the `entries` array is `null`
+   *
+   * @see Map#entry Map.entry()
+   * @since 9
+  */
+  static ofEntries<K, V>(...entries: Entry[]): Map<K, V>;
+  /**
+   * Returns an unmodifiable {@link Entry} containing the given key and value.
+   * These entries are suitable for populating `Map` instances using the
+   * {@link Map#ofEntries Map.ofEntries()} method.
+   * The `Entry` instances created by this method have the following characteristics:
+   *
+   * 
+   * They disallow `null` keys and values. Attempts to create them using a `null`
+   * key or value result in `NullPointerException`.
+   * They are unmodifiable. Calls to {@link Entry#setValue Entry.setValue()}
+   * on a returned `Entry` result in `UnsupportedOperationException`.
+   * They are not serializable.
+   * They are value-based.
+   * Programmers should treat instances that are {@linkplain #equals(Object) equal}
+   * as interchangeable and should not use them for synchronization, or
+   * unpredictable behavior may occur. For example, in a future release,
+   * synchronization may fail. Callers should make no assumptions
+   * about the identity of the returned instances. This method is free to
+   * create new instances or reuse existing ones.
+   * 
+   *
+   * @apiNote
+   * For a serializable `Entry`, see {@link AbstractMap.SimpleEntry} or
+   * {@link AbstractMap.SimpleImmutableEntry}.
+   *
+   * @param  the key's type
+   * @param  the value's type
+   * @param k the key
+   * @param v the value
+   * @return an `Entry` containing the specified key and value
+   * @throws NullPointerException if the key or value is `null`
+   *
+   * @see Map#ofEntries Map.ofEntries()
+   * @since 9
+  */
+  static entry<K, V>(k: K, v: V): Entry<K, V>;
+  /**
+   * Returns an unmodifiable Map containing the entries
+   * of the given Map. The given Map must not be null, and it must not contain any
+   * null keys or values. If the given Map is subsequently modified, the returned
+   * Map will not reflect such modifications.
+   *
+   * @implNote
+   * If the given Map is an unmodifiable Map,
+   * calling copyOf will generally not create a copy.
+   *
+   * @param  the `Map`'s key type
+   * @param  the `Map`'s value type
+   * @param map a `Map` from which entries are drawn, must be non-null
+   * @return a `Map` containing the entries of the given `Map`
+   * @throws NullPointerException if map is null, or if it contains any null keys or values
+   * @since 10
+  */
+  static copyOf<K, V>(map: Map<K, V>): Map<K, V>;
+}
+/**
+ * A container object which may or may not contain a non-`null` value.
+ * If a value is present, `isPresent()` returns `true`. If no
+ * value is present, the object is considered empty and
+ * `isPresent()` returns `false`.
+ *
+ * Additional methods that depend on the presence or absence of a contained
+ * value are provided, such as {@link #orElse(Object) orElse()}
+ * (returns a default value if no value is present) and
+ * {@link #ifPresent(Consumer) ifPresent()} (performs an
+ * action if a value is present).
+ *
+ * This is a value-based
+ * class; programmers should treat instances that are
+ * {@linkplain #equals(Object) equal} as interchangeable and should not
+ * use instances for synchronization, or unpredictable behavior may
+ * occur. For example, in a future release, synchronization may fail.
+ *
+ * @apiNote
+ * `Optional` is primarily intended for use as a method return type where
+ * there is a clear need to represent "no result," and where using `null`
+ * is likely to cause errors. A variable whose type is `Optional` should
+ * never itself be `null`; it should always point to an `Optional`
+ * instance.
+ *
+ * @param  the type of value
+ * @since 1.8
+*/
+export class Optional<T> {
+  /**
+   * Returns an empty `Optional` instance.  No value is present for this
+   * `Optional`.
+   *
+   * @apiNote
+   * Though it may be tempting to do so, avoid testing if an object is empty
+   * by comparing with `==` or `!=` against instances returned by
+   * `Optional.empty()`.  There is no guarantee that it is a singleton.
+   * Instead, use {@link #isEmpty()} or {@link #isPresent()}.
+   *
+   * @param  The type of the non-existent value
+   * @return an empty `Optional`
+  */
+  static empty<T>(): Optional<T>;
+  /**
+   * Returns an `Optional` describing the given non-`null`
+   * value.
+   *
+   * @param value the value to describe, which must be non-`null`
+   * @param  the type of the value
+   * @return an `Optional` with the value present
+   * @throws NullPointerException if value is `null`
+  */
+  static of<T>(value: T): Optional<T>;
+  /**
+   * Returns an `Optional` describing the given value, if
+   * non-`null`, otherwise returns an empty `Optional`.
+   *
+   * @param value the possibly-`null` value to describe
+   * @param  the type of the value
+   * @return an `Optional` with a present value if the specified value
+   *         is non-`null`, otherwise an empty `Optional`
+  */
+  static ofNullable<T>(value: T): Optional<T>;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @apiNote
+   * The preferred alternative to this method is {@link #orElseThrow()}.
+   *
+   * @return the non-`null` value described by this `Optional`
+   * @throws NoSuchElementException if no value is present
+  */
+  get(): T;
+  /**
+   * If a value is present, returns `true`, otherwise `false`.
+   *
+   * @return `true` if a value is present, otherwise `false`
+  */
+  isPresent(): boolean;
+  /**
+   * If a value is  not present, returns `true`, otherwise
+   * `false`.
+   *
+   * @return  `true` if a value is not present, otherwise `false`
+   * @since   11
+  */
+  isEmpty(): boolean;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise does nothing.
+   *
+   * @param action the action to be performed, if a value is present
+   * @throws NullPointerException if value is present and the given action is
+   *         `null`
+  */
+  ifPresent(action: Consumer<any>): void;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise performs the given empty-based action.
+   *
+   * @param action the action to be performed, if a value is present
+   * @param emptyAction the empty-based action to be performed, if no value is
+   *        present
+   * @throws NullPointerException if a value is present and the given action
+   *         is `null`, or no value is present and the given empty-based
+   *         action is `null`.
+   * @since 9
+  */
+  ifPresentOrElse(action: Consumer<any>, emptyAction: Runnable): void;
+  /**
+   * If a value is present, and the value matches the given predicate,
+   * returns an `Optional` describing the value, otherwise returns an
+   * empty `Optional`.
+   *
+   * @param predicate the predicate to apply to a value, if present
+   * @return an `Optional` describing the value of this
+   *         `Optional`, if a value is present and the value matches the
+   *         given predicate, otherwise an empty `Optional`
+   * @throws NullPointerException if the predicate is `null`
+  */
+  filter(predicate: Predicate<any>): Optional<T>;
+  /**
+   * If a value is present, returns an `Optional` describing (as if by
+   * {@link #ofNullable}) the result of applying the given mapping function to
+   * the value, otherwise returns an empty `Optional`.
+   *
+   * If the mapping function returns a `null` result then this method
+   * returns an empty `Optional`.
+   *
+   * @apiNote
+   * This method supports post-processing on `Optional` values, without
+   * the need to explicitly check for a return status.  For example, the
+   * following code traverses a stream of URIs, selects one that has not
+   * yet been processed, and creates a path from that URI, returning
+   * an `Optional`:
+   *
+   * {@code
+   *     Optional p =
+   *         uris.stream().filter(uri -> !isProcessedYet(uri))
+   *                       .findFirst()
+   *                       .map(Paths::get);
+   * }
+   *
+   * Here, `findFirst` returns an `Optional`, and then
+   * `map` returns an `Optional` for the desired
+   * URI if one exists.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @param  The type of the value returned from the mapping function
+   * @return an `Optional` describing the result of applying a mapping
+   *         function to the value of this `Optional`, if a value is
+   *         present, otherwise an empty `Optional`
+   * @throws NullPointerException if the mapping function is `null`
+  */
+  map<U>(mapper: Function<any, U>): Optional<U>;
+  /**
+   * If a value is present, returns the result of applying the given
+   * `Optional`-bearing mapping function to the value, otherwise returns
+   * an empty `Optional`.
+   *
+   * This method is similar to {@link #map(Function)}, but the mapping
+   * function is one whose result is already an `Optional`, and if
+   * invoked, `flatMap` does not wrap it within an additional
+   * `Optional`.
+   *
+   * @param  The type of value of the `Optional` returned by the
+   *            mapping function
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the result of applying an `Optional`-bearing mapping
+   *         function to the value of this `Optional`, if a value is
+   *         present, otherwise an empty `Optional`
+   * @throws NullPointerException if the mapping function is `null` or
+   *         returns a `null` result
+  */
+  flatMap<U>(mapper: Function<any, Optional<U>>): Optional<U>;
+  /**
+   * If a value is present, returns an `Optional` describing the value,
+   * otherwise returns an `Optional` produced by the supplying function.
+   *
+   * @param supplier the supplying function that produces an `Optional`
+   *        to be returned
+   * @return returns an `Optional` describing the value of this
+   *         `Optional`, if a value is present, otherwise an
+   *         `Optional` produced by the supplying function.
+   * @throws NullPointerException if the supplying function is `null` or
+   *         produces a `null` result
+   * @since 9
+  */
+  or(supplier: Supplier<Optional<T>>): Optional<T>;
+  /**
+   * If a value is present, returns a sequential {@link Stream} containing
+   * only that value, otherwise returns an empty `Stream`.
+   *
+   * @apiNote
+   * This method can be used to transform a `Stream` of optional
+   * elements to a `Stream` of present value elements:
+   * {@code
+   *     Stream> os = ..
+   *     Stream s = os.flatMap(Optional::stream)
+   * }
+   *
+   * @return the optional value as a `Stream`
+   * @since 9
+  */
+  stream(): Stream<T>;
+  /**
+   * If a value is present, returns the value, otherwise returns
+   * `other`.
+   *
+   * @param other the value to be returned, if no value is present.
+   *        May be `null`.
+   * @return the value, if present, otherwise `other`
+  */
+  orElse(other: T): T;
+  /**
+   * If a value is present, returns the value, otherwise returns the result
+   * produced by the supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the
+   *         supplying function
+   * @throws NullPointerException if no value is present and the supplying
+   *         function is `null`
+  */
+  orElseGet(supplier: Supplier<T>): T;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @return the non-`null` value described by this `Optional`
+   * @throws NoSuchElementException if no value is present
+   * @since 10
+  */
+  orElseThrow(): T;
+  /**
+   * If a value is present, returns the value, otherwise throws an exception
+   * produced by the exception supplying function.
+   *
+   * @apiNote
+   * A method reference to the exception constructor with an empty argument
+   * list can be used as the supplier. For example,
+   * `IllegalStateException::new`
+   *
+   * @param  Type of the exception to be thrown
+   * @param exceptionSupplier the supplying function that produces an
+   *        exception to be thrown
+   * @return the value, if present
+   * @throws X if no value is present
+   * @throws NullPointerException if no value is present and the exception
+   *          supplying function is `null`
+  */
+  orElseThrow<X>(exceptionSupplier: Supplier<X>): T;
+  /**
+   * Indicates whether some other object is "equal to" this `Optional`.
+   * The other object is considered equal if:
+   * 
+   * it is also an `Optional` and;
+   * both instances have no value present or;
+   * the present values are "equal to" each other via `equals()`.
+   * 
+   *
+   * @param obj an object to be tested for equality
+   * @return `true` if the other object is "equal to" this object
+   *         otherwise `false`
+  */
+  equals(obj: any): boolean;
+  /**
+   * Returns the hash code of the value, if present, otherwise `0`
+   * (zero) if no value is present.
+   *
+   * @return hash code value of the present value or `0` if no value is
+   *         present
+  */
+  hashCode(): number;
+  /**
+   * Returns a non-empty string representation of this `Optional`
+   * suitable for debugging.  The exact presentation format is unspecified and
+   * may vary between implementations and versions.
+   *
+   * @implSpec
+   * If a value is present the result must include its string representation
+   * in the result.  Empty and present `Optional`s must be unambiguously
+   * differentiable.
+   *
+   * @return the string representation of this instance
+  */
+  toString(): string;
+}
+/**
+ * A container object which may or may not contain a `double` value.
+ * If a value is present, `isPresent()` returns `true`. If no
+ * value is present, the object is considered empty and
+ * `isPresent()` returns `false`.
+ *
+ * Additional methods that depend on the presence or absence of a contained
+ * value are provided, such as {@link #orElse(double) orElse()}
+ * (returns a default value if no value is present) and
+ * {@link #ifPresent(DoubleConsumer) ifPresent()} (performs
+ * an action if a value is present).
+ *
+ * This is a value-based
+ * class; programmers should treat instances that are
+ * {@linkplain #equals(Object) equal} as interchangeable and should not
+ * use instances for synchronization, or unpredictable behavior may
+ * occur. For example, in a future release, synchronization may fail.
+ *
+ * @apiNote
+ * `OptionalDouble` is primarily intended for use as a method return type where
+ * there is a clear need to represent "no result." A variable whose type is
+ * `OptionalDouble` should never itself be `null`; it should always point
+ * to an `OptionalDouble` instance.
+ *
+ * @since 1.8
+*/
+export class OptionalDouble {
+  /**
+   * Returns an empty `OptionalDouble` instance.  No value is present
+   * for this `OptionalDouble`.
+   *
+   * @apiNote
+   * Though it may be tempting to do so, avoid testing if an object is empty
+   * by comparing with `==` or `!=` against instances returned by
+   * `OptionalDouble.empty()`.  There is no guarantee that it is a singleton.
+   * Instead, use {@link #isEmpty()} or {@link #isPresent()}.
+   *
+   *  @return an empty `OptionalDouble`.
+  */
+  static empty(): OptionalDouble;
+  /**
+   * Returns an `OptionalDouble` describing the given value.
+   *
+   * @param value the value to describe
+   * @return an `OptionalDouble` with the value present
+  */
+  static of(value: number): OptionalDouble;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @apiNote
+   * The preferred alternative to this method is {@link #orElseThrow()}.
+   *
+   * @return the value described by this `OptionalDouble`
+   * @throws NoSuchElementException if no value is present
+  */
+  get asDouble(): number;
+  /**
+   * If a value is present, returns `true`, otherwise `false`.
+   *
+   * @return `true` if a value is present, otherwise `false`
+  */
+  isPresent(): boolean;
+  /**
+   * If a value is not present, returns `true`, otherwise
+   * `false`.
+   *
+   * @return  `true` if a value is not present, otherwise `false`
+   * @since   11
+  */
+  isEmpty(): boolean;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise does nothing.
+   *
+   * @param action the action to be performed, if a value is present
+   * @throws NullPointerException if value is present and the given action is
+   *         `null`
+  */
+  ifPresent(action: DoubleConsumer): void;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise performs the given empty-based action.
+   *
+   * @param action the action to be performed, if a value is present
+   * @param emptyAction the empty-based action to be performed, if no value is
+   * present
+   * @throws NullPointerException if a value is present and the given action
+   *         is `null`, or no value is present and the given empty-based
+   *         action is `null`.
+   * @since 9
+  */
+  ifPresentOrElse(action: DoubleConsumer, emptyAction: Runnable): void;
+  /**
+   * If a value is present, returns a sequential {@link DoubleStream}
+   * containing only that value, otherwise returns an empty
+   * `DoubleStream`.
+   *
+   * @apiNote
+   * This method can be used to transform a `Stream` of optional doubles
+   * to a `DoubleStream` of present doubles:
+   * {@code
+   *     Stream os = ..
+   *     DoubleStream s = os.flatMapToDouble(OptionalDouble::stream)
+   * }
+   *
+   * @return the optional value as a `DoubleStream`
+   * @since 9
+  */
+  stream(): DoubleStream;
+  /**
+   * If a value is present, returns the value, otherwise returns
+   * `other`.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise `other`
+  */
+  orElse(other: number): number;
+  /**
+   * If a value is present, returns the value, otherwise returns the result
+   * produced by the supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the
+   *         supplying function
+   * @throws NullPointerException if no value is present and the supplying
+   *         function is `null`
+  */
+  orElseGet(supplier: DoubleSupplier): number;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @return the value described by this `OptionalDouble`
+   * @throws NoSuchElementException if no value is present
+   * @since 10
+  */
+  orElseThrow(): number;
+  /**
+   * If a value is present, returns the value, otherwise throws an exception
+   * produced by the exception supplying function.
+   *
+   * @apiNote
+   * A method reference to the exception constructor with an empty argument
+   * list can be used as the supplier. For example,
+   * `IllegalStateException::new`
+   *
+   * @param  Type of the exception to be thrown
+   * @param exceptionSupplier the supplying function that produces an
+   *        exception to be thrown
+   * @return the value, if present
+   * @throws X if no value is present
+   * @throws NullPointerException if no value is present and the exception
+   *         supplying function is `null`
+  */
+  orElseThrow<X>(exceptionSupplier: Supplier<X>): number;
+  /**
+   * Indicates whether some other object is "equal to" this
+   * `OptionalDouble`. The other object is considered equal if:
+   * 
+   * it is also an `OptionalDouble` and;
+   * both instances have no value present or;
+   * the present values are "equal to" each other via
+   * `Double.compare() == 0`.
+   * 
+   *
+   * @param obj an object to be tested for equality
+   * @return `true` if the other object is "equal to" this object
+   *         otherwise `false`
+  */
+  equals(obj: any): boolean;
+  /**
+   * Returns the hash code of the value, if present, otherwise `0`
+   * (zero) if no value is present.
+   *
+   * @return hash code value of the present value or `0` if no value is
+   *         present
+  */
+  hashCode(): number;
+  /**
+   * Returns a non-empty string representation of this `OptionalDouble`
+   * suitable for debugging.  The exact presentation format is unspecified and
+   * may vary between implementations and versions.
+   *
+   * @implSpec
+   * If a value is present the result must include its string representation
+   * in the result.  Empty and present `OptionalDouble`s must be
+   * unambiguously differentiable.
+   *
+   * @return the string representation of this instance
+  */
+  toString(): string;
+}
+/**
+ * A container object which may or may not contain an `int` value.
+ * If a value is present, `isPresent()` returns `true`. If no
+ * value is present, the object is considered empty and
+ * `isPresent()` returns `false`.
+ *
+ * Additional methods that depend on the presence or absence of a contained
+ * value are provided, such as {@link #orElse(int) orElse()}
+ * (returns a default value if no value is present) and
+ * {@link #ifPresent(IntConsumer) ifPresent()} (performs an
+ * action if a value is present).
+ *
+ * This is a value-based
+ * class; programmers should treat instances that are
+ * {@linkplain #equals(Object) equal} as interchangeable and should not
+ * use instances for synchronization, or unpredictable behavior may
+ * occur. For example, in a future release, synchronization may fail.
+ *
+ * @apiNote
+ * `OptionalInt` is primarily intended for use as a method return type where
+ * there is a clear need to represent "no result." A variable whose type is
+ * `OptionalInt` should never itself be `null`; it should always point
+ * to an `OptionalInt` instance.
+ *
+ * @since 1.8
+*/
+export class OptionalInt {
+  /**
+   * Returns an empty `OptionalInt` instance.  No value is present for
+   * this `OptionalInt`.
+   *
+   * @apiNote
+   * Though it may be tempting to do so, avoid testing if an object is empty
+   * by comparing with `==` or `!=` against instances returned by
+   * `OptionalInt.empty()`.  There is no guarantee that it is a singleton.
+   * Instead, use {@link #isEmpty()} or {@link #isPresent()}.
+   *
+   * @return an empty `OptionalInt`
+  */
+  static empty(): OptionalInt;
+  /**
+   * Returns an `OptionalInt` describing the given value.
+   *
+   * @param value the value to describe
+   * @return an `OptionalInt` with the value present
+  */
+  static of(value: number): OptionalInt;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @apiNote
+   * The preferred alternative to this method is {@link #orElseThrow()}.
+   *
+   * @return the value described by this `OptionalInt`
+   * @throws NoSuchElementException if no value is present
+  */
+  get asInt(): number;
+  /**
+   * If a value is present, returns `true`, otherwise `false`.
+   *
+   * @return `true` if a value is present, otherwise `false`
+  */
+  isPresent(): boolean;
+  /**
+   * If a value is not present, returns `true`, otherwise
+   * `false`.
+   *
+   * @return  `true` if a value is not present, otherwise `false`
+   * @since   11
+  */
+  isEmpty(): boolean;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise does nothing.
+   *
+   * @param action the action to be performed, if a value is present
+   * @throws NullPointerException if value is present and the given action is
+   *         `null`
+  */
+  ifPresent(action: IntConsumer): void;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise performs the given empty-based action.
+   *
+   * @param action the action to be performed, if a value is present
+   * @param emptyAction the empty-based action to be performed, if no value is
+   *        present
+   * @throws NullPointerException if a value is present and the given action
+   *         is `null`, or no value is present and the given empty-based
+   *         action is `null`.
+   * @since 9
+  */
+  ifPresentOrElse(action: IntConsumer, emptyAction: Runnable): void;
+  /**
+   * If a value is present, returns a sequential {@link IntStream} containing
+   * only that value, otherwise returns an empty `IntStream`.
+   *
+   * @apiNote
+   * This method can be used to transform a `Stream` of optional
+   * integers to an `IntStream` of present integers:
+   * {@code
+   *     Stream os = ..
+   *     IntStream s = os.flatMapToInt(OptionalInt::stream)
+   * }
+   *
+   * @return the optional value as an `IntStream`
+   * @since 9
+  */
+  stream(): IntStream;
+  /**
+   * If a value is present, returns the value, otherwise returns
+   * `other`.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise `other`
+  */
+  orElse(other: number): number;
+  /**
+   * If a value is present, returns the value, otherwise returns the result
+   * produced by the supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the
+   *         supplying function
+   * @throws NullPointerException if no value is present and the supplying
+   *         function is `null`
+  */
+  orElseGet(supplier: IntSupplier): number;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @return the value described by this `OptionalInt`
+   * @throws NoSuchElementException if no value is present
+   * @since 10
+  */
+  orElseThrow(): number;
+  /**
+   * If a value is present, returns the value, otherwise throws an exception
+   * produced by the exception supplying function.
+   *
+   * @apiNote
+   * A method reference to the exception constructor with an empty argument
+   * list can be used as the supplier. For example,
+   * `IllegalStateException::new`
+   *
+   * @param  Type of the exception to be thrown
+   * @param exceptionSupplier the supplying function that produces an
+   *        exception to be thrown
+   * @return the value, if present
+   * @throws X if no value is present
+   * @throws NullPointerException if no value is present and the exception
+   *         supplying function is `null`
+  */
+  orElseThrow<X>(exceptionSupplier: Supplier<X>): number;
+  /**
+   * Indicates whether some other object is "equal to" this
+   * `OptionalInt`.  The other object is considered equal if:
+   * 
+   * it is also an `OptionalInt` and;
+   * both instances have no value present or;
+   * the present values are "equal to" each other via `==`.
+   * 
+   *
+   * @param obj an object to be tested for equality
+   * @return `true` if the other object is "equal to" this object
+   *         otherwise `false`
+  */
+  equals(obj: any): boolean;
+  /**
+   * Returns the hash code of the value, if present, otherwise `0`
+   * (zero) if no value is present.
+   *
+   * @return hash code value of the present value or `0` if no value is
+   *         present
+  */
+  hashCode(): number;
+  /**
+   * Returns a non-empty string representation of this `OptionalInt`
+   * suitable for debugging.  The exact presentation format is unspecified and
+   * may vary between implementations and versions.
+   *
+   * @implSpec
+   * If a value is present the result must include its string representation
+   * in the result.  Empty and present `OptionalInt`s must be
+   * unambiguously differentiable.
+   *
+   * @return the string representation of this instance
+  */
+  toString(): string;
+}
+/**
+ * A container object which may or may not contain a `long` value.
+ * If a value is present, `isPresent()` returns `true`. If no
+ * value is present, the object is considered empty and
+ * `isPresent()` returns `false`.
+ *
+ * Additional methods that depend on the presence or absence of a contained
+ * value are provided, such as {@link #orElse(long) orElse()}
+ * (returns a default value if no value is present) and
+ * {@link #ifPresent(LongConsumer) ifPresent()} (performs an
+ * action if a value is present).
+ *
+ * This is a value-based
+ * class; programmers should treat instances that are
+ * {@linkplain #equals(Object) equal} as interchangeable and should not
+ * use instances for synchronization, or unpredictable behavior may
+ * occur. For example, in a future release, synchronization may fail.
+ *
+ * @apiNote
+ * `OptionalLong` is primarily intended for use as a method return type where
+ * there is a clear need to represent "no result." A variable whose type is
+ * `OptionalLong` should never itself be `null`; it should always point
+ * to an `OptionalLong` instance.
+ *
+ * @since 1.8
+*/
+export class OptionalLong {
+  /**
+   * Returns an empty `OptionalLong` instance.  No value is present for
+   * this `OptionalLong`.
+   *
+   * @apiNote
+   * Though it may be tempting to do so, avoid testing if an object is empty
+   * by comparing with `==` or `!=` against instances returned by
+   * `OptionalLong.empty()`.  There is no guarantee that it is a singleton.
+   * Instead, use {@link #isEmpty()} or {@link #isPresent()}.
+   *
+   * @return an empty `OptionalLong`.
+  */
+  static empty(): OptionalLong;
+  /**
+   * Returns an `OptionalLong` describing the given value.
+   *
+   * @param value the value to describe
+   * @return an `OptionalLong` with the value present
+  */
+  static of(value: number): OptionalLong;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @apiNote
+   * The preferred alternative to this method is {@link #orElseThrow()}.
+   *
+   * @return the value described by this `OptionalLong`
+   * @throws NoSuchElementException if no value is present
+  */
+  get asLong(): number;
+  /**
+   * If a value is present, returns `true`, otherwise `false`.
+   *
+   * @return `true` if a value is present, otherwise `false`
+  */
+  isPresent(): boolean;
+  /**
+   * If a value is not present, returns `true`, otherwise
+   * `false`.
+   *
+   * @return  `true` if a value is not present, otherwise `false`
+   * @since   11
+  */
+  isEmpty(): boolean;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise does nothing.
+   *
+   * @param action the action to be performed, if a value is present
+   * @throws NullPointerException if value is present and the given action is
+   *         `null`
+  */
+  ifPresent(action: LongConsumer): void;
+  /**
+   * If a value is present, performs the given action with the value,
+   * otherwise performs the given empty-based action.
+   *
+   * @param action the action to be performed, if a value is present
+   * @param emptyAction the empty-based action to be performed, if no value is
+   *        present
+   * @throws NullPointerException if a value is present and the given action
+   *         is `null`, or no value is present and the given empty-based
+   *         action is `null`.
+   * @since 9
+  */
+  ifPresentOrElse(action: LongConsumer, emptyAction: Runnable): void;
+  /**
+   * If a value is present, returns a sequential {@link LongStream} containing
+   * only that value, otherwise returns an empty `LongStream`.
+   *
+   * @apiNote
+   * This method can be used to transform a `Stream` of optional longs
+   * to an `LongStream` of present longs:
+   * {@code
+   *     Stream os = ..
+   *     LongStream s = os.flatMapToLong(OptionalLong::stream)
+   * }
+   *
+   * @return the optional value as an `LongStream`
+   * @since 9
+  */
+  stream(): LongStream;
+  /**
+   * If a value is present, returns the value, otherwise returns
+   * `other`.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise `other`
+  */
+  orElse(other: number): number;
+  /**
+   * If a value is present, returns the value, otherwise returns the result
+   * produced by the supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the
+   *         supplying function
+   * @throws NullPointerException if no value is present and the supplying
+   *         function is `null`
+  */
+  orElseGet(supplier: LongSupplier): number;
+  /**
+   * If a value is present, returns the value, otherwise throws
+   * `NoSuchElementException`.
+   *
+   * @return the value described by this `OptionalLong`
+   * @throws NoSuchElementException if no value is present
+   * @since 10
+  */
+  orElseThrow(): number;
+  /**
+   * If a value is present, returns the value, otherwise throws an exception
+   * produced by the exception supplying function.
+   *
+   * @apiNote
+   * A method reference to the exception constructor with an empty argument
+   * list can be used as the supplier. For example,
+   * `IllegalStateException::new`
+   *
+   * @param  Type of the exception to be thrown
+   * @param exceptionSupplier the supplying function that produces an
+   *        exception to be thrown
+   * @return the value, if present
+   * @throws X if no value is present
+   * @throws NullPointerException if no value is present and the exception
+   *         supplying function is `null`
+  */
+  orElseThrow<X>(exceptionSupplier: Supplier<X>): number;
+  /**
+   * Indicates whether some other object is "equal to" this
+   * `OptionalLong`.  The other object is considered equal if:
+   * 
+   * it is also an `OptionalLong` and;
+   * both instances have no value present or;
+   * the present values are "equal to" each other via `==`.
+   * 
+   *
+   * @param obj an object to be tested for equality
+   * @return `true` if the other object is "equal to" this object
+   *         otherwise `false`
+  */
+  equals(obj: any): boolean;
+  /**
+   * Returns the hash code of the value, if present, otherwise `0`
+   * (zero) if no value is present.
+   *
+   * @return hash code value of the present value or `0` if no value is
+   *         present
+  */
+  hashCode(): number;
+  /**
+   * Returns a non-empty string representation of this `OptionalLong`
+   * suitable for debugging.  The exact presentation format is unspecified and
+   * may vary between implementations and versions.
+   *
+   * @implSpec
+   * If a value is present the result must include its string representation
+   * in the result.  Empty and present `OptionalLong`s must be
+   * unambiguously differentiable.
+   *
+   * @return the string representation of this instance
+  */
+  toString(): string;
+}
+
+}
+declare module 'java.util.Map' {
+import { Comparator } from 'java.util';
+/**
+ * A map entry (key-value pair). The Entry may be unmodifiable, or the
+ * value may be modifiable if the optional `setValue` method is
+ * implemented. The Entry may be independent of any map, or it may represent
+ * an entry of the entry-set view of a map.
+ * 
+ * Instances of the `Map.Entry` interface may be obtained by iterating
+ * the entry-set view of a map. These instances maintain a connection to the
+ * original, backing map. This connection to the backing map is valid
+ * only for the duration of iteration over the entry-set view.
+ * During iteration of the entry-set view, if supported by the backing map,
+ * a change to a `Map.Entry`'s value via the
+ * {@link Map.Entry#setValue setValue} method will be visible in the backing map.
+ * The behavior of such a `Map.Entry` instance is undefined outside of
+ * iteration of the map's entry-set view. It is also undefined if the backing
+ * map has been modified after the `Map.Entry` was returned by the
+ * iterator, except through the `Map.Entry.setValue` method. In particular,
+ * a change to the value of a mapping in the backing map might or might not be
+ * visible in the corresponding `Map.Entry` element of the entry-set view.
+ *
+ * @apiNote
+ * It is possible to create a `Map.Entry` instance that is disconnected
+ * from a backing map by using the {@link Map.Entry#copyOf copyOf} method. For example,
+ * the following creates a snapshot of a map's entries that is guaranteed not to
+ * change even if the original map is modified:
+ *  {@code
+ * var entries = map.entrySet().stream().map(Map.Entry::copyOf).toList()
+ * }
+ *
+ * @see Map#entrySet()
+ * @since 1.2
+*/
+export interface Entry<K, V> {
+  /**
+   * Returns the key corresponding to this entry.
+   *
+   * @return the key corresponding to this entry
+   * @throws IllegalStateException implementations may, but are not
+   *         required to, throw this exception if the entry has been
+   *         removed from the backing map.
+  */
+  get key(): K;
+  /**
+   * Returns the value corresponding to this entry.  If the mapping
+   * has been removed from the backing map (by the iterator's
+   * `remove` operation), the results of this call are undefined.
+   *
+   * @return the value corresponding to this entry
+   * @throws IllegalStateException implementations may, but are not
+   *         required to, throw this exception if the entry has been
+   *         removed from the backing map.
+  */
+  get value(): V;
+  /**
+   * Replaces the value corresponding to this entry with the specified
+   * value (optional operation).  (Writes through to the map.)  The
+   * behavior of this call is undefined if the mapping has already been
+   * removed from the map (by the iterator's `remove` operation).
+   *
+   * @param value new value to be stored in this entry
+   * @return old value corresponding to the entry
+   * @throws UnsupportedOperationException if the `put` operation
+   *         is not supported by the backing map
+   * @throws ClassCastException if the class of the specified value
+   *         prevents it from being stored in the backing map
+   * @throws NullPointerException if the backing map does not permit
+   *         null values, and the specified value is null
+   * @throws IllegalArgumentException if some property of this value
+   *         prevents it from being stored in the backing map
+   * @throws IllegalStateException implementations may, but are not
+   *         required to, throw this exception if the entry has been
+   *         removed from the backing map.
+  */
+  set value(value: V);
+  /**
+   * Compares the specified object with this entry for equality.
+   * Returns `true` if the given object is also a map entry and
+   * the two entries represent the same mapping.  More formally, two
+   * entries `e1` and `e2` represent the same mapping
+   * if         *     (e1.getKey()==null ?
+   *      e2.getKey()==null : e1.getKey().equals(e2.getKey()))  &&
+   *     (e1.getValue()==null ?
+   *      e2.getValue()==null : e1.getValue().equals(e2.getValue()))
+   * 
+   * This ensures that the `equals` method works properly across
+   * different implementations of the `Map.Entry` interface.
+   *
+   * @param o object to be compared for equality with this map entry
+   * @return `true` if the specified object is equal to this map
+   *         entry
+  */
+  equals(o: any): boolean;
+  /**
+   * Returns the hash code value for this map entry.  The hash code
+   * of a map entry `e` is defined to be:          *     (e.getKey()==null   ? 0 : e.getKey().hashCode()) ^
+   *     (e.getValue()==null ? 0 : e.getValue().hashCode())
+   * 
+   * This ensures that `e1.equals(e2)` implies that
+   * `e1.hashCode()==e2.hashCode()` for any two Entries
+   * `e1` and `e2`, as required by the general
+   * contract of `Object.hashCode`.
+   *
+   * @return the hash code value for this map entry
+   * @see Object#hashCode()
+   * @see Object#equals(Object)
+   * @see #equals(Object)
+  */
+  hashCode(): number;
+  /**
+   * Returns a comparator that compares {@link Map.Entry} in natural order on key.
+   *
+   * The returned comparator is serializable and throws {@link
+   * NullPointerException} when comparing an entry with a null key.
+   *
+   * @param   the {@link Comparable} type of then map keys
+   * @param   the type of the map values
+   * @return a comparator that compares {@link Map.Entry} in natural order on key.
+   * @see Comparable
+   * @since 1.8
+  */
+  static comparingByKey<K, V>(): Comparator<Entry<K, V>>;
+  /**
+   * Returns a comparator that compares {@link Map.Entry} in natural order on value.
+   *
+   * The returned comparator is serializable and throws {@link
+   * NullPointerException} when comparing an entry with null values.
+   *
+   * @param  the type of the map keys
+   * @param  the {@link Comparable} type of the map values
+   * @return a comparator that compares {@link Map.Entry} in natural order on value.
+   * @see Comparable
+   * @since 1.8
+  */
+  static comparingByValue<K, V>(): Comparator<Entry<K, V>>;
+  /**
+   * Returns a comparator that compares {@link Map.Entry} by key using the given
+   * {@link Comparator}.
+   *
+   * The returned comparator is serializable if the specified comparator
+   * is also serializable.
+   *
+   * @param   the type of the map keys
+   * @param   the type of the map values
+   * @param  cmp the key {@link Comparator}
+   * @return a comparator that compares {@link Map.Entry} by the key.
+   * @since 1.8
+  */
+  static comparingByKey<K, V>(cmp: Comparator<any>): Comparator<Entry<K, V>>;
+  /**
+   * Returns a comparator that compares {@link Map.Entry} by value using the given
+   * {@link Comparator}.
+   *
+   * The returned comparator is serializable if the specified comparator
+   * is also serializable.
+   *
+   * @param   the type of the map keys
+   * @param   the type of the map values
+   * @param  cmp the value {@link Comparator}
+   * @return a comparator that compares {@link Map.Entry} by the value.
+   * @since 1.8
+  */
+  static comparingByValue<K, V>(cmp: Comparator<any>): Comparator<Entry<K, V>>;
+  /**
+   * Returns a copy of the given `Map.Entry`. The returned instance is not
+   * associated with any map. The returned instance has the same characteristics
+   * as instances returned by the {@link Map#entry Map::entry} method.
+   *
+   * @apiNote
+   * An instance obtained from a map's entry-set view has a connection to that map.
+   * The `copyOf`  method may be used to create a `Map.Entry` instance,
+   * containing the same key and value, that is independent of any map.
+   *
+   * @implNote
+   * If the given entry was obtained from a call to `copyOf` or `Map::entry`,
+   * calling `copyOf` will generally not create another copy.
+   *
+   * @param  the type of the key
+   * @param  the type of the value
+   * @param e the entry to be copied
+   * @return a map entry equal to the given entry
+   * @throws NullPointerException if e is null or if either of its key or value is null
+   * @since 17
+  */
+  static copyOf<K, V>(e: Entry<K, V>): Entry<K, V>;
+}
+
+}
+declare module 'java.util.function' {
+import { Comparator } from 'java.util';
+/**
+ * Represents an operation that accepts two input arguments and returns no
+ * result.  This is the two-arity specialization of {@link Consumer}.
+ * Unlike most other functional interfaces, `BiConsumer` is expected
+ * to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(Object, Object)}.
+ *
+ * @param  the type of the first argument to the operation
+ * @param  the type of the second argument to the operation
+ *
+ * @see Consumer
+ * @since 1.8
+*/
+export interface BiConsumer<T, U> {
+  /**
+   * Performs this operation on the given arguments.
+   *
+   * @param t the first input argument
+   * @param u the second input argument
+  */
+  accept(t: T, u: U): void;
+  /**
+   * Returns a composed `BiConsumer` that performs, in sequence, this
+   * operation followed by the `after` operation. If performing either
+   * operation throws an exception, it is relayed to the caller of the
+   * composed operation.  If performing this operation throws an exception,
+   * the `after` operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed `BiConsumer` that performs in sequence this
+   * operation followed by the `after` operation
+   * @throws NullPointerException if `after` is null
+  */
+  andThen(after: BiConsumer<any, any>): BiConsumer<T, U>;
+}
+/**
+ * Represents a function that accepts two arguments and produces a result.
+ * This is the two-arity specialization of {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(Object, Object)}.
+ *
+ * @param  the type of the first argument to the function
+ * @param  the type of the second argument to the function
+ * @param  the type of the result of the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface BiFunction<T, U, R> {
+  /**
+   * Applies this function to the given arguments.
+   *
+   * @param t the first function argument
+   * @param u the second function argument
+   * @return the function result
+  */
+  apply(t: T, u: U): R;
+  /**
+   * Returns a composed function that first applies this function to
+   * its input, and then applies the `after` function to the result.
+   * If evaluation of either function throws an exception, it is relayed to
+   * the caller of the composed function.
+   *
+   * @param  the type of output of the `after` function, and of the
+   *           composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then
+   * applies the `after` function
+   * @throws NullPointerException if after is null
+  */
+  andThen<V>(after: Function<any, V>): BiFunction<T, U, V>;
+}
+/**
+ * Represents a predicate (boolean-valued function) of two arguments.  This is
+ * the two-arity specialization of {@link Predicate}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #test(Object, Object)}.
+ *
+ * @param  the type of the first argument to the predicate
+ * @param  the type of the second argument the predicate
+ *
+ * @see Predicate
+ * @since 1.8
+*/
+export interface BiPredicate<T, U> {
+  /**
+   * Evaluates this predicate on the given arguments.
+   *
+   * @param t the first input argument
+   * @param u the second input argument
+   * @return `true` if the input arguments match the predicate,
+   * otherwise `false`
+  */
+  test(t: T, u: U): boolean;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * AND of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `false`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * AND of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  and(other: BiPredicate<any, any>): BiPredicate<T, U>;
+  /**
+   * Returns a predicate that represents the logical negation of this
+   * predicate.
+   *
+   * @return a predicate that represents the logical negation of this
+   * predicate
+  */
+  negate(): BiPredicate<T, U>;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * OR of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `true`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * OR of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  or(other: BiPredicate<any, any>): BiPredicate<T, U>;
+}
+/**
+ * Represents an operation upon two operands of the same type, producing a result
+ * of the same type as the operands.  This is a specialization of
+ * {@link BiFunction} for the case where the operands and the result are all of
+ * the same type.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(Object, Object)}.
+ *
+ * @param  the type of the operands and result of the operator
+ *
+ * @see BiFunction
+ * @see UnaryOperator
+ * @since 1.8
+*/
+export interface BinaryOperator<T> extends BiFunction<T, T, T> {
+  /**
+   * Returns a {@link BinaryOperator} which returns the lesser of two elements
+   * according to the specified `Comparator`.
+   *
+   * @param  the type of the input arguments of the comparator
+   * @param comparator a `Comparator` for comparing the two values
+   * @return a `BinaryOperator` which returns the lesser of its operands,
+   *         according to the supplied `Comparator`
+   * @throws NullPointerException if the argument is null
+  */
+  static minBy<T>(comparator: Comparator<any>): BinaryOperator<T>;
+  /**
+   * Returns a {@link BinaryOperator} which returns the greater of two elements
+   * according to the specified `Comparator`.
+   *
+   * @param  the type of the input arguments of the comparator
+   * @param comparator a `Comparator` for comparing the two values
+   * @return a `BinaryOperator` which returns the greater of its operands,
+   *         according to the supplied `Comparator`
+   * @throws NullPointerException if the argument is null
+  */
+  static maxBy<T>(comparator: Comparator<any>): BinaryOperator<T>;
+}
+/**
+ * Represents a supplier of `boolean`-valued results.  This is the
+ * `boolean`-producing primitive specialization of {@link Supplier}.
+ *
+ * There is no requirement that a new or distinct result be returned each
+ * time the supplier is invoked.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #getAsBoolean()}.
+ *
+ * @see Supplier
+ * @since 1.8
+*/
+export interface BooleanSupplier {
+  /**
+   * Gets a result.
+   *
+   * @return a result
+  */
+  getAsBoolean(): boolean;
+}
+/**
+ * Represents an operation that accepts a single input argument and returns no
+ * result. Unlike most other functional interfaces, `Consumer` is expected
+ * to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(Object)}.
+ *
+ * @param  the type of the input to the operation
+ *
+ * @since 1.8
+*/
+export interface Consumer<T> {
+  /**
+   * Performs this operation on the given argument.
+   *
+   * @param t the input argument
+  */
+  accept(t: T): void;
+  /**
+   * Returns a composed `Consumer` that performs, in sequence, this
+   * operation followed by the `after` operation. If performing either
+   * operation throws an exception, it is relayed to the caller of the
+   * composed operation.  If performing this operation throws an exception,
+   * the `after` operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed `Consumer` that performs in sequence this
+   * operation followed by the `after` operation
+   * @throws NullPointerException if `after` is null
+  */
+  andThen(after: Consumer<any>): Consumer<T>;
+}
+/**
+ * Represents an operation upon two `double`-valued operands and producing a
+ * `double`-valued result.   This is the primitive type specialization of
+ * {@link BinaryOperator} for `double`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(double, double)}.
+ *
+ * @see BinaryOperator
+ * @see DoubleUnaryOperator
+ * @since 1.8
+*/
+export interface DoubleBinaryOperator {
+  /**
+   * Applies this operator to the given operands.
+   *
+   * @param left the first operand
+   * @param right the second operand
+   * @return the operator result
+  */
+  applyAsDouble(left: number, right: number): number;
+}
+/**
+ * Represents an operation that accepts a single `double`-valued argument and
+ * returns no result.  This is the primitive type specialization of
+ * {@link Consumer} for `double`.  Unlike most other functional interfaces,
+ * `DoubleConsumer` is expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(double)}.
+ *
+ * @see Consumer
+ * @since 1.8
+*/
+export interface DoubleConsumer {
+  /**
+   * Performs this operation on the given argument.
+   *
+   * @param value the input argument
+  */
+  accept(value: number): void;
+  /**
+   * Returns a composed `DoubleConsumer` that performs, in sequence, this
+   * operation followed by the `after` operation. If performing either
+   * operation throws an exception, it is relayed to the caller of the
+   * composed operation.  If performing this operation throws an exception,
+   * the `after` operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed `DoubleConsumer` that performs in sequence this
+   * operation followed by the `after` operation
+   * @throws NullPointerException if `after` is null
+  */
+  andThen(after: DoubleConsumer): DoubleConsumer;
+}
+/**
+ * Represents a function that accepts a double-valued argument and produces a
+ * result.  This is the `double`-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(double)}.
+ *
+ * @param  the type of the result of the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface DoubleFunction<R> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  apply(value: number): R;
+}
+/**
+ * Represents a predicate (boolean-valued function) of one `double`-valued
+ * argument. This is the `double`-consuming primitive type specialization
+ * of {@link Predicate}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #test(double)}.
+ *
+ * @see Predicate
+ * @since 1.8
+*/
+export interface DoublePredicate {
+  /**
+   * Evaluates this predicate on the given argument.
+   *
+   * @param value the input argument
+   * @return `true` if the input argument matches the predicate,
+   * otherwise `false`
+  */
+  test(value: number): boolean;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * AND of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `false`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * AND of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  and(other: DoublePredicate): DoublePredicate;
+  /**
+   * Returns a predicate that represents the logical negation of this
+   * predicate.
+   *
+   * @return a predicate that represents the logical negation of this
+   * predicate
+  */
+  negate(): DoublePredicate;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * OR of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `true`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * OR of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  or(other: DoublePredicate): DoublePredicate;
+}
+/**
+ * Represents a supplier of `double`-valued results.  This is the
+ * `double`-producing primitive specialization of {@link Supplier}.
+ *
+ * There is no requirement that a distinct result be returned each
+ * time the supplier is invoked.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #getAsDouble()}.
+ *
+ * @see Supplier
+ * @since 1.8
+*/
+export interface DoubleSupplier {
+  /**
+   * Gets a result.
+   *
+   * @return a result
+  */
+  get asDouble(): number;
+}
+/**
+ * Represents a function that accepts a double-valued argument and produces an
+ * int-valued result.  This is the `double`-to-`int` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(double)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface DoubleToIntFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsInt(value: number): number;
+}
+/**
+ * Represents a function that accepts a double-valued argument and produces a
+ * long-valued result.  This is the `double`-to-`long` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(double)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface DoubleToLongFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsLong(value: number): number;
+}
+/**
+ * Represents an operation on a single `double`-valued operand that produces
+ * a `double`-valued result.  This is the primitive type specialization of
+ * {@link UnaryOperator} for `double`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(double)}.
+ *
+ * @see UnaryOperator
+ * @since 1.8
+*/
+export interface DoubleUnaryOperator {
+  /**
+   * Applies this operator to the given operand.
+   *
+   * @param operand the operand
+   * @return the operator result
+  */
+  applyAsDouble(operand: number): number;
+  /**
+   * Returns a composed operator that first applies the `before`
+   * operator to its input, and then applies this operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the `before`
+   * operator and then applies this operator
+   * @throws NullPointerException if before is null
+   *
+   * @see #andThen(DoubleUnaryOperator)
+  */
+  compose(before: DoubleUnaryOperator): DoubleUnaryOperator;
+  /**
+   * Returns a composed operator that first applies this operator to
+   * its input, and then applies the `after` operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then
+   * applies the `after` operator
+   * @throws NullPointerException if after is null
+   *
+   * @see #compose(DoubleUnaryOperator)
+  */
+  andThen(after: DoubleUnaryOperator): DoubleUnaryOperator;
+  /**
+   * Returns a unary operator that always returns its input argument.
+   *
+   * @return a unary operator that always returns its input argument
+  */
+  static identity(): DoubleUnaryOperator;
+}
+/**
+ * Represents a function that accepts one argument and produces a result.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(Object)}.
+ *
+ * @param  the type of the input to the function
+ * @param  the type of the result of the function
+ *
+ * @since 1.8
+*/
+export interface Function<T, R> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param t the function argument
+   * @return the function result
+  */
+  apply(t: T): R;
+  /**
+   * Returns a composed function that first applies the `before`
+   * function to its input, and then applies this function to the result.
+   * If evaluation of either function throws an exception, it is relayed to
+   * the caller of the composed function.
+   *
+   * @param  the type of input to the `before` function, and to the
+   *           composed function
+   * @param before the function to apply before this function is applied
+   * @return a composed function that first applies the `before`
+   * function and then applies this function
+   * @throws NullPointerException if before is null
+   *
+   * @see #andThen(Function)
+  */
+  compose<V>(before: Function<any, T>): Function<V, R>;
+  /**
+   * Returns a composed function that first applies this function to
+   * its input, and then applies the `after` function to the result.
+   * If evaluation of either function throws an exception, it is relayed to
+   * the caller of the composed function.
+   *
+   * @param  the type of output of the `after` function, and of the
+   *           composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then
+   * applies the `after` function
+   * @throws NullPointerException if after is null
+   *
+   * @see #compose(Function)
+  */
+  andThen<V>(after: Function<any, V>): Function<T, V>;
+  /**
+   * Returns a function that always returns its input argument.
+   *
+   * @param  the type of the input and output objects to the function
+   * @return a function that always returns its input argument
+  */
+  static identity<T>(): Function<T, T>;
+}
+/**
+ * Represents an operation upon two `int`-valued operands and producing an
+ * `int`-valued result.   This is the primitive type specialization of
+ * {@link BinaryOperator} for `int`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(int, int)}.
+ *
+ * @see BinaryOperator
+ * @see IntUnaryOperator
+ * @since 1.8
+*/
+export interface IntBinaryOperator {
+  /**
+   * Applies this operator to the given operands.
+   *
+   * @param left the first operand
+   * @param right the second operand
+   * @return the operator result
+  */
+  applyAsInt(left: number, right: number): number;
+}
+/**
+ * Represents an operation that accepts a single `int`-valued argument and
+ * returns no result.  This is the primitive type specialization of
+ * {@link Consumer} for `int`.  Unlike most other functional interfaces,
+ * `IntConsumer` is expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(int)}.
+ *
+ * @see Consumer
+ * @since 1.8
+*/
+export interface IntConsumer {
+  /**
+   * Performs this operation on the given argument.
+   *
+   * @param value the input argument
+  */
+  accept(value: number): void;
+  /**
+   * Returns a composed `IntConsumer` that performs, in sequence, this
+   * operation followed by the `after` operation. If performing either
+   * operation throws an exception, it is relayed to the caller of the
+   * composed operation.  If performing this operation throws an exception,
+   * the `after` operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed `IntConsumer` that performs in sequence this
+   * operation followed by the `after` operation
+   * @throws NullPointerException if `after` is null
+  */
+  andThen(after: IntConsumer): IntConsumer;
+}
+/**
+ * Represents a function that accepts an int-valued argument and produces a
+ * result.  This is the `int`-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(int)}.
+ *
+ * @param  the type of the result of the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface IntFunction<R> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  apply(value: number): R;
+}
+/**
+ * Represents a predicate (boolean-valued function) of one `int`-valued
+ * argument. This is the `int`-consuming primitive type specialization of
+ * {@link Predicate}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #test(int)}.
+ *
+ * @see Predicate
+ * @since 1.8
+*/
+export interface IntPredicate {
+  /**
+   * Evaluates this predicate on the given argument.
+   *
+   * @param value the input argument
+   * @return `true` if the input argument matches the predicate,
+   * otherwise `false`
+  */
+  test(value: number): boolean;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * AND of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `false`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * AND of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  and(other: IntPredicate): IntPredicate;
+  /**
+   * Returns a predicate that represents the logical negation of this
+   * predicate.
+   *
+   * @return a predicate that represents the logical negation of this
+   * predicate
+  */
+  negate(): IntPredicate;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * OR of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `true`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * OR of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  or(other: IntPredicate): IntPredicate;
+}
+/**
+ * Represents a supplier of `int`-valued results.  This is the
+ * `int`-producing primitive specialization of {@link Supplier}.
+ *
+ * There is no requirement that a distinct result be returned each
+ * time the supplier is invoked.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #getAsInt()}.
+ *
+ * @see Supplier
+ * @since 1.8
+*/
+export interface IntSupplier {
+  /**
+   * Gets a result.
+   *
+   * @return a result
+  */
+  get asInt(): number;
+}
+/**
+ * Represents a function that accepts an int-valued argument and produces a
+ * double-valued result.  This is the `int`-to-`double` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(int)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface IntToDoubleFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsDouble(value: number): number;
+}
+/**
+ * Represents a function that accepts an int-valued argument and produces a
+ * long-valued result.  This is the `int`-to-`long` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(int)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface IntToLongFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsLong(value: number): number;
+}
+/**
+ * Represents an operation on a single `int`-valued operand that produces
+ * an `int`-valued result.  This is the primitive type specialization of
+ * {@link UnaryOperator} for `int`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(int)}.
+ *
+ * @see UnaryOperator
+ * @since 1.8
+*/
+export interface IntUnaryOperator {
+  /**
+   * Applies this operator to the given operand.
+   *
+   * @param operand the operand
+   * @return the operator result
+  */
+  applyAsInt(operand: number): number;
+  /**
+   * Returns a composed operator that first applies the `before`
+   * operator to its input, and then applies this operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the `before`
+   * operator and then applies this operator
+   * @throws NullPointerException if before is null
+   *
+   * @see #andThen(IntUnaryOperator)
+  */
+  compose(before: IntUnaryOperator): IntUnaryOperator;
+  /**
+   * Returns a composed operator that first applies this operator to
+   * its input, and then applies the `after` operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then
+   * applies the `after` operator
+   * @throws NullPointerException if after is null
+   *
+   * @see #compose(IntUnaryOperator)
+  */
+  andThen(after: IntUnaryOperator): IntUnaryOperator;
+  /**
+   * Returns a unary operator that always returns its input argument.
+   *
+   * @return a unary operator that always returns its input argument
+  */
+  static identity(): IntUnaryOperator;
+}
+/**
+ * Represents an operation upon two `long`-valued operands and producing a
+ * `long`-valued result.   This is the primitive type specialization of
+ * {@link BinaryOperator} for `long`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(long, long)}.
+ *
+ * @see BinaryOperator
+ * @see LongUnaryOperator
+ * @since 1.8
+*/
+export interface LongBinaryOperator {
+  /**
+   * Applies this operator to the given operands.
+   *
+   * @param left the first operand
+   * @param right the second operand
+   * @return the operator result
+  */
+  applyAsLong(left: number, right: number): number;
+}
+/**
+ * Represents an operation that accepts a single `long`-valued argument and
+ * returns no result.  This is the primitive type specialization of
+ * {@link Consumer} for `long`.  Unlike most other functional interfaces,
+ * `LongConsumer` is expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(long)}.
+ *
+ * @see Consumer
+ * @since 1.8
+*/
+export interface LongConsumer {
+  /**
+   * Performs this operation on the given argument.
+   *
+   * @param value the input argument
+  */
+  accept(value: number): void;
+  /**
+   * Returns a composed `LongConsumer` that performs, in sequence, this
+   * operation followed by the `after` operation. If performing either
+   * operation throws an exception, it is relayed to the caller of the
+   * composed operation.  If performing this operation throws an exception,
+   * the `after` operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed `LongConsumer` that performs in sequence this
+   * operation followed by the `after` operation
+   * @throws NullPointerException if `after` is null
+  */
+  andThen(after: LongConsumer): LongConsumer;
+}
+/**
+ * Represents a function that accepts a long-valued argument and produces a
+ * result.  This is the `long`-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(long)}.
+ *
+ * @param  the type of the result of the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface LongFunction<R> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  apply(value: number): R;
+}
+/**
+ * Represents a predicate (boolean-valued function) of one `long`-valued
+ * argument. This is the `long`-consuming primitive type specialization of
+ * {@link Predicate}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #test(long)}.
+ *
+ * @see Predicate
+ * @since 1.8
+*/
+export interface LongPredicate {
+  /**
+   * Evaluates this predicate on the given argument.
+   *
+   * @param value the input argument
+   * @return `true` if the input argument matches the predicate,
+   * otherwise `false`
+  */
+  test(value: number): boolean;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * AND of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `false`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * AND of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  and(other: LongPredicate): LongPredicate;
+  /**
+   * Returns a predicate that represents the logical negation of this
+   * predicate.
+   *
+   * @return a predicate that represents the logical negation of this
+   * predicate
+  */
+  negate(): LongPredicate;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * OR of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `true`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * OR of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  or(other: LongPredicate): LongPredicate;
+}
+/**
+ * Represents a supplier of `long`-valued results.  This is the
+ * `long`-producing primitive specialization of {@link Supplier}.
+ *
+ * There is no requirement that a distinct result be returned each
+ * time the supplier is invoked.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #getAsLong()}.
+ *
+ * @see Supplier
+ * @since 1.8
+*/
+export interface LongSupplier {
+  /**
+   * Gets a result.
+   *
+   * @return a result
+  */
+  get asLong(): number;
+}
+/**
+ * Represents a function that accepts a long-valued argument and produces a
+ * double-valued result.  This is the `long`-to-`double` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(long)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface LongToDoubleFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsDouble(value: number): number;
+}
+/**
+ * Represents a function that accepts a long-valued argument and produces an
+ * int-valued result.  This is the `long`-to-`int` primitive
+ * specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(long)}.
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface LongToIntFunction {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsInt(value: number): number;
+}
+/**
+ * Represents an operation on a single `long`-valued operand that produces
+ * a `long`-valued result.  This is the primitive type specialization of
+ * {@link UnaryOperator} for `long`.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(long)}.
+ *
+ * @see UnaryOperator
+ * @since 1.8
+*/
+export interface LongUnaryOperator {
+  /**
+   * Applies this operator to the given operand.
+   *
+   * @param operand the operand
+   * @return the operator result
+  */
+  applyAsLong(operand: number): number;
+  /**
+   * Returns a composed operator that first applies the `before`
+   * operator to its input, and then applies this operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the `before`
+   * operator and then applies this operator
+   * @throws NullPointerException if before is null
+   *
+   * @see #andThen(LongUnaryOperator)
+  */
+  compose(before: LongUnaryOperator): LongUnaryOperator;
+  /**
+   * Returns a composed operator that first applies this operator to
+   * its input, and then applies the `after` operator to the result.
+   * If evaluation of either operator throws an exception, it is relayed to
+   * the caller of the composed operator.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then
+   * applies the `after` operator
+   * @throws NullPointerException if after is null
+   *
+   * @see #compose(LongUnaryOperator)
+  */
+  andThen(after: LongUnaryOperator): LongUnaryOperator;
+  /**
+   * Returns a unary operator that always returns its input argument.
+   *
+   * @return a unary operator that always returns its input argument
+  */
+  static identity(): LongUnaryOperator;
+}
+/**
+ * Represents an operation that accepts an object-valued and a
+ * `double`-valued argument, and returns no result.  This is the
+ * `(reference, double)` specialization of {@link BiConsumer}.
+ * Unlike most other functional interfaces, `ObjDoubleConsumer` is
+ * expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(Object, double)}.
+ *
+ * @param  the type of the object argument to the operation
+ *
+ * @see BiConsumer
+ * @since 1.8
+*/
+export interface ObjDoubleConsumer<T> {
+  /**
+   * Performs this operation on the given arguments.
+   *
+   * @param t the first input argument
+   * @param value the second input argument
+  */
+  accept(t: T, value: number): void;
+}
+/**
+ * Represents an operation that accepts an object-valued and a
+ * `int`-valued argument, and returns no result.  This is the
+ * `(reference, int)` specialization of {@link BiConsumer}.
+ * Unlike most other functional interfaces, `ObjIntConsumer` is
+ * expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(Object, int)}.
+ *
+ * @param  the type of the object argument to the operation
+ *
+ * @see BiConsumer
+ * @since 1.8
+*/
+export interface ObjIntConsumer<T> {
+  /**
+   * Performs this operation on the given arguments.
+   *
+   * @param t the first input argument
+   * @param value the second input argument
+  */
+  accept(t: T, value: number): void;
+}
+/**
+ * Represents an operation that accepts an object-valued and a
+ * `long`-valued argument, and returns no result.  This is the
+ * `(reference, long)` specialization of {@link BiConsumer}.
+ * Unlike most other functional interfaces, `ObjLongConsumer` is
+ * expected to operate via side-effects.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #accept(Object, long)}.
+ *
+ * @param  the type of the object argument to the operation
+ *
+ * @see BiConsumer
+ * @since 1.8
+*/
+export interface ObjLongConsumer<T> {
+  /**
+   * Performs this operation on the given arguments.
+   *
+   * @param t the first input argument
+   * @param value the second input argument
+  */
+  accept(t: T, value: number): void;
+}
+/**
+ * Represents a predicate (boolean-valued function) of one argument.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #test(Object)}.
+ *
+ * @param  the type of the input to the predicate
+ *
+ * @since 1.8
+*/
+export interface Predicate<T> {
+  /**
+   * Evaluates this predicate on the given argument.
+   *
+   * @param t the input argument
+   * @return `true` if the input argument matches the predicate,
+   * otherwise `false`
+  */
+  test(t: T): boolean;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * AND of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `false`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * AND of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  and(other: Predicate<any>): Predicate<T>;
+  /**
+   * Returns a predicate that represents the logical negation of this
+   * predicate.
+   *
+   * @return a predicate that represents the logical negation of this
+   * predicate
+  */
+  negate(): Predicate<T>;
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical
+   * OR of this predicate and another.  When evaluating the composed
+   * predicate, if this predicate is `true`, then the `other`
+   * predicate is not evaluated.
+   *
+   * Any exceptions thrown during evaluation of either predicate are relayed
+   * to the caller; if evaluation of this predicate throws an exception, the
+   * `other` predicate will not be evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this
+   *              predicate
+   * @return a composed predicate that represents the short-circuiting logical
+   * OR of this predicate and the `other` predicate
+   * @throws NullPointerException if other is null
+  */
+  or(other: Predicate<any>): Predicate<T>;
+  /**
+   * Returns a predicate that tests if two arguments are equal according
+   * to {@link Objects#equals(Object, Object)}.
+   *
+   * @param  the type of arguments to the predicate
+   * @param targetRef the object reference with which to compare for equality,
+   *               which may be `null`
+   * @return a predicate that tests if two arguments are equal according
+   * to {@link Objects#equals(Object, Object)}
+  */
+  static isEqual<T>(targetRef: any): Predicate<T>;
+  /**
+   * Returns a predicate that is the negation of the supplied predicate.
+   * This is accomplished by returning result of the calling
+   * `target.negate()`.
+   *
+   * @param      the type of arguments to the specified predicate
+   * @param target  predicate to negate
+   *
+   * @return a predicate that negates the results of the supplied
+   *         predicate
+   *
+   * @throws NullPointerException if target is null
+   *
+   * @since 11
+  */
+  static not<T>(target: Predicate<any>): Predicate<T>;
+}
+/**
+ * Represents a supplier of results.
+ *
+ * There is no requirement that a new or distinct result be returned each
+ * time the supplier is invoked.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #get()}.
+ *
+ * @param  the type of results supplied by this supplier
+ *
+ * @since 1.8
+*/
+export interface Supplier<T> {
+  /**
+   * Gets a result.
+   *
+   * @return a result
+  */
+  get(): T;
+}
+/**
+ * Represents a function that accepts two arguments and produces a double-valued
+ * result.  This is the `double`-producing primitive specialization for
+ * {@link BiFunction}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(Object, Object)}.
+ *
+ * @param  the type of the first argument to the function
+ * @param  the type of the second argument to the function
+ *
+ * @see BiFunction
+ * @since 1.8
+*/
+export interface ToDoubleBiFunction<T, U> {
+  /**
+   * Applies this function to the given arguments.
+   *
+   * @param t the first function argument
+   * @param u the second function argument
+   * @return the function result
+  */
+  applyAsDouble(t: T, u: U): number;
+}
+/**
+ * Represents a function that produces a double-valued result.  This is the
+ * `double`-producing primitive specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsDouble(Object)}.
+ *
+ * @param  the type of the input to the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface ToDoubleFunction<T> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsDouble(value: T): number;
+}
+/**
+ * Represents a function that accepts two arguments and produces an int-valued
+ * result.  This is the `int`-producing primitive specialization for
+ * {@link BiFunction}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(Object, Object)}.
+ *
+ * @param  the type of the first argument to the function
+ * @param  the type of the second argument to the function
+ *
+ * @see BiFunction
+ * @since 1.8
+*/
+export interface ToIntBiFunction<T, U> {
+  /**
+   * Applies this function to the given arguments.
+   *
+   * @param t the first function argument
+   * @param u the second function argument
+   * @return the function result
+  */
+  applyAsInt(t: T, u: U): number;
+}
+/**
+ * Represents a function that produces an int-valued result.  This is the
+ * `int`-producing primitive specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsInt(Object)}.
+ *
+ * @param  the type of the input to the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface ToIntFunction<T> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsInt(value: T): number;
+}
+/**
+ * Represents a function that accepts two arguments and produces a long-valued
+ * result.  This is the `long`-producing primitive specialization for
+ * {@link BiFunction}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(Object, Object)}.
+ *
+ * @param  the type of the first argument to the function
+ * @param  the type of the second argument to the function
+ *
+ * @see BiFunction
+ * @since 1.8
+*/
+export interface ToLongBiFunction<T, U> {
+  /**
+   * Applies this function to the given arguments.
+   *
+   * @param t the first function argument
+   * @param u the second function argument
+   * @return the function result
+  */
+  applyAsLong(t: T, u: U): number;
+}
+/**
+ * Represents a function that produces a long-valued result.  This is the
+ * `long`-producing primitive specialization for {@link Function}.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #applyAsLong(Object)}.
+ *
+ * @param  the type of the input to the function
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface ToLongFunction<T> {
+  /**
+   * Applies this function to the given argument.
+   *
+   * @param value the function argument
+   * @return the function result
+  */
+  applyAsLong(value: T): number;
+}
+/**
+ * Represents an operation on a single operand that produces a result of the
+ * same type as its operand.  This is a specialization of `Function` for
+ * the case where the operand and result are of the same type.
+ *
+ * This is a functional interface
+ * whose functional method is {@link #apply(Object)}.
+ *
+ * @param  the type of the operand and result of the operator
+ *
+ * @see Function
+ * @since 1.8
+*/
+export interface UnaryOperator<T> extends Function<T, T> {
+  /**
+   * Returns a unary operator that always returns its input argument.
+   *
+   * @param  the type of the input and output of the operator
+   * @return a unary operator that always returns its input argument
+  */
+  static identity<T>(): UnaryOperator<T>;
+}
+
+}
@@ -0,0 +1,113 @@
+package com.example.fixture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for shapes that have a position.
+ *
+ * <p>Subclasses must implement {@link #area()} and {@link #perimeter()}.
+ * Position can be changed with the {@code move} overloads:</p>
+ * <pre>
+ * shape.move(1, 2);
+ * shape.move(1.5, 2.5);
+ * </pre>
+ */
+public abstract class AbstractShape implements Shape {
+
+	/**
+	 * Horizontal position.
+	 */
+	protected double x;
+
+	/**
+	 * Vertical position.
+	 */
+	protected double y;
+
+	private final List<String> tags = new ArrayList<>();
+
+	/**
+	 * Name shown in user interfaces.
+	 */
+	private String label;
+
+	/**
+	 * Moves this shape by whole units.
+	 * @param dx Horizontal offset.
+	 * @param dy Vertical offset.
+	 */
+	public void move(int dx, int dy) {
+		move((double) dx, (double) dy);
+	}
+
+	/**
+	 * Moves this shape by fractional units.
+	 * @param dx Horizontal offset.
+	 * @param dy Vertical offset.
+	 */
+	public void move(double dx, double dy) {
+		x += dx;
+		y += dy;
+	}
+
+	/**
+	 * Moves this shape to same position as another shape.
+	 * @param other The other shape.
+	 */
+	public void move(AbstractShape other) {
+		x = other.x;
+		y = other.y;
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Gets the label of this shape.
+	 * @return Label, or empty optional if there is none.
+	 */
+	public Optional<String> getLabel() {
+		return Optional.ofNullable(label);
+	}
+
+	/**
+	 * Sets the label of this shape.
+	 * @param label New label.
+	 */
+	public void setLabel(String label) {
+		this.label = label;
+	}
+
+	@Override
+	public List<String> getTags() {
+		return Collections.unmodifiableList(tags);
+	}
+
+	/**
+	 * Adds tags to this shape.
+	 * @param tags Tag names.
+	 */
+	public void addTags(String... tags) {
+		Collections.addAll(this.tags, tags);
+	}
+
+	/**
+	 * Accepts a visitor.
+	 * @param <R> Result type.
+	 * @param visitor The visitor.
+	 * @return What the visitor returned.
+	 */
+	public <R> R accept(ShapeVisitor<R> visitor) {
+		return visitor.visit(this);
+	}
+
+	abstract void invalidate();
+}
@@ -0,0 +1,170 @@
+package com.example.fixture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A closed shape that consists of straight edges between
+ * {@link Vertex vertices}.
+ *
+ * <p>A polygon needs at least three vertices. Self-intersecting polygons
+ * are allowed, but their {@link #area()} is <i>not</i> well-defined.</p>
+ */
+public class Polygon extends AbstractShape {
+
+	/**
+	 * A corner of a polygon.
+	 */
+	public static class Vertex {
+
+		/**
+		 * Position of the vertex.
+		 */
+		public final double x, y;
+
+		public Vertex(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		/**
+		 * Computes distance to another vertex.
+		 * @param other The other vertex.
+		 * @return Euclidean distance.
+		 */
+		public double distance(Vertex other) {
+			return Math.hypot(x - other.x, y - other.y);
+		}
+	}
+
+	/**
+	 * How vertices are ordered.
+	 */
+	public enum Winding {
+		/**
+		 * Clockwise order.
+		 */
+		CLOCKWISE,
+
+		/**
+		 * Counter-clockwise order.
+		 */
+		COUNTER_CLOCKWISE
+	}
+
+	private final List<Vertex> vertices;
+
+	private final Map<String, Number> attributes;
+
+	/**
+	 * Creates a polygon.
+	 * @param vertices Vertices, in order.
+	 */
+	public Polygon(List<Vertex> vertices) {
+		this.vertices = new ArrayList<>(vertices);
+		this.attributes = new HashMap<>();
+	}
+
+	/**
+	 * Creates a polygon from coordinate pairs.
+	 * @param coords x and y coordinates, one after another.
+	 */
+	public Polygon(double... coords) {
+		this(toVertices(coords));
+	}
+
+	private static List<Vertex> toVertices(double[] coords) {
+		List<Vertex> list = new ArrayList<>();
+		for (int i = 0; i + 1 < coords.length; i += 2) {
+			list.add(new Vertex(coords[i], coords[i + 1]));
+		}
+		return list;
+	}
+
+	/**
+	 * Moves this polygon by whole units. Vertices are moved, too.
+	 * @param dx Horizontal offset.
+	 * @param dy Vertical offset.
+	 */
+	@Override
+	public void move(int dx, int dy) {
+		super.move(dx, dy);
+		vertices.replaceAll(v -> new Vertex(v.x + dx, v.y + dy));
+	}
+
+	@Override
+	public double area() {
+		double sum = 0;
+		for (int i = 0; i < vertices.size(); i++) {
+			Vertex a = vertices.get(i);
+			Vertex b = vertices.get((i + 1) % vertices.size());
+			sum += a.x * b.y - b.x * a.y;
+		}
+		return Math.abs(sum) / 2;
+	}
+
+	@Override
+	public double perimeter() {
+		double sum = 0;
+		for (int i = 0; i < vertices.size(); i++) {
+			sum += vertices.get(i).distance(vertices.get((i + 1) % vertices.size()));
+		}
+		return sum;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends Shape> T scaled(double factor) {
+		List<Vertex> scaled = new ArrayList<>();
+		for (Vertex v : vertices) {
+			scaled.add(new Vertex(v.x * factor, v.y * factor));
+		}
+		return (T) new Polygon(scaled);
+	}
+
+	/**
+	 * Gets vertices of this polygon.
+	 * @return Vertices, in order.
+	 */
+	public List<Vertex> getVertices() {
+		return vertices;
+	}
+
+	/**
+	 * Gets numeric attributes of this polygon.
+	 * @return Attributes by name.
+	 */
+	public Map<String, ? extends Number> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Maps all vertices.
+	 * @param <R> Result type.
+	 * @param mapper Function to apply to each vertex.
+	 * @return Mapped values, in vertex order.
+	 */
+	public <R> List<R> mapVertices(Function<? super Vertex, ? extends R> mapper) {
+		List<R> result = new ArrayList<>();
+		for (Vertex v : vertices) {
+			result.add(mapper.apply(v));
+		}
+		return result;
+	}
+
+	/**
+	 * Figures out winding order of vertices.
+	 * @return Winding order.
+	 */
+	public Winding getWinding() {
+		return Winding.CLOCKWISE;
+	}
+
+	@Override
+	void invalidate() {
+		attributes.clear();
+	}
+}
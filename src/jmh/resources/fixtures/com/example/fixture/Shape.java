@@ -0,0 +1,48 @@
+package com.example.fixture;
+
+import java.util.List;
+
+/**
+ * A two-dimensional shape.
+ *
+ * <p>Shapes are <b>immutable</b>; methods such as {@link #scaled(double)}
+ * return new instances. Use {@code Shape.area()} to compare sizes.</p>
+ *
+ * <ul>
+ *   <li>Area and perimeter are always non-negative.</li>
+ *   <li>Coordinates are in {@code double} precision.</li>
+ * </ul>
+ */
+public interface Shape extends Comparable<Shape> {
+
+	/**
+	 * Computes area of this shape.
+	 * @return Area, in square units.
+	 */
+	double area();
+
+	/**
+	 * Computes perimeter of this shape.
+	 * @return Perimeter length.
+	 */
+	double perimeter();
+
+	/**
+	 * Creates a scaled copy of this shape.
+	 * @param <T> Type of the shape.
+	 * @param factor Scale factor, e.g. {@code 2.0} to double the size.
+	 * @return A new shape.
+	 */
+	<T extends Shape> T scaled(double factor);
+
+	/**
+	 * Gets names of tags attached to this shape.
+	 * @return Tag names.
+	 */
+	List<String> getTags();
+
+	@Override
+	default int compareTo(Shape other) {
+		return Double.compare(area(), other.area());
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.fixture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Shapes registered by keys.
+ *
+ * <p>This registry is <b>not</b> thread-safe. Lookups take {@code O(log n)}
+ * time, where {@code n} is number of {@link Shape shapes}.</p>
+ *
+ * @param <K> Key type.
+ * @param <V> Shape type.
+ */
+public class ShapeRegistry<K extends Comparable<K>, V extends Shape> {
+
+	private final Map<K, V> shapes = new TreeMap<>();
+
+	/**
+	 * Registers a shape.
+	 * @param key Key of the shape.
+	 * @param shape The shape.
+	 * @return Previous shape with same key, if any.
+	 */
+	public Optional<V> register(K key, V shape) {
+		return Optional.ofNullable(shapes.put(key, shape));
+	}
+
+	/**
+	 * Registers many shapes.
+	 * @param shapes Shapes by keys.
+	 */
+	public void registerAll(Map<? extends K, ? extends V> shapes) {
+		this.shapes.putAll(shapes);
+	}
+
+	/**
+	 * Gets a shape.
+	 * @param key Key of the shape.
+	 * @return The shape, or empty optional.
+	 */
+	public Optional<V> get(K key) {
+		return Optional.ofNullable(shapes.get(key));
+	}
+
+	/**
+	 * Gets shapes that match a filter.
+	 * @param filter The filter.
+	 * @return Matching shapes.
+	 */
+	public List<V> find(Predicate<? super V> filter) {
+		return shapes.values().stream().filter(filter).collect(Collectors.toList());
+	}
+
+	/**
+	 * Gets shapes with given keys.
+	 * @param keys Keys.
+	 * @return Shapes that were found.
+	 */
+	public List<V> find(Collection<K> keys) {
+		return keys.stream().map(shapes::get).collect(Collectors.toList());
+	}
+
+	/**
+	 * Combines all shapes into a single value.
+	 * @param <R> Result type.
+	 * @param identity Initial value.
+	 * @param combiner Combines previous result with a shape.
+	 * @return Combined value.
+	 */
+	public <R> R reduce(R identity, BiFunction<R, ? super V, R> combiner) {
+		R result = identity;
+		for (V shape : shapes.values()) {
+			result = combiner.apply(result, shape);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes total area of all shapes.
+	 * @return Total area.
+	 */
+	public double getTotalArea() {
+		return reduce(0.0, (sum, shape) -> sum + shape.area());
+	}
+
+	public int size() {
+		return shapes.size();
+	}
+
+	public Map<K, List<Polygon.Vertex>> getOutlines() {
+		return null;
+	}
+
+	public V[][] toGrid(int width) {
+		return null;
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.fixture;
+
+/**
+ * Visits shapes, e.g. for rendering them.
+ * @param <R> Result type.
+ */
+@FunctionalInterface
+public interface ShapeVisitor<R> {
+
+	/**
+	 * Visits a shape.
+	 * @param shape The shape.
+	 * @return Result of visiting it.
+	 */
+	R visit(Shape shape);
+}
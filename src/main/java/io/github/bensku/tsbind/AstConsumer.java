@@ -1,5 +1,7 @@
 package io.github.bensku.tsbind;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -31,6 +33,22 @@ public interface AstConsumer<T> {
 
 	}
 
+	/**
+	 * Result that is written directly to its destination as it is produced,
+	 * instead of being kept in memory as a whole.
+	 *
+	 */
+	@FunctionalInterface
+	interface StreamedResult {
+
+		/**
+		 * Writes this result.
+		 * @param out Where to write. Implementations should not close this.
+		 * @throws IOException When writing fails.
+		 */
+		void writeTo(WritableByteChannel out) throws IOException;
+	}
+
 	/**
 	 * Consumes types from given stream to produce zero or more results.
 	 * @param types Stream of types.
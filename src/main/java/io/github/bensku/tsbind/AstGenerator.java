@@ -5,7 +5,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
@@ -18,7 +21,9 @@ import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.EnumConstantDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
@@ -36,6 +41,7 @@ import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclar
 import com.github.javaparser.resolution.declarations.ResolvedValueDeclaration;
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 
+import io.github.bensku.tsbind.PhaseMetrics.Phase;
 import io.github.bensku.tsbind.ast.AstNode;
 import io.github.bensku.tsbind.ast.Constructor;
 import io.github.bensku.tsbind.ast.Field;
@@ -56,6 +62,12 @@ public class AstGenerator {
 
 	private final JavaParser parser;
 
+	/**
+	 * Known types for binding names without symbol resolution. If this is
+	 * null, JavaParser's symbol solver is used instead.
+	 */
+	private final TypeIndex typeIndex;
+
 	/**
 	 * Blacklisted type name fragments. Types that match any of these are never
 	 * emitted. All {@link Member members} that contain them are also ignored.
@@ -69,8 +81,70 @@ public class AstGenerator {
 
 	private boolean debugMatching;
 
-	public AstGenerator(JavaParser parser, List<String> blacklist, List<String> methodWhiteList, List<String> fieldWhiteList, boolean gettersAndSettersOff, boolean debugMatching) {
+	/**
+	 * Maximum time symbol resolution may take per source unit, in
+	 * nanoseconds. Zero if there is no limit.
+	 */
+	private long timeBudget;
+
+	/**
+	 * Used to bind names of source units that went over time budget.
+	 */
+	private TypeIndex fallbackIndex;
+
+	/**
+	 * When processing of current source unit must be cancelled. Static, so
+	 * that {@link TimeBudgetTypeSolver} can check it on every lookup.
+	 */
+	private static final ThreadLocal<Long> deadline = new ThreadLocal<>();
+
+	/**
+	 * Time spent on parsing and resolving types.
+	 */
+	private PhaseMetrics metrics = new PhaseMetrics();
+
+	/**
+	 * Records costs of individual types, or null if they're not profiled.
+	 */
+	private TypeProfiler profiler;
+
+	/**
+	 * Profiling entry of the type that is currently being processed.
+	 */
+	private final ThreadLocal<TypeProfiler.Entry> profile = new ThreadLocal<>();
+
+	/**
+	 * Cache of parsed source units, or null.
+	 */
+	private ParseCache parseCache;
+
+	/**
+	 * Result of the source unit that is currently being processed, if it
+	 * will be cached.
+	 */
+	private final ThreadLocal<ParseCache.Entry> pending = new ThreadLocal<>();
+
+	/**
+	 * Source units that went over time budget, mapped to time spent on them
+	 * before they were cancelled (in milliseconds).
+	 */
+	private final Map<String, Long> overBudget = new ConcurrentHashMap<>();
+
+	/**
+	 * Thrown when current source unit has used up its time budget.
+	 */
+	static class OverBudgetException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		OverBudgetException() {
+			super(null, null, false, false); // Control flow only, no need for stack trace
+		}
+	}
+
+	public AstGenerator(JavaParser parser, TypeIndex typeIndex, List<String> blacklist, List<String> methodWhiteList, List<String> fieldWhiteList, boolean gettersAndSettersOff, boolean debugMatching) {
 		this.parser = parser;
+		this.typeIndex = typeIndex;
 		this.blacklistPatterns = blacklist.stream().map(Pattern::compile).collect(Collectors.toList());
 		this.gettersAndSettersOff = gettersAndSettersOff;
 		this.methodWhiteListPatterns = methodWhiteList.stream().map(Pattern::compile).collect(Collectors.toList());
@@ -78,37 +152,222 @@ public class AstGenerator {
 		this.debugMatching = debugMatching;
 	}
 
+	/**
+	 * Limits time that symbol resolution may take per source unit. Units
+	 * that go over it are cancelled and retried by binding names with
+	 * imports, without resolving symbols. The budget is checked before each
+	 * member and, if the type solver is wrapped in
+	 * {@link TimeBudgetTypeSolver}, on every type lookup, so that a single
+	 * slow member is cut off too.
+	 * @param millis Time budget in milliseconds, or zero for no limit.
+	 * @param fallbackIndex Known types for the retry.
+	 */
+	public void setTimeBudget(long millis, TypeIndex fallbackIndex) {
+		this.timeBudget = TimeUnit.MILLISECONDS.toNanos(millis);
+		this.fallbackIndex = fallbackIndex;
+	}
+
+	/**
+	 * Sets where time spent on parsing and resolving is recorded.
+	 * @param metrics Metrics.
+	 */
+	public void setMetrics(PhaseMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Enables profiling of individual types.
+	 * @param profiler Where costs of types are recorded.
+	 */
+	public void setProfiler(TypeProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	/**
+	 * Enables caching of parsed source units.
+	 * @param parseCache Parse cache.
+	 */
+	public void setParseCache(ParseCache parseCache) {
+		this.parseCache = parseCache;
+	}
+
+	/**
+	 * Gets cache of parsed source units.
+	 * @return Parse cache, or null.
+	 */
+	public ParseCache getParseCache() {
+		return parseCache;
+	}
+
+	/**
+	 * Gets source units that were cancelled for going over time budget.
+	 * @return Names of source units mapped to milliseconds spent on them
+	 * before cancellation.
+	 */
+	public Map<String, Long> getOverBudget() {
+		return overBudget;
+	}
+
 	/**
 	 * Parses type AST from source code.
 	 * @param source Source unit (single Java file).
 	 * @return Parsed type or empty optional if it is not public.
 	 */
 	public Optional<TypeDefinition> parseType(SourceUnit source) {
+		if (parseCache == null) {
+			return parseUncached(source);
+		}
+		String key = parseCache.key(source);
+		ParseCache.Entry cached = parseCache.get(key, source.name);
+		if (cached != null) {
+			// Non-public types must be known even if they were parsed elsewhere
+			TypeIndex index = typeIndex != null ? typeIndex : fallbackIndex;
+			if (index != null) {
+				cached.nonPublicTypes.forEach(index::addNonPublicType);
+			}
+			return Optional.ofNullable(cached.type);
+		}
+
+		List<String> nonPublicTypes = new ArrayList<>();
+		pending.set(new ParseCache.Entry(null, nonPublicTypes));
+		Optional<TypeDefinition> type;
+		boolean cacheable;
+		try {
+			type = parseUncached(source);
+		} finally {
+			cacheable = pending.get().cacheable;
+			pending.remove();
+		}
+		if (cacheable) {
+			parseCache.put(key, source.name, new ParseCache.Entry(type.orElse(null), nonPublicTypes));
+		}
+		return type;
+	}
+
+	private Optional<TypeDefinition> parseUncached(SourceUnit source) {
 		// FIXME don't log errors here, CLI might not be only user in future
 
-		ParseResult<CompilationUnit> result = parser.parse(source.code);
+		long start = System.nanoTime();
+		ParseResult<CompilationUnit> result;
+		try (PhaseMetrics.Timer timer = metrics.start(Phase.PARSE)) {
+			result = parser.parse(source.code);
+		}
+		metrics.addItems(Phase.PARSE, 1);
+		long parseTime = System.nanoTime() - start;
 		if (!result.isSuccessful()) {
 			//throw new IllegalArgumentException("failed to parse given source code: " + result.getProblems());
 			System.err.println("failed to parse " + source.name + ": " + result.getProblems());
+			notCacheable(); // Print this again next time
 			return Optional.empty();
 		}
 		CompilationUnit unit = result.getResult().orElseThrow();
 		TypeDeclaration<?> type = unit.findFirst(TypeDeclaration.class).orElse(null);
 		if (type == null) {
 			System.err.println("no type declaration found in source unit: " + source.name);
+			notCacheable();
 			return Optional.empty();
 		}
 		if (type.getAccessSpecifier() == AccessSpecifier.PUBLIC) {
 			// SourceUnit lacks fully-qualified class name, so ask JavaParser to figure it out
 			String fqn = type.getFullyQualifiedName().orElseThrow();
-			try {
-				return processType(fqn, type);
-			} catch (UnsolvedSymbolException e) {
-				System.err.println("failed to resolve symbol " + e.getName() + " in " + source.name + "; omitting entire type!");
-				return Optional.empty();
+			TypeProfiler.Entry entry = null;
+			if (profiler != null) {
+				entry = profiler.entry(fqn);
+				entry.parseNanos += parseTime;
+				profile.set(entry);
+			}
+			long resolveStart = System.nanoTime();
+			try (PhaseMetrics.Timer timer = metrics.start(Phase.RESOLVE)) {
+				Optional<TypeDefinition> def = resolveType(source, unit, fqn, type, start);
+				metrics.addItems(Phase.RESOLVE, def.isPresent() ? 1 : 0);
+				return def;
+			} finally {
+				if (entry != null) {
+					entry.resolveNanos += System.nanoTime() - resolveStart;
+					profile.remove();
+				}
 			}
 		} else {
+			// Supertypes that refer to this must be removed later
+			type.getFullyQualifiedName().ifPresent(this::addNonPublicType);
+			return Optional.empty();
+		}
+	}
+
+	private Optional<TypeDefinition> resolveType(SourceUnit source, CompilationUnit unit, String fqn,
+			TypeDeclaration<?> type, long start) {
+		if (typeIndex != null) {
+			return bindType(source, unit, fqn, type, typeIndex);
+		}
+		if (timeBudget != 0) {
+			deadline.set(start + timeBudget);
+		}
+		try {
+			return processType(fqn, type, null);
+		} catch (UnsolvedSymbolException e) {
+			countUnsolved();
+			System.err.println("failed to resolve symbol " + e.getName() + " in " + source.name + "; omitting entire type!");
+			notCacheable();
 			return Optional.empty();
+		} catch (OverBudgetException e) {
+			deadline.remove(); // No limit for the retry, it is fast enough
+			long spent = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			overBudget.put(source.name, spent);
+			System.err.println("resolving symbols in " + source.name + " took over " + spent
+					+ " ms; retrying without symbol resolution");
+			notCacheable(); // Depends on how busy we are
+			return bindType(source, unit, fqn, type, fallbackIndex);
+		} finally {
+			deadline.remove();
+		}
+	}
+
+	private Optional<TypeDefinition> bindType(SourceUnit source, CompilationUnit unit, String fqn,
+			TypeDeclaration<?> type, TypeIndex index) {
+		// Bind names using imports; nothing can be left out due to missing symbols
+		NameBinder binder = new NameBinder(unit, index);
+		Optional<TypeDefinition> def = processType(fqn, type, binder);
+		if (!binder.unresolved().isEmpty()) {
+			System.err.println("unresolved type names " + binder.unresolved() + " in " + source.name
+					+ "; using java.lang.Object for them");
+		}
+		return def;
+	}
+
+	private void addNonPublicType(String name) {
+		TypeIndex index = typeIndex != null ? typeIndex : fallbackIndex;
+		if (index != null) {
+			index.addNonPublicType(name);
+		}
+		ParseCache.Entry entry = pending.get();
+		if (entry != null) {
+			entry.nonPublicTypes.add(name);
+		}
+	}
+
+	private void notCacheable() {
+		ParseCache.Entry entry = pending.get();
+		if (entry != null) {
+			entry.cacheable = false;
+		}
+	}
+
+	private void countUnsolved() {
+		TypeProfiler.Entry entry = profile.get();
+		if (entry != null) {
+			entry.unsolvedSymbols++;
+		}
+	}
+
+	/**
+	 * Cancels processing of current source unit if it has used up its
+	 * time budget.
+	 * @throws OverBudgetException When over time budget.
+	 */
+	static void checkTimeBudget() {
+		Long end = deadline.get();
+		if (end != null && System.nanoTime() - end > 0) {
+			throw new OverBudgetException();
 		}
 	}
 
@@ -122,6 +381,19 @@ public class AstGenerator {
 		return params;
 	}
 
+	private List<Parameter> getParameters(CallableDeclaration<?> method, Boolean[] nullable, NameBinder binder) {
+		List<Parameter> params = new ArrayList<>(method.getParameters().size());
+		for (int i = 0; i < method.getParameters().size(); i++) {
+			com.github.javaparser.ast.body.Parameter param = method.getParameter(i);
+			TypeRef type = binder.resolve(param.getType());
+			if (param.isVarArgs()) {
+				type = type.makeArray(1); // Resolved types of varargs are arrays, too
+			}
+			params.add(new Parameter(param.getNameAsString(), nullable[i] ? TypeRef.nullable(type) : type, param.isVarArgs()));
+		}
+		return params;
+	}
+
 	private String getJavadoc(Node node) {
 		return node.getComment().map(comment -> {
 			if (comment.isJavadocComment()) {
@@ -136,7 +408,7 @@ public class AstGenerator {
 	 * @param node Member to check.
 	 * @return Whether the member should be omitted.
 	 */
-	private boolean isBlacklisted(AstNode node, String typeName, String prefix) {
+	boolean isBlacklisted(AstNode node, String typeName, String prefix) {
 		// If this is a type reference or declaration, check if it is blacklisted
 		if (node instanceof TypeRef || node instanceof TypeDefinition) {
 			TypeRef ref = node instanceof TypeDefinition ? ((TypeDefinition) node).ref : (TypeRef) node;
@@ -209,20 +481,29 @@ public class AstGenerator {
 
 	private void processMember(String typeName, TypeDeclaration<?> type, TypeDefinition.Kind typeKind,
 			Set<String> privateOverrides, boolean lombokGetter, boolean lombokSetter,
-			BodyDeclaration<?> member, Consumer<Member> addMember) {
+			BodyDeclaration<?> member, Consumer<Member> addMember, NameBinder binder) {
+		checkTimeBudget();
+		TypeProfiler.Entry entry = profile.get();
+		if (entry != null) {
+			entry.members++;
+		}
 		boolean isPublic = isPublic(type, member);
 		if (member.isFieldDeclaration()) {
 			// Even private fields may need Lombok getter/setter
 			try {
-				processField(addMember, member.asFieldDeclaration(), typeKind == TypeDefinition.Kind.INTERFACE, isPublic, lombokGetter, lombokSetter, typeName);
+				processField(addMember, member.asFieldDeclaration(), typeKind == TypeDefinition.Kind.INTERFACE, isPublic, lombokGetter, lombokSetter, typeName, binder);
 			} catch (UnsolvedSymbolException e) {
 				// Allow symbol lookup to fail on private fields
 				if (isPublic) {
 					throw e;
 				}
+				countUnsolved();
 			}
 		}
 		if (!isPublic) {
+			if (member.isTypeDeclaration()) {
+				addNonPublicType(typeName + "." + member.asTypeDeclaration().getNameAsString());
+			}
 			// For now, only private fields are needed
 			// Work as if other non-public members did not exist
 			return; // Neither implicitly or explicitly public
@@ -232,23 +513,30 @@ public class AstGenerator {
 		if (member.isTypeDeclaration()) {
 			// Recursively process an inner type
 			TypeDeclaration<?> inner = member.asTypeDeclaration();
-			processType(typeName + "." + inner.getNameAsString(), inner).ifPresent(addMember);
+			processType(typeName + "." + inner.getNameAsString(), inner, binder).ifPresent(addMember);
 		} else if (member.isConstructorDeclaration()) {
-			ResolvedConstructorDeclaration constructor = member.asConstructorDeclaration().resolve();
 			Boolean[] nullable = member.asConstructorDeclaration().getParameters().stream()
 					.map(param -> param.isAnnotationPresent("Nullable")).toArray(Boolean[]::new);
 			// Constructor might be generic, but AFAIK TypeScript doesn't support that
 			// (constructors of generic classes are, of course, supported)
 			// Private constructors are not yet needed, so they won't exist
-			addMember.accept(new Constructor(constructor.getName(), getParameters(constructor, nullable), getJavadoc(member), true, typeName));
+			if (binder != null) {
+				ConstructorDeclaration constructor = member.asConstructorDeclaration();
+				addMember.accept(new Constructor(constructor.getNameAsString(), getParameters(constructor, nullable, binder),
+						getJavadoc(member), true, typeName));
+			} else {
+				ResolvedConstructorDeclaration constructor = member.asConstructorDeclaration().resolve();
+				addMember.accept(new Constructor(constructor.getName(), getParameters(constructor, nullable), getJavadoc(member), true, typeName));
+			}
 		} else if (member.isMethodDeclaration()) {
-			addMember.accept(processMethod(member.asMethodDeclaration(), privateOverrides, typeName));
+			addMember.accept(processMethod(member.asMethodDeclaration(), privateOverrides, typeName, binder));
 		}
 	}
 
-	private Optional<TypeDefinition> processType(String typeName, TypeDeclaration<?> type) {
-		ResolvedReferenceTypeDeclaration resolved = type.resolve();
-		TypeRef typeRef = TypeRef.fromDeclaration(typeName, resolved);
+	private Optional<TypeDefinition> processType(String typeName, TypeDeclaration<?> type, NameBinder binder) {
+		checkTimeBudget();
+		TypeRef typeRef = binder != null ? binder.declaredType(typeName, type)
+				: TypeRef.fromDeclaration(typeName, type.resolve());
 		List<Member> members = new ArrayList<>();
 
 		// Create a lambda to support filtering members before they're added
@@ -284,24 +572,37 @@ public class AstGenerator {
 			typeKind = decl.isInterface() ? TypeDefinition.Kind.INTERFACE : TypeDefinition.Kind.CLASS;
 			if (typeKind == TypeDefinition.Kind.INTERFACE) {
 				// Make interface functional if annotated as such
-				if (type.resolve().hasAnnotation("FunctionalInterface")) {
+				if (binder != null ? binder.hasAnnotation(type, "FunctionalInterface")
+						: type.resolve().hasAnnotation("FunctionalInterface")) {
 					typeKind = TypeDefinition.Kind.FUNCTIONAL_INTERFACE;
 				}
 			}
 
-			PublicFilterResult extendedResult = filterPublicTypes(decl.getExtendedTypes());
-			PublicFilterResult implementedResult = filterPublicTypes(decl.getImplementedTypes());
-			superTypes = extendedResult.publicTypes.stream()
-					.map(TypeRef::fromType)
-					.filter(t -> !isBlacklisted(t, typeName, ""))
-					.collect(Collectors.toList());
-			interfaces = implementedResult.publicTypes.stream()
-					.map(TypeRef::fromType)
-					.filter(t -> !isBlacklisted(t, typeName, ""))
-					.collect(Collectors.toList());
-
-			extendedResult.privateTypes.forEach(t -> privateOverrides.addAll(getAllMethods(t)));
-			implementedResult.privateTypes.forEach(t -> privateOverrides.addAll(getAllMethods(t)));
+			if (binder != null) {
+				// Without symbols, we can't know if supertypes are public; assume that they are
+				superTypes = decl.getExtendedTypes().stream()
+						.map(binder::resolve)
+						.filter(t -> !isBlacklisted(t, typeName, ""))
+						.collect(Collectors.toList());
+				interfaces = decl.getImplementedTypes().stream()
+						.map(binder::resolve)
+						.filter(t -> !isBlacklisted(t, typeName, ""))
+						.collect(Collectors.toList());
+			} else {
+				PublicFilterResult extendedResult = filterPublicTypes(decl.getExtendedTypes());
+				PublicFilterResult implementedResult = filterPublicTypes(decl.getImplementedTypes());
+				superTypes = extendedResult.publicTypes.stream()
+						.map(TypeRef::fromType)
+						.filter(t -> !isBlacklisted(t, typeName, ""))
+						.collect(Collectors.toList());
+				interfaces = implementedResult.publicTypes.stream()
+						.map(TypeRef::fromType)
+						.filter(t -> !isBlacklisted(t, typeName, ""))
+						.collect(Collectors.toList());
+
+				extendedResult.privateTypes.forEach(t -> privateOverrides.addAll(getAllMethods(t)));
+				implementedResult.privateTypes.forEach(t -> privateOverrides.addAll(getAllMethods(t)));
+			}
 		} else if (type.isEnumDeclaration()) {
 			typeKind = TypeDefinition.Kind.ENUM;
 			superTypes = List.of(TypeRef.enumSuperClass(typeRef));
@@ -320,8 +621,9 @@ public class AstGenerator {
 		for (BodyDeclaration<?> member : type.getMembers()) {
 			try {
 				processMember(typeName, type, typeKind, privateOverrides,
-						lombokGetter, lombokSetter, member, addMember);
+						lombokGetter, lombokSetter, member, addMember, binder);
 			} catch (UnsolvedSymbolException e) {
+				countUnsolved();
 				System.out.println("unresolved symbol " + e.getName() + " in " + typeName + "; omitting member");
 			}
 		}
@@ -394,7 +696,7 @@ public class AstGenerator {
 	}
 
 	private boolean isPublic(TypeDeclaration<?> type, BodyDeclaration<?> member) {
-		// JPMS is ignored for now, would need to parse module infos for that
+		// JPMS is handled when reading sources; packages that modules don't export are never parsed
 		AccessSpecifier access = (member instanceof NodeWithModifiers<?>)
 				? ((NodeWithModifiers<?>) member).getAccessSpecifier() : AccessSpecifier.PACKAGE_PRIVATE;
 		// Members specified as public are ALWAYS public
@@ -422,72 +724,98 @@ public class AstGenerator {
 		return false;
 	}
 
-	private Method processMethod(MethodDeclaration member, Set<String> privateOverrides, String typeName) {
+	private Method processMethod(MethodDeclaration member, Set<String> privateOverrides, String typeName, NameBinder binder) {
 		boolean isPublic = true; // Private methods are not yet needed, so they won't exist
 
-		ResolvedMethodDeclaration method = member.asMethodDeclaration().resolve();
 		boolean nullableReturn = member.isAnnotationPresent("Nullable");
 		Boolean[] nullableParams = member.getParameters().stream()
 				.map(param -> param.isAnnotationPresent("Nullable")).toArray(Boolean[]::new);
 
-		String name = method.getName();
-		TypeRef returnType = TypeRef.fromType(method.getReturnType(), nullableReturn);
+		String name;
+		TypeRef returnType;
+		List<Parameter> params;
+		List<TypeRef> typeParams;
+		boolean isStatic;
+		if (binder != null) {
+			name = member.getNameAsString();
+			returnType = binder.resolve(member.getType(), nullableReturn);
+			params = getParameters(member, nullableParams, binder);
+			typeParams = member.getTypeParameters().stream()
+					.map(param -> TypeRef.fromName(param.getNameAsString(), List.of()))
+					.collect(Collectors.toList());
+			isStatic = member.isStatic();
+		} else {
+			ResolvedMethodDeclaration method = member.asMethodDeclaration().resolve();
+			name = method.getName();
+			returnType = TypeRef.fromType(method.getReturnType(), nullableReturn);
+			params = getParameters(method, nullableParams);
+			typeParams = method.getTypeParameters().stream().map(TypeRef::fromDeclaration).collect(Collectors.toList());
+			isStatic = method.isStatic();
+		}
 		String methodDoc = getJavadoc(member);
 		boolean override = !privateOverrides.contains(name) && member.getAnnotationByClass(Override.class).isPresent();
 		// boolean getters and setters are kept as regular methods to prevent confusing naming
 		if (!gettersAndSettersOff && name.length() > 3 && name.startsWith("get") && returnType != TypeRef.VOID
-				&& returnType != TypeRef.BOOLEAN && method.getNumberOfParams() == 0
-				&& method.getTypeParameters().isEmpty()) {
+				&& returnType != TypeRef.BOOLEAN && params.isEmpty()
+				&& typeParams.isEmpty()) {
 			// GraalJS will make this getter work, somehow
-			return new Getter(name, returnType, methodDoc, isPublic, method.isStatic(), override, typeName);
-		} else if (!gettersAndSettersOff && name.length() > 3 && name.startsWith("set") && method.getNumberOfParams() == 1
-				&& TypeRef.fromType(method.getParam(0).getType()) != TypeRef.BOOLEAN
-				&& method.getTypeParameters().isEmpty()) {
+			return new Getter(name, returnType, methodDoc, isPublic, isStatic, override, typeName);
+		} else if (!gettersAndSettersOff && name.length() > 3 && name.startsWith("set") && params.size() == 1
+				&& nonNullable(params.get(0).type) != TypeRef.BOOLEAN
+				&& typeParams.isEmpty()) {
 			// GraalJS will make this setter work, somehow
-			return new Setter(name, TypeRef.fromType(method.getParam(0).getType(),
-					nullableParams[0]), methodDoc, isPublic, method.isStatic(), override, typeName);
+			return new Setter(name, params.get(0).type, methodDoc, isPublic, isStatic, override, typeName);
 		} else { // Normal method
-			// Resolve type parameters and add to member list
-			return new Method(name, returnType, getParameters(method, nullableParams),
-					method.getTypeParameters().stream().map(TypeRef::fromDeclaration).collect(Collectors.toList()),
-					methodDoc, isPublic, method.isStatic(), override, typeName);
+			return new Method(name, returnType, params, typeParams, methodDoc, isPublic, isStatic, override, typeName);
 		}
 	}
 
+	private static TypeRef nonNullable(TypeRef type) {
+		return type instanceof TypeRef.Nullable ? ((TypeRef.Nullable) type).nullableType() : type;
+	}
+
 	private void processField(Consumer<Member> addMember, FieldDeclaration member, boolean isInterface,
-			boolean isPublic, boolean lombokGetter, boolean lombokSetter, String typeName) {
+			boolean isPublic, boolean lombokGetter, boolean lombokSetter, String typeName, NameBinder binder) {
 		FieldDeclaration field = member.asFieldDeclaration();
 		boolean nullable = field.isAnnotationPresent("Nullable");
 		NodeList<VariableDeclarator> vars = field.getVariables();
 		boolean isStatic = !isInterface && field.isStatic();
 		boolean isFinal = !isInterface && field.isFinal();
-		if (vars.size() == 1) {
-			FieldProps props = new FieldProps(field.resolve(), getJavadoc(member),
-					nullable, isPublic, isStatic, isFinal, lombokGetter, lombokSetter);
+		if (binder != null) {
+			for (VariableDeclarator var : vars) {
+				FieldProps props = new FieldProps(var.getNameAsString(), binder.resolve(var.getType(), nullable),
+						getJavadoc(member), isPublic, isStatic, isFinal, lombokGetter, lombokSetter);
+				processFieldValue(addMember, props, typeName);
+			}
+		} else if (vars.size() == 1) {
+			ResolvedValueDeclaration value = field.resolve();
+			FieldProps props = new FieldProps(value.getName(), TypeRef.fromType(value.getType(), nullable),
+					getJavadoc(member), isPublic, isStatic, isFinal, lombokGetter, lombokSetter);
 			processFieldValue(addMember, props, typeName);
 		} else { // Symbol solver can't resolve this for us
 			for (VariableDeclarator var : vars) {
-				FieldProps props = new FieldProps(var.resolve(), getJavadoc(member),
-						nullable, isPublic, isStatic, isFinal, lombokGetter, lombokSetter);
+				ResolvedValueDeclaration value = var.resolve();
+				FieldProps props = new FieldProps(value.getName(), TypeRef.fromType(value.getType(), nullable),
+						getJavadoc(member), isPublic, isStatic, isFinal, lombokGetter, lombokSetter);
 				processFieldValue(addMember, props, typeName);
 			}
 		}
 	}
 
 	private class FieldProps {
-		ResolvedValueDeclaration value;
+		String name;
+		TypeRef type;
 		String javadoc;
-		boolean nullable;
 		boolean isPublic;
 		boolean isStatic;
 		boolean isFinal;
 		boolean lombokGetter, lombokSetter;
 
-		FieldProps(ResolvedValueDeclaration value, String javadoc, boolean nullable, boolean isPublic,
+		FieldProps(String name, TypeRef type, String javadoc, boolean isPublic,
 				boolean isStatic, boolean isFinal, boolean lombokGetter, boolean lombokSetter) {
-			this.value = value;
+			this.name = name;
+			this.type = type;
 			this.javadoc = javadoc;
-			this.nullable = nullable;
 			this.isPublic = isPublic;
 			this.isStatic = isStatic;
 			this.isFinal = isFinal;
@@ -497,17 +825,16 @@ public class AstGenerator {
 	}
 
 	private void processFieldValue(Consumer<Member> addMember, FieldProps props, String typeName) {
-		TypeRef type = TypeRef.fromType(props.value.getType(), props.nullable);
 		// Add normal field to AST
-		addMember.accept(new Field(props.value.getName(), type, props.javadoc,
+		addMember.accept(new Field(props.name, props.type, props.javadoc,
 				props.isPublic, props.isStatic, props.isFinal));
 
 		// Generate public getter/setter pair for field (Lombok)
 		if (props.lombokGetter) {
-			addMember.accept(new Getter(props.value.getName(), type, props.javadoc, true, props.isStatic, false, typeName));
+			addMember.accept(new Getter(props.name, props.type, props.javadoc, true, props.isStatic, false, typeName));
 		}
 		if (props.lombokSetter) {
-			addMember.accept(new Setter(props.value.getName(), type, props.javadoc, true, props.isStatic, false, typeName));
+			addMember.accept(new Setter(props.name, props.type, props.javadoc, true, props.isStatic, false, typeName));
 		}
 	}
 
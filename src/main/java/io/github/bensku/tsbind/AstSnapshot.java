@@ -0,0 +1,494 @@
+package io.github.bensku.tsbind;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.github.bensku.tsbind.ast.Constructor;
+import io.github.bensku.tsbind.ast.Field;
+import io.github.bensku.tsbind.ast.Getter;
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.Method;
+import io.github.bensku.tsbind.ast.Parameter;
+import io.github.bensku.tsbind.ast.Setter;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.ast.TypeRef;
+
+/**
+ * Dumps AST to a compact binary snapshot that can be read back. Strings
+ * and type references are written once, where they are first used; later
+ * uses refer to them by index. Equal type references are thus shared by
+ * everything that uses them after reading.
+ *
+ * Snapshots can carry a label, e.g. {@code jdk-16}, so that prebuilt ones
+ * can be told apart when they are linked to other runs.
+ *
+ */
+public class AstSnapshot implements StreamingAstConsumer {
+
+	private static final byte[] MAGIC = { 'T', 'S', 'B', 'A' };
+
+	static final int VERSION = 1;
+
+	// Type reference tags
+	private static final int SIMPLE = 0;
+	private static final int WILDCARD = 1;
+	private static final int PARAMETRIZED = 2;
+	private static final int ARRAY = 3;
+	private static final int NULLABLE = 4;
+
+	// Member tags
+	private static final int TYPE = 0;
+	private static final int FIELD = 1;
+	private static final int METHOD = 2;
+	private static final int CONSTRUCTOR = 3;
+	private static final int GETTER = 4;
+	private static final int SETTER = 5;
+
+	/**
+	 * Index that precedes a string or type reference that is written for
+	 * the first time. For strings, 0 is null and this is 1.
+	 */
+	private static final int NEW_REF = 0;
+	private static final int NEW_STRING = 1;
+
+	/**
+	 * Label written to snapshot header, or null.
+	 */
+	private final String label;
+
+	public AstSnapshot() {
+		this(null);
+	}
+
+	/**
+	 * Creates a snapshot writer.
+	 * @param label Label of snapshots, or null. Labeled snapshots are named
+	 * after the label.
+	 */
+	public AstSnapshot(String label) {
+		this.label = label;
+	}
+
+	@Override
+	public String resultName() {
+		return label != null ? label + ".ast" : "dump.ast";
+	}
+
+	@Override
+	public TypeStream open(WritableByteChannel out) throws IOException {
+		Writer writer = new Writer(out);
+		writer.buf.writeBytes(MAGIC);
+		writer.buf.writeVarInt(VERSION);
+		byte[] labelBytes = (label != null ? label : "").getBytes(StandardCharsets.UTF_8);
+		writer.buf.writeVarInt(labelBytes.length);
+		writer.buf.writeBytes(labelBytes);
+		return writer;
+	}
+
+	/**
+	 * Checks if a file is a snapshot.
+	 * @param file File to check.
+	 * @return Whether it is a snapshot.
+	 * @throws IOException When reading fails.
+	 */
+	public static boolean isSnapshot(Path file) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		try (InputStream in = Files.newInputStream(file)) {
+			return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+		}
+	}
+
+	/**
+	 * Reads types from a snapshot.
+	 * @param file Snapshot file.
+	 * @return Types by their fully qualified names.
+	 * @throws IOException When reading fails.
+	 */
+	public static Map<String, TypeDefinition> read(Path file) throws IOException {
+		Map<String, TypeDefinition> types = new TreeMap<>();
+		read(file, types);
+		return types;
+	}
+
+	/**
+	 * Reads types from a snapshot to a map, one at a time.
+	 * @param file Snapshot file.
+	 * @param types Where to put types by their fully qualified names.
+	 * @throws IOException When reading fails.
+	 */
+	public static void read(Path file, Map<String, TypeDefinition> types) throws IOException {
+		Reader reader = new Reader(ByteBuffer.wrap(Files.readAllBytes(file)));
+		reader.readHeader();
+		reader.read(types);
+	}
+
+	/**
+	 * Encodes a single type without snapshot header. Strings and type
+	 * references are not shared with other encoded types.
+	 * @param type Type to encode.
+	 * @return Encoded type.
+	 */
+	public static byte[] encode(TypeDefinition type) {
+		Writer writer = new Writer(null);
+		writer.writeMember(type);
+		return writer.buf.toByteArray();
+	}
+
+	/**
+	 * Decodes a type encoded with {@link #encode(TypeDefinition)}.
+	 * @param in Encoded type. Its position is moved past the type.
+	 * @return Decoded type.
+	 */
+	public static TypeDefinition decode(ByteBuffer in) {
+		return (TypeDefinition) new Reader(in).readMember();
+	}
+
+	/**
+	 * Reads label of a snapshot.
+	 * @param file Snapshot file.
+	 * @return Label, or null if the snapshot has none.
+	 * @throws IOException When reading fails.
+	 */
+	public static String label(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			// Labels are short, so the whole header fits in this
+			return new Reader(ByteBuffer.wrap(in.readNBytes(4096))).readHeader();
+		}
+	}
+
+	private static class Output extends ByteArrayOutputStream {
+
+		void writeVarInt(int value) {
+			while ((value & ~0x7f) != 0) {
+				write((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			write(value);
+		}
+
+		void writeBoolean(boolean value) {
+			write(value ? 1 : 0);
+		}
+	}
+
+	private static class Writer implements TypeStream {
+
+		private final WritableByteChannel out;
+
+		/**
+		 * Type being written. It is flushed to output after each type.
+		 */
+		private final Output buf = new Output();
+
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		private final Map<TypeRef, Integer> refs = new HashMap<>();
+
+		Writer(WritableByteChannel out) {
+			this.out = out;
+		}
+
+		@Override
+		public void accept(TypeDefinition type) throws IOException {
+			buf.writeBoolean(true); // More types follow
+			writeMember(type);
+			flush();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			buf.writeBoolean(false);
+			flush();
+		}
+
+		private void flush() throws IOException {
+			ByteBuffer bytes = ByteBuffer.wrap(buf.toByteArray());
+			while (bytes.hasRemaining()) {
+				out.write(bytes);
+			}
+			buf.reset();
+		}
+
+		private void writeString(String value) {
+			if (value == null) {
+				buf.writeVarInt(0);
+				return;
+			}
+			Integer index = strings.get(value);
+			if (index != null) {
+				buf.writeVarInt(index + 2);
+			} else {
+				strings.put(value, strings.size());
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				buf.writeVarInt(NEW_STRING);
+				buf.writeVarInt(bytes.length);
+				buf.writeBytes(bytes);
+			}
+		}
+
+		private void writeRef(TypeRef ref) {
+			Integer index = refs.get(ref);
+			if (index != null) {
+				buf.writeVarInt(index + 1);
+				return;
+			}
+			// Components are defined before types that use them
+			buf.writeVarInt(NEW_REF);
+			if (ref instanceof TypeRef.Simple) {
+				buf.write(SIMPLE);
+				writeString(ref.name());
+			} else if (ref instanceof TypeRef.Wildcard) {
+				buf.write(WILDCARD);
+				writeRef(((TypeRef.Wildcard) ref).extendedType());
+			} else if (ref instanceof TypeRef.Parametrized) {
+				buf.write(PARAMETRIZED);
+				writeRef(ref.baseType());
+				writeRefs(((TypeRef.Parametrized) ref).typeParams());
+			} else if (ref instanceof TypeRef.Array) {
+				buf.write(ARRAY);
+				writeRef(((TypeRef.Array) ref).componentType());
+				buf.writeVarInt(ref.arrayDimensions());
+			} else if (ref instanceof TypeRef.Nullable) {
+				buf.write(NULLABLE);
+				writeRef(((TypeRef.Nullable) ref).nullableType());
+			} else {
+				throw new AssertionError("unexpected type: " + ref);
+			}
+			refs.put(ref, refs.size());
+		}
+
+		private void writeRefs(List<TypeRef> list) {
+			buf.writeVarInt(list.size());
+			for (TypeRef ref : list) {
+				writeRef(ref);
+			}
+		}
+
+		private void writeMember(Member member) {
+			if (member instanceof TypeDefinition) {
+				TypeDefinition type = (TypeDefinition) member;
+				buf.write(TYPE);
+				writeString(type.javadoc.orElse(null));
+				buf.writeBoolean(type.isStatic);
+				writeRef(type.ref);
+				buf.write(type.kind.ordinal());
+				buf.writeBoolean(type.isAbstract);
+				writeRefs(type.superTypes);
+				writeRefs(type.interfaces);
+				buf.writeVarInt(type.members.size());
+				for (Member inner : type.members) {
+					writeMember(inner);
+				}
+			} else if (member instanceof Field) {
+				Field field = (Field) member;
+				buf.write(FIELD);
+				writeString(field.javadoc.orElse(null));
+				buf.writeBoolean(field.isPublic);
+				buf.writeBoolean(field.isStatic);
+				writeString(field.name);
+				writeRef(field.type);
+				buf.writeBoolean(field.isFinal);
+			} else if (member instanceof Method) {
+				Method method = (Method) member;
+				if (method instanceof Constructor) {
+					buf.write(CONSTRUCTOR);
+				} else if (method instanceof Getter) {
+					buf.write(GETTER);
+				} else if (method instanceof Setter) {
+					buf.write(SETTER);
+				} else {
+					buf.write(METHOD);
+				}
+				writeString(method.javadoc.orElse(null));
+				buf.writeBoolean(method.isPublic);
+				buf.writeBoolean(method.isStatic);
+				// Getters and setters derive their names from original names
+				writeString(method.originalName());
+				writeRef(method.returnType);
+				buf.writeVarInt(method.params.size());
+				for (Parameter param : method.params) {
+					writeString(param.name);
+					writeRef(param.type);
+					buf.writeBoolean(param.varargs);
+				}
+				writeRefs(method.typeParams);
+				buf.writeBoolean(method.isOverride);
+				writeString(method.typeName);
+			} else {
+				throw new AssertionError("unexpected member: " + member);
+			}
+		}
+	}
+
+	private static class Reader {
+
+		private final ByteBuffer in;
+
+		private final List<String> strings = new ArrayList<>();
+
+		private final List<TypeRef> refs = new ArrayList<>();
+
+		private final TypeDefinition.Kind[] kinds = TypeDefinition.Kind.values();
+
+		Reader(ByteBuffer in) {
+			this.in = in;
+		}
+
+		/**
+		 * Reads and checks snapshot header.
+		 * @return Label of snapshot, or null.
+		 */
+		String readHeader() {
+			byte[] magic = new byte[MAGIC.length];
+			in.get(magic);
+			if (!Arrays.equals(magic, MAGIC)) {
+				throw new IllegalArgumentException("not an AST snapshot");
+			}
+			int version = readVarInt();
+			if (version != VERSION) {
+				throw new IllegalArgumentException("unsupported AST snapshot version " + version);
+			}
+			byte[] label = new byte[readVarInt()];
+			in.get(label);
+			return label.length > 0 ? new String(label, StandardCharsets.UTF_8) : null;
+		}
+
+		void read(Map<String, TypeDefinition> types) {
+			while (readBoolean()) {
+				TypeDefinition type = (TypeDefinition) readMember();
+				types.put(type.name(), type);
+			}
+		}
+
+		private int readVarInt() {
+			int value = 0;
+			for (int shift = 0;; shift += 7) {
+				byte b = in.get();
+				value |= (b & 0x7f) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+		}
+
+		private boolean readBoolean() {
+			return in.get() != 0;
+		}
+
+		private String readString() {
+			int index = readVarInt();
+			if (index == 0) {
+				return null;
+			} else if (index == NEW_STRING) {
+				byte[] bytes = new byte[readVarInt()];
+				in.get(bytes);
+				String value = new String(bytes, StandardCharsets.UTF_8);
+				strings.add(value);
+				return value;
+			} else {
+				return strings.get(index - 2);
+			}
+		}
+
+		private List<TypeRef> readRefs() {
+			int count = readVarInt();
+			List<TypeRef> list = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				list.add(readRef());
+			}
+			return list;
+		}
+
+		private TypeRef readRef() {
+			int index = readVarInt();
+			if (index != NEW_REF) {
+				return refs.get(index - 1);
+			}
+			TypeRef ref;
+			int tag = in.get();
+			switch (tag) {
+			case SIMPLE:
+				ref = TypeRef.byName(readString());
+				break;
+			case WILDCARD:
+				ref = TypeRef.wildcard(readRef());
+				break;
+			case PARAMETRIZED:
+				TypeRef base = readRef();
+				ref = TypeRef.fromName(base.name(), readRefs());
+				break;
+			case ARRAY:
+				ref = readRef().makeArray(readVarInt());
+				break;
+			case NULLABLE:
+				ref = TypeRef.nullable(readRef());
+				break;
+			default:
+				throw new IllegalArgumentException("corrupted AST snapshot, unknown type tag " + tag);
+			}
+			refs.add(ref);
+			return ref;
+		}
+
+		private Member readMember() {
+			int tag = in.get();
+			String javadoc = readString();
+			if (tag == TYPE) {
+				boolean isStatic = readBoolean();
+				TypeRef ref = readRef();
+				TypeDefinition.Kind kind = kinds[in.get()];
+				boolean isAbstract = readBoolean();
+				List<TypeRef> superTypes = readRefs();
+				List<TypeRef> interfaces = readRefs();
+				int count = readVarInt();
+				List<Member> members = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					members.add(readMember());
+				}
+				return new TypeDefinition(javadoc, isStatic, ref, kind, isAbstract, superTypes, interfaces, members);
+			}
+			boolean isPublic = readBoolean();
+			boolean isStatic = readBoolean();
+			String name = readString();
+			if (tag == FIELD) {
+				TypeRef type = readRef();
+				return new Field(name, type, javadoc, isPublic, isStatic, readBoolean());
+			}
+			TypeRef returnType = readRef();
+			int paramCount = readVarInt();
+			List<Parameter> params = new ArrayList<>(paramCount);
+			for (int i = 0; i < paramCount; i++) {
+				params.add(new Parameter(readString(), readRef(), readBoolean()));
+			}
+			List<TypeRef> typeParams = readRefs();
+			boolean isOverride = readBoolean();
+			String typeName = readString();
+			switch (tag) {
+			case METHOD:
+				return new Method(name, returnType, params, typeParams, javadoc, isPublic, isStatic, isOverride, typeName);
+			case CONSTRUCTOR:
+				return new Constructor(name, params, javadoc, isPublic, typeName);
+			case GETTER:
+				return new Getter(name, returnType, javadoc, isPublic, isStatic, isOverride, typeName);
+			case SETTER:
+				return new Setter(name, params.get(0).type, javadoc, isPublic, isStatic, isOverride, typeName);
+			default:
+				throw new IllegalArgumentException("corrupted AST snapshot, unknown member tag " + tag);
+			}
+		}
+	}
+}
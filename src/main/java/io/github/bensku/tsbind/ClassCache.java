@@ -0,0 +1,146 @@
+package io.github.bensku.tsbind;
+
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+
+/**
+ * Size-bounded cache of classes read by javassist class pools. A class pool
+ * normally keeps every class it has read until it is discarded, which
+ * adds up when type solvers live long or share pools. Pools created by
+ * this cache share it, and least recently used classes are evicted from
+ * all of them.
+ *
+ * Classes are weighed by sizes of their class files. Only these classes
+ * are bounded; declarations that symbol solvers create from them, parsed
+ * sources and caches of JavaParser itself are not.
+ *
+ * Evicted classes are read again when needed. Declarations that still use
+ * them keep working.
+ *
+ */
+public class ClassCache {
+
+	/**
+	 * Heap used by a class read from a class file, relative to size of the
+	 * file. Measured from classes of java.base that were read and turned
+	 * to declarations.
+	 */
+	private static final int HEAP_PER_FILE_BYTE = 4;
+
+	/**
+	 * Weight of classes that have no class file size, e.g. ones that were
+	 * created instead of read.
+	 */
+	private static final int UNKNOWN_SIZE = 4 * 1024;
+
+	/**
+	 * Creates a cache that fits a memory budget. Half of the budget is left
+	 * for everything else, e.g. parsed types and ASTs being resolved.
+	 * @param megabytes Memory budget in megabytes.
+	 * @return A new cache.
+	 */
+	public static ClassCache ofBudget(long megabytes) {
+		return new ClassCache(megabytes * 1024 * 1024 / 2 / HEAP_PER_FILE_BYTE);
+	}
+
+	/**
+	 * Class pool that keeps classes in a shared cache instead of its own
+	 * table. Primitive types are still kept in the table.
+	 *
+	 */
+	private class Pool extends ClassPool {
+
+		/**
+		 * Gets size of a class file by class pool name, or -1 if unknown.
+		 */
+		final ToLongFunction<String> classFileSize;
+
+		Pool(ToLongFunction<String> classFileSize) {
+			super(false);
+			this.classFileSize = classFileSize;
+		}
+
+		@Override
+		protected CtClass getCached(String classname) {
+			CtClass cached = cache.getIfPresent(Map.entry(this, classname));
+			return cached != null ? cached : super.getCached(classname);
+		}
+
+		@Override
+		protected void cacheCtClass(String classname, CtClass c, boolean dynamic) {
+			cache.put(Map.entry(this, classname), c);
+		}
+
+		@Override
+		protected CtClass removeCached(String classname) {
+			CtClass removed = cache.asMap().remove(Map.entry(this, classname));
+			return removed != null ? removed : super.removeCached(classname);
+		}
+	}
+
+	/**
+	 * Classes by their pools and names.
+	 */
+	private final Cache<Map.Entry<ClassPool, String>, CtClass> cache;
+
+	/**
+	 * Maximum total size of class files of cached classes.
+	 */
+	private final long maxBytes;
+
+	/**
+	 * Creates a cache.
+	 * @param maxBytes Maximum total size of class files of cached classes.
+	 */
+	public ClassCache(long maxBytes) {
+		this.cache = CacheBuilder.newBuilder().maximumWeight(Math.max(1, maxBytes))
+				.weigher(ClassCache::weigh).recordStats().build();
+		this.maxBytes = maxBytes;
+	}
+
+	private static int weigh(Map.Entry<ClassPool, String> key, CtClass value) {
+		long size = ((Pool) key.getKey()).classFileSize.applyAsLong(key.getValue());
+		return size >= 0 ? (int) Math.min(size, Integer.MAX_VALUE) : UNKNOWN_SIZE;
+	}
+
+	/**
+	 * Creates a class pool that uses this cache. It has no class path.
+	 * @param classFileSize Gets size of a class file by class pool name
+	 * (with $ for inner classes), or -1 if it is not known.
+	 * @return A new class pool.
+	 */
+	public ClassPool createPool(ToLongFunction<String> classFileSize) {
+		return new Pool(classFileSize);
+	}
+
+	/**
+	 * Gets how many classes have been evicted.
+	 * @return Number of evictions.
+	 */
+	long evictionCount() {
+		return cache.stats().evictionCount();
+	}
+
+	/**
+	 * Records size and statistics of this cache.
+	 * @param metrics Where to record them.
+	 */
+	public void record(PhaseMetrics metrics) {
+		CacheStats stats = cache.stats();
+		metrics.setCache("classes", cache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+	}
+
+	@Override
+	public String toString() {
+		CacheStats stats = cache.stats();
+		return cache.size() + " classes cached (at most " + maxBytes / 1024 + " KB of class files), "
+				+ stats.hitCount() + " hits, " + stats.missCount() + " misses, " + stats.evictionCount() + " evictions";
+	}
+}
@@ -0,0 +1,248 @@
+package io.github.bensku.tsbind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javassist.ClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.NotFoundException;
+
+/**
+ * Class files of a JDK release, read without loading them. Classes of the
+ * running JDK are read from its {@code jrt:/} file system, and those of
+ * older releases from {@code lib/ct.sym}, like javac does for
+ * {@code --release}.
+ *
+ * Names of all classes are indexed up front. Class files are read when
+ * first needed and then cached by a class pool. Indices are shared by
+ * everything in this JVM that uses the same release.
+ *
+ */
+public class JdkClasses {
+
+	private static final Map<Integer, JdkClasses> releases = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets classes of a JDK release, indexing them if that has not been
+	 * done yet.
+	 * @param release Java release, or 0 for the running JDK.
+	 * @return JDK classes.
+	 * @throws IOException When the release is not available.
+	 */
+	public static JdkClasses of(int release) throws IOException {
+		int current = Runtime.version().feature();
+		if (release == current) {
+			release = 0; // No need to read ct.sym for this
+		} else if (release > current || (release != 0 && release < 7)) {
+			throw new IllegalArgumentException("release " + release + " is not supported by JDK " + current);
+		}
+		try {
+			return releases.computeIfAbsent(release, key -> {
+				try {
+					return new JdkClasses(key);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Class files by class pool names (with $ for inner classes).
+	 */
+	private final Map<String, Path> files;
+
+	/**
+	 * Class pool names by class names (with both $ and . for inner
+	 * classes), like in JarTypeSolver.
+	 */
+	private final Map<String, String> knownClasses;
+
+	private final ClassPool classPool;
+
+	private JdkClasses(int release) throws IOException {
+		this.files = new HashMap<>();
+		this.knownClasses = new HashMap<>();
+		if (release == 0) {
+			// Like ct.sym, include packages that modules export to everyone
+			// Also include all java and javax packages, which reflection used to find (e.g. java.awt.peer)
+			// Other internals are left out, so that types that use them are not exposed with them
+			FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+			for (ModuleReference module : ModuleFinder.ofSystem().findAll()) {
+				Path root = jrt.getPath("/modules", module.descriptor().name());
+				Set<String> packages = new HashSet<>();
+				for (ModuleDescriptor.Exports exports : module.descriptor().exports()) {
+					if (!exports.isQualified()) {
+						packages.add(exports.source());
+					}
+				}
+				for (String pkg : module.descriptor().packages()) {
+					if (pkg.startsWith("java.") || pkg.startsWith("javax.")) {
+						packages.add(pkg);
+					}
+				}
+				for (String pkg : packages) {
+					try (Stream<Path> classFiles = Files.list(root.resolve(pkg.replace('.', '/')))) {
+						classFiles.forEach(file -> indexClass(root, file, ".class"));
+					}
+				}
+			}
+		} else {
+			Path ctSym = Path.of(System.getProperty("java.home"), "lib", "ct.sym");
+			if (!Files.exists(ctSym)) {
+				throw new IOException("missing " + ctSym + ", needed for release " + release);
+			}
+			// Top-level directories are named after all releases that have their classes
+			// Releases from 10 onwards are letters, A for 10 and so on
+			String id = Character.toString(Character.toUpperCase(Character.forDigit(release, Character.MAX_RADIX)));
+			FileSystem zip = FileSystems.newFileSystem(ctSym, (ClassLoader) null);
+			try (Stream<Path> dirs = Files.list(zip.getPath("/"))) {
+				for (Path dir : (Iterable<Path>) dirs::iterator) {
+					if (dir.getFileName().toString().replace("/", "").contains(id)) {
+						try (Stream<Path> modules = Files.list(dir)) {
+							for (Path module : (Iterable<Path>) modules::iterator) {
+								try (Stream<Path> classFiles = Files.walk(module)) {
+									classFiles.forEach(file -> indexClass(module, file, ".sig"));
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		if (files.isEmpty()) {
+			throw new IOException("no classes found for release " + release);
+		}
+
+		this.classPool = new ClassPool(false);
+		appendTo(classPool);
+	}
+
+	/**
+	 * Makes classes of this release available to a class pool.
+	 * @param pool Class pool.
+	 */
+	public void appendTo(ClassPool pool) {
+		pool.appendClassPath(new ClassPath() {
+
+			@Override
+			public InputStream openClassfile(String classname) throws NotFoundException {
+				Path file = files.get(classname);
+				if (file == null) {
+					return null;
+				}
+				try {
+					return Files.newInputStream(file);
+				} catch (IOException e) {
+					throw new NotFoundException("cannot read " + file, e);
+				}
+			}
+
+			@Override
+			public URL find(String classname) {
+				Path file = files.get(classname);
+				try {
+					return file != null ? file.toUri().toURL() : null;
+				} catch (MalformedURLException e) {
+					return null; // Not needed for reading classes
+				}
+			}
+		});
+	}
+
+	private void indexClass(Path module, Path path, String extension) {
+		String file = module.relativize(path).toString();
+		if (!file.endsWith(extension) || file.endsWith("-info" + extension)) {
+			return; // Not a class, or module-info or package-info
+		}
+		String poolName = file.substring(0, file.length() - extension.length()).replace('/', '.');
+		if (files.putIfAbsent(poolName, path) == null) {
+			String className = poolName.replace('$', '.');
+			if (!className.equals(poolName)) {
+				knownClasses.put(poolName, poolName);
+			}
+			knownClasses.put(className, poolName);
+		}
+	}
+
+	/**
+	 * Checks if a class exists.
+	 * @param name Fully qualified name, with . or $ for inner classes.
+	 * @return Whether the class exists in this release.
+	 */
+	public boolean contains(String name) {
+		return knownClasses.containsKey(name);
+	}
+
+	/**
+	 * Reads a class.
+	 * @param name Fully qualified name, with . or $ for inner classes.
+	 * @return The class, or null if it does not exist.
+	 */
+	public CtClass get(String name) {
+		return get(name, classPool);
+	}
+
+	/**
+	 * Reads a class with another class pool.
+	 * @param name Fully qualified name, with . or $ for inner classes.
+	 * @param pool Class pool given to {@link #appendTo(ClassPool)}.
+	 * @return The class, or null if it does not exist.
+	 */
+	public CtClass get(String name, ClassPool pool) {
+		String poolName = knownClasses.get(name);
+		if (poolName == null) {
+			return null;
+		}
+		try {
+			return pool.get(poolName); // Synchronized, so this can be shared
+		} catch (NotFoundException e) {
+			throw new IllegalStateException("indexed class " + poolName + " not found", e);
+		}
+	}
+
+	/**
+	 * Gets size of a class file.
+	 * @param poolName Class pool name, with $ for inner classes.
+	 * @return Size in bytes, or -1 if the class is not indexed.
+	 */
+	public long classFileSize(String poolName) {
+		Path file = files.get(poolName);
+		if (file == null) {
+			return -1;
+		}
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Gets number of indexed classes.
+	 * @return Number of classes.
+	 */
+	public int size() {
+		return files.size();
+	}
+}
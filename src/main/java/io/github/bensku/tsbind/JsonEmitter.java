@@ -1,24 +1,359 @@
 package io.github.bensku.tsbind;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.TreeMap;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import io.github.bensku.tsbind.ast.Constructor;
+import io.github.bensku.tsbind.ast.Field;
+import io.github.bensku.tsbind.ast.Getter;
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.Method;
+import io.github.bensku.tsbind.ast.Parameter;
+import io.github.bensku.tsbind.ast.Setter;
 import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.ast.TypeRef;
 
 /**
- * Dumps AST to JSON string.
+ * Dumps AST to JSON. Types are written one by one, so the whole dump is
+ * never in memory. Dumps can be read back with {@link #read(Path)}.
  *
  */
-public class JsonEmitter implements AstConsumer<String> {
+public class JsonEmitter implements StreamingAstConsumer {
+
+	private static final MemberAdapter ADAPTER = new MemberAdapter();
+
+	/**
+	 * If types should be written one per line, instead of as a
+	 * pretty-printed array.
+	 */
+	private final boolean lines;
+
+	public JsonEmitter(boolean lines) {
+		this.lines = lines;
+	}
 
-	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-	
 	@Override
-	public Stream<Result<String>> consume(Map<String, TypeDefinition> types) {
-		return Stream.of(new Result<>("dump.json", GSON.toJson(types.values())));
+	public String resultName() {
+		return lines ? "dump.ndjson" : "dump.json";
+	}
+
+	@Override
+	public TypeStream open(WritableByteChannel out) throws IOException {
+		Writer writer = new BufferedWriter(Channels.newWriter(out, StandardCharsets.UTF_8));
+		if (lines) {
+			return new TypeStream() {
+
+				@Override
+				public void accept(TypeDefinition type) throws IOException {
+					// Writer per line, because they don't allow many top-level values
+					JsonWriter json = new JsonWriter(writer);
+					ADAPTER.write(json, type);
+					json.flush();
+					writer.write('\n');
+				}
+
+				@Override
+				public void finish() throws IOException {
+					writer.flush();
+				}
+			};
+		} else {
+			JsonWriter json = new JsonWriter(writer);
+			json.setIndent("  ");
+			json.beginArray();
+			return new TypeStream() {
+
+				@Override
+				public void accept(TypeDefinition type) throws IOException {
+					ADAPTER.write(json, type);
+				}
+
+				@Override
+				public void finish() throws IOException {
+					json.endArray();
+					json.flush();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Checks if a file is a JSON dump.
+	 * @param file File to check.
+	 * @return Whether it is a JSON dump.
+	 */
+	public static boolean isDump(Path file) {
+		String name = file.getFileName().toString();
+		return Files.isRegularFile(file) && (name.endsWith(".json") || name.endsWith(".ndjson"));
+	}
+
+	/**
+	 * Reads types from a JSON dump.
+	 * @param file Dump file.
+	 * @return Types by their fully qualified names.
+	 * @throws IOException When reading fails.
+	 */
+	public static Map<String, TypeDefinition> read(Path file) throws IOException {
+		Map<String, TypeDefinition> types = new TreeMap<>();
+		read(file, types);
+		return types;
+	}
+
+	/**
+	 * Reads types from a JSON dump to a map, one at a time.
+	 * @param file Dump file.
+	 * @param types Where to put types by their fully qualified names.
+	 * @throws IOException When reading fails.
+	 */
+	public static void read(Path file, Map<String, TypeDefinition> types) throws IOException {
+		try (JsonReader json = new JsonReader(Files.newBufferedReader(file))) {
+			if (file.getFileName().toString().endsWith(".ndjson")) {
+				json.setStrictness(Strictness.LENIENT); // Many top-level values
+				while (json.peek() != JsonToken.END_DOCUMENT) {
+					TypeDefinition type = (TypeDefinition) ADAPTER.read(json);
+					types.put(type.name(), type);
+				}
+			} else {
+				json.beginArray();
+				while (json.hasNext()) {
+					TypeDefinition type = (TypeDefinition) ADAPTER.read(json);
+					types.put(type.name(), type);
+				}
+				json.endArray();
+			}
+		}
+	}
+
+	/**
+	 * Writes type references without type parameters as their names, and
+	 * others as objects.
+	 *
+	 */
+	private static class TypeRefAdapter extends TypeAdapter<TypeRef> {
+
+		@Override
+		public void write(JsonWriter out, TypeRef ref) throws IOException {
+			if (ref instanceof TypeRef.Simple) {
+				out.value(ref.name());
+				return;
+			}
+			out.beginObject();
+			if (ref instanceof TypeRef.Wildcard) {
+				out.name("wildcard");
+				write(out, ((TypeRef.Wildcard) ref).extendedType());
+			} else if (ref instanceof TypeRef.Parametrized) {
+				out.name("base");
+				write(out, ref.baseType());
+				out.name("params");
+				writeList(out, ((TypeRef.Parametrized) ref).typeParams());
+			} else if (ref instanceof TypeRef.Array) {
+				out.name("array");
+				write(out, ((TypeRef.Array) ref).componentType());
+				out.name("dimensions").value(ref.arrayDimensions());
+			} else if (ref instanceof TypeRef.Nullable) {
+				out.name("nullable");
+				write(out, ((TypeRef.Nullable) ref).nullableType());
+			} else {
+				throw new AssertionError("unexpected type: " + ref);
+			}
+			out.endObject();
+		}
+
+		void writeList(JsonWriter out, List<TypeRef> refs) throws IOException {
+			out.beginArray();
+			for (TypeRef ref : refs) {
+				write(out, ref);
+			}
+			out.endArray();
+		}
+
+		@Override
+		public TypeRef read(JsonReader in) throws IOException {
+			return fromJson(JsonParser.parseReader(in));
+		}
+
+		static TypeRef fromJson(JsonElement json) {
+			if (json.isJsonPrimitive()) {
+				return TypeRef.byName(json.getAsString());
+			}
+			JsonObject obj = json.getAsJsonObject();
+			if (obj.has("wildcard")) {
+				return TypeRef.wildcard(fromJson(obj.get("wildcard")));
+			} else if (obj.has("base")) {
+				return TypeRef.fromName(fromJson(obj.get("base")).name(), listFromJson(obj.getAsJsonArray("params")));
+			} else if (obj.has("array")) {
+				return fromJson(obj.get("array")).makeArray(obj.get("dimensions").getAsInt());
+			} else if (obj.has("nullable")) {
+				return TypeRef.nullable(fromJson(obj.get("nullable")));
+			} else {
+				throw new IllegalArgumentException("unknown type reference: " + obj);
+			}
+		}
+
+		static List<TypeRef> listFromJson(JsonArray array) {
+			List<TypeRef> refs = new ArrayList<>(array.size());
+			for (JsonElement element : array) {
+				refs.add(fromJson(element));
+			}
+			return refs;
+		}
 	}
 
+	/**
+	 * Writes members as objects, with what kind of member they are as first
+	 * property.
+	 *
+	 */
+	private static class MemberAdapter extends TypeAdapter<Member> {
+
+		private final TypeRefAdapter refs = new TypeRefAdapter();
+
+		@Override
+		public void write(JsonWriter out, Member member) throws IOException {
+			out.beginObject();
+			if (member instanceof TypeDefinition) {
+				TypeDefinition type = (TypeDefinition) member;
+				out.name("member").value("type");
+				out.name("ref");
+				refs.write(out, type.ref);
+				out.name("kind").value(type.kind.name());
+				out.name("isStatic").value(type.isStatic);
+				out.name("isAbstract").value(type.isAbstract);
+				writeJavadoc(out, type);
+				out.name("superTypes");
+				refs.writeList(out, type.superTypes);
+				out.name("interfaces");
+				refs.writeList(out, type.interfaces);
+				out.name("members").beginArray();
+				for (Member inner : type.members) {
+					write(out, inner);
+				}
+				out.endArray();
+			} else if (member instanceof Field) {
+				Field field = (Field) member;
+				out.name("member").value("field");
+				out.name("name").value(field.name);
+				out.name("type");
+				refs.write(out, field.type);
+				out.name("isPublic").value(field.isPublic);
+				out.name("isStatic").value(field.isStatic);
+				out.name("isFinal").value(field.isFinal);
+				writeJavadoc(out, field);
+			} else if (member instanceof Method) {
+				Method method = (Method) member;
+				String kind;
+				if (method instanceof Constructor) {
+					kind = "constructor";
+				} else if (method instanceof Getter) {
+					kind = "getter";
+				} else if (method instanceof Setter) {
+					kind = "setter";
+				} else {
+					kind = "method";
+				}
+				out.name("member").value(kind);
+				// Getters and setters derive their names from original names
+				out.name("name").value(method.originalName());
+				out.name("returnType");
+				refs.write(out, method.returnType);
+				out.name("params").beginArray();
+				for (Parameter param : method.params) {
+					out.beginObject();
+					out.name("name").value(param.name);
+					out.name("type");
+					refs.write(out, param.type);
+					out.name("varargs").value(param.varargs);
+					out.endObject();
+				}
+				out.endArray();
+				out.name("typeParams");
+				refs.writeList(out, method.typeParams);
+				out.name("isPublic").value(method.isPublic);
+				out.name("isStatic").value(method.isStatic);
+				out.name("isOverride").value(method.isOverride);
+				out.name("typeName").value(method.typeName);
+				writeJavadoc(out, method);
+			} else {
+				throw new AssertionError("unexpected member: " + member);
+			}
+			out.endObject();
+		}
+
+		private void writeJavadoc(JsonWriter out, Member member) throws IOException {
+			if (member.javadoc.isPresent()) {
+				out.name("javadoc").value(member.javadoc.get());
+			}
+		}
+
+		@Override
+		public Member read(JsonReader in) throws IOException {
+			return fromJson(JsonParser.parseReader(in).getAsJsonObject());
+		}
+
+		private Member fromJson(JsonObject obj) {
+			String kind = obj.get("member").getAsString();
+			String javadoc = obj.has("javadoc") ? obj.get("javadoc").getAsString() : null;
+			if (kind.equals("type")) {
+				List<Member> members = new ArrayList<>();
+				for (JsonElement inner : obj.getAsJsonArray("members")) {
+					members.add(fromJson(inner.getAsJsonObject()));
+				}
+				return new TypeDefinition(javadoc, obj.get("isStatic").getAsBoolean(),
+						TypeRefAdapter.fromJson(obj.get("ref")), TypeDefinition.Kind.valueOf(obj.get("kind").getAsString()),
+						obj.get("isAbstract").getAsBoolean(), TypeRefAdapter.listFromJson(obj.getAsJsonArray("superTypes")),
+						TypeRefAdapter.listFromJson(obj.getAsJsonArray("interfaces")), members);
+			}
+
+			String name = obj.get("name").getAsString();
+			boolean isPublic = obj.get("isPublic").getAsBoolean();
+			boolean isStatic = obj.get("isStatic").getAsBoolean();
+			if (kind.equals("field")) {
+				return new Field(name, TypeRefAdapter.fromJson(obj.get("type")), javadoc, isPublic, isStatic,
+						obj.get("isFinal").getAsBoolean());
+			}
+
+			TypeRef returnType = TypeRefAdapter.fromJson(obj.get("returnType"));
+			List<Parameter> params = new ArrayList<>();
+			for (JsonElement element : obj.getAsJsonArray("params")) {
+				JsonObject param = element.getAsJsonObject();
+				params.add(new Parameter(param.get("name").getAsString(), TypeRefAdapter.fromJson(param.get("type")),
+						param.get("varargs").getAsBoolean()));
+			}
+			List<TypeRef> typeParams = TypeRefAdapter.listFromJson(obj.getAsJsonArray("typeParams"));
+			boolean isOverride = obj.get("isOverride").getAsBoolean();
+			String typeName = obj.has("typeName") ? obj.get("typeName").getAsString() : null;
+			switch (kind) {
+			case "method":
+				return new Method(name, returnType, params, typeParams, javadoc, isPublic, isStatic, isOverride, typeName);
+			case "constructor":
+				return new Constructor(name, params, javadoc, isPublic, typeName);
+			case "getter":
+				return new Getter(name, returnType, javadoc, isPublic, isStatic, isOverride, typeName);
+			case "setter":
+				return new Setter(name, params.get(0).type, javadoc, isPublic, isStatic, isOverride, typeName);
+			default:
+				throw new IllegalArgumentException("unknown member: " + kind);
+			}
+		}
+	}
 }
@@ -0,0 +1,289 @@
+package io.github.bensku.tsbind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
+import com.github.javaparser.ast.nodeTypes.NodeWithTypeParameters;
+import com.github.javaparser.ast.type.ArrayType;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.TypeParameter;
+import com.github.javaparser.ast.type.WildcardType;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+
+import io.github.bensku.tsbind.ast.TypeRef;
+
+/**
+ * Binds type names used in a compilation unit to types using only its
+ * imports, its package and a {@link TypeIndex}. This is much faster than
+ * symbol resolution, but e.g. member types inherited from supertypes are
+ * not visible by their simple names.
+ *
+ * Names that cannot be bound are replaced with {@link TypeRef#OBJECT} and
+ * recorded, so that they can be reported.
+ *
+ */
+class NameBinder {
+
+	private final CompilationUnit unit;
+
+	private final TypeIndex index;
+
+	/**
+	 * Package of the compilation unit.
+	 */
+	private final String pkg;
+
+	/**
+	 * Single-type imports, simple names mapped to fully qualified names.
+	 */
+	private final Map<String, String> imports;
+
+	/**
+	 * Packages (and types) that all types are imported from. The implicit
+	 * {@code java.lang} is the last one of these.
+	 */
+	private final List<String> wildcardImports;
+
+	/**
+	 * Names that could not be bound.
+	 */
+	private final Set<String> unresolved;
+
+	NameBinder(CompilationUnit unit, TypeIndex index) {
+		this.unit = unit;
+		this.index = index;
+		this.pkg = unit.getPackageDeclaration().map(decl -> decl.getNameAsString()).orElse("");
+		this.imports = new HashMap<>();
+		this.wildcardImports = new ArrayList<>();
+		for (ImportDeclaration decl : unit.getImports()) {
+			if (decl.isStatic()) {
+				continue; // Static imports are for members, not types
+			}
+			String name = decl.getNameAsString();
+			if (decl.isAsterisk()) {
+				wildcardImports.add(name);
+			} else {
+				imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+			}
+		}
+		wildcardImports.add("java.lang");
+		this.unresolved = new TreeSet<>();
+	}
+
+	/**
+	 * Gets names that could not be bound so far.
+	 * @return Unresolved names, as they appear in source code.
+	 */
+	public Set<String> unresolved() {
+		return unresolved;
+	}
+
+	/**
+	 * Creates a reference to a type that is declared in this compilation
+	 * unit.
+	 * @param typeName Fully qualified name of the type.
+	 * @param type Type declaration.
+	 * @return Type reference, with type parameters if it is generic.
+	 */
+	public TypeRef declaredType(String typeName, TypeDeclaration<?> type) {
+		List<TypeRef> params = List.of();
+		if (type instanceof NodeWithTypeParameters) {
+			params = ((NodeWithTypeParameters<?>) type).getTypeParameters().stream()
+					.map(param -> TypeRef.fromName(param.getNameAsString(), List.of()))
+					.collect(Collectors.toList());
+		}
+		return TypeRef.fromName(typeName, params);
+	}
+
+	/**
+	 * Checks if a declaration has an annotation, like
+	 * {@link ResolvedReferenceTypeDeclaration#hasAnnotation(String)} does.
+	 * @param node Annotated declaration.
+	 * @param qualifiedName Fully qualified name of the annotation.
+	 * @return Whether the annotation is present.
+	 */
+	public boolean hasAnnotation(NodeWithAnnotations<?> node, String qualifiedName) {
+		for (AnnotationExpr annotation : node.getAnnotations()) {
+			if (qualifiedName.equals(bindName(annotation.getNameAsString(), annotation))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public TypeRef resolve(Type type, boolean nullable) {
+		TypeRef ref = resolve(type);
+		return nullable ? TypeRef.nullable(ref) : ref;
+	}
+
+	public TypeRef resolve(Type type) {
+		if (type.isVoidType()) {
+			return TypeRef.VOID;
+		} else if (type.isPrimitiveType()) {
+			switch (type.asPrimitiveType().getType()) {
+			case BOOLEAN:
+				return TypeRef.BOOLEAN;
+			case BYTE:
+				return TypeRef.BYTE;
+			case SHORT:
+				return TypeRef.SHORT;
+			case CHAR:
+				return TypeRef.CHAR;
+			case INT:
+				return TypeRef.INT;
+			case LONG:
+				return TypeRef.LONG;
+			case FLOAT:
+				return TypeRef.FLOAT;
+			case DOUBLE:
+				return TypeRef.DOUBLE;
+			default:
+				throw new AssertionError();
+			}
+		} else if (type.isArrayType()) {
+			ArrayType array = type.asArrayType();
+			return resolve(array.getElementType()).makeArray(array.getArrayLevel());
+		} else if (type.isWildcardType()) {
+			WildcardType wildcard = type.asWildcardType();
+			if (wildcard.getExtendedType().isPresent()) {
+				return TypeRef.wildcard(resolve(wildcard.getExtendedType().get()));
+			} else { // We can't describe ? super X in TS (AFAIK)
+				return TypeRef.OBJECT;
+			}
+		} else if (type.isClassOrInterfaceType()) {
+			ClassOrInterfaceType classType = type.asClassOrInterfaceType();
+			if (classType.getScope().isEmpty() && isTypeVariable(classType.getNameAsString(), classType)) {
+				return TypeRef.fromName(classType.getNameAsString(), List.of());
+			}
+			String name = bind(classType);
+			if (name == null) {
+				unresolved.add(classType.getNameWithScope());
+				return TypeRef.OBJECT;
+			}
+			List<TypeRef> params = classType.getTypeArguments()
+					.map(args -> args.stream().map(this::resolve).collect(Collectors.toList()))
+					.orElse(List.of());
+			return TypeRef.fromName(name, params);
+		} else {
+			// Union and intersection types can't appear in member signatures
+			unresolved.add(type.asString());
+			return TypeRef.OBJECT;
+		}
+	}
+
+	/**
+	 * Checks if a name refers to a type variable in scope of given node.
+	 * @param name Simple name.
+	 * @param node Node where the name is used.
+	 * @return Whether the name is a type variable.
+	 */
+	private boolean isTypeVariable(String name, Node node) {
+		for (Node n = node; n != null; n = n.getParentNode().orElse(null)) {
+			if (n instanceof NodeWithTypeParameters) {
+				for (TypeParameter param : ((NodeWithTypeParameters<?>) n).getTypeParameters()) {
+					if (param.getNameAsString().equals(name)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Binds a class or interface type to a fully qualified name.
+	 * @param type Type as it appears in source code.
+	 * @return Fully qualified name, or null if it could not be bound.
+	 */
+	private String bind(ClassOrInterfaceType type) {
+		Optional<ClassOrInterfaceType> scope = type.getScope();
+		if (scope.isEmpty()) {
+			return bindSimple(type.getNameAsString(), type);
+		}
+		// Qualified by another type, e.g. Map.Entry
+		String outer = bind(scope.get());
+		if (outer != null) {
+			return outer + "." + type.getNameAsString();
+		}
+		// Qualified by a package name, which must exist like any other type
+		String name = type.getNameWithScope();
+		return index.contains(name) ? name : null;
+	}
+
+	/**
+	 * Binds a (possibly qualified) name to a fully qualified name.
+	 * @param name Name as it appears in source code.
+	 * @param node Node where the name is used.
+	 * @return Fully qualified name, or null if it could not be bound.
+	 */
+	private String bindName(String name, Node node) {
+		int dot = name.indexOf('.');
+		if (dot == -1) {
+			return bindSimple(name, node);
+		}
+		String outer = bindSimple(name.substring(0, dot), node);
+		if (outer != null) {
+			return outer + name.substring(dot);
+		}
+		return index.contains(name) ? name : null;
+	}
+
+	private String bindSimple(String name, Node node) {
+		// Member types of this and enclosing types
+		for (Node n = node; n != null; n = n.getParentNode().orElse(null)) {
+			if (n instanceof TypeDeclaration) {
+				TypeDeclaration<?> enclosing = (TypeDeclaration<?>) n;
+				String enclosingName = enclosing.getFullyQualifiedName().orElse(null);
+				if (enclosingName == null) {
+					continue; // Local class, we don't care about these
+				}
+				if (enclosing.getNameAsString().equals(name)) {
+					return enclosingName;
+				}
+				for (BodyDeclaration<?> member : enclosing.getMembers()) {
+					if (member.isTypeDeclaration() && member.asTypeDeclaration().getNameAsString().equals(name)) {
+						return enclosingName + "." + name;
+					}
+				}
+			}
+		}
+
+		// Single-type imports shadow everything else
+		String imported = imports.get(name);
+		if (imported != null) {
+			return imported;
+		}
+
+		// Types in same package, including other types in this compilation unit
+		String samePkg = pkg.isEmpty() ? name : pkg + "." + name;
+		if (index.contains(samePkg)) {
+			return samePkg;
+		}
+		if (unit.getTypes().stream().anyMatch(decl -> decl.getNameAsString().equals(name))) {
+			return samePkg;
+		}
+
+		// On-demand imports, java.lang last
+		for (String from : wildcardImports) {
+			String candidate = from + "." + name;
+			if (index.contains(candidate)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+}
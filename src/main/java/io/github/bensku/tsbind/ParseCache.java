@@ -0,0 +1,360 @@
+package io.github.bensku.tsbind;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Cache of types parsed from individual source files. Entries are
+ * addressed by SHA-256 of the source code and a fingerprint of everything
+ * else that affects parsing, e.g. options and symbols. Changing any of
+ * these changes the keys, so entries never need to be invalidated.
+ *
+ * Entries are kept in a local directory, a remote backend, or both. Entries
+ * found remotely are copied to the local directory, and new entries are
+ * written to both, so that other machines can use them.
+ *
+ */
+public class ParseCache {
+
+	/**
+	 * Version of cache entry format. Part of fingerprints, so entries of
+	 * other versions are never read.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Stores cache entries by their keys.
+	 *
+	 */
+	public interface Backend {
+
+		/**
+		 * Gets an entry.
+		 * @param key Key of the entry.
+		 * @return Encoded entry, or null if there is no entry with the key.
+		 * @throws IOException When reading fails.
+		 */
+		byte[] get(String key) throws IOException;
+
+		/**
+		 * Puts an entry. Entries with same key are equal, so if an entry
+		 * exists already, it can be kept.
+		 * @param key Key of the entry.
+		 * @param entry Encoded entry.
+		 * @throws IOException When writing fails.
+		 */
+		void put(String key, byte[] entry) throws IOException;
+	}
+
+	/**
+	 * Stores entries in files of a directory, in subdirectories named after
+	 * first two characters of keys.
+	 *
+	 */
+	public static class DirectoryBackend implements Backend {
+
+		private final Path dir;
+
+		public DirectoryBackend(Path dir) {
+			this.dir = dir;
+		}
+
+		private Path file(String key) {
+			return dir.resolve(key.substring(0, 2)).resolve(key);
+		}
+
+		@Override
+		public byte[] get(String key) throws IOException {
+			try {
+				return Files.readAllBytes(file(key));
+			} catch (NoSuchFileException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public void put(String key, byte[] entry) throws IOException {
+			Path file = file(key);
+			Files.createDirectories(file.getParent());
+			// Write to temporary file first, so that readers never see partial entries
+			Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+			try {
+				Files.write(temp, entry);
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException e) {
+				// Someone else wrote it first, fine
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+	}
+
+	/**
+	 * Result of parsing a source file.
+	 *
+	 */
+	public static class Entry {
+
+		/**
+		 * Parsed type, or null if the source file has no public type.
+		 */
+		public final TypeDefinition type;
+
+		/**
+		 * Fully qualified names of non-public types found in the source file.
+		 */
+		public final List<String> nonPublicTypes;
+
+		/**
+		 * If this can be cached. Not the case e.g. when parsing failed.
+		 */
+		boolean cacheable;
+
+		Entry(TypeDefinition type, List<String> nonPublicTypes) {
+			this.type = type;
+			this.nonPublicTypes = nonPublicTypes;
+			this.cacheable = true;
+		}
+	}
+
+	/**
+	 * Creates a new fingerprint digest. Callers should update it with
+	 * everything that affects parsing.
+	 * @return Digest that already has version of the cache.
+	 */
+	public static MessageDigest fingerprint() {
+		MessageDigest digest = sha256();
+		digest.update(("tsbind parse cache " + VERSION + " snapshot " + AstSnapshot.VERSION + "\n")
+				.getBytes(StandardCharsets.UTF_8));
+		return digest;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError("SHA-256 is always supported", e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Checks if a string could be key of an entry.
+	 * @param key String to check.
+	 * @return Whether it is a lowercase hex SHA-256.
+	 */
+	public static boolean isKey(String key) {
+		return key.length() == 64 && key.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'));
+	}
+
+	private final byte[] fingerprint;
+
+	/**
+	 * Local backend, or null.
+	 */
+	private final Backend local;
+
+	/**
+	 * Remote backend, or null.
+	 */
+	private final Backend remote;
+
+	/**
+	 * Set after remote backend has failed. Parsing is faster than waiting
+	 * for a broken backend over and over again.
+	 */
+	private volatile boolean remoteFailed;
+
+	// Statistics
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong stored = new AtomicLong();
+	private final AtomicLong remoteHits = new AtomicLong();
+	private final AtomicLong remoteMisses = new AtomicLong();
+	private final AtomicLong pushed = new AtomicLong();
+
+	/**
+	 * Creates a parse cache.
+	 * @param fingerprint Digest from {@link #fingerprint()}, updated with
+	 * everything that affects parsing.
+	 * @param local Local backend, or null.
+	 * @param remote Remote backend, or null.
+	 */
+	public ParseCache(MessageDigest fingerprint, Backend local, Backend remote) {
+		if (local == null && remote == null) {
+			throw new IllegalArgumentException("no backends");
+		}
+		this.fingerprint = fingerprint.digest();
+		this.local = local;
+		this.remote = remote;
+	}
+
+	/**
+	 * Computes key of the entry of a source unit.
+	 * @param source Source unit.
+	 * @return Key.
+	 */
+	public String key(SourceUnit source) {
+		MessageDigest digest = sha256();
+		digest.update(fingerprint);
+		digest.update(source.code.getBytes(StandardCharsets.UTF_8));
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Gets the entry of a source unit, from local backend if possible.
+	 * @param key Key of the entry.
+	 * @param name Name of the source unit, for messages.
+	 * @return Cached entry, or null if there is none.
+	 */
+	public Entry get(String key, String name) {
+		byte[] data = null;
+		if (local != null) {
+			try {
+				data = local.get(key);
+			} catch (IOException e) {
+				System.err.println("failed to read parse cache entry of " + name + ": " + e);
+			}
+		}
+		if (data == null && remote != null && !remoteFailed) {
+			try {
+				data = remote.get(key);
+			} catch (IOException e) {
+				remoteFailed(e);
+			}
+			(data != null ? remoteHits : remoteMisses).incrementAndGet();
+			if (data != null && local != null) {
+				try {
+					local.put(key, data); // Don't download again next time
+				} catch (IOException e) {
+					System.err.println("failed to write parse cache entry of " + name + ": " + e);
+				}
+			}
+		}
+		if (data == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		try {
+			Entry entry = decode(data);
+			hits.incrementAndGet();
+			return entry;
+		} catch (IOException | RuntimeException e) {
+			System.err.println("corrupted parse cache entry " + key + " of " + name + ", parsing again: " + e);
+			misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * Puts the entry of a source unit to all backends.
+	 * @param key Key of the entry.
+	 * @param name Name of the source unit, for messages.
+	 * @param entry Entry.
+	 */
+	public void put(String key, String name, Entry entry) {
+		byte[] data = encode(entry);
+		if (local != null) {
+			try {
+				local.put(key, data);
+				stored.incrementAndGet();
+			} catch (IOException e) {
+				System.err.println("failed to write parse cache entry of " + name + ": " + e);
+			}
+		}
+		if (remote != null && !remoteFailed) {
+			try {
+				remote.put(key, data);
+				pushed.incrementAndGet();
+			} catch (IOException e) {
+				remoteFailed(e);
+			}
+		}
+	}
+
+	private void remoteFailed(IOException e) {
+		if (!remoteFailed) {
+			remoteFailed = true;
+			System.err.println("remote parse cache failed, not using it for rest of this run: " + e);
+		}
+	}
+
+	private static byte[] encode(Entry entry) {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(buf)) {
+			out.writeInt(entry.nonPublicTypes.size());
+			for (String name : entry.nonPublicTypes) {
+				out.writeUTF(name);
+			}
+			out.writeBoolean(entry.type != null);
+			if (entry.type != null) {
+				out.write(AstSnapshot.encode(entry.type));
+			}
+		} catch (IOException e) {
+			throw new AssertionError(e); // Not possible with in-memory output
+		}
+		return buf.toByteArray();
+	}
+
+	private static Entry decode(byte[] data) throws IOException {
+		ByteArrayInputStream buf = new ByteArrayInputStream(data);
+		DataInputStream in = new DataInputStream(buf);
+		int count = in.readInt();
+		List<String> nonPublicTypes = new ArrayList<>(Math.min(count, 16));
+		for (int i = 0; i < count; i++) {
+			nonPublicTypes.add(in.readUTF());
+		}
+		TypeDefinition type = null;
+		if (in.readBoolean()) {
+			int offset = data.length - buf.available();
+			type = AstSnapshot.decode(ByteBuffer.wrap(data, offset, data.length - offset));
+		}
+		return new Entry(type, nonPublicTypes);
+	}
+
+	/**
+	 * Records hits and misses of this cache. Entries written to local
+	 * backend, or pushed to remote one, are recorded as size.
+	 * @param metrics Where to record them.
+	 */
+	public void record(PhaseMetrics metrics) {
+		metrics.setCache("parse", stored.get(), hits.get(), misses.get(), 0);
+		if (remote != null) {
+			metrics.setCache("parse_remote", pushed.get(), remoteHits.get(), remoteMisses.get(), 0);
+		}
+	}
+
+	@Override
+	public String toString() {
+		String stats = hits + " hits, " + misses + " misses, " + stored + " entries written";
+		if (remote != null) {
+			stats += "; remote: " + remoteHits + " hits, " + remoteMisses + " misses, " + pushed + " entries pushed"
+					+ (remoteFailed ? " (failed)" : "");
+		}
+		return stats;
+	}
+}
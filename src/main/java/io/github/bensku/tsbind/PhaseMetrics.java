@@ -0,0 +1,315 @@
+package io.github.bensku.tsbind;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Time and resources spent in each phase of type generation. Phases may
+ * be entered many times, from many threads; all measurements are summed.
+ *
+ * CPU time and allocated bytes are measured per thread, so they only
+ * include work done by the thread that entered a phase.
+ *
+ */
+public class PhaseMetrics {
+
+	public enum Phase {
+		/**
+		 * Downloading artifacts from Maven repositories.
+		 */
+		DOWNLOAD,
+
+		/**
+		 * Reading source files from disk or archives.
+		 */
+		READ,
+
+		/**
+		 * Parsing source code to JavaParser AST.
+		 */
+		PARSE,
+
+		/**
+		 * Resolving types of members to produce our AST.
+		 */
+		RESOLVE,
+
+		/**
+		 * Early transformations that need all types.
+		 */
+		EARLY_TRANSFORM,
+
+		/**
+		 * Generating and writing output files.
+		 */
+		EMIT
+	}
+
+	private static class Counters {
+		final LongAdder wallNanos = new LongAdder();
+		final LongAdder cpuNanos = new LongAdder();
+		final LongAdder allocatedBytes = new LongAdder();
+		final LongAdder items = new LongAdder();
+	}
+
+	/**
+	 * A measurement of one phase in current thread. Closing it adds the
+	 * results to metrics.
+	 *
+	 */
+	public class Timer implements AutoCloseable {
+
+		private final Counters counters;
+		private final long startWall;
+		private final long startCpu;
+		private final long startAllocated;
+
+		private Timer(Counters counters) {
+			this.counters = counters;
+			this.startWall = System.nanoTime();
+			this.startCpu = threadCpuTime();
+			this.startAllocated = threadAllocatedBytes();
+		}
+
+		@Override
+		public void close() {
+			counters.wallNanos.add(System.nanoTime() - startWall);
+			counters.cpuNanos.add(threadCpuTime() - startCpu);
+			counters.allocatedBytes.add(threadAllocatedBytes() - startAllocated);
+		}
+	}
+
+	/**
+	 * Thread bean with allocation counters, or null if the JVM doesn't have
+	 * them.
+	 */
+	private static final com.sun.management.ThreadMXBean THREADS;
+
+	static {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+			THREADS = (com.sun.management.ThreadMXBean) bean;
+			THREADS.setThreadAllocatedMemoryEnabled(true);
+		} else {
+			THREADS = null;
+		}
+	}
+
+	private static long threadCpuTime() {
+		return THREADS != null ? THREADS.getCurrentThreadCpuTime() : 0;
+	}
+
+	private static long threadAllocatedBytes() {
+		return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+	}
+
+	private final Map<Phase, Counters> phases;
+
+	/**
+	 * Sizes and statistics of caches by their names. Each entry has
+	 * size, hits, misses and evictions, in that order.
+	 */
+	private final Map<String, long[]> caches;
+
+	/**
+	 * When these metrics were created.
+	 */
+	private final long startWall;
+
+	public PhaseMetrics() {
+		this.phases = new EnumMap<>(Phase.class);
+		for (Phase phase : Phase.values()) {
+			phases.put(phase, new Counters());
+		}
+		this.caches = new ConcurrentSkipListMap<>();
+		this.startWall = System.nanoTime();
+	}
+
+	/**
+	 * Starts measuring a phase in current thread.
+	 * @param phase Phase that is entered.
+	 * @return Timer that must be closed when the phase is exited.
+	 */
+	public Timer start(Phase phase) {
+		return new Timer(phases.get(phase));
+	}
+
+	/**
+	 * Records items processed in a phase, e.g. files or types.
+	 * @param phase Phase.
+	 * @param count Number of items.
+	 */
+	public void addItems(Phase phase, long count) {
+		phases.get(phase).items.add(count);
+	}
+
+	/**
+	 * Records current size and statistics of a cache, replacing what was
+	 * previously recorded for it.
+	 * @param name Name of cache.
+	 * @param size Current number of entries.
+	 * @param hits Lookups that found an entry.
+	 * @param misses Lookups that did not find an entry.
+	 * @param evictions Entries evicted to keep the cache within its limits.
+	 */
+	public void setCache(String name, long size, long hits, long misses, long evictions) {
+		caches.put(name, new long[] { size, hits, misses, evictions });
+	}
+
+	/**
+	 * Gets wall time spent in a phase so far.
+	 * @param phase Phase.
+	 * @return Wall time in nanoseconds.
+	 */
+	public long wallNanos(Phase phase) {
+		return phases.get(phase).wallNanos.sum();
+	}
+
+	/**
+	 * Gets bytes allocated in a phase so far.
+	 * @param phase Phase.
+	 * @return Allocated bytes.
+	 */
+	public long allocatedBytes(Phase phase) {
+		return phases.get(phase).allocatedBytes.sum();
+	}
+
+	/**
+	 * Gets time since these metrics were created.
+	 * @return Wall time in nanoseconds.
+	 */
+	public long elapsedNanos() {
+		return System.nanoTime() - startWall;
+	}
+
+	/**
+	 * Gets peak heap usage of this JVM. This is sum of peaks of all heap
+	 * memory pools, which did not necessarily happen at same time.
+	 * @return Peak heap usage in bytes.
+	 */
+	private static long peakHeapBytes() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	private static double seconds(long nanos) {
+		return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+	}
+
+	/**
+	 * Writes metrics collected so far to a directory, as
+	 * {@code tsbind-metrics.json} and {@code tsbind-metrics.txt}
+	 * (OpenMetrics text format).
+	 * @param dir Output directory.
+	 * @throws IOException When writing fails.
+	 */
+	public void write(Path dir) throws IOException {
+		double wallSeconds = seconds(elapsedNanos());
+		long peakHeap = peakHeapBytes();
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("wallSeconds", wallSeconds);
+		json.put("peakHeapBytes", peakHeap);
+		Map<String, Object> phasesJson = new LinkedHashMap<>();
+		for (Map.Entry<Phase, Counters> entry : phases.entrySet()) {
+			Counters counters = entry.getValue();
+			Map<String, Object> phase = new LinkedHashMap<>();
+			phase.put("wallSeconds", seconds(counters.wallNanos.sum()));
+			phase.put("cpuSeconds", seconds(counters.cpuNanos.sum()));
+			phase.put("allocatedBytes", counters.allocatedBytes.sum());
+			phase.put("items", counters.items.sum());
+			phasesJson.put(entry.getKey().name().toLowerCase(Locale.ROOT), phase);
+		}
+		json.put("phases", phasesJson);
+		if (!caches.isEmpty()) {
+			Map<String, Object> cachesJson = new LinkedHashMap<>();
+			for (Map.Entry<String, long[]> entry : caches.entrySet()) {
+				long[] values = entry.getValue();
+				Map<String, Object> cache = new LinkedHashMap<>();
+				cache.put("size", values[0]);
+				cache.put("hits", values[1]);
+				cache.put("misses", values[2]);
+				cache.put("evictions", values[3]);
+				cachesJson.put(entry.getKey(), cache);
+			}
+			json.put("caches", cachesJson);
+		}
+		Files.writeString(dir.resolve("tsbind-metrics.json"),
+				new GsonBuilder().setPrettyPrinting().create().toJson(json));
+
+		StringBuilder text = new StringBuilder();
+		appendGauge(text, "tsbind_run_wall_seconds", "seconds", "Wall time of the run.",
+				Map.of("", wallSeconds));
+		appendGauge(text, "tsbind_peak_heap_bytes", "bytes", "Sum of peak usage of heap memory pools.",
+				Map.of("", (double) peakHeap));
+		appendPhaseGauge(text, "tsbind_phase_wall_seconds", "seconds", "Wall time spent in phase.",
+				counters -> seconds(counters.wallNanos.sum()));
+		appendPhaseGauge(text, "tsbind_phase_cpu_seconds", "seconds", "CPU time spent in phase.",
+				counters -> seconds(counters.cpuNanos.sum()));
+		appendPhaseGauge(text, "tsbind_phase_allocated_bytes", "bytes", "Bytes allocated in phase.",
+				counters -> (double) counters.allocatedBytes.sum());
+		appendPhaseGauge(text, "tsbind_phase_items", null, "Items (files, types or modules) processed in phase.",
+				counters -> (double) counters.items.sum());
+		if (!caches.isEmpty()) {
+			appendCacheGauge(text, "tsbind_cache_size", "Entries in cache.", 0);
+			appendCacheGauge(text, "tsbind_cache_hits", "Lookups that found an entry in cache.", 1);
+			appendCacheGauge(text, "tsbind_cache_misses", "Lookups that did not find an entry in cache.", 2);
+			appendCacheGauge(text, "tsbind_cache_evictions", "Entries evicted from cache.", 3);
+		}
+		text.append("# EOF\n");
+		Files.writeString(dir.resolve("tsbind-metrics.txt"), text);
+	}
+
+	private void appendPhaseGauge(StringBuilder text, String name, String unit, String help,
+			Function<Counters, Double> value) {
+		Map<String, Double> values = new LinkedHashMap<>();
+		for (Map.Entry<Phase, Counters> entry : phases.entrySet()) {
+			values.put("phase=\"" + entry.getKey().name().toLowerCase(Locale.ROOT) + "\"", value.apply(entry.getValue()));
+		}
+		appendGauge(text, name, unit, help, values);
+	}
+
+	private void appendCacheGauge(StringBuilder text, String name, String help, int index) {
+		Map<String, Double> values = new LinkedHashMap<>();
+		for (Map.Entry<String, long[]> entry : caches.entrySet()) {
+			values.put("cache=\"" + entry.getKey() + "\"", (double) entry.getValue()[index]);
+		}
+		appendGauge(text, name, null, help, values);
+	}
+
+	private static void appendGauge(StringBuilder text, String name, String unit, String help,
+			Map<String, Double> values) {
+		text.append("# TYPE ").append(name).append(" gauge\n");
+		if (unit != null) {
+			text.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+		}
+		text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		for (Map.Entry<String, Double> entry : values.entrySet()) {
+			text.append(name);
+			if (!entry.getKey().isEmpty()) {
+				text.append('{').append(entry.getKey()).append('}');
+			}
+			text.append(' ').append(entry.getValue()).append('\n');
+		}
+	}
+}
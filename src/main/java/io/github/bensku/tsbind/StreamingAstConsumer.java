@@ -0,0 +1,64 @@
+package io.github.bensku.tsbind;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Consumes types one by one and writes a single result as it goes. This
+ * allows writing output while types are still being parsed, without
+ * keeping all of them in memory. Only consumers that need nothing but the
+ * type itself (e.g. not its supertypes) can do this.
+ *
+ */
+public interface StreamingAstConsumer extends AstConsumer<AstConsumer.StreamedResult> {
+
+	/**
+	 * Receives types of a single result.
+	 *
+	 */
+	interface TypeStream {
+
+		/**
+		 * Consumes a type. Types are given in order they were parsed in.
+		 * @param type Type.
+		 * @throws IOException When writing fails.
+		 */
+		void accept(TypeDefinition type) throws IOException;
+
+		/**
+		 * Called after all types have been given, e.g. to write something
+		 * that depends on all of them. Result is complete after this.
+		 * @throws IOException When writing fails.
+		 */
+		void finish() throws IOException;
+	}
+
+	/**
+	 * Gets name of the result.
+	 * @return Result name.
+	 */
+	String resultName();
+
+	/**
+	 * Starts writing the result.
+	 * @param out Where to write. This is not closed by the stream.
+	 * @return Stream to give types to.
+	 * @throws IOException When writing fails.
+	 */
+	TypeStream open(WritableByteChannel out) throws IOException;
+
+	@Override
+	default Stream<Result<StreamedResult>> consume(Map<String, TypeDefinition> types) {
+		return Stream.of(new Result<>(resultName(), out -> {
+			TypeStream stream = open(out);
+			for (TypeDefinition type : types.values()) {
+				stream.accept(type);
+			}
+			stream.finish();
+		}));
+	}
+}
@@ -0,0 +1,46 @@
+package io.github.bensku.tsbind;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+
+/**
+ * Checks time budget of the source unit that is being processed before
+ * every type lookup. Without this, the budget is only checked between
+ * members, and one member that resolves many symbols could take any time.
+ *
+ * This becomes parent of the wrapped solver, so lookups that declarations
+ * from jars and JDK make through root solver are checked too.
+ *
+ * @see AstGenerator#setTimeBudget(long, TypeIndex)
+ */
+public class TimeBudgetTypeSolver implements TypeSolver {
+
+	private final TypeSolver delegate;
+
+	private TypeSolver parent;
+
+	public TimeBudgetTypeSolver(TypeSolver delegate) {
+		this.delegate = delegate;
+		delegate.setParent(this);
+	}
+
+	@Override
+	public TypeSolver getParent() {
+		return parent;
+	}
+
+	@Override
+	public void setParent(TypeSolver parent) {
+		if (this.parent != null) {
+			throw new IllegalStateException("parent already set");
+		}
+		this.parent = parent;
+	}
+
+	@Override
+	public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+		AstGenerator.checkTimeBudget();
+		return delegate.tryToSolveType(name);
+	}
+}
@@ -0,0 +1,216 @@
+package io.github.bensku.tsbind;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import io.github.bensku.tsbind.ast.Member;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Fully qualified names of types that are known to exist. This is used to
+ * bind names to types without resolving any symbols.
+ *
+ * Types of the running JDK are looked up from the {@code jrt:/} file system
+ * without loading them, unless another JDK release is chosen.
+ *
+ */
+public class TypeIndex {
+
+	/**
+	 * Types found in source inputs.
+	 */
+	private final Set<String> sourceTypes;
+
+	/**
+	 * Types that were parsed from sources, but are not public.
+	 */
+	private final Set<String> nonPublicTypes;
+
+	/**
+	 * Types found in symbol jars.
+	 */
+	private final Set<String> jarTypes;
+
+	/**
+	 * Types found in linked AST snapshots.
+	 */
+	private final Set<String> linkedTypes;
+
+	/**
+	 * Cached results of JDK lookups.
+	 */
+	private final Map<String, Boolean> jdkTypes;
+
+	/**
+	 * JDK runtime image, or null if it is not available.
+	 */
+	private final FileSystem jrt;
+
+	/**
+	 * Classes of a chosen JDK release, or null to look up types from the
+	 * running JDK.
+	 */
+	private final JdkClasses release;
+
+	public TypeIndex() {
+		this(null);
+	}
+
+	/**
+	 * Creates an index that knows JDK types of a release.
+	 * @param release Classes of the release, or null for the running JDK.
+	 */
+	public TypeIndex(JdkClasses release) {
+		this.sourceTypes = ConcurrentHashMap.newKeySet();
+		this.nonPublicTypes = ConcurrentHashMap.newKeySet();
+		this.jarTypes = ConcurrentHashMap.newKeySet();
+		this.linkedTypes = ConcurrentHashMap.newKeySet();
+		this.jdkTypes = new ConcurrentHashMap<>();
+		FileSystem fs;
+		try {
+			fs = FileSystems.getFileSystem(URI.create("jrt:/"));
+		} catch (RuntimeException e) {
+			fs = null; // Not running on a modular JDK
+		}
+		this.jrt = fs;
+		this.release = release;
+	}
+
+	/**
+	 * Adds a type declared in source inputs.
+	 * @param name Fully qualified name of the type.
+	 */
+	public void addSourceType(String name) {
+		sourceTypes.add(name);
+	}
+
+	/**
+	 * Adds all classes in a jar to this index. Class files are not read,
+	 * only their names.
+	 * @param jar Path to the jar.
+	 * @throws IOException When the jar cannot be read.
+	 */
+	public void addJar(Path jar) throws IOException {
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				String path = entries.nextElement().getName();
+				if (!path.endsWith(".class") || path.endsWith("-info.class") || path.startsWith("META-INF/")) {
+					continue; // Not a type, or a multi-release variant of one
+				}
+				String name = path.substring(0, path.length() - ".class".length())
+						.replace('/', '.').replace('$', '.');
+				if (!isAnonymous(name)) {
+					jarTypes.add(name);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a type from a linked AST snapshot, along with its inner types.
+	 * @param type Type definition.
+	 */
+	public void addLinkedType(TypeDefinition type) {
+		linkedTypes.add(type.name());
+		for (Member member : type.members) {
+			if (member instanceof TypeDefinition) {
+				addLinkedType((TypeDefinition) member);
+			}
+		}
+	}
+
+	private static boolean isAnonymous(String name) {
+		// Anonymous and local classes have names that start with numbers
+		for (int i = name.indexOf('.'); i != -1; i = name.indexOf('.', i + 1)) {
+			if (i + 1 < name.length() && Character.isDigit(name.charAt(i + 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Records that a type was found in sources, but it is not public.
+	 * @param name Fully qualified name.
+	 */
+	public void addNonPublicType(String name) {
+		nonPublicTypes.add(name);
+	}
+
+	/**
+	 * Checks if a type was found in sources and is known to be non-public.
+	 * @param name Fully qualified name.
+	 * @return Whether the type is not accessible outside of its package.
+	 */
+	public boolean isNonPublic(String name) {
+		return nonPublicTypes.contains(name);
+	}
+
+	/**
+	 * Checks if a type exists.
+	 * @param name Fully qualified name. Names of inner types are separated
+	 * by dots, like all other names.
+	 * @return Whether the type exists in sources, symbol jars, linked
+	 * snapshots or JDK.
+	 */
+	public boolean contains(String name) {
+		return sourceTypes.contains(name) || jarTypes.contains(name) || linkedTypes.contains(name)
+				|| jdkTypes.computeIfAbsent(name, this::isJdkType);
+	}
+
+	/**
+	 * Adds names of known types to a digest, so that it changes when they
+	 * change. JDK types and non-public types are not included.
+	 * @param digest Digest to update.
+	 */
+	public void fingerprint(MessageDigest digest) {
+		for (Set<String> types : List.of(sourceTypes, jarTypes, linkedTypes)) {
+			for (String name : new TreeSet<>(types)) {
+				digest.update(name.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			digest.update((byte) 0); // Same names in different sets are different
+		}
+	}
+
+	private boolean isJdkType(String name) {
+		if (release != null) {
+			return release.contains(name);
+		}
+		if (jrt == null) {
+			return false;
+		}
+		// Try all possible package/class splits, shortest class name first
+		for (int i = name.lastIndexOf('.'); i != -1; i = name.lastIndexOf('.', i - 1)) {
+			String pkg = name.substring(0, i);
+			Path modules = jrt.getPath("/packages", pkg);
+			if (!Files.isDirectory(modules)) {
+				continue;
+			}
+			String classFile = name.substring(i + 1).replace('.', '$') + ".class";
+			try (Stream<Path> links = Files.list(modules)) {
+				return links.anyMatch(module -> Files.exists(jrt.getPath("/modules",
+						module.getFileName().toString(), pkg.replace('.', '/'), classFile)));
+			} catch (IOException e) {
+				return false;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,96 @@
+package io.github.bensku.tsbind;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records how much parsing and resolving each type costs. This is useful
+ * for finding out what to blacklist or exclude when generation is slow.
+ *
+ */
+public class TypeProfiler {
+
+	/**
+	 * Costs of one top-level type, including its inner types. Each entry is
+	 * only updated by the thread that processes the type.
+	 *
+	 */
+	public static class Entry {
+
+		/**
+		 * Fully qualified name of the type.
+		 */
+		public final String name;
+
+		/**
+		 * Time spent parsing the source file.
+		 */
+		long parseNanos;
+
+		/**
+		 * Time spent resolving types of members.
+		 */
+		long resolveNanos;
+
+		/**
+		 * Number of members processed, including non-public ones.
+		 */
+		int members;
+
+		/**
+		 * Number of {@link com.github.javaparser.resolution.UnsolvedSymbolException}s
+		 * encountered.
+		 */
+		int unsolvedSymbols;
+
+		private Entry(String name) {
+			this.name = name;
+		}
+
+		long totalNanos() {
+			return parseNanos + resolveNanos;
+		}
+	}
+
+	private final Map<String, Entry> entries;
+
+	public TypeProfiler() {
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets profiling entry of a type, creating it if needed.
+	 * @param name Fully qualified name of a top-level type.
+	 * @return Entry of the type.
+	 */
+	public Entry entry(String name) {
+		return entries.computeIfAbsent(name, Entry::new);
+	}
+
+	/**
+	 * Prints types that took longest to process.
+	 * @param out Where to print.
+	 * @param limit Maximum number of types to print.
+	 */
+	public void report(PrintStream out, int limit) {
+		List<Entry> slowest = entries.values().stream()
+				.sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+				.limit(limit)
+				.collect(Collectors.toList());
+		out.println("Top " + slowest.size() + " most expensive types of " + entries.size() + ":");
+		out.println(String.format("%10s %10s %10s %8s %8s  %s", "total ms", "parse ms", "resolve ms",
+				"members", "unsolved", "type"));
+		for (Entry entry : slowest) {
+			out.println(String.format("%10d %10d %10d %8d %8d  %s",
+					TimeUnit.NANOSECONDS.toMillis(entry.totalNanos()),
+					TimeUnit.NANOSECONDS.toMillis(entry.parseNanos),
+					TimeUnit.NANOSECONDS.toMillis(entry.resolveNanos),
+					entry.members, entry.unsolvedSymbols, entry.name));
+		}
+	}
+}
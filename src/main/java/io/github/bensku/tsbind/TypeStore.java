@@ -0,0 +1,392 @@
+package io.github.bensku.tsbind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+/**
+ * Type table that keeps types in memory until heap usage reaches a
+ * threshold, and after that spills least recently used types to a
+ * memory-mapped file. Spilled types are read back when they are needed.
+ *
+ * Types are not copied when they're returned, so callers may change them.
+ * Types are written back to the file whenever they're spilled again. While
+ * an iterator is at a type, neither that type nor any other type that the
+ * iterating thread gets from this is spilled; they may be spilled after the
+ * iterator moves to the next type. Transformations iterate over types, so
+ * they can change both the type at hand and e.g. its supertypes. Outside of
+ * iteration, types may be spilled while a caller still holds them, and
+ * changes made to them after that are lost.
+ *
+ * Iteration order is that of type names, like with TreeMap. This map is
+ * synchronized, but changing it while iterating over it is not supported.
+ *
+ */
+public class TypeStore extends AbstractMap<String, TypeDefinition> implements Closeable {
+
+	/**
+	 * Size of each mapped region of the spill file.
+	 */
+	private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Types that are always kept in memory once spilling has started, so
+	 * that e.g. supertypes of a type being transformed need not be read
+	 * over and over again.
+	 */
+	private static final int MIN_RESIDENT = 64;
+
+	/**
+	 * Where a type is.
+	 *
+	 */
+	private static class Slot {
+
+		/**
+		 * Type, or null if it is only in spill file.
+		 */
+		TypeDefinition type;
+
+		/**
+		 * Region of spill file that has the type, or null if it has not
+		 * been spilled yet.
+		 */
+		MappedByteBuffer segment;
+		int offset;
+		int length;
+
+		ByteBuffer spilled() {
+			return segment.duplicate().position(offset).limit(offset + length).slice();
+		}
+	}
+
+	/**
+	 * All types by their names.
+	 */
+	private final TreeMap<String, Slot> slots;
+
+	/**
+	 * Types that are in memory, least recently used first.
+	 */
+	private final LinkedHashMap<String, Slot> resident;
+
+	/**
+	 * Names of types that must not be spilled now, with counts of
+	 * iterators that are at them or hold them.
+	 */
+	private final Map<String, Integer> pinned;
+
+	/**
+	 * Innermost iterator of each thread that is iterating over this.
+	 */
+	private final ThreadLocal<EntryIterator> iterating;
+
+	/**
+	 * Heap usage in bytes that causes types to be spilled.
+	 */
+	private final long heapThreshold;
+
+	/**
+	 * How many types may be in memory. Not limited before the heap
+	 * threshold is first reached.
+	 */
+	private int maxResident;
+
+	private final Path file;
+	private final FileChannel channel;
+
+	/**
+	 * Region of spill file that types are currently appended to.
+	 */
+	private MappedByteBuffer segment;
+
+	/**
+	 * Start of next region of spill file.
+	 */
+	private long nextSegment;
+
+	// Statistics
+	private long hits;
+	private long pageIns;
+	private long spills;
+
+	/**
+	 * Creates an empty type store.
+	 * @param heapThreshold Heap usage in bytes that causes types to be
+	 * spilled to disk.
+	 * @throws IOException When the spill file cannot be created.
+	 */
+	public TypeStore(long heapThreshold) throws IOException {
+		this.slots = new TreeMap<>();
+		this.resident = new LinkedHashMap<>(16, 0.75f, true);
+		this.pinned = new HashMap<>();
+		this.iterating = new ThreadLocal<>();
+		this.heapThreshold = heapThreshold;
+		this.maxResident = Integer.MAX_VALUE;
+		this.file = Files.createTempFile("tsbind-types", ".bin");
+		this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.DELETE_ON_CLOSE);
+	}
+
+	/**
+	 * Creates an empty type store with same heap threshold as this.
+	 * @return A new type store.
+	 * @throws IOException When the spill file cannot be created.
+	 */
+	public TypeStore emptyCopy() throws IOException {
+		return new TypeStore(heapThreshold);
+	}
+
+	@Override
+	public synchronized int size() {
+		return slots.size();
+	}
+
+	@Override
+	public synchronized boolean containsKey(Object key) {
+		return slots.containsKey(key);
+	}
+
+	@Override
+	public synchronized TypeDefinition get(Object key) {
+		Slot slot = slots.get(key);
+		if (slot == null) {
+			return null;
+		}
+		EntryIterator iterator = iterating.get();
+		if (iterator != null) {
+			iterator.hold((String) key); // Caller may change it until iteration moves on
+		}
+		if (slot.type != null) {
+			hits++;
+			resident.get(key); // Mark as recently used
+			return slot.type;
+		}
+		pageIns++;
+		slot.type = AstSnapshot.decode(slot.spilled());
+		resident.put((String) key, slot);
+		limitResident();
+		return slot.type;
+	}
+
+	@Override
+	public synchronized TypeDefinition put(String key, TypeDefinition value) {
+		TypeDefinition previous = containsKey(key) ? get(key) : null;
+		Slot slot = slots.computeIfAbsent(key, name -> new Slot());
+		slot.type = value;
+		resident.put(key, slot);
+		limitResident();
+		return previous;
+	}
+
+	@Override
+	public synchronized TypeDefinition remove(Object key) {
+		TypeDefinition previous = get(key);
+		slots.remove(key);
+		resident.remove(key);
+		return previous;
+	}
+
+	@Override
+	public Set<Entry<String, TypeDefinition>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<String, TypeDefinition>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return TypeStore.this.size();
+			}
+		};
+	}
+
+	/**
+	 * Iterates over types in order of their names. Types are read only if
+	 * their values are requested.
+	 *
+	 * Types that the iterating thread gets are held in memory until the
+	 * iterator moves to the next type, or the iteration ends. Iterations
+	 * that are abandoned midway keep holding them.
+	 *
+	 */
+	private class EntryIterator implements Iterator<Entry<String, TypeDefinition>> {
+
+		private final Iterator<String> names;
+		private String current;
+
+		/**
+		 * Names of types that were got while this was at current type.
+		 */
+		private final Set<String> held;
+
+		/**
+		 * Iterator that the thread was using when it started this one.
+		 */
+		private final EntryIterator outer;
+
+		EntryIterator() {
+			synchronized (TypeStore.this) {
+				this.names = slots.keySet().iterator();
+				this.held = new HashSet<>();
+				this.outer = iterating.get();
+				iterating.set(this);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			synchronized (TypeStore.this) {
+				if (!names.hasNext()) {
+					// Iteration might end here
+					unpin();
+					if (iterating.get() == this) {
+						iterating.set(outer);
+					}
+					return false;
+				}
+				return true;
+			}
+		}
+
+		@Override
+		public Entry<String, TypeDefinition> next() {
+			synchronized (TypeStore.this) {
+				if (!names.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				unpin();
+				String name = names.next();
+				current = name;
+				held.add(name);
+				pinned.merge(name, 1, Integer::sum);
+				return new SimpleEntry<>(name, null) {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					public TypeDefinition getValue() {
+						return get(name);
+					}
+				};
+			}
+		}
+
+		@Override
+		public void remove() {
+			synchronized (TypeStore.this) {
+				names.remove();
+				resident.remove(current);
+				unpin();
+			}
+		}
+
+		void hold(String name) {
+			if (current != null && held.add(name)) {
+				pinned.merge(name, 1, Integer::sum);
+			}
+		}
+
+		private void unpin() {
+			if (current != null) {
+				for (String name : held) {
+					pinned.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+				}
+				held.clear();
+				current = null;
+				limitResident(); // Some of them may be spilled now
+			}
+		}
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Spills types if there are too many of them in memory.
+	 */
+	private void limitResident() {
+		if (maxResident == Integer.MAX_VALUE) {
+			if (usedHeap() < heapThreshold) {
+				return;
+			}
+			// Heap usage is not reduced before next GC, so keep count of types instead
+			maxResident = Math.max(MIN_RESIDENT, resident.size() / 2);
+			System.out.println("Heap usage reached " + (heapThreshold / 1024 / 1024) + " MB, keeping at most "
+					+ maxResident + " types in memory");
+		}
+		Iterator<Map.Entry<String, Slot>> it = resident.entrySet().iterator();
+		while (resident.size() > maxResident && it.hasNext()) {
+			Map.Entry<String, Slot> entry = it.next();
+			if (pinned.containsKey(entry.getKey())) {
+				continue; // In use, spill something else
+			}
+			spill(entry.getValue());
+			it.remove();
+		}
+	}
+
+	private void spill(Slot slot) {
+		byte[] bytes = AstSnapshot.encode(slot.type);
+		slot.type = null;
+		spills++;
+		if (slot.segment != null && slot.length == bytes.length && slot.spilled().equals(ByteBuffer.wrap(bytes))) {
+			return; // Not changed since it was last spilled
+		}
+		try {
+			if (segment == null || segment.remaining() < bytes.length) {
+				// Types never span many segments, but huge ones get segments of their own
+				int size = Math.max(SEGMENT_SIZE, bytes.length);
+				segment = channel.map(FileChannel.MapMode.READ_WRITE, nextSegment, size);
+				nextSegment += size;
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("failed to extend spill file " + file, e);
+		}
+		slot.segment = segment;
+		slot.offset = segment.position();
+		slot.length = bytes.length;
+		segment.put(bytes);
+	}
+
+	/**
+	 * Records how many types are in memory, and how often types were found
+	 * in memory, read from disk or spilled to it.
+	 * @param metrics Where to record them.
+	 */
+	public synchronized void record(PhaseMetrics metrics) {
+		metrics.setCache("types", resident.size(), hits, pageIns, spills);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return slots.size() + " types, " + resident.size() + " in memory, " + spills + " spills, " + pageIns
+				+ " page-ins";
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close(); // Deletes spill file
+	}
+}
@@ -9,6 +9,11 @@ public class Constructor extends Method {
 		super(name, TypeRef.VOID, params, Collections.emptyList(), javadoc, isPublic, false, false, typeName);
 	}
 
+	@Override
+	public Constructor copy() {
+		return new Constructor(name, params, javadoc.orElse(null), isPublic, typeName);
+	}
+
 	@Override
 	public String toString() {
 		return "new " + name;
@@ -40,6 +40,11 @@ public class Field extends Member {
 		return name;
 	}
 
+	@Override
+	public Field copy() {
+		return new Field(name, type, javadoc.orElse(null), isPublic, isStatic, isFinal);
+	}
+
 	@Override
 	public String toString() {
 		return name + ": " + type;
@@ -25,6 +25,11 @@ public class Getter extends Method {
 		return originalName;
 	}
 
+	@Override
+	public Getter copy() {
+		return new Getter(originalName, returnType, javadoc.orElse(null), isPublic, isStatic, isOverride, typeName);
+	}
+
 	@Override
 	public String toString() {
 		return "get " + name + ": " + returnType;
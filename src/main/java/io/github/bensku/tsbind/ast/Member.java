@@ -28,6 +28,13 @@ public abstract class Member implements AstNode {
 
 	public abstract String name();
 
+	/**
+	 * Copies this member, so that changes to the copy (e.g. to its Javadoc)
+	 * don't affect this. Immutable parts such as types are shared.
+	 * @return Copy of this member.
+	 */
+	public abstract Member copy();
+
 	@Override
 	public String toString() {
 		return "Member: " + name();
@@ -65,6 +65,11 @@ public class Method extends Member {
 		return name;
 	}
 
+	@Override
+	public Method copy() {
+		return new Method(name, returnType, params, typeParams, javadoc.orElse(null), isPublic, isStatic, isOverride, typeName);
+	}
+
 	public String typeName() {
 		return typeName;
 	}
@@ -25,6 +25,11 @@ public class Setter extends Method {
 		return originalName;
 	}
 
+	@Override
+	public Setter copy() {
+		return new Setter(originalName, params.get(0).type, javadoc.orElse(null), isPublic, isStatic, isOverride, typeName);
+	}
+
 	@Override
 	public String toString() {
 		return "set " + name + ": " + returnType;
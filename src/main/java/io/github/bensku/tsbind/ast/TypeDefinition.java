@@ -1,5 +1,6 @@
 package io.github.bensku.tsbind.ast;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -86,6 +87,21 @@ public class TypeDefinition extends Member {
 		return ref.name();
 	}
 
+	/**
+	 * Copies this type and its members, including inner types. Supertypes
+	 * and members of the copy can be changed without affecting this.
+	 * @return Copy of this type.
+	 */
+	@Override
+	public TypeDefinition copy() {
+		List<Member> membersCopy = new ArrayList<>(members.size());
+		for (Member member : members) {
+			membersCopy.add(member.copy());
+		}
+		return new TypeDefinition(javadoc.orElse(null), isStatic, ref, kind, isAbstract, new ArrayList<>(superTypes),
+				new ArrayList<>(interfaces), membersCopy);
+	}
+
 	@Override
 	public String toString() {
 		return name();
@@ -70,8 +70,12 @@ public abstract class TypeRef implements AstNode {
 			}
 		} else if (type.isArray()) {
 			ResolvedArrayType array = type.asArrayType();
-			TypeRef component = fromType(array.getComponentType());
-			return new Array(component, array.arrayLevel());
+			// Component of int[][] is int[], but arrays are kept flat
+			ResolvedType element = array.getComponentType();
+			while (element.isArray()) {
+				element = element.asArrayType().getComponentType();
+			}
+			return new Array(fromType(element), array.arrayLevel());
 		} else if (type.isWildcard()) {
 			if (type.asWildcard().isExtends()) {
 				return new Wildcard(fromType(type.asWildcard().getBoundedType()));
@@ -123,6 +127,71 @@ public abstract class TypeRef implements AstNode {
 		}
 	}
 
+	/**
+	 * Creates a reference to a type by its name.
+	 * @param name Fully qualified name of the type, or name of a type
+	 * variable.
+	 * @param params Generic type parameters, if any.
+	 * @return Type reference.
+	 */
+	public static TypeRef fromName(String name, List<TypeRef> params) {
+		if (params.isEmpty()) {
+			return getSimpleType(name);
+		} else {
+			return new Parametrized(getSimpleType(name), params);
+		}
+	}
+
+	/**
+	 * Gets a reference to a type that has no type parameters by its
+	 * {@link #name() name}. Unlike {@link #fromName(String, List)}, this
+	 * returns the shared constants for primitive types.
+	 * @param name Name of the type.
+	 * @return Type reference.
+	 */
+	public static TypeRef byName(String name) {
+		switch (name) {
+		case "void":
+			return VOID;
+		case "boolean":
+			return BOOLEAN;
+		case "byte":
+			return BYTE;
+		case "short":
+			return SHORT;
+		case "char":
+			return CHAR;
+		case "int":
+			return INT;
+		case "long":
+			return LONG;
+		case "float":
+			return FLOAT;
+		case "double":
+			return DOUBLE;
+		default:
+			return getSimpleType(name);
+		}
+	}
+
+	/**
+	 * Creates a wildcard type that has an upper bound ({@code ? extends X}).
+	 * @param extendedType Upper bound.
+	 * @return Wildcard type.
+	 */
+	public static TypeRef wildcard(TypeRef extendedType) {
+		return new Wildcard(extendedType);
+	}
+
+	/**
+	 * Wraps a type to mark it as nullable.
+	 * @param type Type.
+	 * @return Nullable type.
+	 */
+	public static TypeRef nullable(TypeRef type) {
+		return new Nullable(type);
+	}
+
 	public static TypeRef enumSuperClass(TypeRef enumType) {
 		return new Parametrized(getSimpleType("java.lang.Enum"), List.of(enumType));
 	}
@@ -323,6 +392,16 @@ public abstract class TypeRef implements AstNode {
 			return dimensions;
 		}
 
+		public TypeRef componentType() {
+			return component;
+		}
+
+		@Override
+		public Array makeArray(int dimensions) {
+			// Keep arrays of arrays flat, e.g. for varargs of array types
+			return new Array(component, this.dimensions + dimensions);
+		}
+
 		@Override
 		public void walk(Consumer<AstNode> visitor) {
 			visitor.accept(this);
@@ -3,6 +3,9 @@ package io.github.bensku.tsbind.binding;
 import java.util.*;
 import java.util.stream.Stream;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
 import io.github.bensku.tsbind.AstConsumer;
 import io.github.bensku.tsbind.ast.TypeDefinition;
 import io.github.bensku.tsbind.ast.TypeRef;
@@ -41,12 +44,26 @@ public class BindingGenerator implements AstConsumer<String> {
 
 	private boolean groupByModule;
 
-	public BindingGenerator(boolean buildIndex, boolean emitReadOnly, List<String> excludeMethods, boolean gettersAndSettersOff, boolean groupByModule) {
+	/**
+	 * Maximum size of an output file in characters, or zero if files are
+	 * not split.
+	 */
+	private int shardSize;
+
+	/**
+	 * Whether Javadocs should be written to separate JSON files instead of
+	 * declarations.
+	 */
+	private boolean javadocSidecar;
+
+	public BindingGenerator(boolean buildIndex, boolean emitReadOnly, List<String> excludeMethods, boolean gettersAndSettersOff, boolean groupByModule, int shardSize, boolean javadocSidecar) {
 		this.buildIndex = buildIndex;
 		this.emitReadOnly = emitReadOnly;
 		this.excludeMethods = excludeMethods;
 		this.gettersAndSettersOff = gettersAndSettersOff;
 		this.groupByModule = groupByModule;
+		this.shardSize = shardSize;
+		this.javadocSidecar = javadocSidecar;
 	}
 
 	@Override
@@ -57,13 +74,15 @@ public class BindingGenerator implements AstConsumer<String> {
 
 		// Put modules in declarations based on their base packages (tld.domain)
 		Map<String, StringBuilder> outputs = new HashMap<>();
-		for (TsModule module : modules.values()) {
-			String basePkg = getBasePkg(module.name()).replace('.', '_');
-			if (groupByModule) {
-				basePkg = module.name();
+		Map<String, Map<String, String>> docs = new TreeMap<>(); // Only used with sidecars
+		if (shardSize > 0) {
+			writeShards(types, modules, outputs, docs);
+		} else {
+			for (TsModule module : modules.values()) {
+				String output = getOutputName(module);
+				StringBuilder out = outputs.computeIfAbsent(output, key -> new StringBuilder());
+				module.write(types, out, javadocSidecar ? docs.computeIfAbsent(output, key -> new TreeMap<>()) : null);
 			}
-			StringBuilder out = outputs.computeIfAbsent(basePkg, key -> new StringBuilder());
-			module.write(types, out);
 		}
 
 		// If requested, generate index.d.ts that references other files
@@ -75,8 +94,164 @@ public class BindingGenerator implements AstConsumer<String> {
 			outputs.put("index", index);
 		}
 
-		return outputs.entrySet().stream().map(entry
-				-> new Result<>(entry.getKey() + ".d.ts", entry.getValue().toString()));
+		Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+		return Stream.concat(outputs.entrySet().stream().map(entry
+				-> new Result<>(entry.getKey() + ".d.ts", entry.getValue().toString())),
+				docs.entrySet().stream().map(entry
+				-> new Result<>(entry.getKey() + ".docs.json", gson.toJson(entry.getValue()) + "\n")));
+	}
+
+	/**
+	 * Part of a module that is written to one shard.
+	 *
+	 */
+	private static class ModulePart {
+		final TsModule module;
+		final StringBuilder text;
+
+		/**
+		 * Javadocs of the part, or null if they're in text.
+		 */
+		final Map<String, String> docs;
+
+		ModulePart(TsModule module, Map<String, TypeDefinition> types, boolean javadocSidecar) {
+			this.module = module;
+			this.text = new StringBuilder();
+			this.docs = javadocSidecar ? new TreeMap<>() : null;
+			module.write(types, text, docs);
+		}
+	}
+
+	/**
+	 * Splits output files into shards of at most {@link #shardSize}
+	 * characters. Modules larger than that are split by their types;
+	 * TypeScript merges declarations of modules with same name. Each shard
+	 * references the shards it imports from and other shards of modules it
+	 * declares, so loading one shard loads only what it needs.
+	 * @param types Type table.
+	 * @param modules Modules by their names.
+	 * @param outputs Where to put shards.
+	 * @param docs Where to put Javadocs of shards, if they're written to
+	 * sidecars.
+	 */
+	private void writeShards(Map<String, TypeDefinition> types, Map<String, TsModule> modules,
+			Map<String, StringBuilder> outputs, Map<String, Map<String, String>> docs) {
+		// Related modules (e.g. java.util and java.util.function) have similar names, keep them together
+		List<TsModule> sorted = new ArrayList<>(modules.values());
+		sorted.sort(Comparator.comparing(TsModule::name));
+
+		Map<String, Set<String>> shardsOfModule = new HashMap<>();
+		Map<String, Set<String>> shardModules = new HashMap<>();
+		Map<String, Set<String>> shardImports = new HashMap<>();
+		Map<String, String> currentShards = new HashMap<>(); // Last shard of each output
+		Map<String, Integer> shardCounts = new HashMap<>();
+		for (TsModule module : sorted) {
+			for (ModulePart part : splitModule(module, types)) {
+				String output = getOutputName(module);
+				String shard = currentShards.get(output);
+				if (shard == null || outputs.get(shard).length() + part.text.length() > shardSize) {
+					int count = shardCounts.merge(output, 1, Integer::sum);
+					shard = count == 1 ? output : output + "_" + count;
+					currentShards.put(output, shard);
+					outputs.put(shard, new StringBuilder());
+				}
+				outputs.get(shard).append(part.text);
+				if (part.docs != null) {
+					docs.computeIfAbsent(shard, key -> new TreeMap<>()).putAll(part.docs);
+				}
+				shardsOfModule.computeIfAbsent(module.name(), key -> new TreeSet<>()).add(shard);
+				shardModules.computeIfAbsent(shard, key -> new TreeSet<>()).add(module.name());
+				shardImports.computeIfAbsent(shard, key -> new TreeSet<>()).addAll(part.module.importedModules());
+			}
+		}
+
+		// Modules are declared globally, but the files declaring them still need to be loaded
+		for (Map.Entry<String, StringBuilder> entry : outputs.entrySet()) {
+			String shard = entry.getKey();
+			Set<String> needed = new TreeSet<>(shardModules.get(shard));
+			needed.addAll(shardImports.get(shard));
+			Set<String> references = new TreeSet<>();
+			for (String module : needed) {
+				references.addAll(shardsOfModule.getOrDefault(module, Set.of()));
+			}
+			references.remove(shard);
+			StringBuilder header = new StringBuilder();
+			for (String reference : references) {
+				header.append("/// <reference path='").append(reference).append(".d.ts").append("' />\n");
+			}
+			entry.getValue().insert(0, header);
+		}
+	}
+
+	/**
+	 * Splits a module to parts of at most {@link #shardSize} characters,
+	 * unless a single type is larger than that. Sizes of parts are
+	 * estimated from types written alone, so each type is written at most
+	 * twice: once alone, and once as part of its chunk.
+	 * @param module Module to split.
+	 * @param types Type table.
+	 * @return Module parts; just one if the whole module fits in a shard.
+	 */
+	private List<ModulePart> splitModule(TsModule module, Map<String, TypeDefinition> types) {
+		if (module.types().size() == 1) {
+			return List.of(new ModulePart(module, types, javadocSidecar));
+		}
+		// Module declaration that every part has, counted only once per part
+		int framing = new ModulePart(module.part(List.of()), types, javadocSidecar).text.length();
+		List<ModulePart> alone = new ArrayList<>();
+		int total = framing;
+		for (String type : module.types()) {
+			ModulePart part = new ModulePart(module.part(List.of(type)), types, javadocSidecar);
+			alone.add(part);
+			total += part.text.length() - framing;
+		}
+		// Parts share imports, so their sizes are at most these estimates
+		if (total <= shardSize) {
+			return List.of(new ModulePart(module, types, javadocSidecar));
+		}
+
+		List<ModulePart> parts = new ArrayList<>();
+		List<Integer> chunk = new ArrayList<>(); // Indices of types
+		int chunkSize = framing;
+		for (int i = 0; i < alone.size(); i++) {
+			int size = alone.get(i).text.length() - framing;
+			if (!chunk.isEmpty() && chunkSize + size > shardSize) {
+				parts.add(writeChunk(module, types, chunk, alone));
+				chunk = new ArrayList<>();
+				chunkSize = framing;
+			}
+			chunk.add(i);
+			chunkSize += size;
+		}
+		if (!chunk.isEmpty()) {
+			parts.add(writeChunk(module, types, chunk, alone));
+		}
+		return parts;
+	}
+
+	private ModulePart writeChunk(TsModule module, Map<String, TypeDefinition> types, List<Integer> chunk,
+			List<ModulePart> alone) {
+		if (chunk.size() == 1) {
+			return alone.get(chunk.get(0)); // Already written
+		}
+		List<String> names = new ArrayList<>(chunk.size());
+		for (int i : chunk) {
+			names.add(module.types().get(i));
+		}
+		return new ModulePart(module.part(names), types, javadocSidecar);
+	}
+
+	/**
+	 * Gets name of the output file (without extension) a module is written
+	 * to.
+	 * @param module Module.
+	 * @return Output name.
+	 */
+	private String getOutputName(TsModule module) {
+		if (groupByModule) {
+			return module.name();
+		}
+		return getBasePkg(module.name()).replace('.', '_');
 	}
 
 	private String getBasePkg(String name) {
@@ -98,7 +273,7 @@ public class BindingGenerator implements AstConsumer<String> {
 
 		// Get module for package the class is in, creating if needed
 		modules.computeIfAbsent(getModuleName(type.ref), TsModule::new)
-				.addType(type)
+				.addType(type.name())
 				.emitReadOnly(emitReadOnly)
 				.excludeMethods(excludeMethods)
 				.gettersAndSettersOff(gettersAndSettersOff);
@@ -2,6 +2,8 @@ package io.github.bensku.tsbind.binding;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -19,26 +21,40 @@ import io.github.bensku.tsbind.ast.TypeRef;
  */
 public class EarlyTypeTransformer {
 
-	private final Map<String, TypeDefinition> typeTable;
+	/**
+	 * Looks up types by their fully qualified names, returning null for
+	 * unknown ones.
+	 */
+	private final Function<String, TypeDefinition> typeLookup;
 
 	private final List<Pattern> methodWhiteListPatterns;
 
 	public EarlyTypeTransformer(Map<String, TypeDefinition> typeTable, List<String> methodWhitelist) {
-		this.typeTable = typeTable;
+		this(typeTable::get, methodWhitelist);
+	}
+
+	/**
+	 * Creates a transformer that looks up supertypes with a function, e.g.
+	 * from several type tables without copying them.
+	 * @param typeLookup Gets a type by its name, or null if it is unknown.
+	 * @param methodWhitelist Method whitelist patterns.
+	 */
+	public EarlyTypeTransformer(Function<String, TypeDefinition> typeLookup, List<String> methodWhitelist) {
+		this.typeLookup = typeLookup;
 		this.methodWhiteListPatterns = methodWhitelist.stream().map(Pattern::compile).collect(Collectors.toList());
 	}
 
 	private void visitSupertypes(TypeDefinition type, Consumer<TypeDefinition> visitor) {
 		// Call visitor only on supertypes, not the type initially given as parameter
 		for (TypeRef ref : type.superTypes) {
-			TypeDefinition def = typeTable.get(ref.name());
+			TypeDefinition def = typeLookup.apply(ref.name());
 			if (def != null) {
 				visitor.accept(def);
 				visitSupertypes(def, visitor);
 			}
 		}
 		for (TypeRef ref : type.interfaces) {
-			TypeDefinition def = typeTable.get(ref.name());
+			TypeDefinition def = typeLookup.apply(ref.name());
 			if (def != null) {
 				visitor.accept(def);
 				visitSupertypes(def, visitor);
@@ -79,6 +95,28 @@ public class EarlyTypeTransformer {
 		});
 	}
 
+	/**
+	 * Removes supertypes that are not public. When symbols are not resolved,
+	 * this is not known until the supertypes themselves have been parsed.
+	 * @param type Type to transform, including its inner types.
+	 * @param isNonPublic Checks if a type is known to be non-public.
+	 */
+	public void removeHiddenSupertypes(TypeDefinition type, Predicate<String> isNonPublic) {
+		Predicate<TypeRef> hidden = ref -> isNonPublic.test(ref.name());
+		// Enums and annotations have immutable supertype lists, but they never need changes
+		if (type.superTypes.stream().anyMatch(hidden)) {
+			type.superTypes.removeIf(hidden);
+		}
+		if (type.interfaces.stream().anyMatch(hidden)) {
+			type.interfaces.removeIf(hidden);
+		}
+		for (Member member : type.members) {
+			if (member instanceof TypeDefinition) {
+				removeHiddenSupertypes((TypeDefinition) member, isNonPublic);
+			}
+		}
+	}
+
 	public void flattenType(TypeDefinition type) {
 		// Figure out what methods we already have
 		Set<MethodId> typeMethodIds = new HashSet<>();
@@ -89,8 +89,14 @@ public class TsClass implements TsGenerator<TypeDefinition> {
 			if (!method.isOverride) {
 				return Optional.empty();
 			}
+			// Overloads copied from supertypes override methods of interfaces their own types implement
+			// Don't rely on those types having been emitted (and their members fixed) before this
+			TypeDefinition declaring = type;
+			if (method.typeName != null && !method.typeName.equals(type.name())) {
+				declaring = emitter.resolveType(TypeRef.byName(method.typeName)).orElse(type);
+			}
 			// Don't iterate over supertypes, only interfaces requested
-			for (TypeRef parent : type.interfaces) {
+			for (TypeRef parent : declaring.interfaces) {
 				Optional<TypeDefinition> result = resolveOverrideSource(parent, method);
 				if (result.isPresent()) {
 					for (Member m : result.get().members) {
@@ -211,7 +217,8 @@ public class TsClass implements TsGenerator<TypeDefinition> {
 	
 	@Override
 	public void emit(TypeDefinition node, TsEmitter out) {
-		node.javadoc.ifPresent(out::javadoc);
+		out.enterType(node);
+		out.javadoc(node);
 		// Class declaration, including superclass and interfaces
 		
 		// Transform functional interfaces into function signatures
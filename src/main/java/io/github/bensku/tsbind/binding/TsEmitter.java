@@ -2,6 +2,7 @@ package io.github.bensku.tsbind.binding;
 
 import java.util.*;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jsoup.Jsoup;
 
@@ -9,6 +10,7 @@ import io.github.bensku.tsbind.ast.AstNode;
 import io.github.bensku.tsbind.ast.Constructor;
 import io.github.bensku.tsbind.ast.Field;
 import io.github.bensku.tsbind.ast.Getter;
+import io.github.bensku.tsbind.ast.Member;
 import io.github.bensku.tsbind.ast.Method;
 import io.github.bensku.tsbind.ast.Parameter;
 import io.github.bensku.tsbind.ast.Setter;
@@ -74,6 +76,17 @@ public class TsEmitter {
 	private boolean useGettersAndSetters;
 
 	private boolean lastPrintSkipped = false;
+
+	/**
+	 * Where Javadocs are put by their symbol names, or null if they're
+	 * emitted as comments.
+	 */
+	private Map<String, String> docs;
+
+	/**
+	 * Type whose members are currently emitted.
+	 */
+	private TypeDefinition currentType;
 	
 	public TsEmitter(String indentation, Map<TypeRef, String> typeNames, Map<String, TypeDefinition> types, boolean emitReadonly, List<String> excludeMethods, boolean useGettersAndSetters) {
 		this.output = new StringBuilder();
@@ -208,7 +221,7 @@ public class TsEmitter {
 		return this;
 	}
 	
-	private String processJavadoc(String doc) {
+	String processJavadoc(String doc) {
 		// Strip HTML out; TODO markdown generation
 		String text = Jsoup.parseBodyFragment(doc).wholeText()
 				.replace("*/", "* /"); // No surprise Javadoc ends
@@ -243,6 +256,73 @@ public class TsEmitter {
 		indent().print(" ").println(line);
 	}
 	
+	/**
+	 * Puts Javadocs to a map instead of emitting them as comments.
+	 * @param docs Map from symbol names to processed Javadocs.
+	 */
+	public void documentTo(Map<String, String> docs) {
+		this.docs = docs;
+	}
+
+	/**
+	 * Sets type whose members are emitted next.
+	 * @param type Type.
+	 */
+	public void enterType(TypeDefinition type) {
+		this.currentType = type;
+	}
+
+	/**
+	 * Emits Javadoc of a member, if it has one.
+	 * @param member Member.
+	 * @return This emitter.
+	 */
+	public TsEmitter javadoc(Member member) {
+		if (member.javadoc.isEmpty()) {
+			return this;
+		}
+		if (docs == null) {
+			return javadoc(member.javadoc.get());
+		}
+		// Plain text without comment decorations, but with blank lines between paragraphs
+		docs.put(symbolName(member), processJavadoc(member.javadoc.get()).lines()
+				.map(TsEmitter::stripDecoration).collect(Collectors.joining("\n")).strip());
+		return this;
+	}
+
+	private static String stripDecoration(String line) {
+		line = line.stripLeading();
+		if (line.startsWith("*")) {
+			line = line.substring(line.startsWith("* ") ? 2 : 1);
+		}
+		return line;
+	}
+
+	/**
+	 * Gets name of a member in documentation, e.g. {@code java.util.List},
+	 * {@code java.util.List#add(int, E)} or, for getters,
+	 * {@code java.util.Map.Entry#get key}.
+	 * @param member Member.
+	 * @return Symbol name.
+	 */
+	private String symbolName(Member member) {
+		if (member instanceof TypeDefinition) {
+			return member.name();
+		}
+		String prefix = (currentType != null ? currentType.name() : "") + "#";
+		if (member instanceof Getter) {
+			return prefix + "get " + member.name();
+		} else if (member instanceof Setter) {
+			return prefix + "set " + member.name();
+		} else if (member instanceof Method) {
+			String params = ((Method) member).params.stream().map(param -> param.type.name())
+					.collect(Collectors.joining(", "));
+			return prefix + (member instanceof Constructor ? "constructor" : member.name()) + "(" + params + ")";
+		} else {
+			return prefix + member.name();
+		}
+	}
+
 	public TsEmitter javadoc(String doc) {
 		doc = processJavadoc(doc);
 		indent().println("/**");
@@ -15,7 +15,7 @@ import io.github.bensku.tsbind.ast.Setter;
 public class TsMembers {
 
 	public static final TsGenerator<Field> FIELD = (node, out) -> {
-		node.javadoc.ifPresent(out::javadoc);
+		out.javadoc(node);
 		out.indent();
 		if (node.isStatic) {
 			out.print("static ");
@@ -53,7 +53,7 @@ public class TsMembers {
 	};
 	
 	public static final TsGenerator<Method> METHOD = (node, out) -> {
-		node.javadoc.ifPresent(out::javadoc);
+		out.javadoc(node);
 		out.indent();
 		if (node.isStatic) { // 'static' modified is roughly same in TS and Java
 			out.print("static ");
@@ -76,12 +76,12 @@ public class TsMembers {
 	};
 	
 	public static final TsGenerator<Constructor> CONSTRUCTOR = (node, out) -> {
-		node.javadoc.ifPresent(out::javadoc);
+		out.javadoc(node);
 		out.indent().print("constructor(").print(node.params, ", ").print(");");
 	};
 	
 	public static final TsGenerator<Getter> GETTER = (node, out) -> {
-		node.javadoc.ifPresent(out::javadoc);
+		out.javadoc(node);
 		out.indent();
 		if (node.isStatic) {
 			out.print("static ");
@@ -90,7 +90,7 @@ public class TsMembers {
 	};
 	
 	public static final TsGenerator<Setter> SETTER = (node, out) -> {
-		node.javadoc.ifPresent(out::javadoc);
+		out.javadoc(node);
 		out.indent();
 		if (node.isStatic) {
 			out.print("static ");
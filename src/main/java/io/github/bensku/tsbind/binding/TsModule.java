@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import io.github.bensku.tsbind.ast.Member;
 import io.github.bensku.tsbind.ast.TypeDefinition;
 import io.github.bensku.tsbind.ast.TypeRef;
 
@@ -26,9 +27,16 @@ public class TsModule {
 	private boolean useGettersAndSetters = false;
 
 	/**
-	 * Types in this module.
+	 * Names of types in this module. Types are looked up from type table
+	 * when this is written, so that they need not be in memory until then.
 	 */
-	private final List<TypeDefinition> types;
+	private final List<String> types;
+
+	/**
+	 * Names of modules that this imports from, known after it has been
+	 * written.
+	 */
+	private Set<String> importedModules = Set.of();
 
 	public TsModule(String name) {
 		this.name = name;
@@ -39,7 +47,7 @@ public class TsModule {
 		return name;
 	}
 
-	public TsModule addType(TypeDefinition type) {
+	public TsModule addType(String type) {
 		types.add(type);
 		return this;
 	}
@@ -59,8 +67,52 @@ public class TsModule {
 		return this;
 	}
 
+	/**
+	 * Gets names of types in this module.
+	 * @return Type names.
+	 */
+	public List<String> types() {
+		return types;
+	}
+
+	/**
+	 * Creates a module with same name and options as this, but with only
+	 * some of its types.
+	 * @param types Names of types of the new module.
+	 * @return A new module.
+	 */
+	public TsModule part(List<String> types) {
+		TsModule part = new TsModule(name);
+		part.types.addAll(types);
+		part.emitReadOnly = emitReadOnly;
+		part.excludeMethods = excludeMethods;
+		part.useGettersAndSetters = useGettersAndSetters;
+		return part;
+	}
+
+	/**
+	 * Gets names of modules that this imports types from.
+	 * @return Module names, or empty set if this has not been written yet.
+	 */
+	public Set<String> importedModules() {
+		return importedModules;
+	}
+
 	public void write(Map<String, TypeDefinition> typeTable, StringBuilder sb) {
+		write(typeTable, sb, null);
+	}
+
+	/**
+	 * Writes declarations of this module.
+	 * @param typeTable Type table.
+	 * @param sb Where to write.
+	 * @param docs Where to put Javadocs by their symbol names, or null to
+	 * write them as comments.
+	 */
+	public void write(Map<String, TypeDefinition> typeTable, StringBuilder sb, Map<String, String> docs) {
 		sb.append("declare module '").append(name).append("' {\n");
+		List<TypeDefinition> types = this.types.stream().map(type -> findType(typeTable, type))
+				.collect(Collectors.toList());
 
 		class Import {
 			/**
@@ -80,7 +132,7 @@ public class TsModule {
 		}
 
 		// Figure out type names and import declarations
-		Map<TypeRef, String> typeNames = findTypeNames();
+		Map<TypeRef, String> typeNames = findTypeNames(types);
 		Map<String, Import> imports = new HashMap<>();
 		typeNames.forEach((type, name) -> {
 			String fqn = type.name();
@@ -90,6 +142,8 @@ public class TsModule {
 			}
 		});
 
+		importedModules = imports.keySet();
+
 		// Emit import lines
 		for (Import line : imports.values()) {
 			sb.append("import { ");
@@ -105,13 +159,37 @@ public class TsModule {
 
 		// Generate classes of this module
 		TsEmitter emitter = new TsEmitter("  ", typeNames, typeTable, emitReadOnly, excludeMethods, useGettersAndSetters);
+		emitter.documentTo(docs);
 		types.forEach(emitter::print);
 		sb.append(emitter.toString());
 
 		sb.append("\n}\n");
 	}
 
-	private Map<TypeRef, String> findTypeNames() {
+	/**
+	 * Finds a type from type table, which has only top-level types.
+	 * @param typeTable Type table.
+	 * @param name Name of a top-level or inner type.
+	 * @return The type.
+	 */
+	private static TypeDefinition findType(Map<String, TypeDefinition> typeTable, String name) {
+		TypeDefinition type = typeTable.get(name);
+		if (type != null) {
+			return type;
+		}
+		int outer = name.lastIndexOf('.');
+		if (outer == -1) {
+			throw new IllegalStateException("type " + name + " not in type table");
+		}
+		for (Member member : findType(typeTable, name.substring(0, outer)).members) {
+			if (member instanceof TypeDefinition && ((TypeDefinition) member).name().equals(name)) {
+				return (TypeDefinition) member;
+			}
+		}
+		throw new IllegalStateException("inner type " + name + " not found");
+	}
+
+	private Map<TypeRef, String> findTypeNames(List<TypeDefinition> types) {
 		Map<TypeRef, String> typeNames = new HashMap<>();
 		Set<String> simpleNames = new HashSet<>();
 		types.forEach(def -> def.walk(node -> {
@@ -1,5 +1,6 @@
 package io.github.bensku.tsbind.cli;
 
+import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,22 +9,47 @@ import com.beust.jcommander.Parameter;
 import com.google.common.base.Function;
 
 import io.github.bensku.tsbind.AstConsumer;
+import io.github.bensku.tsbind.AstSnapshot;
 import io.github.bensku.tsbind.JsonEmitter;
 import io.github.bensku.tsbind.binding.BindingGenerator;
 
 public class Args {
 
 	public enum OutputFormat {
-		JSON((args) -> new JsonEmitter()),
-		TS_TYPES((args) -> new BindingGenerator(args.index, args.emitReadOnly, args.excludeMethods, args.gettersAndSettersOff, args.groupByModule));
-
-		public final Function<Args, AstConsumer<String>> consumerSource;
-
-		OutputFormat(Function<Args, AstConsumer<String>> consumer) {
+		JSON((args) -> new JsonEmitter(args.jsonLines), true),
+		SNAPSHOT((args) -> new AstSnapshot(args.snapshotLabel), true),
+		TS_TYPES((args) -> new BindingGenerator(args.index, args.emitReadOnly, args.excludeMethods, args.gettersAndSettersOff, args.groupByModule, args.shardSize, args.javadocSidecar), false);
+
+		/**
+		 * Creates consumer for this format. Results are written as text,
+		 * except for byte arrays.
+		 */
+		public final Function<Args, AstConsumer<?>> consumerSource;
+
+		/**
+		 * If this format is written right after parsing, before any
+		 * transformations. This allows using it as input later.
+		 */
+		public final boolean untransformed;
+
+		OutputFormat(Function<Args, AstConsumer<?>> consumer, boolean untransformed) {
 			this.consumerSource = consumer;
+			this.untransformed = untransformed;
 		}
 	}
 
+	public enum Resolution {
+		/**
+		 * Resolve types with JavaParser's symbol solver.
+		 */
+		SYMBOLS,
+
+		/**
+		 * Bind names using imports and known type names only.
+		 */
+		IMPORTS
+	}
+
 	@Parameter(names = "--format")
 	public OutputFormat format = OutputFormat.TS_TYPES;
 
@@ -39,6 +65,12 @@ public class Args {
 	@Parameter(names = "--artifact")
 	public List<String> artifacts = new ArrayList<>();
 
+	@Parameter(names = "--resolution")
+	public Resolution resolution = Resolution.SYMBOLS;
+
+	@Parameter(names = "--timeBudget")
+	public long timeBudget;
+
 	@Parameter(names = "--offset")
 	public String offset = "";
 
@@ -48,6 +80,18 @@ public class Args {
 	@Parameter(names = "--exclude")
 	public List<String> exclude = List.of();
 
+	@Parameter(names = "--ignoreModuleInfo")
+	public boolean ignoreModuleInfo;
+
+	@Parameter(names = "--qualifiedExports")
+	public List<String> qualifiedExports = List.of();
+
+	@Parameter(names = "--release")
+	public int release;
+
+	@Parameter(names = "--link")
+	public List<Path> link = List.of();
+
 	@Parameter(names = "--blacklist")
 	public List<String> blacklist = List.of();
 
@@ -66,9 +110,15 @@ public class Args {
 	@Parameter(names = "--packageJson")
 	public Path packageJson;
 
+	@Parameter(names = "--snapshotLabel")
+	public String snapshotLabel;
+
 	@Parameter(names = "--index")
 	public boolean index;
 
+	@Parameter(names = "--jsonLines")
+	public boolean jsonLines;
+
 	@Parameter(names = "--emitReadOnly")
 	public boolean emitReadOnly;
 
@@ -78,6 +128,12 @@ public class Args {
 	@Parameter(names = "--groupByModule")
 	public boolean groupByModule;
 
+	@Parameter(names = "--shardSize")
+	public int shardSize;
+
+	@Parameter(names = "--javadocSidecar")
+	public boolean javadocSidecar;
+
 	@Parameter(names = "--flattenTypes")
 	public boolean flattenTypes;
 
@@ -87,6 +143,45 @@ public class Args {
 	@Parameter(names = "--rootTypes")
 	public List<String> rootTypes = List.of();
 
+	@Parameter(names = "--memoryBudget")
+	public long memoryBudget;
+
+	@Parameter(names = "--spillThreshold")
+	public long spillThreshold;
+
+	@Parameter(names = "--parseCache")
+	public Path parseCache;
+
+	@Parameter(names = "--parseCacheUrl")
+	public URI parseCacheUrl;
+
+	@Parameter(names = "--serveParseCache")
+	public int serveParseCache = -1;
+
+	@Parameter(names = "--metrics")
+	public Path metrics;
+
+	@Parameter(names = "--profileTypes")
+	public int profileTypes;
+
+	@Parameter(names = "--benchmark")
+	public int benchmark;
+
+	@Parameter(names = "--benchmarkWarmup")
+	public int benchmarkWarmup = 2;
+
+	@Parameter(names = "--discardOutput")
+	public boolean discardOutput;
+
+	@Parameter(names = "--serve")
+	public int serve = -1;
+
+	@Parameter(names = "--batch")
+	public Path batch;
+
+	@Parameter(names = "--batchWorkers")
+	public int batchWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
 	@Parameter(names = "--debugMatching")
 	public boolean debugMatching;
 
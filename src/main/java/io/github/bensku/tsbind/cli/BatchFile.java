@@ -0,0 +1,41 @@
+package io.github.bensku.tsbind.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Jobs given with --batch.
+ *
+ */
+public class BatchFile {
+
+	/**
+	 * Options shared by all jobs.
+	 */
+	public JsonObject tsbindOptions;
+
+	/**
+	 * Jobs, each overriding some of {@link #tsbindOptions} (usually
+	 * artifacts and output directory).
+	 */
+	public List<JsonObject> jobs;
+
+	/**
+	 * Gets options of each job.
+	 * @param gson Gson to deserialize options with.
+	 * @return Options of jobs.
+	 */
+	public List<Args> jobs(Gson gson) {
+		if (jobs == null) {
+			throw new IllegalArgumentException("missing jobs in --batch");
+		}
+		List<Args> options = new ArrayList<>(jobs.size());
+		for (JsonObject job : jobs) {
+			options.add(PackageJson.merge(gson, tsbindOptions, job));
+		}
+		return options;
+	}
+}
@@ -1,11 +1,23 @@
 package io.github.bensku.tsbind.cli;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileSystems;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.beust.jcommander.JCommander;
@@ -13,206 +25,751 @@ import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ParserConfiguration.LanguageLevel;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.JarTypeSolver;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
+import io.github.bensku.tsbind.AstConsumer;
 import io.github.bensku.tsbind.AstConsumer.Result;
+import io.github.bensku.tsbind.AstConsumer.StreamedResult;
 import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.AstSnapshot;
+import io.github.bensku.tsbind.ClassCache;
+import io.github.bensku.tsbind.JdkClasses;
+import io.github.bensku.tsbind.JsonEmitter;
+import io.github.bensku.tsbind.ParseCache;
+import io.github.bensku.tsbind.PhaseMetrics;
+import io.github.bensku.tsbind.PhaseMetrics.Phase;
 import io.github.bensku.tsbind.SourceUnit;
+import io.github.bensku.tsbind.StreamingAstConsumer;
+import io.github.bensku.tsbind.StreamingAstConsumer.TypeStream;
+import io.github.bensku.tsbind.TimeBudgetTypeSolver;
+import io.github.bensku.tsbind.TypeIndex;
+import io.github.bensku.tsbind.TypeProfiler;
+import io.github.bensku.tsbind.TypeStore;
 import io.github.bensku.tsbind.ast.TypeDefinition;
 import io.github.bensku.tsbind.ast.TypeRef;
 import io.github.bensku.tsbind.binding.EarlyTypeTransformer;
 
 public class BindGenApp {
 
+	/**
+	 * How many source files may be read ahead of the parser.
+	 */
+	private static final int SOURCE_QUEUE_SIZE = 64;
+
 	public static void main(String... argv) throws IOException, InterruptedException {
 		// Parse command-line arguments
 		Args args = new Args();
 		JCommander.newBuilder().addObject(args).build().parse(argv);
 
+		if (args.batch != null) {
+			runBatch(args);
+			return;
+		}
+		if (args.serveParseCache >= 0) {
+			if (args.parseCache == null) {
+				throw new IllegalArgumentException("--serveParseCache needs --parseCache directory");
+			}
+			new CacheServer(new ParseCache.DirectoryBackend(args.parseCache)).start(args.serveParseCache);
+			return;
+		}
+		List<Args> profiles = List.of(args);
 		if (args.packageJson != null) {
-			args = new GsonBuilder()
-					.registerTypeAdapter(Path.class, new TypeAdapter<Path>() {
+			Gson gson = optionsGson();
+			PackageJson packageJson = gson.fromJson(Files.readString(args.packageJson), PackageJson.class);
+			args = packageJson.options(gson);
+			profiles = packageJson.profiles(gson);
+		}
 
-						@Override
-						public void write(JsonWriter out, Path value) throws IOException {
-							out.value(value.toString());
-						}
+		PhaseMetrics metrics = new PhaseMetrics();
+		List<Path> inputPaths = inputPaths(args, Files.createTempDirectory("tsbind"), metrics);
+		if (args.benchmark > 0) {
+			runBenchmark(args, profiles, inputPaths);
+			return;
+		}
+		SharedSymbols symbols = createSymbols(args);
+		if (args.serve >= 0) {
+			runServer(args, inputPaths, symbols);
+			return;
+		}
+		generate(args, profiles, inputPaths, metrics, true, symbols, true);
 
-						@Override
-						public Path read(JsonReader in) throws IOException {
-							return Path.of(in.nextString());
-						}
-					})
-					.create()
-					.fromJson(Files.readString(args.packageJson), PackageJson.class).tsbindOptions;
-			if (args == null) {
-				throw new IllegalArgumentException("missing tsbindOptions in --packageJson");
+		if (args.metrics != null) {
+			Files.createDirectories(args.metrics);
+			metrics.write(args.metrics);
+			System.out.println("Wrote metrics to " + args.metrics);
+		}
+	}
+
+	/**
+	 * Creates Gson for reading options from JSON files.
+	 * @return Gson.
+	 */
+	private static Gson optionsGson() {
+		return new GsonBuilder()
+				.registerTypeAdapter(Path.class, new TypeAdapter<Path>() {
+
+					@Override
+					public void write(JsonWriter out, Path value) throws IOException {
+						out.value(value.toString());
+					}
+
+					@Override
+					public Path read(JsonReader in) throws IOException {
+						return Path.of(in.nextString());
+					}
+				})
+				.create();
+	}
+
+	/**
+	 * Gets input paths, downloading --artifact from Maven if provided.
+	 * Symbols of downloaded artifacts are added to arguments.
+	 * @param args Arguments.
+	 * @param downloadDir Where to download artifacts.
+	 * @param metrics Where to record metrics.
+	 * @return Input paths.
+	 * @throws IOException When downloading fails.
+	 * @throws InterruptedException When interrupted while downloading.
+	 */
+	private static List<Path> inputPaths(Args args, Path downloadDir, PhaseMetrics metrics)
+			throws IOException, InterruptedException {
+		if (args.artifacts.isEmpty()) {
+			return args.in;
+		}
+		PhaseMetrics.Timer downloadTimer = metrics.start(Phase.DOWNLOAD);
+		MavenResolver resolver = new MavenResolver(downloadDir, args.repos);
+		args.repos.add("https://repo1.maven.org/maven2"); // Maven central as last resort
+
+		// Add all artifacts to input paths and symbols
+		List<Path> inputPaths = new ArrayList<>();
+		for (String artifact : args.artifacts) {
+			System.out.println("Resolving Maven artifact " + artifact);
+			MavenResolver.ArtifactResults results = resolver.downloadArtifacts(artifact, true);
+			inputPaths.add(results.sourceJar);
+			args.symbols.addAll(results.symbols);
+			metrics.addItems(Phase.DOWNLOAD, 1 + results.symbols.size());
+		}
+		downloadTimer.close();
+		return inputPaths;
+	}
+
+	/**
+	 * Runs many generation jobs in this JVM, some of them concurrently.
+	 * Jobs share downloads and symbols from jars, so dependencies common to
+	 * many jobs are downloaded, indexed and read only once.
+	 * @param args Arguments with --batch.
+	 * @throws IOException When reading the batch file fails.
+	 * @throws InterruptedException When interrupted while waiting for jobs.
+	 */
+	private static void runBatch(Args args) throws IOException, InterruptedException {
+		Gson gson = optionsGson();
+		List<Args> jobs = gson.fromJson(Files.readString(args.batch), BatchFile.class).jobs(gson);
+		System.out.println("Running " + jobs.size() + " jobs with " + args.batchWorkers + " workers");
+
+		PhaseMetrics metrics = new PhaseMetrics(); // Sum of all jobs
+		SharedSymbols symbols = new SharedSymbols(args.memoryBudget > 0 ? ClassCache.ofBudget(args.memoryBudget) : null);
+		Path downloadDir = Files.createTempDirectory("tsbind");
+		Object downloadLock = new Object();
+		ExecutorService workers = Executors.newFixedThreadPool(args.batchWorkers);
+		List<Future<?>> results = new ArrayList<>();
+		for (Args job : jobs) {
+			results.add(workers.submit(() -> {
+				List<Path> inputPaths;
+				synchronized (downloadLock) {
+					// Jobs often share dependencies, don't download them concurrently
+					inputPaths = inputPaths(job, downloadDir, metrics);
+				}
+				// Other jobs may be using their solvers, so keep them until all are done
+				generate(job, List.of(job), inputPaths, metrics, true, symbols, false);
+				return null;
+			}));
+		}
+		workers.shutdown();
+		workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		// Cached facades keep type solvers of finished jobs alive
+		JavaParserFacade.clearInstances();
+
+		int failed = 0;
+		for (int i = 0; i < jobs.size(); i++) {
+			try {
+				results.get(i).get();
+			} catch (ExecutionException e) {
+				failed++;
+				System.out.println("Job " + (i + 1) + " (" + jobs.get(i).out + ") failed:");
+				e.getCause().printStackTrace(System.out);
 			}
 		}
+		System.out.println("Finished " + (jobs.size() - failed) + " of " + jobs.size() + " jobs, "
+				+ symbols.jarCount() + " symbol jars were shared");
+		if (args.metrics != null) {
+			Files.createDirectories(args.metrics);
+			metrics.write(args.metrics);
+			System.out.println("Wrote metrics to " + args.metrics);
+		}
+		if (failed > 0) {
+			throw new RuntimeException(failed + " of " + jobs.size() + " jobs failed");
+		}
+	}
 
-		// Download the --artifact from Maven if provided
-		List<Path> inputPaths;
-		if (!args.artifacts.isEmpty()) {
-			MavenResolver resolver = new MavenResolver(Files.createTempDirectory("tsbind"), args.repos);
-			args.repos.add("https://repo1.maven.org/maven2"); // Maven central as last resort
+	/**
+	 * Starts a server that generates types on request. Inputs are indexed
+	 * and symbol solvers created now, but types are parsed only when needed.
+	 * @param args Arguments with --serve.
+	 * @param inputPaths Input paths, already downloaded.
+	 * @param symbols Symbols with limited memory use, or null.
+	 * @throws IOException When indexing inputs or starting the server fails.
+	 */
+	private static void runServer(Args args, List<Path> inputPaths, SharedSymbols symbols) throws IOException {
+		Map<String, TypeDefinition> linked = readLinked(args.link, new PhaseMetrics());
+		SourceReader reader = createSourceReader(args, inputPaths);
+		TypeIndex typeIndex = createTypeIndex(args, reader, linked);
+		SourceIndex sources = new SourceIndex(reader);
+		System.out.println("Indexed " + sources.size() + " types");
+		new GenerationServer(args, sources, createAstGenerator(args, typeIndex, symbols), typeIndex, linked).start(args.serve);
+	}
+
+	/**
+	 * Creates symbols that are read with limited memory, if --memoryBudget
+	 * is given.
+	 * @param args Arguments.
+	 * @return Shared symbols, or null if symbols should be read just for
+	 * one run and kept until it ends.
+	 */
+	private static SharedSymbols createSymbols(Args args) {
+		return args.memoryBudget > 0 ? new SharedSymbols(ClassCache.ofBudget(args.memoryBudget)) : null;
+	}
 
-			// Add all artifacts to input paths and symbols
-			inputPaths = new ArrayList<>();
-			for (String artifact : args.artifacts) {
-				System.out.println("Resolving Maven artifact " + artifact);
-				MavenResolver.ArtifactResults results = resolver.downloadArtifacts(artifact, true);
-				inputPaths.add(results.sourceJar);
-				args.symbols.addAll(results.symbols);
+	/**
+	 * Runs the pipeline many times in this JVM and reports how long each
+	 * phase took, once the JIT has warmed up.
+	 * @param args Arguments.
+	 * @param profiles Output profiles, all generated in each run.
+	 * @param inputPaths Input paths, already downloaded.
+	 * @throws IOException When reading inputs or writing outputs fails.
+	 */
+	private static void runBenchmark(Args args, List<Args> profiles, List<Path> inputPaths) throws IOException {
+		List<PhaseMetrics> runs = new ArrayList<>();
+		for (int i = 0; i < args.benchmarkWarmup + args.benchmark; i++) {
+			boolean warmup = i < args.benchmarkWarmup;
+			System.out.println((warmup ? "Warm-up run " : "Benchmark run ") + (i + 1));
+			PhaseMetrics metrics = new PhaseMetrics();
+			// Each run reads symbols again, like separate runs would
+			generate(args, profiles, inputPaths, metrics, !args.discardOutput, createSymbols(args), true);
+			// Symbol caches of each run are kept until cleared, so that would leak memory
+			JavaParserFacade.clearInstances();
+			if (!warmup) {
+				runs.add(metrics);
 			}
-		} else {
-			inputPaths = args.in;
 		}
-		System.out.println("Generating types for " + inputPaths + " to " + args.out);
+		if (args.metrics != null) {
+			Files.createDirectories(args.metrics);
+			runs.get(runs.size() - 1).write(args.metrics);
+		}
 
-		// Prepare for AST generation
-		JavaParser parser = setupParser(args.symbols);
-		AstGenerator astGenerator = new AstGenerator(parser, args.blacklist, args.methodWhitelist, args.fieldWhitelist, args.gettersAndSettersOff, args.debugMatching);
+		System.out.println("Results of " + runs.size() + " runs after " + args.benchmarkWarmup + " warm-up runs:");
+		System.out.println(String.format("%-16s %12s %12s", "phase", "median ms", "p95 ms"));
+		for (Phase phase : Phase.values()) {
+			if (phase == Phase.DOWNLOAD) {
+				continue; // Only done once, before benchmarking
+			}
+			long[] times = runs.stream().mapToLong(run -> run.wallNanos(phase)).sorted().toArray();
+			System.out.println(String.format("%-16s %12.1f %12.1f", phase.name().toLowerCase(Locale.ROOT),
+					percentile(times, 50) / 1e6, percentile(times, 95) / 1e6));
+		}
+		long[] totals = runs.stream().mapToLong(PhaseMetrics::elapsedNanos).sorted().toArray();
+		System.out.println(String.format("%-16s %12.1f %12.1f", "total", percentile(totals, 50) / 1e6,
+				percentile(totals, 95) / 1e6));
+		double[] rates = runs.stream().mapToDouble(run -> {
+			long allocated = 0;
+			for (Phase phase : Phase.values()) {
+				allocated += run.allocatedBytes(phase);
+			}
+			return allocated / (run.elapsedNanos() / 1e9) / (1024 * 1024);
+		}).sorted().toArray();
+		System.out.println(String.format("Allocation rate: median %.1f MB/s", rates[(rates.length - 1) / 2]));
+	}
 
-		// Walk over input Java source files
-		String offset = args.offset;
-		List<String> include = args.include;
-		List<String> exclude = args.exclude;
-		Path outDir = args.out;
+	/**
+	 * Gets a percentile using nearest-rank method.
+	 * @param sorted Sorted values.
+	 * @param percentile Percentile, between 0 and 100.
+	 * @return Value at percentile.
+	 */
+	private static long percentile(long[] sorted, int percentile) {
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(rank - 1, 0)];
+	}
+
+	/**
+	 * Parses and resolves types once, then transforms and emits them for
+	 * each output profile.
+	 * @param args Arguments for reading and parsing.
+	 * @param profiles Arguments for transforming and emitting, one per
+	 * output.
+	 * @param inputPaths Input paths, already downloaded.
+	 * @param metrics Where to record metrics.
+	 * @param writeOutput If output should be written to disk.
+	 * @param symbols Symbols shared with other jobs, or null to read
+	 * symbols just for this.
+	 * @param releaseSolvers If cached solvers of all jobs may be released
+	 * after parsing, i.e. no other job is running.
+	 * @throws IOException When reading inputs or writing outputs fails.
+	 */
+	private static void generate(Args args, List<Args> profiles, List<Path> inputPaths, PhaseMetrics metrics,
+			boolean writeOutput, SharedSymbols symbols, boolean releaseSolvers) throws IOException {
+		for (Args profile : profiles) {
+			System.out.println("Generating types for " + inputPaths + " to " + profile.out);
+		}
 
-		try (Stream<Path> files = inputPaths.stream().map(t -> {
-				if (Files.isDirectory(t)) {
-					return t;
+		// Past spill threshold, types are paged in from disk when needed
+		Map<String, TypeDefinition> types = args.spillThreshold > 0
+				? new TypeStore(args.spillThreshold * 1024 * 1024) : new TreeMap<>();
+		try {
+			generate(args, profiles, inputPaths, metrics, writeOutput, symbols, releaseSolvers, types);
+		} finally {
+			if (types instanceof TypeStore) {
+				TypeStore store = (TypeStore) types;
+				store.record(metrics);
+				System.out.println("Type store: " + store);
+				store.close();
+			}
+		}
+	}
+
+	private static void generate(Args args, List<Args> profiles, List<Path> inputPaths, PhaseMetrics metrics,
+			boolean writeOutput, SharedSymbols symbols, boolean releaseSolvers, Map<String, TypeDefinition> types)
+			throws IOException {
+		Map<String, TypeDefinition> linked = readLinked(args.link, metrics);
+		TypeIndex typeIndex = null;
+		Path dump = inputPaths.size() == 1 ? inputPaths.get(0) : null;
+		if (dump != null && (AstSnapshot.isSnapshot(dump) || JsonEmitter.isDump(dump))) {
+			// Parsed earlier, only transform and emit
+			try (PhaseMetrics.Timer timer = metrics.start(Phase.READ)) {
+				if (AstSnapshot.isSnapshot(dump)) {
+					AstSnapshot.read(dump, types);
 				} else {
-					// Path should be zip file, access it as directory
-					try {
-						return FileSystems.newFileSystem(t, (ClassLoader) null).getPath("/");
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				}
-			}).map(t -> t.resolve(offset)) // Apply offset argument
-			.flatMap(t -> {
-				// Walk all files from ALL inputs
-				try {
-					// Filter here, because we need to relativize to each input directory
-					return Files.walk(t)
-							.filter(f -> isIncluded(t.relativize(f).toString().replace(File.separatorChar, '.'),
-									include, exclude));
-				} catch (IOException e) {
-					throw new RuntimeException(e); // Thanks, Java
+					JsonEmitter.read(dump, types);
 				}
-			})
-			// Filter out files that are not likely contain Java source code
-			.filter(Files::isRegularFile)
-			.filter(f -> f.getFileName().toString().endsWith(".java"))
-			.filter(f -> !f.getFileName().toString().equals("package-info.java"))) {
-			Map<String, TypeDefinition> types = new TreeMap<>();
-			files.map(path -> {
-				try {
-					return new SourceUnit(path.toString(), Files.readString(path));
-				} catch (IOException e) {
-					// TODO handle this better
-					throw new RuntimeException(e);
-				}
-			}).map(astGenerator::parseType)
-			.flatMap(Optional::stream).forEach(type -> {
-				System.out.println("Parsed type " + type.name());
-				types.put(type.name(), type);
-			});
+			}
+			metrics.addItems(Phase.READ, 1);
+			System.out.println("Read " + types.size() + " types from AST dump " + dump);
+		} else {
+			// Read input Java source files in background while we parse them
+			SourceReader reader = createSourceReader(args, inputPaths).metrics(metrics);
 
-			// Apply early transformation passes that need all types
-			EarlyTypeTransformer earlyTransform = new EarlyTypeTransformer(types, args.methodWhitelist);
-			for (TypeDefinition def : types.values()) {
-				earlyTransform.addMissingOverloads(def);
- 			}
-			if (args.forceParentJavadocs) {
-				for (TypeDefinition def : types.values()) {
-					earlyTransform.forceParentJavadocs(def);
+			// Prepare for AST generation
+			typeIndex = createTypeIndex(args, reader, linked);
+			AstGenerator astGenerator = createAstGenerator(args, typeIndex, symbols);
+			astGenerator.setMetrics(metrics);
+			TypeProfiler profiler = null;
+			if (args.profileTypes > 0) {
+				profiler = new TypeProfiler();
+				astGenerator.setProfiler(profiler);
+			}
+
+			// Formats that need nothing but the type itself are written while parsing
+			// Hidden supertypes are not known before everything has been parsed, though
+			Args output = profiles.get(0);
+			AstConsumer<?> consumer = profiles.size() == 1 ? output.format.consumerSource.apply(output) : null;
+			StreamingAstConsumer streaming = output.format.untransformed && typeIndex == null
+					&& consumer instanceof StreamingAstConsumer ? (StreamingAstConsumer) consumer : null;
+			try (WritableByteChannel channel = streaming != null ? openOutput(output.out, streaming.resultName(), writeOutput) : null;
+					Stream<SourceUnit> sources = reader.start()) {
+				TypeStream stream = streaming != null ? streaming.open(channel) : null;
+				sources.map(astGenerator::parseType)
+				.flatMap(Optional::stream).forEach(type -> {
+					System.out.println("Parsed type " + type.name());
+					if (stream != null) {
+						try (PhaseMetrics.Timer timer = metrics.start(Phase.EMIT)) {
+							stream.accept(type);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					} else {
+						types.put(type.name(), type);
+					}
+				});
+				if (stream != null) {
+					try (PhaseMetrics.Timer timer = metrics.start(Phase.EMIT)) {
+						stream.finish();
+					}
+					metrics.addItems(Phase.EMIT, 1);
 				}
 			}
-			if (args.flattenTypes) {
+			reportOverBudget(astGenerator.getOverBudget(), args.timeBudget);
+			ParseCache parseCache = astGenerator.getParseCache();
+			if (parseCache != null) {
+				parseCache.record(metrics);
+				System.out.println("Parse cache: " + parseCache);
+			}
+			ClassCache classCache = symbols != null ? symbols.classCache() : null;
+			if (classCache != null) {
+				classCache.record(metrics);
+				System.out.println("Class cache: " + classCache);
+			}
+			if (classCache != null && releaseSolvers) {
+				// Symbols are not needed after parsing, so let solvers of this run go
+				JavaParserFacade.clearInstances();
+			}
+			if (profiler != null) {
+				profiler.report(System.out, args.profileTypes);
+			}
+			if (streaming != null) {
+				return; // Already written
+			}
+		}
+
+		if (typeIndex != null) {
+			// Type index is not available later, so do this even for untransformed output
+			try (PhaseMetrics.Timer timer = metrics.start(Phase.EARLY_TRANSFORM)) {
+				EarlyTypeTransformer earlyTransform = new EarlyTypeTransformer(types, args.methodWhitelist);
 				for (TypeDefinition def : types.values()) {
-					earlyTransform.flattenType(def);
+					earlyTransform.removeHiddenSupertypes(def, typeIndex::isNonPublic);
 				}
 			}
+		}
 
-			if (!args.rootTypes.isEmpty()) {
-				// We search all the accessible types and keep only the ones accessible through the root types
-				Set<String> accessibleTypes = new TreeSet<>(args.rootTypes);
-				int oldAccessibleTypeSize = 0;
-				// We loop here because we need to keep adding types until we don't add any more
-				while (oldAccessibleTypeSize < accessibleTypes.size()) {
-					oldAccessibleTypeSize = accessibleTypes.size();
-					for (TypeDefinition def : types.values()) {
-						if (accessibleTypes.contains(def.name())) {
-							accessibleTypes.add(def.name());
-							def.walk(node -> {
-								if (node instanceof TypeDefinition) {
-									accessibleTypes.add(((TypeDefinition) node).name());
-								} else if (node instanceof TypeRef) {
-									accessibleTypes.add(((TypeRef) node).name());
-								}
-							});
+		if (profiles.size() == 1) {
+			transformAndEmit(profiles.get(0), types, linked, metrics, writeOutput);
+			return;
+		}
+		// Transformations change types, and so does emitting TypeScript
+		// Give each profile that does that its own copy, but share the immutable parts
+		// Linked types are copied too, because their members are copied to our types
+		Map<String, TypeDefinition> parsed = types;
+		profiles.parallelStream().forEach(profile -> {
+			if (profile.format.untransformed) {
+				transformAndEmit(profile, parsed, linked, metrics, writeOutput);
+			} else {
+				Map<String, TypeDefinition> copy = copyTypes(parsed);
+				try {
+					transformAndEmit(profile, copy, copyTypes(linked), metrics, writeOutput);
+				} finally {
+					if (copy instanceof TypeStore) {
+						try {
+							((TypeStore) copy).close();
+						} catch (IOException e) {
+							throw new RuntimeException(e);
 						}
 					}
 				}
+			}
+		});
+	}
+
+	/**
+	 * Copies types. Copies of type stores are type stores too.
+	 * @param types Types to copy.
+	 * @return Copied types.
+	 */
+	private static Map<String, TypeDefinition> copyTypes(Map<String, TypeDefinition> types) {
+		Map<String, TypeDefinition> copy;
+		try {
+			copy = types instanceof TypeStore ? ((TypeStore) types).emptyCopy() : new TreeMap<>();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		for (TypeDefinition type : types.values()) {
+			copy.put(type.name(), type.copy());
+		}
+		return copy;
+	}
+
+	/**
+	 * Reads types from AST snapshots that are linked to a run. Linked types
+	 * are available to transformations, e.g. as supertypes to copy overloads
+	 * from, but they are not emitted.
+	 * @param snapshots Snapshot files. If many of them have a type, the
+	 * first one is used.
+	 * @param metrics Where to record metrics.
+	 * @return Linked types by their names.
+	 * @throws IOException When reading a snapshot fails.
+	 */
+	private static Map<String, TypeDefinition> readLinked(List<Path> snapshots, PhaseMetrics metrics) throws IOException {
+		Map<String, TypeDefinition> linked = new HashMap<>();
+		for (Path snapshot : snapshots) {
+			if (!AstSnapshot.isSnapshot(snapshot)) {
+				throw new IllegalArgumentException("--link " + snapshot + " is not an AST snapshot");
+			}
+			Map<String, TypeDefinition> types;
+			String label;
+			try (PhaseMetrics.Timer timer = metrics.start(Phase.READ)) {
+				types = AstSnapshot.read(snapshot);
+				label = AstSnapshot.label(snapshot);
+			}
+			System.out.println("Linked " + types.size() + " types from " + snapshot + (label != null ? " (" + label + ")" : ""));
+			types.forEach(linked::putIfAbsent);
+		}
+		return linked;
+	}
 
-				// then we purge all the types that are not accessible from the root types
-				types.keySet().removeIf(key -> !accessibleTypes.contains(key));
+	/**
+	 * Applies early transformations requested by a profile to types, and
+	 * emits them in its format.
+	 * @param args Arguments of the profile.
+	 * @param types Types, which may be changed.
+	 * @param linked Linked types, which are not emitted.
+	 * @param metrics Where to record metrics.
+	 * @param writeOutput If output should be written to disk.
+	 */
+	private static void transformAndEmit(Args args, Map<String, TypeDefinition> types, Map<String, TypeDefinition> linked,
+			PhaseMetrics metrics, boolean writeOutput) {
+		AstConsumer<?> consumer = args.format.consumerSource.apply(args);
+		if (!args.format.untransformed) {
+			transform(args, types, linked, metrics);
+		}
+		emit(args, consumer, types, metrics, writeOutput);
+	}
 
+	/**
+	 * Applies early transformations that need all types.
+	 * @param args Arguments that tell which transformations to apply.
+	 * @param types Types, which are changed.
+	 * @param linked Linked types. They can be looked up as supertypes, but
+	 * are not transformed themselves.
+	 * @param metrics Where to record metrics.
+	 */
+	static void transform(Args args, Map<String, TypeDefinition> types, Map<String, TypeDefinition> linked,
+			PhaseMetrics metrics) {
+		PhaseMetrics.Timer transformTimer = metrics.start(Phase.EARLY_TRANSFORM);
+		// Our own types win over linked ones
+		// They're not copied to another map, because they might not fit in memory
+		Function<String, TypeDefinition> typeLookup = linked.isEmpty() ? types::get : name -> {
+			TypeDefinition type = types.get(name);
+			return type != null ? type : linked.get(name);
+		};
+		EarlyTypeTransformer earlyTransform = new EarlyTypeTransformer(typeLookup, args.methodWhitelist);
+		for (TypeDefinition def : types.values()) {
+			earlyTransform.addMissingOverloads(def);
+		}
+		if (args.forceParentJavadocs) {
+			for (TypeDefinition def : types.values()) {
+				earlyTransform.forceParentJavadocs(def);
+			}
+		}
+		if (args.flattenTypes) {
+			for (TypeDefinition def : types.values()) {
+				earlyTransform.flattenType(def);
 			}
+		}
+
+		if (!args.rootTypes.isEmpty()) {
+			// We search all the accessible types and keep only the ones accessible through the root types
+			Set<String> accessibleTypes = new TreeSet<>(args.rootTypes);
+			int oldAccessibleTypeSize = 0;
+			// We loop here because we need to keep adding types until we don't add any more
+			while (oldAccessibleTypeSize < accessibleTypes.size()) {
+				oldAccessibleTypeSize = accessibleTypes.size();
+				for (Map.Entry<String, TypeDefinition> entry : types.entrySet()) {
+					if (accessibleTypes.contains(entry.getKey())) { // Don't page in types that are not needed
+						entry.getValue().walk(node -> {
+							if (node instanceof TypeDefinition) {
+								accessibleTypes.add(((TypeDefinition) node).name());
+							} else if (node instanceof TypeRef) {
+								accessibleTypes.add(((TypeRef) node).name());
+							}
+						});
+					}
+				}
+			}
+
+			// then we purge all the types that are not accessible from the root types
+			types.keySet().removeIf(key -> !accessibleTypes.contains(key));
 
-			Stream<Result<String>> results = args.format.consumerSource.apply(args)
-					.consume(types);
+		}
+		transformTimer.close();
+		metrics.addItems(Phase.EARLY_TRANSFORM, types.size());
+	}
+
+	private static void emit(Args args, AstConsumer<?> consumer, Map<String, TypeDefinition> types, PhaseMetrics metrics,
+			boolean writeOutput) {
+		Path outDir = args.out;
+		try (PhaseMetrics.Timer timer = metrics.start(Phase.EMIT)) {
+			Stream<? extends Result<?>> results = consumer.consume(types);
 			results.forEach(result -> {
-				System.out.println("Writing module " + result.name);
 				try {
-					Files.writeString(outDir.resolve(result.name), result.result);
+					if (result.result instanceof StreamedResult) {
+						// Produced while writing, so not writing would skip most of the work
+						try (WritableByteChannel channel = openOutput(outDir, result.name, writeOutput)) {
+							((StreamedResult) result.result).writeTo(channel);
+						}
+					} else if (writeOutput) {
+						System.out.println("Writing module " + result.name);
+						if (result.result instanceof byte[]) {
+							Files.write(outDir.resolve(result.name), (byte[]) result.result);
+						} else {
+							Files.writeString(outDir.resolve(result.name), result.result.toString());
+						}
+					}
 				} catch (IOException e) {
 					// TODO handle this better
 					throw new RuntimeException(e);
 				}
+				metrics.addItems(Phase.EMIT, 1);
 			});
 		}
 	}
 
-	private static boolean isIncluded(String name, List<String> includes, List<String> excludes) {
-		boolean include = false;
-		for (String prefix : includes) {
-			if (name.startsWith(prefix)) {
-				include = true;
-				break;
-			}
+	/**
+	 * Opens a channel for writing a result.
+	 * @param outDir Output directory.
+	 * @param name Result name.
+	 * @param writeOutput If false, the channel discards everything.
+	 * @return Channel.
+	 * @throws IOException When opening fails.
+	 */
+	private static WritableByteChannel openOutput(Path outDir, String name, boolean writeOutput) throws IOException {
+		if (!writeOutput) {
+			return Channels.newChannel(OutputStream.nullOutputStream());
 		}
-		if (!include) {
-			return false; // Not included
+		System.out.println("Writing module " + name);
+		return FileChannel.open(outDir.resolve(name), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+	}
+
+	private static void reportOverBudget(Map<String, Long> overBudget, long timeBudget) {
+		if (overBudget.isEmpty()) {
+			return;
 		}
-		for (String prefix : excludes) {
-			if (name.startsWith(prefix)) {
-				return false; // Included but excluded
+		System.out.println(overBudget.size() + " source files went over time budget of " + timeBudget
+				+ " ms and were processed without symbol resolution:");
+		overBudget.entrySet().stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+				.forEach(entry -> System.out.println("  " + entry.getKey() + " (cancelled after " + entry.getValue() + " ms)"));
+	}
+
+	/**
+	 * Creates a reader for input source files, with filters and module
+	 * settings from arguments.
+	 * @param args Arguments.
+	 * @param inputPaths Input paths, already downloaded.
+	 * @return Source reader that has not been started.
+	 */
+	private static SourceReader createSourceReader(Args args, List<Path> inputPaths) {
+		SourceReader reader = new SourceReader(inputPaths, args.offset, new PathFilter(args.include, args.exclude),
+				SOURCE_QUEUE_SIZE);
+		if (!args.ignoreModuleInfo) {
+			reader.readModuleInfo(args.qualifiedExports);
+		}
+		return reader;
+	}
+
+	/**
+	 * Creates index of known types, if arguments need one.
+	 * @param args Arguments.
+	 * @param reader Reader of input sources.
+	 * @param linked Types from linked AST snapshots.
+	 * @return Type index, or null if symbols are resolved without time budget.
+	 * @throws IOException When listing inputs or reading jars fails.
+	 */
+	private static TypeIndex createTypeIndex(Args args, SourceReader reader, Map<String, TypeDefinition> linked)
+			throws IOException {
+		if (args.resolution != Args.Resolution.IMPORTS && args.timeBudget <= 0) {
+			return null;
+		}
+		// Names of types are enough, no need to load symbols from jars
+		TypeIndex typeIndex = args.release != 0 ? new TypeIndex(JdkClasses.of(args.release)) : new TypeIndex();
+		reader.indexTypes(typeIndex);
+		for (Path jar : args.symbols) {
+			typeIndex.addJar(jar);
+		}
+		for (TypeDefinition type : linked.values()) {
+			typeIndex.addLinkedType(type);
+		}
+		return typeIndex;
+	}
+
+	/**
+	 * Creates AST generator with a parser configured by arguments.
+	 * @param args Arguments.
+	 * @param typeIndex Type index from {@link #createTypeIndex(Args, SourceReader, Map)}.
+	 * @param symbols Symbols shared with other jobs, or null.
+	 * @return AST generator.
+	 * @throws IOException When reading jars fails.
+	 */
+	private static AstGenerator createAstGenerator(Args args, TypeIndex typeIndex, SharedSymbols symbols) throws IOException {
+		if (args.resolution == Args.Resolution.IMPORTS) {
+			JavaParser parser = new JavaParser(parserConfig());
+			AstGenerator astGenerator = new AstGenerator(parser, typeIndex, args.blacklist, args.methodWhitelist, args.fieldWhitelist, args.gettersAndSettersOff, args.debugMatching);
+			astGenerator.setParseCache(createParseCache(args, typeIndex));
+			return astGenerator;
+		}
+		TypeSolver typeSolver = symbols != null ? symbols.createSolver(args.symbols, args.release)
+				: createTypeSolver(args.symbols, args.release);
+		if (args.timeBudget > 0) {
+			// Cut off even a single member that spends too long resolving symbols
+			typeSolver = new TimeBudgetTypeSolver(typeSolver);
+		}
+		JavaParser parser = setupParser(typeSolver);
+		AstGenerator astGenerator = new AstGenerator(parser, null, args.blacklist, args.methodWhitelist, args.fieldWhitelist, args.gettersAndSettersOff, args.debugMatching);
+		if (args.timeBudget > 0) {
+			// Fall back to binding names with imports when symbols take too long
+			astGenerator.setTimeBudget(args.timeBudget, typeIndex);
+		}
+		astGenerator.setParseCache(createParseCache(args, typeIndex));
+		return astGenerator;
+	}
+
+	/**
+	 * Creates cache of parsed source files, if arguments ask for one.
+	 * @param args Arguments.
+	 * @param typeIndex Index of known types, or null.
+	 * @return Parse cache, or null.
+	 * @throws IOException When reading symbol jars fails.
+	 */
+	private static ParseCache createParseCache(Args args, TypeIndex typeIndex) throws IOException {
+		if (args.parseCache == null && args.parseCacheUrl == null) {
+			return null;
+		}
+		// Everything that changes how a source file is parsed must change keys of entries
+		MessageDigest fingerprint = ParseCache.fingerprint();
+		String options = args.resolution + "\n" + args.blacklist + "\n" + args.methodWhitelist + "\n"
+				+ args.fieldWhitelist + "\n" + args.gettersAndSettersOff + "\n"
+				+ (args.release != 0 ? "release " + args.release : "jdk " + Runtime.version()) + "\n";
+		fingerprint.update(options.getBytes(StandardCharsets.UTF_8));
+		byte[] buffer = new byte[8192];
+		for (Path jar : args.symbols) {
+			try (InputStream in = Files.newInputStream(jar)) {
+				for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+					fingerprint.update(buffer, 0, read);
+				}
 			}
 		}
-		return true; // Included, not excluded
+		if (args.resolution == Args.Resolution.IMPORTS) {
+			// Names are bound to whatever types exist, so all of them matter
+			typeIndex.fingerprint(fingerprint);
+		}
+		return new ParseCache(fingerprint, args.parseCache != null ? new ParseCache.DirectoryBackend(args.parseCache) : null,
+				args.parseCacheUrl != null ? new HttpCacheBackend(args.parseCacheUrl) : null);
 	}
 
-	private static JavaParser setupParser(List<Path> symbolSources) throws IOException {
+	private static TypeSolver createTypeSolver(List<Path> symbolSources, int release) throws IOException {
 		CombinedTypeSolver typeSolver = new CombinedTypeSolver();
-		typeSolver.add(new ReflectionTypeSolver());
+		typeSolver.add(new JdkTypeSolver(JdkClasses.of(release)));
 		for (Path jar : symbolSources) {
 			typeSolver.add(new JarTypeSolver(jar));
 		}
+		return typeSolver;
+	}
 
+	private static JavaParser setupParser(TypeSolver typeSolver) {
 		JavaSymbolSolver symbolSolver = new JavaSymbolSolver(typeSolver);
-		ParserConfiguration config = new ParserConfiguration();
-		config.setLanguageLevel(LanguageLevel.JAVA_16);
-		JavaParser parser = new JavaParser(config);
+		JavaParser parser = new JavaParser(parserConfig());
 		parser.getParserConfiguration().setSymbolResolver(symbolSolver);
 		return parser;
 	}
+
+	private static ParserConfiguration parserConfig() {
+		ParserConfiguration config = new ParserConfiguration();
+		config.setLanguageLevel(LanguageLevel.JAVA_16);
+		return config;
+	}
 }
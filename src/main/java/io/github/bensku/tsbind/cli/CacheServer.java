@@ -0,0 +1,124 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bensku.tsbind.ParseCache;
+
+/**
+ * Serves a parse cache over HTTP on localhost, in the protocol that
+ * {@link HttpCacheBackend} uses. Entries can be requested under any path;
+ * the last path segment is the key. This is a stand-in for testing remote
+ * caches and sharing entries between local runs, not a hardened server.
+ *
+ */
+public class CacheServer {
+
+	/**
+	 * Largest entry that can be stored. Real entries are much smaller.
+	 */
+	private static final int MAX_ENTRY_SIZE = 64 * 1024 * 1024;
+
+	private final ParseCache.Backend store;
+
+	/**
+	 * Largest entry that this server stores.
+	 */
+	private final int maxEntrySize;
+
+	/**
+	 * Creates a server.
+	 * @param store Where entries are stored.
+	 */
+	public CacheServer(ParseCache.Backend store) {
+		this(store, MAX_ENTRY_SIZE);
+	}
+
+	/**
+	 * Creates a server with a custom limit for entry sizes.
+	 * @param store Where entries are stored.
+	 * @param maxEntrySize Largest entry that can be stored.
+	 */
+	CacheServer(ParseCache.Backend store, int maxEntrySize) {
+		this.store = store;
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	/**
+	 * Starts serving in background.
+	 * @param port Port on localhost, or 0 to pick any free port.
+	 * @return The started server.
+	 * @throws IOException When the port cannot be bound.
+	 */
+	public HttpServer start(int port) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext("/", this::handle);
+		// Backend must be thread-safe, like the directory backend is
+		server.setExecutor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()));
+		server.start();
+		System.out.println("Serving parse cache at http://" + server.getAddress().getHostString() + ":"
+				+ server.getAddress().getPort() + "/");
+		return server;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String key = path.substring(path.lastIndexOf('/') + 1);
+		try {
+			if (!ParseCache.isKey(key)) {
+				respond(exchange, 400, "not a cache key: " + key + "\n");
+				return;
+			}
+			switch (exchange.getRequestMethod()) {
+			case "GET":
+				byte[] entry = store.get(key);
+				if (entry == null) {
+					respond(exchange, 404, "no entry " + key + "\n");
+					return;
+				}
+				exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+				exchange.sendResponseHeaders(200, entry.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(entry);
+				}
+				break;
+			case "PUT":
+				byte[] body;
+				try (InputStream in = exchange.getRequestBody()) {
+					body = in.readNBytes(maxEntrySize + 1);
+				}
+				if (body.length > maxEntrySize) {
+					respond(exchange, 413, "entry is too large\n");
+					return;
+				}
+				store.put(key, body);
+				exchange.sendResponseHeaders(204, -1);
+				break;
+			default:
+				respond(exchange, 405, "only GET and PUT are supported\n");
+			}
+		} catch (IOException | RuntimeException e) {
+			System.err.println("failed to " + exchange.getRequestMethod() + " parse cache entry " + key + ": " + e);
+			respond(exchange, 500, "failed to access cache: " + e + "\n");
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+		byte[] body = message.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bensku.tsbind.AstConsumer;
+import io.github.bensku.tsbind.AstConsumer.Result;
+import io.github.bensku.tsbind.AstConsumer.StreamedResult;
+import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.PhaseMetrics;
+import io.github.bensku.tsbind.SourceUnit;
+import io.github.bensku.tsbind.TypeIndex;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.ast.TypeRef;
+import io.github.bensku.tsbind.binding.EarlyTypeTransformer;
+
+/**
+ * Serves types over HTTP on localhost. {@code GET /types/<name>} returns
+ * output for a type and types it directly depends on, in the format given
+ * in arguments.
+ *
+ * Types are parsed when they are first needed, and kept in memory along
+ * with responses. Requests are handled one at a time, because symbol
+ * solvers are not thread-safe.
+ *
+ */
+public class GenerationServer {
+
+	private static final String PATH = "/types/";
+
+	private final Args args;
+	private final SourceIndex sources;
+	private final AstGenerator astGenerator;
+
+	/**
+	 * Type index for removing hidden supertypes, or null.
+	 */
+	private final TypeIndex typeIndex;
+
+	/**
+	 * Types from linked AST snapshots.
+	 */
+	private final Map<String, TypeDefinition> linked;
+
+	/**
+	 * Parsed top-level types by their names. Empty for types that are not
+	 * public. These are never transformed, only their copies are.
+	 */
+	private final Map<String, Optional<TypeDefinition>> parsed = new HashMap<>();
+
+	/**
+	 * Responses by names of top-level types.
+	 */
+	private final Map<String, byte[]> responses = new HashMap<>();
+
+	/**
+	 * Parsing and resolving metrics, summed over all requests.
+	 */
+	private final PhaseMetrics metrics = new PhaseMetrics();
+
+	public GenerationServer(Args args, SourceIndex sources, AstGenerator astGenerator, TypeIndex typeIndex,
+			Map<String, TypeDefinition> linked) {
+		this.args = args;
+		this.sources = sources;
+		this.astGenerator = astGenerator;
+		this.typeIndex = typeIndex;
+		this.linked = linked;
+		astGenerator.setMetrics(metrics);
+	}
+
+	/**
+	 * Starts serving in background.
+	 * @param port Port on localhost, or 0 to pick any free port.
+	 * @return The started server.
+	 * @throws IOException When the port cannot be bound.
+	 */
+	public HttpServer start(int port) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PATH, this::handle);
+		server.start(); // No executor, so requests are handled by one thread
+		System.out.println("Serving types at http://" + server.getAddress().getHostString() + ":"
+				+ server.getAddress().getPort() + PATH + "<type name>");
+		return server;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!exchange.getRequestMethod().equals("GET")) {
+				respond(exchange, 405, "only GET is supported\n");
+				return;
+			}
+			String name = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(PATH.length()),
+					StandardCharsets.UTF_8);
+			long start = System.nanoTime();
+			byte[] response;
+			try {
+				response = generate(name);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+				respond(exchange, 500, "failed to generate " + name + ": " + e + "\n");
+				return;
+			}
+			if (response == null) {
+				respond(exchange, 404, "type " + name + " not found or not public\n");
+				return;
+			}
+			exchange.getResponseHeaders().set("Content-Type", args.format == Args.OutputFormat.SNAPSHOT
+					? "application/octet-stream" : "text/plain; charset=utf-8");
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+			System.out.println(String.format("Served %s in %.1f ms", name, (System.nanoTime() - start) / 1e6));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+		byte[] body = message.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	/**
+	 * Generates output for a type and its direct dependencies.
+	 * @param name Fully qualified name of the type. For inner types, the
+	 * top-level type they're in is generated.
+	 * @return Output, or null if the type was not found or is not public.
+	 */
+	synchronized byte[] generate(String name) {
+		String topLevel = sources.topLevelType(name);
+		if (topLevel == null) {
+			return null;
+		}
+		byte[] cached = responses.get(topLevel);
+		if (cached != null) {
+			return cached;
+		}
+		Optional<TypeDefinition> type = parse(topLevel);
+		if (type.isEmpty()) {
+			return null;
+		}
+
+		// Direct dependencies are needed for e.g. copying overloads from supertypes
+		Set<String> dependencies = new TreeSet<>();
+		type.get().walk(node -> {
+			if (node instanceof TypeRef) {
+				String dependency = sources.topLevelType(((TypeRef) node).baseType().name());
+				if (dependency != null && !dependency.equals(topLevel)) {
+					dependencies.add(dependency);
+				}
+			}
+		});
+		Map<String, TypeDefinition> types = new TreeMap<>();
+		types.put(topLevel, type.get().copy());
+		for (String dependency : dependencies) {
+			parse(dependency).ifPresent(def -> types.put(dependency, def.copy()));
+		}
+
+		if (typeIndex != null) {
+			EarlyTypeTransformer earlyTransform = new EarlyTypeTransformer(types, args.methodWhitelist);
+			for (TypeDefinition def : types.values()) {
+				earlyTransform.removeHiddenSupertypes(def, typeIndex::isNonPublic);
+			}
+		}
+		if (!args.format.untransformed) {
+			BindGenApp.transform(args, types, linked, metrics);
+		}
+		byte[] response = emit(types);
+		responses.put(topLevel, response);
+		return response;
+	}
+
+	private Optional<TypeDefinition> parse(String name) {
+		Optional<TypeDefinition> type = parsed.get(name);
+		if (type == null) {
+			Optional<SourceUnit> source;
+			try {
+				source = sources.read(name);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			type = source.flatMap(astGenerator::parseType);
+			parsed.put(name, type);
+		}
+		return type;
+	}
+
+	private byte[] emit(Map<String, TypeDefinition> types) {
+		AstConsumer<?> consumer = args.format.consumerSource.apply(args);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		// Results are concatenated in order of their names, so responses are stable
+		for (Result<?> result : consumer.consume(types).sorted(Comparator.comparing(result -> result.name))
+				.collect(Collectors.toList())) {
+			try {
+				if (result.result instanceof StreamedResult) {
+					((StreamedResult) result.result).writeTo(Channels.newChannel(out));
+				} else if (result.result instanceof byte[]) {
+					out.write((byte[]) result.result);
+				} else {
+					out.write(result.result.toString().getBytes(StandardCharsets.UTF_8));
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e); // Not possible with in-memory output
+			}
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,66 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+
+import io.github.bensku.tsbind.ParseCache;
+
+/**
+ * Parse cache backend on an HTTP server. {@code GET <url>/<key>} returns
+ * an entry, or 404 if there is none; {@code PUT <url>/<key>} stores one.
+ * Any server that supports this works, e.g. a WebDAV share or
+ * {@link CacheServer}.
+ *
+ */
+public class HttpCacheBackend implements ParseCache.Backend {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final URI url;
+	private final HttpClient client;
+
+	/**
+	 * Creates a backend for a server.
+	 * @param url Base URL that keys are appended to.
+	 */
+	public HttpCacheBackend(URI url) {
+		this.url = url.toString().endsWith("/") ? url : URI.create(url + "/");
+		this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+	}
+
+	@Override
+	public byte[] get(String key) throws IOException {
+		HttpResponse<byte[]> response = send(HttpRequest.newBuilder(url.resolve(key)).timeout(TIMEOUT)
+				.GET().build(), BodyHandlers.ofByteArray());
+		if (response.statusCode() == 404) {
+			return null;
+		} else if (response.statusCode() != 200) {
+			throw new IOException("failed to GET " + response.uri() + ": HTTP " + response.statusCode());
+		}
+		return response.body();
+	}
+
+	@Override
+	public void put(String key, byte[] entry) throws IOException {
+		HttpResponse<Void> response = send(HttpRequest.newBuilder(url.resolve(key)).timeout(TIMEOUT)
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(entry)).build(), BodyHandlers.discarding());
+		if (response.statusCode() / 100 != 2) {
+			throw new IOException("failed to PUT " + response.uri() + ": HTTP " + response.statusCode());
+		}
+	}
+
+	private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+		try {
+			return client.send(request, handler);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for " + request.uri());
+		}
+	}
+}
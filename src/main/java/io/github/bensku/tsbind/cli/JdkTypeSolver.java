@@ -0,0 +1,65 @@
+package io.github.bensku.tsbind.cli;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFactory;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+
+import io.github.bensku.tsbind.JdkClasses;
+import javassist.ClassPool;
+import javassist.CtClass;
+
+/**
+ * Resolves JDK types from their class files. Unlike ReflectionTypeSolver,
+ * this does not load classes, and the JDK release need not be the one
+ * that runs this.
+ *
+ */
+public class JdkTypeSolver implements TypeSolver {
+
+	private final JdkClasses classes;
+
+	/**
+	 * Class pool to read classes with, or null to use the shared one of
+	 * {@link #classes}.
+	 */
+	private final ClassPool pool;
+
+	private TypeSolver parent;
+
+	public JdkTypeSolver(JdkClasses classes) {
+		this(classes, null);
+	}
+
+	/**
+	 * Creates a type solver that reads JDK classes with its own class pool.
+	 * @param classes JDK classes.
+	 * @param pool Class pool that has the classes appended.
+	 */
+	public JdkTypeSolver(JdkClasses classes, ClassPool pool) {
+		this.classes = classes;
+		this.pool = pool;
+	}
+
+	@Override
+	public TypeSolver getParent() {
+		return parent;
+	}
+
+	@Override
+	public void setParent(TypeSolver parent) {
+		if (this.parent != null) {
+			throw new IllegalStateException("parent already set");
+		}
+		this.parent = parent;
+	}
+
+	@Override
+	public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+		CtClass type = pool != null ? classes.get(name, pool) : classes.get(name);
+		if (type == null) {
+			return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+		}
+		return SymbolReference.solved(JavassistFactory.toTypeDeclaration(type, getRoot()));
+	}
+}
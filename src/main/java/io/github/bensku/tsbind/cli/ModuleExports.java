@@ -0,0 +1,115 @@
+package io.github.bensku.tsbind.cli;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ParserConfiguration.LanguageLevel;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.modules.ModuleDeclaration;
+import com.github.javaparser.ast.modules.ModuleDirective;
+import com.github.javaparser.ast.modules.ModuleExportsDirective;
+
+/**
+ * Packages exported by a Java module, as declared in its
+ * {@code module-info.java}. Types in other packages are not accessible
+ * outside of the module, so there is no point in parsing them.
+ *
+ */
+public class ModuleExports {
+
+	/**
+	 * Reads exports from module declaration source code.
+	 * @param name Name of the source file, for error messages.
+	 * @param source Source code of {@code module-info.java}.
+	 * @param qualifiedTargets Modules whose qualified exports
+	 * ({@code exports ... to}) should be treated as public.
+	 * @return Module exports, or empty optional if the source could not
+	 * be parsed.
+	 */
+	public static Optional<ModuleExports> parse(String name, String source, List<String> qualifiedTargets) {
+		// Module declarations never need symbol resolution
+		ParserConfiguration config = new ParserConfiguration();
+		config.setLanguageLevel(LanguageLevel.JAVA_16);
+		ParseResult<CompilationUnit> result = new JavaParser(config).parse(source);
+		ModuleDeclaration module = result.getResult().flatMap(CompilationUnit::getModule).orElse(null);
+		if (!result.isSuccessful() || module == null) {
+			System.err.println("failed to parse module declaration " + name + ": " + result.getProblems());
+			return Optional.empty();
+		}
+
+		Set<String> packages = new HashSet<>();
+		for (ModuleDirective directive : module.getDirectives()) {
+			if (!directive.isModuleExportsDirective()) {
+				continue;
+			}
+			ModuleExportsDirective exports = directive.asModuleExportsDirective();
+			if (exports.getModuleNames().isEmpty()) {
+				packages.add(exports.getNameAsString()); // Exported to everyone
+			} else if (exports.getModuleNames().stream().map(Name::asString)
+					.anyMatch(qualifiedTargets::contains)) {
+				packages.add(exports.getNameAsString()); // Exported to a module we care about
+			}
+		}
+		return Optional.of(new ModuleExports(module.getNameAsString(), packages));
+	}
+
+	/**
+	 * Name of the module.
+	 */
+	public final String module;
+
+	/**
+	 * Exported package names.
+	 */
+	private final Set<String> packages;
+
+	/**
+	 * Packages that contain exported packages, including the root (empty)
+	 * package.
+	 */
+	private final Set<String> parents;
+
+	private ModuleExports(String module, Set<String> packages) {
+		this.module = module;
+		this.packages = packages;
+		this.parents = new HashSet<>();
+		for (String pkg : packages) {
+			for (int i = pkg.indexOf('.'); i != -1; i = pkg.indexOf('.', i + 1)) {
+				parents.add(pkg.substring(0, i));
+			}
+			parents.add("");
+		}
+	}
+
+	/**
+	 * Checks if a package is exported.
+	 * @param pkg Package name.
+	 * @return Whether types in the package are accessible to other modules.
+	 */
+	public boolean isExported(String pkg) {
+		return packages.contains(pkg);
+	}
+
+	/**
+	 * Checks if a package or any package under it is exported.
+	 * @param pkg Package name.
+	 * @return Whether contents of the package's directory are needed.
+	 */
+	public boolean containsExported(String pkg) {
+		return packages.contains(pkg) || parents.contains(pkg);
+	}
+
+	/**
+	 * Gets number of exported packages.
+	 * @return Package count.
+	 */
+	public int size() {
+		return packages.size();
+	}
+}
@@ -1,6 +1,65 @@
 package io.github.bensku.tsbind.cli;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
 public class PackageJson {
 
-	public Args tsbindOptions;
+	public JsonObject tsbindOptions;
+
+	/**
+	 * Output profiles. Each one overrides some of {@link #tsbindOptions},
+	 * e.g. output directory and format. Sources are parsed once for all of
+	 * them.
+	 */
+	public List<JsonObject> tsbindProfiles;
+
+	/**
+	 * Gets options shared by all profiles.
+	 * @param gson Gson to deserialize options with.
+	 * @return Options.
+	 */
+	public Args options(Gson gson) {
+		if (tsbindOptions == null) {
+			throw new IllegalArgumentException("missing tsbindOptions in --packageJson");
+		}
+		return gson.fromJson(tsbindOptions, Args.class);
+	}
+
+	/**
+	 * Gets options of each output profile.
+	 * @param gson Gson to deserialize options with.
+	 * @return Options of profiles, or just {@link #options(Gson)} if there
+	 * are no profiles.
+	 */
+	public List<Args> profiles(Gson gson) {
+		if (tsbindProfiles == null || tsbindProfiles.isEmpty()) {
+			return List.of(options(gson));
+		}
+		List<Args> profiles = new ArrayList<>(tsbindProfiles.size());
+		for (JsonObject profile : tsbindProfiles) {
+			profiles.add(merge(gson, tsbindOptions, profile));
+		}
+		return profiles;
+	}
+
+	/**
+	 * Deserializes options that override some base options.
+	 * @param gson Gson to deserialize options with.
+	 * @param base Base options, or null.
+	 * @param overrides Options that replace base options with same names.
+	 * @return Merged options.
+	 */
+	static Args merge(Gson gson, JsonObject base, JsonObject overrides) {
+		JsonObject merged = base != null ? base.deepCopy() : new JsonObject();
+		for (Map.Entry<String, JsonElement> option : overrides.entrySet()) {
+			merged.add(option.getKey(), option.getValue());
+		}
+		return gson.fromJson(merged, Args.class);
+	}
 }
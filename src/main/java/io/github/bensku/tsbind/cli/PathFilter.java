@@ -0,0 +1,112 @@
+package io.github.bensku.tsbind.cli;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Include and exclude prefixes compiled into a trie. Paths are given as
+ * dotted names relative to input root, e.g. {@code java.util.List.java}
+ * or {@code java.util.concurrent} for a directory.
+ *
+ * A path is included when any include prefix matches it and no exclude
+ * prefix does. Each check visits every character of the path at most
+ * once, no matter how many prefixes there are.
+ *
+ */
+public class PathFilter {
+
+	private static class Node {
+
+		final Map<Character, Node> children = new HashMap<>();
+
+		/**
+		 * If an include prefix ends here.
+		 */
+		boolean include;
+
+		/**
+		 * If an exclude prefix ends here.
+		 */
+		boolean exclude;
+
+		/**
+		 * If an include prefix ends here or in any node below this.
+		 */
+		boolean includeBelow;
+	}
+
+	private final Node root;
+
+	public PathFilter(List<String> include, List<String> exclude) {
+		this.root = new Node();
+		for (String prefix : include) {
+			Node node = root;
+			node.includeBelow = true;
+			for (int i = 0; i < prefix.length(); i++) {
+				node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+				node.includeBelow = true;
+			}
+			node.include = true;
+		}
+		for (String prefix : exclude) {
+			Node node = root;
+			for (int i = 0; i < prefix.length(); i++) {
+				node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+			}
+			node.exclude = true;
+		}
+	}
+
+	/**
+	 * Checks if a file should be included.
+	 * @param name Dotted name of the file.
+	 * @return Whether the file is included and not excluded.
+	 */
+	public boolean isIncluded(String name) {
+		Node node = root;
+		boolean included = false;
+		for (int i = 0; ; i++) {
+			if (node.exclude) {
+				return false; // Included or not, this is excluded
+			}
+			included |= node.include;
+			if (i == name.length()) {
+				return included;
+			}
+			node = node.children.get(name.charAt(i));
+			if (node == null) {
+				return included; // No longer prefixes to match
+			}
+		}
+	}
+
+	/**
+	 * Checks if nothing under a directory could be included.
+	 * @param dir Dotted name of the directory.
+	 * @return Whether the directory can be skipped entirely.
+	 */
+	public boolean isExcludedDirectory(String dir) {
+		if (dir.isEmpty()) {
+			return false; // Never skip input root
+		}
+		// Everything under the directory has this prefix
+		String prefix = dir + ".";
+		Node node = root;
+		boolean included = false;
+		for (int i = 0; ; i++) {
+			if (node.exclude) {
+				return true; // All children are excluded
+			}
+			included |= node.include;
+			if (i == prefix.length()) {
+				// Children might match longer include prefixes
+				return !included && !node.includeBelow;
+			}
+			node = node.children.get(prefix.charAt(i));
+			if (node == null) {
+				return !included; // Children can't match anything else
+			}
+		}
+	}
+}
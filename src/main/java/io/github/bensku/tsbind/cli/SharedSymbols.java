@@ -0,0 +1,205 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFactory;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+
+import io.github.bensku.tsbind.ClassCache;
+import io.github.bensku.tsbind.JdkClasses;
+import javassist.ClassPool;
+import javassist.NotFoundException;
+
+/**
+ * Symbols from jars, shared by many generation jobs (e.g. in batch mode).
+ * Each jar is indexed and its class files are read only once, no matter
+ * how many jobs use it.
+ *
+ * Jobs still get type solvers of their own, because declarations found in
+ * jars resolve their supertypes and members with the solver of the job
+ * that found them.
+ *
+ */
+public class SharedSymbols {
+
+	/**
+	 * Classes of a jar. Class files are read when first needed and then
+	 * cached by the class pool.
+	 *
+	 */
+	private static class JarIndex {
+
+		private final ClassPool classPool;
+
+		/**
+		 * Class pool names by class names (with both $ and . for inner
+		 * classes), like in JarTypeSolver.
+		 */
+		private final Map<String, String> knownClasses;
+
+		/**
+		 * Sizes of class files by class pool names.
+		 */
+		private final Map<String, Long> sizes;
+
+		JarIndex(Path jar, ClassCache classCache) throws IOException {
+			this.knownClasses = new HashMap<>();
+			this.sizes = new HashMap<>();
+			try (JarFile file = new JarFile(jar.toFile())) {
+				Enumeration<JarEntry> entries = file.entries();
+				while (entries.hasMoreElements()) {
+					JarEntry entry = entries.nextElement();
+					String path = entry.getName();
+					if (!entry.isDirectory() && path.endsWith(".class")) {
+						String poolName = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+						String className = poolName.replace('$', '.');
+						if (!className.equals(poolName)) {
+							knownClasses.put(poolName, poolName);
+						}
+						knownClasses.put(className, poolName);
+						sizes.put(poolName, entry.getSize());
+					}
+				}
+			}
+			this.classPool = classCache != null
+					? classCache.createPool(name -> sizes.getOrDefault(name, -1L)) : new ClassPool(false);
+			try {
+				classPool.appendClassPath(jar.toAbsolutePath().toString());
+			} catch (NotFoundException e) {
+				throw new IOException("cannot read jar " + jar, e);
+			}
+		}
+	}
+
+	/**
+	 * Type solver of one job for a shared jar.
+	 *
+	 */
+	private static class JarView implements TypeSolver {
+
+		private final JarIndex index;
+		private TypeSolver parent;
+
+		JarView(JarIndex index) {
+			this.index = index;
+		}
+
+		@Override
+		public TypeSolver getParent() {
+			return parent;
+		}
+
+		@Override
+		public void setParent(TypeSolver parent) {
+			if (this.parent != null) {
+				throw new IllegalStateException("parent already set");
+			}
+			this.parent = parent;
+		}
+
+		@Override
+		public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+			String poolName = index.knownClasses.get(name);
+			if (poolName == null) {
+				return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+			}
+			try {
+				// Class pool is synchronized, so jobs can share it
+				return SymbolReference.solved(JavassistFactory.toTypeDeclaration(index.classPool.get(poolName), getRoot()));
+			} catch (NotFoundException e) {
+				throw new IllegalStateException("indexed class " + poolName + " not found", e);
+			}
+		}
+	}
+
+	private final Map<Path, JarIndex> jars = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache that limits classes kept in memory, or null if they're kept
+	 * until this is discarded.
+	 */
+	private final ClassCache classCache;
+
+	/**
+	 * Class pools for JDK releases, when they use {@link #classCache}.
+	 */
+	private final Map<Integer, ClassPool> jdkPools = new ConcurrentHashMap<>();
+
+	public SharedSymbols() {
+		this(null);
+	}
+
+	/**
+	 * Creates shared symbols that keep a limited number of classes in
+	 * memory.
+	 * @param classCache Cache for classes of JDK and jars, or null for no
+	 * limit.
+	 */
+	public SharedSymbols(ClassCache classCache) {
+		this.classCache = classCache;
+	}
+
+	/**
+	 * Creates a type solver for a job. It resolves JDK types from their
+	 * class files and others from the given jars, in that order.
+	 * @param symbols Jars to resolve symbols from.
+	 * @param release Java release of JDK types, or 0 for the running JDK.
+	 * @return A new type solver.
+	 * @throws IOException When a jar or the JDK release cannot be read.
+	 */
+	public TypeSolver createSolver(List<Path> symbols, int release) throws IOException {
+		CombinedTypeSolver typeSolver = new CombinedTypeSolver();
+		JdkClasses jdk = JdkClasses.of(release);
+		if (classCache != null) {
+			typeSolver.add(new JdkTypeSolver(jdk, jdkPools.computeIfAbsent(release, key -> {
+				ClassPool pool = classCache.createPool(jdk::classFileSize);
+				jdk.appendTo(pool);
+				return pool;
+			})));
+		} else {
+			typeSolver.add(new JdkTypeSolver(jdk));
+		}
+		for (Path jar : symbols) {
+			try {
+				typeSolver.add(new JarView(jars.computeIfAbsent(jar.toAbsolutePath().normalize(), path -> {
+					try {
+						return new JarIndex(path, classCache);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				})));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+		return typeSolver;
+	}
+
+	/**
+	 * Gets cache that limits classes kept in memory.
+	 * @return Class cache, or null if there is no limit.
+	 */
+	public ClassCache classCache() {
+		return classCache;
+	}
+
+	/**
+	 * Gets how many jars have been indexed.
+	 * @return Number of jars.
+	 */
+	public int jarCount() {
+		return jars.size();
+	}
+}
@@ -0,0 +1,137 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import io.github.bensku.tsbind.SourceUnit;
+
+/**
+ * Knows where source files of top-level types are in inputs, so that they
+ * can be read one at a time when needed. Indexes exactly the files that a
+ * {@link SourceReader} would read. Source archives are kept open until this
+ * is closed.
+ *
+ */
+public class SourceIndex implements Closeable {
+
+	/**
+	 * A source file in a directory or an archive.
+	 *
+	 */
+	private static class Location {
+
+		final Path file;
+		final ZipFile archive;
+		final ZipEntry entry;
+
+		Location(Path file) {
+			this.file = file;
+			this.archive = null;
+			this.entry = null;
+		}
+
+		Location(ZipFile archive, ZipEntry entry) {
+			this.file = null;
+			this.archive = archive;
+			this.entry = entry;
+		}
+
+		SourceUnit read() throws IOException {
+			if (file != null) {
+				return new SourceUnit(file.toString(), Files.readString(file));
+			}
+			try (InputStream in = archive.getInputStream(entry)) {
+				return new SourceUnit("/" + entry.getName(), SourceReader.decode(in.readAllBytes()));
+			}
+		}
+	}
+
+	/**
+	 * Source files by fully qualified names of types in them.
+	 */
+	private final Map<String, Location> types = new HashMap<>();
+
+	private final List<ZipFile> archives = new ArrayList<>();
+
+	/**
+	 * Lists source files that a reader would read. If many inputs have a
+	 * type, the first one is used.
+	 * @param reader Source reader with inputs, filters and module settings.
+	 * It is not started.
+	 * @throws IOException When listing inputs fails.
+	 */
+	public SourceIndex(SourceReader reader) throws IOException {
+		for (Path input : reader.inputs()) {
+			if (Files.isDirectory(input)) {
+				reader.walkDirectory(input, (file, name) -> {
+					types.putIfAbsent(typeName(name), new Location(file));
+					return true;
+				});
+			} else {
+				ZipFile archive = new ZipFile(input.toFile());
+				archives.add(archive);
+				reader.walkArchive(archive, (entry, name) -> {
+					types.putIfAbsent(typeName(name), new Location(archive, entry));
+					return true;
+				});
+			}
+		}
+	}
+
+	private static String typeName(String fileName) {
+		return fileName.substring(0, fileName.length() - ".java".length());
+	}
+
+	/**
+	 * Finds the top-level type that a type is in.
+	 * @param name Fully qualified name of a type, possibly an inner type.
+	 * @return Name of top-level type, or null if no input has it.
+	 */
+	public String topLevelType(String name) {
+		String candidate = name;
+		while (!types.containsKey(candidate)) {
+			int end = candidate.lastIndexOf('.');
+			if (end == -1) {
+				return null;
+			}
+			candidate = candidate.substring(0, end);
+		}
+		return candidate;
+	}
+
+	/**
+	 * Reads source of a top-level type.
+	 * @param name Fully qualified name of the type.
+	 * @return Source unit, or empty optional if no input has the type.
+	 * @throws IOException When reading fails.
+	 */
+	public Optional<SourceUnit> read(String name) throws IOException {
+		Location location = types.get(name);
+		return location != null ? Optional.of(location.read()) : Optional.empty();
+	}
+
+	/**
+	 * Gets number of indexed types.
+	 * @return Number of types.
+	 */
+	public int size() {
+		return types.size();
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (ZipFile archive : archives) {
+			archive.close();
+		}
+	}
+}
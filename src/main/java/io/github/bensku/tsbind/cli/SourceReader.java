@@ -0,0 +1,434 @@
+package io.github.bensku.tsbind.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import io.github.bensku.tsbind.PhaseMetrics;
+import io.github.bensku.tsbind.PhaseMetrics.Phase;
+import io.github.bensku.tsbind.SourceUnit;
+import io.github.bensku.tsbind.TypeIndex;
+
+/**
+ * Reads Java source files from input directories and source archives.
+ * Reading happens in a background thread that hands sources over through
+ * a bounded queue, so only a few files are in memory at any time no matter
+ * how large the inputs are.
+ *
+ */
+public class SourceReader implements Iterator<SourceUnit> {
+
+	/**
+	 * Marks end of input in the queue.
+	 */
+	private static final SourceUnit END = new SourceUnit("", "");
+
+	private static final String MODULE_INFO = "module-info.java";
+
+	private final List<Path> inputs;
+
+	/**
+	 * Path offset inside each input.
+	 */
+	private final String offset;
+
+	/**
+	 * Include and exclude filters.
+	 */
+	private final PathFilter filter;
+
+	/**
+	 * Whether exports in module-info.java of inputs should be respected.
+	 */
+	private boolean readModuleInfo;
+
+	/**
+	 * Modules whose qualified exports are treated as public.
+	 */
+	private List<String> qualifiedExports = List.of();
+
+	/**
+	 * Time spent on reading sources.
+	 */
+	private PhaseMetrics metrics = new PhaseMetrics();
+
+	/**
+	 * Sources that have been read but not yet taken by the consumer.
+	 */
+	private final BlockingQueue<SourceUnit> queue;
+
+	/**
+	 * Error that stopped the reader thread, if any.
+	 */
+	private volatile Throwable failure;
+
+	/**
+	 * Next source unit to be returned, taken from queue by {@link #hasNext()}.
+	 */
+	private SourceUnit next;
+
+	public SourceReader(List<Path> inputs, String offset, PathFilter filter, int capacity) {
+		this.inputs = inputs;
+		this.offset = offset;
+		this.filter = filter;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Skips packages that are not exported by module-info.java at root of
+	 * an input (after offset has been applied). Inputs without module
+	 * declarations are read normally.
+	 * @param qualifiedExports Modules whose qualified exports
+	 * ({@code exports ... to}) should be read too.
+	 * @return This reader.
+	 */
+	public SourceReader readModuleInfo(List<String> qualifiedExports) {
+		this.readModuleInfo = true;
+		this.qualifiedExports = qualifiedExports;
+		return this;
+	}
+
+	/**
+	 * Records time spent on reading sources to given metrics.
+	 * @param metrics Metrics.
+	 * @return This reader.
+	 */
+	public SourceReader metrics(PhaseMetrics metrics) {
+		this.metrics = metrics;
+		return this;
+	}
+
+	/**
+	 * Adds names of all types in inputs to an index. Include and exclude
+	 * filters are not applied, but the offset is. Only file names are
+	 * looked at, so inner types are not indexed.
+	 * @param index Type index.
+	 * @throws IOException When listing inputs fails.
+	 */
+	public void indexTypes(TypeIndex index) throws IOException {
+		for (Path input : inputs) {
+			if (Files.isDirectory(input)) {
+				Path root = input.resolve(offset);
+				try (Stream<Path> files = Files.walk(root)) {
+					files.filter(file -> isSourceFile(file.getFileName().toString()))
+							.map(file -> root.relativize(file).toString().replace(File.separatorChar, '.'))
+							.forEach(name -> index.addSourceType(name.substring(0, name.length() - ".java".length())));
+				}
+			} else {
+				String prefix = archivePrefix();
+				try (ZipFile zip = new ZipFile(input.toFile())) {
+					Enumeration<? extends ZipEntry> entries = zip.entries();
+					while (entries.hasMoreElements()) {
+						String path = entries.nextElement().getName();
+						String fileName = path.substring(path.lastIndexOf('/') + 1);
+						if (path.startsWith(prefix) && isSourceFile(fileName)) {
+							String name = path.substring(prefix.length(), path.length() - ".java".length());
+							index.addSourceType(name.replace('/', '.'));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts reading inputs in a background thread.
+	 * @return Stream of source units in order they were read. Closing it
+	 * stops the reader thread.
+	 */
+	public Stream<SourceUnit> start() {
+		Thread thread = new Thread(this::readAll, "tsbind-reader");
+		thread.setDaemon(true);
+		thread.start();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+				Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(thread::interrupt);
+	}
+
+	private void readAll() {
+		try {
+			for (Path input : inputs) {
+				if (Files.isDirectory(input)) {
+					readDirectory(input);
+				} else {
+					// Path should be zip file, stream its entries
+					readArchive(input);
+				}
+			}
+		} catch (InterruptedException e) {
+			return; // Consumer is gone, nobody would take END anyway
+		} catch (Throwable e) {
+			failure = e;
+		}
+		try {
+			queue.put(END);
+		} catch (InterruptedException e) {
+			// Consumer is gone
+		}
+	}
+
+	/**
+	 * Receives source files that pass filters and exports of their module.
+	 *
+	 * @param <T> Type of source file, a path or an archive entry.
+	 */
+	@FunctionalInterface
+	interface SourceVisitor<T> {
+
+		/**
+		 * Visits a source file.
+		 * @param source Path or archive entry of the file.
+		 * @param name Dotted name of the file relative to input root, e.g.
+		 * {@code java.util.List.java}.
+		 * @return Whether to continue to other files.
+		 * @throws IOException When reading the file fails.
+		 */
+		boolean visit(T source, String name) throws IOException;
+	}
+
+	/**
+	 * Gets inputs of this reader.
+	 * @return Input directories and archives.
+	 */
+	List<Path> inputs() {
+		return inputs;
+	}
+
+	/**
+	 * Visits source files of an input directory that this would read.
+	 * Directories that have nothing to read are not listed.
+	 * @param input Input directory, without offset.
+	 * @param visitor Visitor of the files.
+	 * @throws IOException When listing or visiting files fails.
+	 */
+	void walkDirectory(Path input, SourceVisitor<Path> visitor) throws IOException {
+		Path root = input.resolve(offset);
+		ModuleExports exports = null;
+		Path moduleInfo = root.resolve(MODULE_INFO);
+		if (readModuleInfo && Files.isRegularFile(moduleInfo)) {
+			exports = readExports(moduleInfo.toString(), Files.readString(moduleInfo));
+		}
+		ModuleExports moduleExports = exports;
+
+		Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+			private String relativeName(Path path) {
+				// Filter here, because we need to relativize to each input directory
+				return root.relativize(path).toString().replace(File.separatorChar, '.');
+			}
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				// Don't even list contents of directories that are excluded
+				String name = relativeName(dir);
+				if (filter.isExcludedDirectory(name)
+						|| (moduleExports != null && !moduleExports.containsExported(name))) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				String name = relativeName(file);
+				if (attrs.isRegularFile() && isSourceFile(file.getFileName().toString()) && filter.isIncluded(name)
+						&& (moduleExports == null || moduleExports.isExported(relativeName(file.getParent())))) {
+					return visitor.visit(file, name) ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Visits source files of an input archive that this would read.
+	 * @param zip Input archive.
+	 * @param visitor Visitor of the entries.
+	 * @throws IOException When reading the archive or visiting entries
+	 * fails.
+	 */
+	void walkArchive(ZipFile zip, SourceVisitor<ZipEntry> visitor) throws IOException {
+		String prefix = archivePrefix();
+		ModuleExports exports = null;
+		ZipEntry moduleInfo = zip.getEntry(prefix + MODULE_INFO);
+		if (readModuleInfo && moduleInfo != null) {
+			try (InputStream in = zip.getInputStream(moduleInfo)) {
+				exports = readExports("/" + moduleInfo.getName(), decode(in.readAllBytes()));
+			}
+		}
+
+		// Entries are visited in the order they are stored in
+		Enumeration<? extends ZipEntry> entries = zip.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
+			String path = entry.getName();
+			if (entry.isDirectory() || !path.startsWith(prefix)) {
+				continue;
+			}
+			String fileName = path.substring(path.lastIndexOf('/') + 1);
+			String name = path.substring(prefix.length()).replace('/', '.');
+			if (!isSourceFile(fileName) || !filter.isIncluded(name)) {
+				continue;
+			}
+			if (exports != null) {
+				int pkgEnd = name.length() - fileName.length() - 1;
+				if (!exports.isExported(pkgEnd > 0 ? name.substring(0, pkgEnd) : "")) {
+					continue; // Not accessible outside of its module
+				}
+			}
+			if (!visitor.visit(entry, name)) {
+				return;
+			}
+		}
+	}
+
+	private void readDirectory(Path input) throws IOException, InterruptedException {
+		walkDirectory(input, (file, name) -> {
+			String code;
+			try (PhaseMetrics.Timer timer = metrics.start(Phase.READ)) {
+				code = Files.readString(file);
+			}
+			metrics.addItems(Phase.READ, 1);
+			return offer(new SourceUnit(file.toString(), code));
+		});
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	private void readArchive(Path archive) throws IOException, InterruptedException {
+		// Only entries that pass the filters are ever decompressed
+		try (ZipFile zip = new ZipFile(archive.toFile())) {
+			walkArchive(zip, (entry, name) -> {
+				String code;
+				try (PhaseMetrics.Timer timer = metrics.start(Phase.READ);
+						InputStream in = zip.getInputStream(entry)) {
+					code = decode(in.readAllBytes());
+				}
+				metrics.addItems(Phase.READ, 1);
+				return offer(new SourceUnit("/" + entry.getName(), code));
+			});
+		}
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	/**
+	 * Hands a source unit over to the consumer.
+	 * @param unit Source unit.
+	 * @return Whether reading should continue, i.e. the thread was not
+	 * interrupted. If it was, interrupted status is set again.
+	 */
+	private boolean offer(SourceUnit unit) {
+		try {
+			queue.put(unit);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private String archivePrefix() {
+		return archivePrefix(offset);
+	}
+
+	/**
+	 * Gets an offset as a prefix of archive entry names.
+	 * @param offset Path offset inside inputs.
+	 * @return Prefix that ends with a slash, or empty string.
+	 */
+	static String archivePrefix(String offset) {
+		String prefix = offset.replace('\\', '/');
+		while (prefix.startsWith("/")) {
+			prefix = prefix.substring(1);
+		}
+		if (!prefix.isEmpty() && !prefix.endsWith("/")) {
+			prefix = prefix + "/";
+		}
+		return prefix;
+	}
+
+	/**
+	 * Decodes source code read from an archive. Like
+	 * {@link Files#readString(Path)}, this fails on malformed input instead
+	 * of replacing it, so files are read alike from directories and archives.
+	 * @param bytes UTF-8 encoded source code.
+	 * @return Source code.
+	 * @throws CharacterCodingException When the bytes are not valid UTF-8.
+	 */
+	static String decode(byte[] bytes) throws CharacterCodingException {
+		return StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(bytes)).toString();
+	}
+
+	private ModuleExports readExports(String name, String source) {
+		ModuleExports exports = ModuleExports.parse(name, source, qualifiedExports).orElse(null);
+		if (exports != null) {
+			System.out.println("Module " + exports.module + " exports " + exports.size()
+					+ " packages; skipping the rest of it");
+		}
+		return exports;
+	}
+
+	/**
+	 * Checks if a file is likely to contain Java source code of a type.
+	 * @param fileName Name of the file.
+	 * @return Whether the file should be parsed.
+	 */
+	static boolean isSourceFile(String fileName) {
+		return fileName.endsWith(".java") && !fileName.equals("package-info.java")
+				&& !fileName.equals(MODULE_INFO);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			try {
+				next = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			}
+		}
+		if (next == END) {
+			if (failure != null) {
+				throw new RuntimeException("failed to read inputs", failure);
+			}
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public SourceUnit next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		SourceUnit unit = next;
+		next = null;
+		return unit;
+	}
+}
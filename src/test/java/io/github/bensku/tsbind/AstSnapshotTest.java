@@ -0,0 +1,94 @@
+package io.github.bensku.tsbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+
+import io.github.bensku.tsbind.StreamingAstConsumer.TypeStream;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+public class AstSnapshotTest {
+
+	private static final String SOURCE = "package p;\n"
+			+ "import java.util.*;\n"
+			+ "/** A type with a bit of everything. */\n"
+			+ "public class Everything<T extends Comparable<T>> implements Iterable<T> {\n"
+			+ "  /** Answer. */\n"
+			+ "  public static final int ANSWER = 42;\n"
+			+ "  public List<? extends T> items;\n"
+			+ "  public Everything(T first, T... rest) {}\n"
+			+ "  public Map<String, int[][]> getTable() { return null; }\n"
+			+ "  public void setTable(Map<String, int[][]> table) {}\n"
+			+ "  public <U> Optional<U> map(java.util.function.Function<? super T, U> mapper) { return null; }\n"
+			+ "  @Override public Iterator<T> iterator() { return null; }\n"
+			+ "  public interface Listener { void changed(Everything<?> source); }\n"
+			+ "  public enum State { OPEN, CLOSED }\n"
+			+ "}\n";
+
+	private static TypeDefinition parse() {
+		JavaParser parser = new JavaParser(new ParserConfiguration()
+				.setSymbolResolver(new JavaSymbolSolver(new ReflectionTypeSolver())));
+		AstGenerator generator = new AstGenerator(parser, null, List.of(), List.of(".*"), List.of(".*"), false, false);
+		return generator.parseType(new SourceUnit("Everything.java", SOURCE)).orElseThrow();
+	}
+
+	/**
+	 * Dumps types to JSON, which has every part of them.
+	 */
+	private static String toJson(Iterable<TypeDefinition> types) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TypeStream stream = new JsonEmitter(true).open(Channels.newChannel(out));
+		for (TypeDefinition type : types) {
+			stream.accept(type);
+		}
+		stream.finish();
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void encodeAndDecode() throws IOException {
+		TypeDefinition type = parse();
+		TypeDefinition decoded = AstSnapshot.decode(ByteBuffer.wrap(AstSnapshot.encode(type)));
+		assertEquals(toJson(List.of(type)), toJson(List.of(decoded)));
+	}
+
+	@Test
+	public void writeAndRead(@TempDir Path dir) throws IOException {
+		TypeDefinition type = parse();
+		Path file = dir.resolve("test.ast");
+		TypeStream stream = new AstSnapshot("test").open(Files.newByteChannel(file,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+		stream.accept(type);
+		stream.finish();
+
+		Map<String, TypeDefinition> types = AstSnapshot.read(file);
+		assertEquals(List.of("p.Everything"), List.copyOf(types.keySet()));
+		assertEquals(toJson(List.of(type)), toJson(types.values()));
+		assertEquals("test", AstSnapshot.label(file));
+	}
+
+	@Test
+	public void otherVersionsAreRejected(@TempDir Path dir) throws IOException {
+		Path file = dir.resolve("old.ast");
+		Files.write(file, new byte[] { 'T', 'S', 'B', 'A', AstSnapshot.VERSION + 1, 0, 0 });
+		assertThrows(IllegalArgumentException.class, () -> AstSnapshot.read(file));
+	}
+}
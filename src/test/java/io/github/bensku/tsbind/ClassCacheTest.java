@@ -0,0 +1,62 @@
+package io.github.bensku.tsbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+
+import io.github.bensku.tsbind.StreamingAstConsumer.TypeStream;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.cli.SharedSymbols;
+
+public class ClassCacheTest {
+
+	/**
+	 * Uses many JDK classes, and their supertypes are looked up too.
+	 */
+	private static final String SOURCE = "package p;\n"
+			+ "import java.io.*;\n"
+			+ "import java.util.*;\n"
+			+ "import java.util.function.*;\n"
+			+ "public class Wide extends AbstractMap<String, List<Integer>> implements Serializable, Cloneable {\n"
+			+ "  public Set<Map.Entry<String, List<Integer>>> entrySet() { return null; }\n"
+			+ "  public ArrayDeque<BufferedReader> readers(InputStreamReader in, PushbackReader back) { return null; }\n"
+			+ "  public TreeMap<String, LinkedHashSet<Locale>> locales(Function<Locale, String> f) { return null; }\n"
+			+ "  public PriorityQueue<Calendar> calendars(BiFunction<TimeZone, Currency, Calendar> f) { return null; }\n"
+			+ "  public IdentityHashMap<Formatter, Scanner> text(StringTokenizer t, PrintWriter w) { return null; }\n"
+			+ "  public EnumMap<Thread.State, BitSet> states(ObjectInputStream in, ObjectOutputStream out) { return null; }\n"
+			+ "  public Optional<UUID> id(Random random, Timer timer, Properties props) { return null; }\n"
+			+ "}\n";
+
+	private static String parse(SharedSymbols symbols) throws IOException {
+		JavaParser parser = new JavaParser(new ParserConfiguration()
+				.setSymbolResolver(new JavaSymbolSolver(symbols.createSolver(List.of(), 0))));
+		AstGenerator generator = new AstGenerator(parser, null, List.of(), List.of(".*"), List.of(".*"), false, false);
+		TypeDefinition type = generator.parseType(new SourceUnit("Wide.java", SOURCE)).orElseThrow();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TypeStream stream = new JsonEmitter(true).open(Channels.newChannel(out));
+		stream.accept(type);
+		stream.finish();
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void evictionsDoNotChangeOutput() throws IOException {
+		String expected = parse(new SharedSymbols());
+		ClassCache cache = new ClassCache(16 * 1024); // A handful of classes
+		String actual = parse(new SharedSymbols(cache));
+		assertTrue(cache.evictionCount() > 0, "no evictions: " + cache);
+		assertEquals(expected, actual);
+	}
+}
@@ -0,0 +1,106 @@
+package io.github.bensku.tsbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.FieldDeclaration;
+
+import io.github.bensku.tsbind.ast.Method;
+import io.github.bensku.tsbind.ast.Parameter;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.ast.TypeRef;
+
+public class NameBinderTest {
+
+	private static final String SOURCE = "package p;\n"
+			+ "import q.Single;\n"
+			+ "import r.*;\n"
+			+ "class Host {\n"
+			+ "  class Nested {}\n"
+			+ "  Nested nested;\n"
+			+ "  Single single;\n"
+			+ "  Same same;\n"
+			+ "  Wild wild;\n"
+			+ "  Thread lang;\n"
+			+ "  q.Single qualified;\n"
+			+ "  Missing missing;\n"
+			+ "  typo.Missing missingPackage;\n"
+			+ "}\n";
+
+	/**
+	 * Creates an index where each name is also declared in places that
+	 * should lose to it.
+	 */
+	private static TypeIndex createIndex() {
+		TypeIndex index = new TypeIndex();
+		index.addSourceType("r.Nested"); // Loses to member type
+		index.addSourceType("q.Single");
+		index.addSourceType("p.Single"); // Loses to single-type import
+		index.addSourceType("p.Same");
+		index.addSourceType("r.Same"); // Loses to same package
+		index.addSourceType("r.Wild");
+		return index;
+	}
+
+	private static String bindField(CompilationUnit unit, NameBinder binder, String field) {
+		FieldDeclaration decl = unit.findFirst(FieldDeclaration.class,
+				f -> f.getVariable(0).getNameAsString().equals(field)).orElseThrow();
+		return binder.resolve(decl.getElementType()).name();
+	}
+
+	@Test
+	public void bindingOrder() {
+		CompilationUnit unit = new JavaParser().parse(SOURCE).getResult().orElseThrow();
+		NameBinder binder = new NameBinder(unit, createIndex());
+		assertEquals("p.Host.Nested", bindField(unit, binder, "nested"));
+		assertEquals("q.Single", bindField(unit, binder, "single"));
+		assertEquals("p.Same", bindField(unit, binder, "same"));
+		assertEquals("r.Wild", bindField(unit, binder, "wild"));
+		assertEquals("java.lang.Thread", bindField(unit, binder, "lang"));
+		assertEquals("q.Single", bindField(unit, binder, "qualified"));
+		assertTrue(binder.unresolved().isEmpty());
+	}
+
+	@Test
+	public void unknownNamesFallBackToObject() {
+		CompilationUnit unit = new JavaParser().parse(SOURCE).getResult().orElseThrow();
+		NameBinder binder = new NameBinder(unit, createIndex());
+		assertEquals(TypeRef.OBJECT.name(), bindField(unit, binder, "missing"));
+		assertEquals(TypeRef.OBJECT.name(), bindField(unit, binder, "missingPackage"));
+		assertEquals(Set.of("Missing", "typo.Missing"), binder.unresolved());
+	}
+
+	@Test
+	public void varargsOfArrays() {
+		String source = "package p;\n"
+				+ "public class Varargs {\n"
+				+ "  public void strings(String... values) {}\n"
+				+ "  public void arrays(String[]... values) {}\n"
+				+ "}\n";
+		AstGenerator generator = new AstGenerator(new JavaParser(), new TypeIndex(), List.of(), List.of(".*"),
+				List.of(".*"), false, false);
+		TypeDefinition type = generator.parseType(new SourceUnit("Varargs.java", source)).orElseThrow();
+		Parameter strings = findMethod(type, "strings").params.get(0);
+		assertTrue(strings.varargs);
+		assertEquals("java.lang.String[]", strings.type.name());
+		assertEquals(1, strings.type.arrayDimensions());
+
+		Parameter arrays = findMethod(type, "arrays").params.get(0);
+		assertEquals("java.lang.String[][]", arrays.type.name());
+		assertEquals(2, arrays.type.arrayDimensions());
+		assertFalse(((TypeRef.Array) arrays.type).componentType() instanceof TypeRef.Array);
+	}
+
+	private static Method findMethod(TypeDefinition type, String name) {
+		return type.members.stream().filter(member -> member instanceof Method && member.name().equals(name))
+				.map(member -> (Method) member).findFirst().orElseThrow();
+	}
+}
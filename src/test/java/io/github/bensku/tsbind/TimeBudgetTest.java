@@ -0,0 +1,89 @@
+package io.github.bensku.tsbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+
+import io.github.bensku.tsbind.ast.Method;
+import io.github.bensku.tsbind.ast.Parameter;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.ast.TypeRef;
+
+public class TimeBudgetTest {
+
+	/**
+	 * One member that needs many lookups. Last parameter cannot be resolved
+	 * at all, so without the time budget the member would be omitted.
+	 */
+	private static final String SOURCE = "package p;\n"
+			+ "import java.util.*;\n"
+			+ "import java.util.concurrent.*;\n"
+			+ "import lib.*;\n"
+			+ "public class Slow {\n"
+			+ "  public void pathological(ArrayList<String> a, HashMap<String, String> b, LinkedList<String> c,\n"
+			+ "      TreeMap<String, String> d, ArrayDeque<String> e, Semaphore f, CountDownLatch g,\n"
+			+ "      ConcurrentHashMap<String, String> h, Executor i, Hidden hidden) {}\n"
+			+ "}\n";
+
+	/**
+	 * Takes a while to look up anything.
+	 */
+	private static class SlowTypeSolver implements TypeSolver {
+
+		private final TypeSolver delegate = new ReflectionTypeSolver();
+		private TypeSolver parent;
+
+		SlowTypeSolver() {
+			delegate.setParent(this);
+		}
+
+		@Override
+		public TypeSolver getParent() {
+			return parent;
+		}
+
+		@Override
+		public void setParent(TypeSolver parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			return delegate.tryToSolveType(name);
+		}
+	}
+
+	@Test
+	public void slowMemberIsCutOff() {
+		JavaParser parser = new JavaParser(new ParserConfiguration()
+				.setSymbolResolver(new JavaSymbolSolver(new TimeBudgetTypeSolver(new SlowTypeSolver()))));
+		AstGenerator generator = new AstGenerator(parser, null, List.of(), List.of(".*"), List.of(".*"), false, false);
+		generator.setTimeBudget(50, new TypeIndex());
+		TypeDefinition type = generator.parseType(new SourceUnit("Slow.java", SOURCE)).orElseThrow();
+
+		// Retried by binding names, so the unresolvable type is Object instead of omitting the member
+		assertTrue(generator.getOverBudget().containsKey("Slow.java"));
+		Method method = type.members.stream().filter(member -> member instanceof Method)
+				.map(member -> (Method) member).findFirst().orElseThrow();
+		List<Parameter> params = method.params;
+		assertEquals(10, params.size());
+		assertEquals("java.util.ArrayList", params.get(0).type.name());
+		assertEquals(TypeRef.OBJECT.name(), params.get(9).type.name());
+	}
+}
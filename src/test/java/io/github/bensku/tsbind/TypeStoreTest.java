@@ -0,0 +1,114 @@
+package io.github.bensku.tsbind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.JavaParser;
+
+import io.github.bensku.tsbind.ast.TypeDefinition;
+import io.github.bensku.tsbind.cli.BindGenApp;
+
+public class TypeStoreTest {
+
+	/**
+	 * Well over the types that are always kept in memory.
+	 */
+	private static final int TYPE_COUNT = 200;
+
+	/**
+	 * Creates a chain of classes, each extending the previous one and
+	 * overloading its method, with Javadocs only in some of them.
+	 */
+	private static String source(int i) {
+		StringBuilder sb = new StringBuilder("package p;\n");
+		if (i % 3 == 0) {
+			sb.append("/** Type ").append(i).append(". */\n");
+		}
+		sb.append("public class T").append(i);
+		if (i > 0) {
+			sb.append(" extends T").append(i - 1);
+		}
+		sb.append(" {\n");
+		if (i % 2 == 0) {
+			sb.append("  /** Gets a value. */\n");
+		}
+		sb.append("  public int value").append(i % 5).append("(int x) { return x; }\n")
+				.append("  public String value").append(i % 5).append("(String s, int x) { return s; }\n")
+				.append("}\n");
+		return sb.toString();
+	}
+
+	@Test
+	public void heldTypesKeepChanges() throws IOException {
+		AstGenerator generator = new AstGenerator(new JavaParser(), new TypeIndex(), List.of(), List.of(".*"),
+				List.of(".*"), false, false);
+		try (TypeStore store = new TypeStore(1)) { // Spill as soon as possible
+			for (int i = 0; i < TYPE_COUNT; i++) {
+				store.put("p.T" + i, generator.parseType(new SourceUnit("T" + i + ".java", source(i))).orElseThrow());
+			}
+			for (Map.Entry<String, TypeDefinition> entry : store.entrySet()) {
+				TypeDefinition type = entry.getValue();
+				if (!type.name().equals("p.T1")) {
+					continue;
+				}
+				TypeDefinition parent = store.get("p.T0");
+				for (int i = 2; i < TYPE_COUNT; i++) {
+					store.get("p.T" + i); // Push both out of memory if they were not held
+				}
+				type.javadoc = Optional.of("changed");
+				parent.javadoc = Optional.of("changed parent");
+			}
+			assertFalse(store.toString().contains(" 0 spills"), store.toString());
+			for (int i = 2; i < TYPE_COUNT; i++) {
+				store.get("p.T" + i);
+			}
+			assertEquals(Optional.of("changed"), store.get("p.T1").javadoc);
+			assertEquals(Optional.of("changed parent"), store.get("p.T0").javadoc);
+		}
+	}
+
+	private static Map<String, String> generate(Path in, Path out, String... extraArgs)
+			throws IOException, InterruptedException {
+		String[] args = Stream.concat(Stream.of("--in", in.toString(), "--out", out.toString(),
+				"--resolution", "IMPORTS", "--flattenTypes", "--forceParentJavadocs",
+				"--methodWhitelist", ".*", "--fieldWhitelist", ".*"), Stream.of(extraArgs)).toArray(String[]::new);
+		Files.createDirectories(out);
+		BindGenApp.main(args);
+		try (Stream<Path> files = Files.walk(out)) {
+			return files.filter(Files::isRegularFile).collect(Collectors.toMap(
+					file -> out.relativize(file).toString(), file -> {
+						try {
+							return Files.readString(file);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}, (a, b) -> a, TreeMap::new));
+		}
+	}
+
+	@Test
+	public void spillingDoesNotChangeOutput(@TempDir Path dir) throws IOException, InterruptedException {
+		Path in = dir.resolve("in");
+		Files.createDirectories(in.resolve("p"));
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			Files.writeString(in.resolve("p").resolve("T" + i + ".java"), source(i));
+		}
+		Map<String, String> expected = generate(in, dir.resolve("heap"));
+		Map<String, String> actual = generate(in, dir.resolve("spilled"), "--spillThreshold", "1");
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, actual);
+	}
+}
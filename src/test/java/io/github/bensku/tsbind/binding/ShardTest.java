@@ -0,0 +1,100 @@
+package io.github.bensku.tsbind.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+
+import io.github.bensku.tsbind.AstConsumer.Result;
+import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.SourceUnit;
+import io.github.bensku.tsbind.TypeIndex;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+public class ShardTest {
+
+	private static final List<String> PACKAGES = List.of("com.example.a", "com.example.b", "org.other.c");
+
+	private static final int TYPES_PER_PACKAGE = 10;
+
+	private static final int SHARD_SIZE = 2000;
+
+	private static final Pattern REFERENCE = Pattern.compile("/// <reference path='(.*)' />\n");
+
+	/**
+	 * Creates types whose methods use types of the other packages.
+	 */
+	private static Map<String, TypeDefinition> createTypes() {
+		TypeIndex index = new TypeIndex();
+		for (String pkg : PACKAGES) {
+			for (int i = 0; i < TYPES_PER_PACKAGE; i++) {
+				index.addSourceType(pkg + ".Type" + i);
+			}
+		}
+		AstGenerator generator = new AstGenerator(new JavaParser(), index, List.of(), List.of(".*"), List.of(".*"),
+				false, false);
+		Map<String, TypeDefinition> types = new TreeMap<>();
+		for (String pkg : PACKAGES) {
+			for (int i = 0; i < TYPES_PER_PACKAGE; i++) {
+				StringBuilder source = new StringBuilder("package " + pkg + ";\n");
+				source.append("public class Type").append(i).append(" {\n");
+				for (String other : PACKAGES) {
+					source.append("  public ").append(other).append(".Type").append((i + 1) % TYPES_PER_PACKAGE)
+							.append(" to").append(other.replace(".", "_")).append("(int value) { return null; }\n");
+				}
+				source.append("}\n");
+				generator.parseType(new SourceUnit("Type" + i + ".java", source.toString()))
+						.ifPresent(type -> types.put(type.name(), type));
+			}
+		}
+		return types;
+	}
+
+	private static Map<String, String> generate(int shardSize) {
+		return new BindingGenerator(true, false, List.of(), false, false, shardSize, false).consume(createTypes())
+				.collect(Collectors.toMap(result -> result.name, result -> result.result, (a, b) -> a, TreeMap::new));
+	}
+
+	@Test
+	public void referencedShardsExist() {
+		Map<String, String> outputs = generate(SHARD_SIZE);
+		assertTrue(outputs.containsKey("com_example_2.d.ts"), "expected several shards, got " + outputs.keySet());
+		for (Map.Entry<String, String> output : outputs.entrySet()) {
+			Matcher matcher = REFERENCE.matcher(output.getValue());
+			while (matcher.find()) {
+				assertTrue(outputs.containsKey(matcher.group(1)),
+						output.getKey() + " references missing " + matcher.group(1));
+			}
+		}
+	}
+
+	@Test
+	public void shardsFitInSize() {
+		for (Map.Entry<String, String> output : generate(SHARD_SIZE).entrySet()) {
+			String declarations = REFERENCE.matcher(output.getValue()).replaceAll("");
+			assertTrue(declarations.length() <= SHARD_SIZE, output.getKey() + " has " + declarations.length() + " characters");
+		}
+	}
+
+	@Test
+	public void everyTypeIsDeclaredOnce() {
+		String all = generate(SHARD_SIZE).values().stream().collect(Collectors.joining());
+		for (int i = 0; i < TYPES_PER_PACKAGE; i++) {
+			Matcher matcher = Pattern.compile("class Type" + i + " ").matcher(all);
+			int count = 0;
+			while (matcher.find()) {
+				count++;
+			}
+			assertEquals(PACKAGES.size(), count, "declarations of Type" + i);
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package io.github.bensku.tsbind.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.JavaParser;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.JsonEmitter;
+import io.github.bensku.tsbind.ParseCache;
+import io.github.bensku.tsbind.SourceUnit;
+import io.github.bensku.tsbind.StreamingAstConsumer.TypeStream;
+import io.github.bensku.tsbind.TypeIndex;
+import io.github.bensku.tsbind.ast.TypeDefinition;
+
+public class CacheServerTest {
+
+	private static final List<SourceUnit> SOURCES = List.of(
+			new SourceUnit("First.java", "package p;\n"
+					+ "/** First type. */\n"
+					+ "public class First {\n"
+					+ "  public int count(String s) { return 0; }\n"
+					+ "}\n"
+					+ "class Helper {}\n"),
+			new SourceUnit("Second.java", "package p;\n"
+					+ "public class Second extends First {\n"
+					+ "  public String[][] table;\n"
+					+ "}\n"),
+			new SourceUnit("Third.java", "package p;\n"
+					+ "public interface Third {\n"
+					+ "  void run(Second... seconds);\n"
+					+ "}\n"));
+
+	private static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+	@TempDir
+	Path dir;
+
+	private HttpServer server;
+
+	@AfterEach
+	public void stopServer() {
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	private URI start(CacheServer cacheServer) throws IOException {
+		server = cacheServer.start(0);
+		return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+				+ "/cache/");
+	}
+
+	/**
+	 * Parses all sources.
+	 * @param cache Parse cache, or null.
+	 * @return JSON dump of parsed types.
+	 */
+	private static String generate(ParseCache cache) throws IOException {
+		AstGenerator generator = new AstGenerator(new JavaParser(), new TypeIndex(), List.of(), List.of(".*"),
+				List.of(".*"), false, false);
+		generator.setParseCache(cache);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TypeStream stream = new JsonEmitter(true).open(Channels.newChannel(out));
+		for (SourceUnit source : SOURCES) {
+			Optional<TypeDefinition> type = generator.parseType(source);
+			if (type.isPresent()) {
+				stream.accept(type.get());
+			}
+		}
+		stream.finish();
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private static ParseCache remoteCache(URI url) {
+		MessageDigest fingerprint = ParseCache.fingerprint();
+		fingerprint.update("test".getBytes(StandardCharsets.UTF_8));
+		return new ParseCache(fingerprint, null, new HttpCacheBackend(url));
+	}
+
+	@Test
+	public void secondRunOnlyHits() throws IOException {
+		Path store = dir.resolve("store");
+		URI url = start(new CacheServer(new ParseCache.DirectoryBackend(store)));
+
+		ParseCache first = remoteCache(url);
+		String expected = generate(first);
+		assertEquals("0 hits, 3 misses, 0 entries written; remote: 0 hits, 3 misses, 3 entries pushed",
+				first.toString());
+
+		ParseCache second = remoteCache(url);
+		assertEquals(expected, generate(second));
+		assertEquals("3 hits, 0 misses, 0 entries written; remote: 3 hits, 0 misses, 0 entries pushed",
+				second.toString());
+	}
+
+	@Test
+	public void badEntryIsParsedAgain() throws IOException {
+		Path store = dir.resolve("store");
+		URI url = start(new CacheServer(new ParseCache.DirectoryBackend(store)));
+		String expected = generate(remoteCache(url));
+
+		Path entry;
+		try (Stream<Path> files = Files.walk(store)) {
+			entry = files.filter(Files::isRegularFile).findFirst().orElseThrow();
+		}
+		Files.write(entry, new byte[] {0, 0, 0, 1, 42});
+
+		ParseCache corrupted = remoteCache(url);
+		assertEquals(expected, generate(corrupted));
+		assertEquals("2 hits, 1 misses, 0 entries written; remote: 3 hits, 0 misses, 1 entries pushed",
+				corrupted.toString());
+
+		ParseCache repaired = remoteCache(url);
+		assertEquals(expected, generate(repaired));
+		assertEquals("3 hits, 0 misses, 0 entries written; remote: 3 hits, 0 misses, 0 entries pushed",
+				repaired.toString());
+	}
+
+	@Test
+	public void getAndPut() throws IOException {
+		URI url = start(new CacheServer(new ParseCache.DirectoryBackend(dir)));
+		HttpCacheBackend backend = new HttpCacheBackend(url);
+		assertNull(backend.get(KEY));
+		byte[] entry = {1, 2, 3, 4, 5};
+		backend.put(KEY, entry);
+		assertArrayEquals(entry, backend.get(KEY));
+		assertArrayEquals(entry, Files.readAllBytes(dir.resolve(KEY.substring(0, 2)).resolve(KEY)));
+	}
+
+	private static int status(HttpRequest.Builder request) throws IOException {
+		try {
+			return HttpClient.newHttpClient().send(request.build(), BodyHandlers.discarding()).statusCode();
+		} catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test
+	public void badRequests() throws IOException {
+		URI url = start(new CacheServer(new ParseCache.DirectoryBackend(dir), 16));
+		assertEquals(404, status(HttpRequest.newBuilder(url.resolve(KEY)).GET()));
+		assertEquals(400, status(HttpRequest.newBuilder(url.resolve("not-a-key")).GET()));
+		assertEquals(400, status(HttpRequest.newBuilder(url.resolve(KEY.toUpperCase())).GET()));
+		assertEquals(400, status(HttpRequest.newBuilder(url.resolve(KEY.substring(1)))
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[1]))));
+		assertEquals(413, status(HttpRequest.newBuilder(url.resolve(KEY))
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[17]))));
+		assertEquals(404, status(HttpRequest.newBuilder(url.resolve(KEY)).GET())); // Not stored
+		assertEquals(204, status(HttpRequest.newBuilder(url.resolve(KEY))
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[16]))));
+		assertEquals(200, status(HttpRequest.newBuilder(url.resolve(KEY)).GET()));
+	}
+
+	@Test
+	public void failedRemoteIsNotUsedAgain() throws IOException {
+		AtomicInteger requests = new AtomicInteger();
+		URI url = start(new CacheServer(new ParseCache.Backend() {
+
+			@Override
+			public byte[] get(String key) throws IOException {
+				requests.incrementAndGet();
+				throw new IOException("disk is on fire");
+			}
+
+			@Override
+			public void put(String key, byte[] entry) throws IOException {
+				requests.incrementAndGet();
+				throw new IOException("disk is on fire");
+			}
+		}));
+
+		String expected = generate(null);
+		ParseCache cache = remoteCache(url);
+		assertEquals(expected, generate(cache));
+		assertEquals(1, requests.get());
+		assertEquals("0 hits, 3 misses, 0 entries written; remote: 0 hits, 1 misses, 0 entries pushed (failed)",
+				cache.toString());
+	}
+}
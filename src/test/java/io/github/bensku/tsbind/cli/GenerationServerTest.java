@@ -0,0 +1,124 @@
+package io.github.bensku.tsbind.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.JavaParser;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bensku.tsbind.AstGenerator;
+import io.github.bensku.tsbind.TypeIndex;
+
+public class GenerationServerTest {
+
+	@TempDir
+	Path dir;
+
+	private SourceIndex sources;
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void writeSources() throws IOException {
+		write("module-info.java", "module m {\n"
+				+ "  exports p;\n"
+				+ "  exports q to other;\n"
+				+ "}\n");
+		write("p/Visible.java", "package p;\n"
+				+ "public class Visible {\n"
+				+ "  public static class Inner {}\n"
+				+ "  public int count(String s) { return 0; }\n"
+				+ "}\n");
+		write("p/skipped/Skipped.java", "package p.skipped;\n"
+				+ "public class Skipped {}\n");
+		write("q/Qualified.java", "package q;\n"
+				+ "public class Qualified {}\n");
+		write("internal/Hidden.java", "package internal;\n"
+				+ "public class Hidden {}\n");
+	}
+
+	private void write(String path, String code) throws IOException {
+		Path file = dir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, code);
+	}
+
+	@AfterEach
+	public void stopServer() throws IOException {
+		if (server != null) {
+			server.stop(0);
+		}
+		if (sources != null) {
+			sources.close();
+		}
+	}
+
+	private URI start(SourceReader reader) throws IOException {
+		Args args = new Args();
+		args.methodWhitelist = List.of(".*");
+		args.fieldWhitelist = List.of(".*");
+		sources = new SourceIndex(reader);
+		AstGenerator generator = new AstGenerator(new JavaParser(), new TypeIndex(), List.of(), List.of(".*"),
+				List.of(".*"), false, false);
+		server = new GenerationServer(args, sources, generator, null, Map.of()).start(0);
+		return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+				+ "/types/");
+	}
+
+	private static SourceReader reader(Path dir) {
+		return new SourceReader(List.of(dir), "", new PathFilter(List.of(""), List.of("p.skipped")), 1);
+	}
+
+	private static HttpResponse<String> get(URI url, String type) throws IOException {
+		try {
+			return HttpClient.newHttpClient().send(HttpRequest.newBuilder(url.resolve(type)).GET().build(),
+					BodyHandlers.ofString());
+		} catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test
+	public void servesExportedTypes() throws IOException {
+		URI url = start(reader(dir).readModuleInfo(List.of()));
+		HttpResponse<String> visible = get(url, "p.Visible");
+		assertEquals(200, visible.statusCode());
+		assertTrue(visible.body().contains("class Visible"), visible.body());
+		assertEquals(200, get(url, "p.Visible.Inner").statusCode());
+		assertEquals(404, get(url, "p.Missing").statusCode());
+		assertEquals(404, get(url, "p.skipped.Skipped").statusCode()); // Excluded
+		assertEquals(404, get(url, "internal.Hidden").statusCode()); // Not exported
+		assertEquals(404, get(url, "q.Qualified").statusCode()); // Exported only to other module
+	}
+
+	@Test
+	public void qualifiedExports() throws IOException {
+		URI url = start(reader(dir).readModuleInfo(List.of("other")));
+		assertEquals(200, get(url, "q.Qualified").statusCode());
+		assertEquals(404, get(url, "internal.Hidden").statusCode());
+	}
+
+	@Test
+	public void ignoredModuleInfo() throws IOException {
+		URI url = start(reader(dir));
+		assertEquals(200, get(url, "internal.Hidden").statusCode());
+		assertEquals(200, get(url, "q.Qualified").statusCode());
+		assertEquals(404, get(url, "p.skipped.Skipped").statusCode());
+	}
+}
@@ -0,0 +1,101 @@
+package io.github.bensku.tsbind.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bensku.tsbind.SourceUnit;
+
+public class ModuleExportsTest {
+
+	private static final String MODULE_INFO = "module m.core {\n"
+			+ "  requires java.sql;\n"
+			+ "  exports m.api;\n"
+			+ "  exports m.api.spi;\n"
+			+ "  exports m.impl to m.tools, m.tests;\n"
+			+ "  exports m.internal to m.tools;\n"
+			+ "  opens m.model;\n"
+			+ "}\n";
+
+	@Test
+	public void unqualifiedExports() {
+		ModuleExports exports = ModuleExports.parse("module-info.java", MODULE_INFO, List.of()).orElseThrow();
+		assertEquals("m.core", exports.module);
+		assertEquals(2, exports.size());
+		assertTrue(exports.isExported("m.api"));
+		assertTrue(exports.isExported("m.api.spi"));
+		assertFalse(exports.isExported("m.impl"));
+		assertFalse(exports.isExported("m.model")); // Opened, not exported
+		assertFalse(exports.isExported("m"));
+
+		assertTrue(exports.containsExported(""));
+		assertTrue(exports.containsExported("m"));
+		assertTrue(exports.containsExported("m.api"));
+		assertFalse(exports.containsExported("m.impl"));
+		assertFalse(exports.containsExported("other"));
+	}
+
+	@Test
+	public void qualifiedExports() {
+		ModuleExports exports = ModuleExports.parse("module-info.java", MODULE_INFO, List.of("m.tests"))
+				.orElseThrow();
+		assertEquals(3, exports.size());
+		assertTrue(exports.isExported("m.impl"));
+		assertFalse(exports.isExported("m.internal")); // Exported only to m.tools
+
+		exports = ModuleExports.parse("module-info.java", MODULE_INFO, List.of("m.tools")).orElseThrow();
+		assertEquals(4, exports.size());
+		assertTrue(exports.isExported("m.impl"));
+		assertTrue(exports.isExported("m.internal"));
+	}
+
+	@Test
+	public void unparseableModuleInfo() {
+		assertEquals(Optional.empty(), ModuleExports.parse("module-info.java", "module m.core { exports; }", List.of()));
+		assertEquals(Optional.empty(), ModuleExports.parse("module-info.java", "package m;", List.of()));
+	}
+
+	private static void write(Path file, String code) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, code);
+	}
+
+	private static Set<String> read(Path dir, List<String> qualifiedExports) {
+		SourceReader reader = new SourceReader(List.of(dir), "", new PathFilter(List.of(""), List.of()), 4)
+				.readModuleInfo(qualifiedExports);
+		try (Stream<SourceUnit> units = reader.start()) {
+			return units.map(unit -> dir.relativize(Path.of(unit.name)).toString().replace('\\', '/'))
+					.collect(Collectors.toSet());
+		}
+	}
+
+	@Test
+	public void readerSkipsPackages(@TempDir Path dir) throws IOException {
+		write(dir.resolve("module-info.java"), MODULE_INFO);
+		write(dir.resolve("m/api/Api.java"), "package m.api; public class Api {}");
+		write(dir.resolve("m/impl/Impl.java"), "package m.impl; public class Impl {}");
+		write(dir.resolve("m/internal/Internal.java"), "package m.internal; public class Internal {}");
+		assertEquals(Set.of("m/api/Api.java"), read(dir, List.of()));
+		assertEquals(Set.of("m/api/Api.java", "m/impl/Impl.java"), read(dir, List.of("m.tests")));
+	}
+
+	@Test
+	public void readerKeepsAllPackagesOfUnparseableModule(@TempDir Path dir) throws IOException {
+		write(dir.resolve("module-info.java"), "module m.core { exports; }");
+		write(dir.resolve("m/api/Api.java"), "package m.api; public class Api {}");
+		write(dir.resolve("m/impl/Impl.java"), "package m.impl; public class Impl {}");
+		assertEquals(Set.of("m/api/Api.java", "m/impl/Impl.java"), read(dir, List.of()));
+	}
+}
@@ -0,0 +1,80 @@
+package io.github.bensku.tsbind.cli;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PathFilterTest {
+
+	@Test
+	public void excludeUnderInclude() {
+		PathFilter filter = new PathFilter(List.of("java.util"), List.of("java.util.concurrent"));
+		assertTrue(filter.isIncluded("java.util.List.java"));
+		assertTrue(filter.isIncluded("java.util.function.Function.java"));
+		assertFalse(filter.isIncluded("java.util.concurrent.Future.java"));
+		assertFalse(filter.isIncluded("java.util.concurrent.atomic.AtomicLong.java"));
+		assertFalse(filter.isIncluded("java.lang.Object.java"));
+
+		assertFalse(filter.isExcludedDirectory("java"));
+		assertFalse(filter.isExcludedDirectory("java.util"));
+		assertFalse(filter.isExcludedDirectory("java.util.function"));
+		assertTrue(filter.isExcludedDirectory("java.util.concurrent"));
+		assertTrue(filter.isExcludedDirectory("java.lang"));
+	}
+
+	@Test
+	public void includeUnderExclude() {
+		// Excludes always win
+		PathFilter filter = new PathFilter(List.of("java.util"), List.of("java"));
+		assertFalse(filter.isIncluded("java.util.List.java"));
+		assertFalse(filter.isIncluded("java.lang.Object.java"));
+		assertTrue(filter.isExcludedDirectory("java"));
+		assertTrue(filter.isExcludedDirectory("java.util"));
+	}
+
+	@Test
+	public void emptyInclude() {
+		PathFilter all = new PathFilter(List.of(""), List.of());
+		assertTrue(all.isIncluded("java.util.List.java"));
+		assertTrue(all.isIncluded("Root.java"));
+		assertFalse(all.isExcludedDirectory("java"));
+		assertFalse(all.isExcludedDirectory(""));
+
+		PathFilter nothing = new PathFilter(List.of(), List.of());
+		assertFalse(nothing.isIncluded("java.util.List.java"));
+		assertTrue(nothing.isExcludedDirectory("java"));
+		assertFalse(nothing.isExcludedDirectory("")); // Input root is always listed
+	}
+
+	@Test
+	public void partlyExcludedDirectory() {
+		PathFilter filter = new PathFilter(List.of(""), List.of("java.util.concurrent", "java.util.Arr"));
+		assertFalse(filter.isExcludedDirectory("java"));
+		assertFalse(filter.isExcludedDirectory("java.util")); // Only some of it is excluded
+		assertTrue(filter.isExcludedDirectory("java.util.concurrent"));
+		assertTrue(filter.isExcludedDirectory("java.util.concurrent.atomic"));
+		assertTrue(filter.isIncluded("java.util.List.java"));
+		assertFalse(filter.isIncluded("java.util.ArrayList.java"));
+		assertFalse(filter.isIncluded("java.util.Arrays.java"));
+	}
+
+	@Test
+	public void fileInclude() {
+		PathFilter filter = new PathFilter(List.of("java.lang.Iterable.java", "java.util.function"), List.of());
+		assertTrue(filter.isIncluded("java.lang.Iterable.java"));
+		assertFalse(filter.isIncluded("java.lang.Object.java"));
+		assertTrue(filter.isIncluded("java.util.function.Function.java"));
+		assertFalse(filter.isIncluded("java.util.List.java"));
+
+		// Directories are listed only if the file could be under them
+		assertFalse(filter.isExcludedDirectory("java"));
+		assertFalse(filter.isExcludedDirectory("java.lang"));
+		assertTrue(filter.isExcludedDirectory("java.lang.invoke"));
+		assertTrue(filter.isExcludedDirectory("javax"));
+		assertFalse(filter.isExcludedDirectory("java.util"));
+		assertTrue(filter.isExcludedDirectory("java.util.concurrent"));
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.bensku.tsbind.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bensku.tsbind.SourceUnit;
+
+public class SourceReaderTest {
+
+	private static final byte[] VALID = "package p; /** P\u00e4iv\u00e4\u00e4 */ public class A {}".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Latin-1 encoded, which is not valid UTF-8.
+	 */
+	private static final byte[] MALFORMED = "package p; /** P\u00e4iv\u00e4\u00e4 */ public class A {}"
+			.getBytes(StandardCharsets.ISO_8859_1);
+
+	private static Path directory(Path dir, byte[] code) throws IOException {
+		Path input = dir.resolve("dir");
+		Files.createDirectories(input.resolve("p"));
+		Files.write(input.resolve("p").resolve("A.java"), code);
+		return input;
+	}
+
+	private static Path archive(Path dir, byte[] code) throws IOException {
+		Path input = dir.resolve("sources.jar");
+		try (OutputStream out = Files.newOutputStream(input); ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry("p/A.java"));
+			zip.write(code);
+			zip.closeEntry();
+		}
+		return input;
+	}
+
+	private static List<String> read(Path input) {
+		SourceReader reader = new SourceReader(List.of(input), "", new PathFilter(List.of(""), List.of()), 4);
+		try (Stream<SourceUnit> units = reader.start()) {
+			return units.map(unit -> unit.code).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void validSources(@TempDir Path dir) throws IOException {
+		String code = new String(VALID, StandardCharsets.UTF_8);
+		assertEquals(List.of(code), read(directory(dir, VALID)));
+		assertEquals(List.of(code), read(archive(dir, VALID)));
+	}
+
+	@Test
+	public void malformedSourcesFailAlike(@TempDir Path dir) throws IOException {
+		for (Path input : List.of(directory(dir, MALFORMED), archive(dir, MALFORMED))) {
+			RuntimeException e = assertThrows(RuntimeException.class, () -> read(input));
+			assertTrue(e.getCause() instanceof CharacterCodingException, input + ": " + e.getCause());
+		}
+	}
+}